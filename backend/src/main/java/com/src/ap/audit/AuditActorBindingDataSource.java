@@ -0,0 +1,93 @@
+package com.src.ap.audit;
+
+import com.src.ap.config.AuditConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Binds the current {@link AuditContextHolder} actor to SQL Server's session context when a
+ * connection is checked out, which the audit trigger reads through {@code SESSION_CONTEXT(N'actor')}.
+ *
+ * <p>A transaction checks out its connection once, so the actor is applied once per transaction
+ * instead of once per write. Session context lives as long as the physical connection, so the
+ * actor last set on each pooled connection is remembered and the {@code sp_set_session_context}
+ * round trip is skipped entirely when it has not changed.</p>
+ *
+ * <p>Nothing is sent when the database is not SQL Server or when auditing runs in
+ * {@link AuditMode#APPLICATION} mode.</p>
+ */
+@Slf4j
+public class AuditActorBindingDataSource extends DelegatingDataSource {
+
+    static final String SET_ACTOR_SQL = "EXEC sp_set_session_context N'actor', ?";
+    private static final String FALLBACK_ACTOR = "anonymous";
+
+    private final Supplier<AuditConfig> auditConfig;
+
+    /**
+     * Actor last bound per physical connection. Weak keys let connections retired by the pool
+     * drop out on their own.
+     */
+    private final Map<Connection, String> boundActors = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private volatile Boolean sqlServer;
+
+    public AuditActorBindingDataSource(DataSource targetDataSource, Supplier<AuditConfig> auditConfig) {
+        super(targetDataSource);
+        this.auditConfig = auditConfig;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return bind(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return bind(super.getConnection(username, password));
+    }
+
+    private Connection bind(Connection connection) throws SQLException {
+        if (auditConfig.get().getMode() == AuditMode.APPLICATION || !isSqlServer(connection)) {
+            return connection;
+        }
+
+        AuditRequestContext context = AuditContextHolder.get();
+        String actor = context != null ? context.actor() : FALLBACK_ACTOR;
+        Connection physical = connection.isWrapperFor(Connection.class) ? connection.unwrap(Connection.class) : connection;
+        if (actor.equals(boundActors.get(physical))) {
+            return connection;
+        }
+
+        try (PreparedStatement statement = connection.prepareStatement(SET_ACTOR_SQL)) {
+            statement.setString(1, actor);
+            statement.execute();
+            boundActors.put(physical, actor);
+            return connection;
+        } catch (SQLException e) {
+            boundActors.remove(physical);
+            connection.close();
+            throw e;
+        }
+    }
+
+    private boolean isSqlServer(Connection connection) throws SQLException {
+        Boolean detected = sqlServer;
+        if (detected == null) {
+            String product = connection.getMetaData().getDatabaseProductName();
+            detected = product != null && product.toLowerCase().contains("microsoft");
+            sqlServer = detected;
+            log.debug("Audit actor binding {} for {}", detected ? "enabled" : "disabled", product);
+        }
+        return detected;
+    }
+}
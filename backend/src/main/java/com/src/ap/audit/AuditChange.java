@@ -0,0 +1,67 @@
+package com.src.ap.audit;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * One captured entity change, already laid out as the parameters of
+ * {@link AuditedTable#insertSql()}.
+ */
+public record AuditChange(AuditedTable table, Object[] parameters) {
+
+    private static final String MODIFIED = "M";
+
+    /**
+     * Builds the history row the SQL Server trigger would have written: every flag set for a
+     * create, flags only on changed columns for an update, and no flags for a delete.
+     * For updates, Hibernate's dirty property indexes are used when available instead of
+     * comparing every column against its old value.
+     */
+    public static AuditChange of(AuditedTable table, String op, Object id, String[] propertyNames,
+                                 Object[] state, Object[] oldState, int[] dirtyProperties,
+                                 String actor, LocalDateTime changedAt) {
+        List<String> names = Arrays.asList(propertyNames);
+        Object[] parameters = new Object[3 + table.columns().size() * 2 + 2];
+        int i = 0;
+        parameters[i++] = op;
+        parameters[i++] = id;
+        parameters[i++] = "C".equals(op) ? MODIFIED : null;
+
+        for (AuditedTable.AuditedColumn column : table.columns()) {
+            int index = names.indexOf(column.property());
+            Object value = index >= 0 ? state[index] : null;
+            parameters[i++] = toJdbcValue(value);
+            parameters[i++] = switch (op) {
+                case "C" -> MODIFIED;
+                case "U" -> isModified(index, value, oldState, dirtyProperties) ? MODIFIED : null;
+                default -> null;
+            };
+        }
+
+        parameters[i++] = Timestamp.valueOf(changedAt);
+        parameters[i] = actor;
+        return new AuditChange(table, parameters);
+    }
+
+    private static boolean isModified(int index, Object value, Object[] oldState, int[] dirtyProperties) {
+        if (index < 0) {
+            return true;
+        }
+        if (dirtyProperties != null) {
+            for (int dirty : dirtyProperties) {
+                if (dirty == index) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        return oldState == null || !Objects.equals(oldState[index], value);
+    }
+
+    private static Object toJdbcValue(Object value) {
+        return value instanceof LocalDateTime dateTime ? Timestamp.valueOf(dateTime) : value;
+    }
+}
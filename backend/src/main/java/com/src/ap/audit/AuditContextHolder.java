@@ -1,5 +1,15 @@
 package com.src.ap.audit;
 
+/**
+ * The audit actor of the work running on the current thread.
+ *
+ * <p>Bind it for a bounded piece of work with {@link #runWith} (or {@link #bind} and
+ * {@link #restore} around code throwing checked exceptions), which restores the previous
+ * binding afterwards, the way a {@code ScopedValue} binding would (that API is still a preview
+ * in Java 21). The binding is not inherited by new threads; work handed to an executor or
+ * another thread carries it with {@link #wrap}, so the actor survives async hand-offs without
+ * leaking into unrelated tasks on pooled or virtual threads.</p>
+ */
 public final class AuditContextHolder {
 
     private static final ThreadLocal<AuditRequestContext> CONTEXT = new ThreadLocal<>();
@@ -7,6 +17,45 @@ public final class AuditContextHolder {
     private AuditContextHolder() {
     }
 
+    /**
+     * Binds {@code context} until the matching {@link #restore}, which must run in a finally block.
+     *
+     * @return the binding to restore
+     */
+    public static AuditRequestContext bind(AuditRequestContext context) {
+        AuditRequestContext previous = CONTEXT.get();
+        CONTEXT.set(context);
+        return previous;
+    }
+
+    public static void restore(AuditRequestContext previous) {
+        if (previous == null) {
+            CONTEXT.remove();
+        } else {
+            CONTEXT.set(previous);
+        }
+    }
+
+    public static void runWith(AuditRequestContext context, Runnable work) {
+        AuditRequestContext previous = bind(context);
+        try {
+            work.run();
+        } finally {
+            restore(previous);
+        }
+    }
+
+    /**
+     * Captures the current binding for a task run on another thread.
+     */
+    public static Runnable wrap(Runnable task) {
+        AuditRequestContext captured = CONTEXT.get();
+        if (captured == null) {
+            return task;
+        }
+        return () -> runWith(captured, task);
+    }
+
     public static void set(AuditRequestContext context) {
         CONTEXT.set(context);
     }
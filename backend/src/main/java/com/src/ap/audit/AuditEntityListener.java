@@ -0,0 +1,80 @@
+package com.src.ap.audit;
+
+import lombok.RequiredArgsConstructor;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Map;
+
+/**
+ * Captures inserts, updates and deletes of audited entities for {@link AuditMode#APPLICATION}.
+ *
+ * <p>Registered for Hibernate's post-insert/update/delete events, which fire as each change is
+ * flushed inside its transaction. The {@link AuditTrailWriter} queues the history row and writes
+ * it in that same transaction just before it commits, so the row commits exactly when the change
+ * does and a rolled-back transaction leaves no history behind. The listener runs on the flushing
+ * thread, where the request's {@link AuditContextHolder} is still bound.</p>
+ *
+ * <p>Bulk JPQL/SQL statements bypass entity events and are not captured in this mode.</p>
+ */
+@RequiredArgsConstructor
+public class AuditEntityListener implements PostInsertEventListener, PostUpdateEventListener,
+        PostDeleteEventListener {
+
+    private static final String FALLBACK_ACTOR = "anonymous";
+
+    private final AuditTrailWriter writer;
+    private final Map<Class<?>, AuditedTable> tables;
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        AuditedTable table = tables.get(event.getPersister().getMappedClass());
+        if (table != null) {
+            writer.write(event.getSession(), AuditChange.of(table, "C", event.getId(),
+                    event.getPersister().getPropertyNames(), event.getState(), null, null, currentActor(), now()));
+        }
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        AuditedTable table = tables.get(event.getPersister().getMappedClass());
+        if (table != null) {
+            writer.write(event.getSession(), AuditChange.of(table, "U", event.getId(),
+                    event.getPersister().getPropertyNames(),
+                    event.getState(), event.getOldState(), event.getDirtyProperties(), currentActor(), now()));
+        }
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        AuditedTable table = tables.get(event.getPersister().getMappedClass());
+        if (table != null) {
+            writer.write(event.getSession(), AuditChange.of(table, "D", event.getId(),
+                    event.getPersister().getPropertyNames(),
+                    event.getDeletedState(), null, null, currentActor(), now()));
+        }
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        // The rows are written before the transaction commits; nothing is left for after it
+        return false;
+    }
+
+    private static String currentActor() {
+        AuditRequestContext context = AuditContextHolder.get();
+        return context != null ? context.actor() : FALLBACK_ACTOR;
+    }
+
+    private static LocalDateTime now() {
+        // Matches the trigger's SYSUTCDATETIME() so both modes produce comparable changed_at values.
+        return LocalDateTime.now(ZoneOffset.UTC);
+    }
+}
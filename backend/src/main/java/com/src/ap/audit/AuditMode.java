@@ -0,0 +1,18 @@
+package com.src.ap.audit;
+
+/**
+ * How Occupation (and other audited entity) changes are written to their hg_* history tables.
+ */
+public enum AuditMode {
+    /**
+     * SQL Server AFTER triggers write the history row in the same statement as the change.
+     * The actor is passed through sp_set_session_context.
+     */
+    TRIGGER,
+
+    /**
+     * Hibernate post-insert/update/delete listeners write the history row in the transaction
+     * that made the change. Works on any database, including H2.
+     */
+    APPLICATION
+}
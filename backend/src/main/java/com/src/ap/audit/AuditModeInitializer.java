@@ -0,0 +1,49 @@
+package com.src.ap.audit;
+
+import com.src.ap.config.AuditConfig;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps the SQL Server audit trigger in line with {@code app.audit.mode} so a change is never
+ * audited twice or not at all. Runs after Flyway has (re)created the trigger.
+ *
+ * <p>The trigger state is database-wide: every node sharing the database must run the same mode.</p>
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AuditModeInitializer implements ApplicationRunner {
+
+    private static final String TRIGGER = "dbo.trg_Occupation_Audit";
+    private static final String TABLE = "dbo.occupations";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final AuditConfig auditConfig;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        String product = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                connection.getMetaData().getDatabaseProductName());
+        if (product == null || !product.toLowerCase().contains("microsoft")) {
+            log.info("Audit mode {} on {}: no database triggers to manage", auditConfig.getMode(), product);
+            return;
+        }
+
+        Integer triggers = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM sys.triggers WHERE object_id = OBJECT_ID(?, 'TR')", Integer.class, TRIGGER);
+        if (triggers == null || triggers == 0) {
+            log.warn("Audit trigger {} not found; audit mode is {}", TRIGGER, auditConfig.getMode());
+            return;
+        }
+
+        String action = auditConfig.getMode() == AuditMode.APPLICATION ? "DISABLE" : "ENABLE";
+        jdbcTemplate.execute(action + " TRIGGER " + TRIGGER + " ON " + TABLE);
+        log.info("Audit mode {}: {}d trigger {}", auditConfig.getMode(), action.toLowerCase(), TRIGGER);
+    }
+}
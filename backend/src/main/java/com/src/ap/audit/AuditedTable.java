@@ -0,0 +1,38 @@
+package com.src.ap.audit;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Describes how an audited entity maps onto its hg_* history table.
+ *
+ * <p>History tables share one layout: {@code op}, {@code id} and its {@code Oid} flag, then a
+ * value column plus an O-prefixed "modified" flag column per audited property, and finally
+ * {@code changed_at} and {@code actor}. Adding an entity to application-mode auditing is a
+ * matter of creating its history table and declaring one of these as a bean.</p>
+ *
+ * @param entityClass  the audited JPA entity
+ * @param historyTable fully qualified history table, e.g. {@code dbo.hg_occupations}
+ * @param columns      audited properties in history-table order
+ */
+public record AuditedTable(Class<?> entityClass, String historyTable, List<AuditedColumn> columns) {
+
+    /**
+     * @param property   entity property name as known to Hibernate
+     * @param column     history column receiving the value
+     * @param flagColumn history column receiving 'M' when the value was modified
+     */
+    public record AuditedColumn(String property, String column, String flagColumn) {
+    }
+
+    public String insertSql() {
+        String valueColumns = columns.stream()
+                .map(column -> column.column() + ", " + column.flagColumn())
+                .collect(Collectors.joining(", "));
+        String placeholders = columns.stream()
+                .map(column -> "?, ?")
+                .collect(Collectors.joining(", "));
+        return "INSERT INTO " + historyTable + " (op, id, Oid, " + valueColumns + ", changed_at, actor) "
+                + "VALUES (?, ?, ?, " + placeholders + ", ?, ?)";
+    }
+}
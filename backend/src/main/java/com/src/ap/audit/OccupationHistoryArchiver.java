@@ -0,0 +1,139 @@
+package com.src.ap.audit;
+
+import com.src.ap.config.AuditArchiveConfig;
+import com.src.ap.dto.occupation.OccupationHistoryArchiveStatus;
+import com.src.ap.job.ClusterJob;
+import com.src.ap.job.JobChunk;
+import com.src.ap.job.JobContext;
+import com.src.ap.job.JobRunner;
+import com.src.ap.repository.JobLeaseRepository;
+import com.src.ap.repository.JobLeaseRepository.SlotState;
+import com.src.ap.repository.OccupationHistoryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Moves old Occupation audit rows from the hot {@code dbo.hg_occupations} table to
+ * {@code dbo.hg_occupations_archive}.
+ *
+ * <p>The run first resolves a tx_id watermark (the newest row older than the horizon) and then
+ * moves everything up to it in small {@code DELETE ... OUTPUT INTO} batches. The pass runs through
+ * the {@link JobRunner}, so only one replica archives at a time and the nightly cron does the work
+ * once, and each batch commits together with its checkpoint. Batches take row locks at the head
+ * of the clustered tx_id key and skip locked rows, while the audit trigger only ever appends at
+ * the tail, so the two never wait on each other.</p>
+ *
+ * <p>Progress is reported from the job's row in dbo.job_leases: the watermark checkpoint and the
+ * rows moved so far.</p>
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class OccupationHistoryArchiver {
+
+    private static final String WATERMARK_SQL =
+            "SELECT MAX(tx_id) FROM " + OccupationHistoryRepository.HOT_TABLE + " WHERE changed_at < ?";
+
+    private static final String MOVE_BATCH_SQL = """
+            WITH batch AS (
+                SELECT TOP (?) *
+                FROM dbo.hg_occupations WITH (ROWLOCK, READPAST)
+                WHERE tx_id <= ?
+                ORDER BY tx_id
+            )
+            DELETE FROM batch
+            OUTPUT
+                deleted.tx_id, deleted.op, deleted.id, deleted.Oid,
+                deleted.name, deleted.Oname,
+                deleted.description, deleted.Odescription,
+                deleted.created_at, deleted.Ocreated_at,
+                deleted.updated_at, deleted.Oupdated_at,
+                deleted.changed_at, deleted.actor
+            INTO dbo.hg_occupations_archive (
+                tx_id, op, id, Oid,
+                name, Oname,
+                description, Odescription,
+                created_at, Ocreated_at,
+                updated_at, Oupdated_at,
+                changed_at, actor
+            )
+            """;
+
+    static final ClusterJob ARCHIVE_JOB = ClusterJob.single("occupation-history-archive", Duration.ofMinutes(10))
+            .oncePer(Duration.ofHours(12));
+
+    private final JdbcTemplate jdbcTemplate;
+    private final AuditArchiveConfig archiveConfig;
+    private final JobRunner jobRunner;
+    private final JobLeaseRepository jobLeaseRepository;
+
+    @Scheduled(cron = "${app.audit.archive.cron:0 30 2 * * *}")
+    public void scheduledArchive() {
+        if (!archiveConfig.isEnabled()) {
+            return;
+        }
+        jobRunner.run(ARCHIVE_JOB.withChunkPause(Duration.ofMillis(archiveConfig.getBatchPauseMs())),
+                this::archiveBatch);
+    }
+
+    /**
+     * Moves one batch. The first chunk of a pass resolves the watermark, which then travels as the
+     * checkpoint, so a pass resumed after a failure keeps its original horizon.
+     */
+    JobChunk archiveBatch(JobContext context) {
+        long watermark;
+        if (context.checkpoint() == null) {
+            LocalDateTime horizon = LocalDateTime.now(ZoneOffset.UTC).minusDays(archiveConfig.getHorizonDays());
+            // changed_at is written with SYSUTCDATETIME(), so the horizon is compared in UTC.
+            Long resolved = jdbcTemplate.queryForObject(WATERMARK_SQL, Long.class, Timestamp.valueOf(horizon));
+            if (resolved == null) {
+                log.info("No occupation history older than {} to archive", horizon);
+                return JobChunk.last(0);
+            }
+            watermark = resolved;
+            log.info("Archiving occupation history up to tx_id {} (changed before {})", watermark, horizon);
+        } else {
+            watermark = Long.parseLong(context.checkpoint());
+        }
+
+        int moved = jdbcTemplate.update(MOVE_BATCH_SQL, archiveConfig.getBatchSize(), watermark);
+        log.debug("Archived {} occupation history rows up to tx_id {}", moved, watermark);
+        return moved > 0 ? JobChunk.next(Long.toString(watermark), moved) : JobChunk.last(0);
+    }
+
+    /**
+     * The current or last pass, read from the job's lease row so that every node reports the same,
+     * whichever node ran it.
+     */
+    public OccupationHistoryArchiveStatus getStatus() {
+        return jobLeaseRepository.findSlot(ARCHIVE_JOB.name(), 0)
+                .filter(slot -> slot.lastStartedAt() != null)
+                .map(slot -> OccupationHistoryArchiveStatus.builder()
+                        .state(slot.leased() ? "RUNNING" : stateOf(slot))
+                        .watermarkTxId(slot.checkpoint() != null ? Long.valueOf(slot.checkpoint()) : null)
+                        .rowsMoved(slot.lastRows())
+                        .startedAt(slot.lastStartedAt())
+                        .finishedAt(slot.leased() ? null : slot.lastFinishedAt())
+                        .build())
+                .orElseGet(() -> OccupationHistoryArchiveStatus.builder().state("IDLE").build());
+    }
+
+    /**
+     * A run that started after the last recorded finish and no longer holds its lease died without
+     * releasing it; the next pass resumes from its checkpoint.
+     */
+    private static String stateOf(SlotState slot) {
+        if (slot.lastFinishedAt() == null || slot.lastStartedAt().isAfter(slot.lastFinishedAt())) {
+            return "INTERRUPTED";
+        }
+        return slot.lastOutcome();
+    }
+}
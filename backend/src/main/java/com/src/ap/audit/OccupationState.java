@@ -0,0 +1,26 @@
+package com.src.ap.audit;
+
+import com.src.ap.dto.occupation.OccupationHistoryResponse;
+
+import java.time.LocalDateTime;
+
+/**
+ * The audited columns of one occupation row at a point in time.
+ */
+public record OccupationState(
+        Long id,
+        String name,
+        String description,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {
+
+    /**
+     * The trigger writes the full row image for 'C' and 'U' entries, so the state after a
+     * change is simply the values carried on the history row.
+     */
+    public static OccupationState from(OccupationHistoryResponse row) {
+        return new OccupationState(row.getId(), row.getName(), row.getDescription(),
+                row.getCreatedAt(), row.getUpdatedAt());
+    }
+}
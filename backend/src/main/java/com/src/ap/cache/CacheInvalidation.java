@@ -0,0 +1,13 @@
+package com.src.ap.cache;
+
+import java.time.Instant;
+
+/**
+ * One row of dbo.cache_invalidations.
+ *
+ * @param cacheName the cache or Hibernate region to evict from
+ * @param cacheKey  the key to evict, or null to clear the whole cache
+ * @param origin    the node that wrote it; that node has already evicted locally
+ */
+public record CacheInvalidation(long id, String cacheName, String cacheKey, String origin, Instant createdAt) {
+}
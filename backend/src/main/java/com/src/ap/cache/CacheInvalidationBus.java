@@ -0,0 +1,256 @@
+package com.src.ap.cache;
+
+import com.src.ap.config.CacheBusConfig;
+import com.src.ap.job.ClusterJob;
+import com.src.ap.job.JobChunk;
+import com.src.ap.job.JobRunner;
+import com.src.ap.repository.CacheInvalidationRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Cross-node cache invalidation over the database, without a broker.
+ *
+ * <p>Writers append a row per invalidated key to dbo.cache_invalidations inside their own
+ * transaction, so the row exists exactly when the write it describes has committed. The keys a
+ * transaction publishes are deduplicated and inserted in one batch just before it commits. Every
+ * node tails the table by id with one indexed range query per interval and hands the rows written
+ * by other nodes to the {@link CacheInvalidationHandler} owning each cache, one call per handler
+ * and poll; the writing node has already evicted locally.</p>
+ *
+ * <p>Identity values are assigned at insert but become visible at commit, so a row can show up
+ * behind the cursor. Ids skipped by the tail are re-checked until {@code gap-timeout-ms} passes.
+ * Delivery lag ({@code cache.invalidation.lag}) is measured against the writer's clock, so it
+ * includes any clock skew between nodes.</p>
+ */
+@Component
+@Slf4j
+public class CacheInvalidationBus {
+
+    public static final String LAG_METRIC = "cache.invalidation.lag";
+    public static final String RECEIVED_METRIC = "cache.invalidation.received";
+
+    static final ClusterJob CLEANUP_JOB = ClusterJob.single("cache-invalidation-cleanup", Duration.ofMinutes(5));
+
+    private static final ThreadLocal<Boolean> DISPATCHING = ThreadLocal.withInitial(() -> false);
+
+    private final CacheInvalidationRepository cacheInvalidationRepository;
+    private final CacheBusConfig config;
+    private final JobRunner jobRunner;
+    private final Map<String, CacheInvalidationHandler> handlers = new HashMap<>();
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final Timer lag;
+    private final Counter received;
+
+    /**
+     * Highest id read; -1 until the first poll positions the tail at the current end.
+     */
+    private long cursor = -1;
+
+    /**
+     * Ids skipped by the tail, with the time at which they stop being re-checked.
+     */
+    private final Map<Long, Long> gaps = new LinkedHashMap<>();
+
+    private final ReentrantLock pollLock = new ReentrantLock();
+
+    public CacheInvalidationBus(CacheInvalidationRepository cacheInvalidationRepository, CacheBusConfig config,
+                                JobRunner jobRunner, List<CacheInvalidationHandler> handlers,
+                                MeterRegistry meterRegistry) {
+        this.cacheInvalidationRepository = cacheInvalidationRepository;
+        this.config = config;
+        this.jobRunner = jobRunner;
+        for (CacheInvalidationHandler handler : handlers) {
+            handler.cacheNames().forEach(name -> {
+                CacheInvalidationHandler previous = this.handlers.putIfAbsent(name, handler);
+                if (previous != null) {
+                    throw new IllegalStateException("Cache " + name + " has two invalidation handlers");
+                }
+            });
+        }
+        this.lag = Timer.builder(LAG_METRIC)
+                .description("Time from writing an invalidation to evicting it on another node")
+                .register(meterRegistry);
+        this.received = Counter.builder(RECEIVED_METRIC)
+                .description("Invalidations received from other nodes")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Records an invalidation in the caller's transaction (or on its own when there is none). Keys
+     * are queued and written together before the transaction commits, so this must be called while
+     * the transaction runs, not from another before-commit callback.
+     *
+     * @param key the key to evict, or null to clear the whole cache
+     */
+    public void publish(String cacheName, Object key) {
+        if (DISPATCHING.get()) {
+            // Replaying another node's change must not echo it back onto the bus
+            return;
+        }
+        PendingKey pendingKey = new PendingKey(cacheName, key != null ? key.toString() : null);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            write(Set.of(pendingKey));
+            return;
+        }
+
+        @SuppressWarnings("unchecked")
+        Set<PendingKey> pending = (Set<PendingKey>) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            Set<PendingKey> keys = new LinkedHashSet<>();
+            TransactionSynchronizationManager.bindResource(this, keys);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    write(keys);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(CacheInvalidationBus.this);
+                }
+            });
+            pending = keys;
+        }
+        pending.add(pendingKey);
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    @Scheduled(fixedDelayString = "${app.cache-bus.poll-interval-ms:1000}")
+    public void poll() {
+        pollLock.lock();
+        try {
+            if (cursor < 0) {
+                cursor = cacheInvalidationRepository.findLatestId();
+                return;
+            }
+            long now = System.currentTimeMillis();
+            List<CacheInvalidation> arrived = new ArrayList<>();
+            recheckGaps(now, arrived);
+
+            List<CacheInvalidation> rows;
+            do {
+                rows = cacheInvalidationRepository.findAfter(cursor, config.getBatchSize());
+                for (CacheInvalidation row : rows) {
+                    trackGaps(cursor, row.id(), now);
+                    arrived.add(row);
+                    cursor = row.id();
+                }
+            } while (rows.size() == config.getBatchSize());
+            dispatch(arrived);
+        } finally {
+            pollLock.unlock();
+        }
+    }
+
+    /**
+     * Deletes expired rows in batches on one node at a time. The cutoff is kept as the job's
+     * checkpoint, so a run that stops halfway is finished by the next one.
+     */
+    @Scheduled(fixedDelayString = "${app.cache-bus.cleanup-interval-ms:600000}")
+    public void cleanup() {
+        jobRunner.run(CLEANUP_JOB, context -> {
+            Instant cutoff = context.checkpoint() != null
+                    ? Instant.parse(context.checkpoint())
+                    : Instant.now().minus(Duration.ofMinutes(config.getRetentionMinutes()));
+            int deleted = cacheInvalidationRepository.deleteOlderThan(cutoff, config.getBatchSize());
+            return deleted < config.getBatchSize() ? JobChunk.last(deleted) : JobChunk.next(cutoff.toString(), deleted);
+        });
+    }
+
+    private void write(Set<PendingKey> keys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+        Timestamp createdAt = Timestamp.from(Instant.now());
+        cacheInvalidationRepository.insertAll(keys.stream()
+                .map(key -> new Object[]{key.cacheName(), key.cacheKey(), nodeId, createdAt})
+                .toList());
+    }
+
+    private void recheckGaps(long now, List<CacheInvalidation> arrived) {
+        gaps.values().removeIf(deadline -> deadline < now);
+        if (gaps.isEmpty()) {
+            return;
+        }
+        long first = gaps.keySet().stream().mapToLong(Long::longValue).min().orElseThrow();
+        for (CacheInvalidation row : cacheInvalidationRepository.findBetween(first - 1, cursor)) {
+            if (gaps.remove(row.id()) != null) {
+                arrived.add(row);
+            }
+        }
+    }
+
+    private void trackGaps(long previous, long next, long now) {
+        long skipped = next - previous - 1;
+        if (skipped <= 0 || skipped > config.getMaxGaps() - gaps.size()) {
+            return;
+        }
+        for (long id = previous + 1; id < next; id++) {
+            gaps.put(id, now + config.getGapTimeoutMs());
+        }
+    }
+
+    private void dispatch(List<CacheInvalidation> rows) {
+        Map<CacheInvalidationHandler, List<CacheInvalidation>> byHandler = new LinkedHashMap<>();
+        for (CacheInvalidation row : rows) {
+            if (nodeId.equals(row.origin())) {
+                continue;
+            }
+            CacheInvalidationHandler handler = handlers.get(row.cacheName());
+            if (handler == null) {
+                log.debug("No invalidation handler for cache {}", row.cacheName());
+                continue;
+            }
+            byHandler.computeIfAbsent(handler, h -> new ArrayList<>()).add(row);
+        }
+        byHandler.forEach(this::dispatch);
+    }
+
+    private void dispatch(CacheInvalidationHandler handler, List<CacheInvalidation> rows) {
+        DISPATCHING.set(true);
+        try {
+            handler.invalidateAll(rows);
+        } catch (RuntimeException e) {
+            // The entries still expire on their TTL or the next rebuild; keep tailing
+            log.warn("Failed to invalidate {} entries of {}", rows.size(), rows.get(0).cacheName(), e);
+        } finally {
+            DISPATCHING.set(false);
+        }
+        long now = System.currentTimeMillis();
+        for (CacheInvalidation row : rows) {
+            received.increment();
+            lag.record(Math.max(0, now - row.createdAt().toEpochMilli()), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * One key queued by a transaction; equal keys are written once.
+     */
+    private record PendingKey(String cacheName, String cacheKey) {
+    }
+}
@@ -0,0 +1,30 @@
+package com.src.ap.cache;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Evicts entries of node-local caches when another node invalidates them through the
+ * {@link CacheInvalidationBus}. Implementations are picked up as beans.
+ */
+public interface CacheInvalidationHandler {
+
+    /**
+     * The cache names this handler owns.
+     */
+    Set<String> cacheNames();
+
+    /**
+     * @param cacheName one of {@link #cacheNames()}
+     * @param key       the key to evict, or null to clear the whole cache
+     */
+    void invalidate(String cacheName, String key);
+
+    /**
+     * Invalidates everything one poll received for this handler's caches, in id order. Handlers
+     * that can apply a batch more cheaply than key by key override this.
+     */
+    default void invalidateAll(List<CacheInvalidation> rows) {
+        rows.forEach(row -> invalidate(row.cacheName(), row.cacheKey()));
+    }
+}
@@ -0,0 +1,61 @@
+package com.src.ap.cache;
+
+import com.src.ap.entity.CacheRegions;
+import com.src.ap.event.EmployeeFacts;
+import com.src.ap.event.EmployeeFactsChangedEvent;
+import com.src.ap.event.EntityChangeEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Stream;
+
+/**
+ * Puts the local change events on the {@link CacheInvalidationBus}, inside the writing
+ * transaction, for the other nodes to evict. The listeners run synchronously as the events are
+ * published, so the bus can queue the keys and write them in one batch before the commit.
+ */
+@Component
+@RequiredArgsConstructor
+public class CacheInvalidationPublisher {
+
+    private final CacheInvalidationBus cacheInvalidationBus;
+
+    @EventListener
+    public void onEntityChange(EntityChangeEvent event) {
+        cacheInvalidationBus.publish(EntityChangeReplayer.cacheName(event.type()), event.id());
+        String region = switch (event.type()) {
+            case OCCUPATION -> CacheRegions.OCCUPATIONS;
+            case BRANCH -> CacheRegions.BRANCHES;
+            case EMPLOYEE -> null;
+        };
+        if (region != null) {
+            cacheInvalidationBus.publish(region, event.id());
+            cacheInvalidationBus.publish(CacheRegions.REFERENCE_QUERIES, null);
+        }
+    }
+
+    /**
+     * Employee writes change the cached employee counts of their branches and occupations.
+     */
+    @EventListener
+    public void onEmployeeFactsChanged(EmployeeFactsChangedEvent event) {
+        Set<Long> branches = new TreeSet<>();
+        Set<Long> occupations = new TreeSet<>();
+        Stream.concat(event.removed().stream(), event.added().stream())
+                .forEach(facts -> collect(facts, branches, occupations));
+        branches.forEach(id -> cacheInvalidationBus.publish(CacheRegions.BRANCHES, id));
+        occupations.forEach(id -> cacheInvalidationBus.publish(CacheRegions.OCCUPATIONS, id));
+    }
+
+    private static void collect(EmployeeFacts facts, Set<Long> branches, Set<Long> occupations) {
+        if (facts.branchId() != null) {
+            branches.add(facts.branchId());
+        }
+        if (facts.occupationId() != null) {
+            occupations.add(facts.occupationId());
+        }
+    }
+}
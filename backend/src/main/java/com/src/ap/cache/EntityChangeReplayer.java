@@ -0,0 +1,75 @@
+package com.src.ap.cache;
+
+import com.src.ap.event.EntityChangeEvent;
+import com.src.ap.event.EntityType;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Replays entity changes made on another node as local {@link EntityChangeEvent}s, so the
+ * node-local read models (search index, suggestions, employee snapshot) re-read the row.
+ *
+ * <p>The events of one poll are published inside a single short transaction because those
+ * listeners run after commit and group what a transaction changed: a burst of imported employees
+ * is re-read in one pass rather than one transaction per row. The event is always an update:
+ * every listener re-reads the row and drops it when it no longer exists.</p>
+ */
+@Component
+public class EntityChangeReplayer implements CacheInvalidationHandler {
+
+    static final String PREFIX = "entity.";
+
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    public EntityChangeReplayer(ApplicationEventPublisher eventPublisher, PlatformTransactionManager transactionManager) {
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+    }
+
+    public static String cacheName(EntityType type) {
+        return PREFIX + type.name();
+    }
+
+    @Override
+    public Set<String> cacheNames() {
+        return Arrays.stream(EntityType.values())
+                .map(EntityChangeReplayer::cacheName)
+                .collect(Collectors.toSet());
+    }
+
+    @Override
+    public void invalidate(String cacheName, String key) {
+        if (key != null) {
+            replay(List.of(updated(cacheName, key)));
+        }
+    }
+
+    @Override
+    public void invalidateAll(List<CacheInvalidation> rows) {
+        replay(rows.stream()
+                // Whole-type invalidations are left to the nightly rebuilds
+                .filter(row -> row.cacheKey() != null)
+                .map(row -> updated(row.cacheName(), row.cacheKey()))
+                .toList());
+    }
+
+    private void replay(List<EntityChangeEvent> events) {
+        if (!events.isEmpty()) {
+            transactionTemplate.executeWithoutResult(status -> events.forEach(eventPublisher::publishEvent));
+        }
+    }
+
+    private static EntityChangeEvent updated(String cacheName, String key) {
+        EntityType type = EntityType.valueOf(cacheName.substring(PREFIX.length()));
+        return EntityChangeEvent.updated(type, Long.valueOf(key));
+    }
+}
@@ -0,0 +1,50 @@
+package com.src.ap.cache;
+
+import com.src.ap.entity.Branch;
+import com.src.ap.entity.CacheRegions;
+import com.src.ap.entity.Occupation;
+import com.src.ap.entity.Role;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Evicts Hibernate second-level cache entries invalidated on another node. Entity regions are
+ * keyed by id; the query region is always cleared as a whole.
+ */
+@Component
+@RequiredArgsConstructor
+public class SecondLevelCacheInvalidator implements CacheInvalidationHandler {
+
+    private static final Map<String, Class<?>> ENTITY_REGIONS = Map.of(
+            CacheRegions.ROLES, Role.class,
+            CacheRegions.OCCUPATIONS, Occupation.class,
+            CacheRegions.BRANCHES, Branch.class);
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    @Override
+    public Set<String> cacheNames() {
+        return Set.copyOf(CacheRegions.ALL);
+    }
+
+    @Override
+    public void invalidate(String cacheName, String key) {
+        Cache cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+        if (CacheRegions.REFERENCE_QUERIES.equals(cacheName)) {
+            cache.evictQueryRegion(cacheName);
+            return;
+        }
+        Class<?> entity = ENTITY_REGIONS.get(cacheName);
+        if (key == null) {
+            cache.evictEntityData(entity);
+        } else {
+            cache.evictEntityData(entity, Long.valueOf(key));
+        }
+    }
+}
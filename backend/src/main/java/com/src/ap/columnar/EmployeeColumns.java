@@ -0,0 +1,261 @@
+package com.src.ap.columnar;
+
+import org.roaringbitmap.RoaringBitmap;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Columnar, in-memory copy of the employee attributes used for slicing.
+ *
+ * <p>Each employee occupies one row slot. Occupation, branch, work status and supervisor are
+ * dictionary-encoded into int columns, with one compressed bitmap of row slots per dictionary
+ * value; hire, termination and birth dates are epoch-day int columns. A filter ORs the bitmaps of
+ * each set criterion, ANDs the results, and only then scans the date columns for the surviving
+ * rows. Slots of deleted employees are reused by later inserts.</p>
+ *
+ * <p>Reads share a read lock; writes take the write lock for the few bitmap updates of one row.</p>
+ */
+final class EmployeeColumns {
+
+    static final int NO_DATE = Integer.MIN_VALUE;
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    /**
+     * Value to code mapping plus the rows holding each code. Null is a regular value, so
+     * "no branch" has a bitmap like any branch.
+     */
+    private static final class Dictionary<V> {
+
+        private final Map<V, Integer> codes = new HashMap<>();
+        private final List<RoaringBitmap> rows = new ArrayList<>();
+
+        int encode(V value) {
+            return codes.computeIfAbsent(value, v -> {
+                rows.add(new RoaringBitmap());
+                return rows.size() - 1;
+            });
+        }
+
+        RoaringBitmap rows(int code) {
+            return rows.get(code);
+        }
+
+        /**
+         * Union of the rows holding any of the values; null when no value filter applies.
+         */
+        RoaringBitmap rowsOf(Collection<V> values) {
+            if (values == null || values.isEmpty()) {
+                return null;
+            }
+            RoaringBitmap union = new RoaringBitmap();
+            for (V value : values) {
+                Integer code = codes.get(value);
+                if (code != null) {
+                    union.or(rows.get(code));
+                }
+            }
+            return union;
+        }
+    }
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Dictionary<Long> occupations = new Dictionary<>();
+    private final Dictionary<Long> branches = new Dictionary<>();
+    private final Dictionary<String> workStatuses = new Dictionary<>();
+    private final Dictionary<Long> supervisors = new Dictionary<>();
+
+    private long[] ids = new long[INITIAL_CAPACITY];
+    private int[] occupation = new int[INITIAL_CAPACITY];
+    private int[] branch = new int[INITIAL_CAPACITY];
+    private int[] workStatus = new int[INITIAL_CAPACITY];
+    private int[] supervisor = new int[INITIAL_CAPACITY];
+    private int[] hireDay = new int[INITIAL_CAPACITY];
+    private int[] terminationDay = new int[INITIAL_CAPACITY];
+    private int[] birthDay = new int[INITIAL_CAPACITY];
+
+    private int slots;
+    private final RoaringBitmap live = new RoaringBitmap();
+    private final RoaringBitmap free = new RoaringBitmap();
+    private final Map<Long, Integer> slotById = new HashMap<>();
+
+    void put(EmployeeRow row) {
+        lock.writeLock().lock();
+        try {
+            Integer existing = slotById.get(row.id());
+            int slot;
+            if (existing != null) {
+                slot = existing;
+                clearBitmaps(slot);
+            } else {
+                slot = allocateSlot();
+                slotById.put(row.id(), slot);
+                live.add(slot);
+            }
+
+            ids[slot] = row.id();
+            occupation[slot] = occupations.encode(row.occupationId());
+            branch[slot] = branches.encode(row.branchId());
+            workStatus[slot] = workStatuses.encode(row.workStatus());
+            supervisor[slot] = supervisors.encode(row.supervisorId());
+            hireDay[slot] = epochDay(row.hireDt());
+            terminationDay[slot] = epochDay(row.terminationDt());
+            birthDay[slot] = epochDay(row.dateOfBirth());
+
+            occupations.rows(occupation[slot]).add(slot);
+            branches.rows(branch[slot]).add(slot);
+            workStatuses.rows(workStatus[slot]).add(slot);
+            supervisors.rows(supervisor[slot]).add(slot);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            Integer slot = slotById.remove(id);
+            if (slot == null) {
+                return;
+            }
+            clearBitmaps(slot);
+            live.remove(slot);
+            free.add(slot);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    int size() {
+        lock.readLock().lock();
+        try {
+            return slotById.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    int count(SliceCriteria criteria) {
+        lock.readLock().lock();
+        try {
+            return match(criteria).getCardinality();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Ids of every matching employee, ascending.
+     */
+    long[] matchingIds(SliceCriteria criteria) {
+        lock.readLock().lock();
+        try {
+            RoaringBitmap rows = match(criteria);
+            long[] matches = new long[rows.getCardinality()];
+            int[] next = {0};
+            rows.forEach((int slot) -> matches[next[0]++] = ids[slot]);
+            Arrays.sort(matches);
+            return matches;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private RoaringBitmap match(SliceCriteria criteria) {
+        RoaringBitmap rows = live.clone();
+        and(rows, occupations.rowsOf(criteria.occupationIds()));
+        and(rows, branches.rowsOf(criteria.branchIds()));
+        and(rows, workStatuses.rowsOf(criteria.workStatuses()));
+        and(rows, supervisors.rowsOf(criteria.supervisorIds()));
+
+        int hiredFrom = lowerBound(criteria.hiredFrom());
+        int hiredTo = upperBound(criteria.hiredTo());
+        int terminatedFrom = lowerBound(criteria.terminatedFrom());
+        int terminatedTo = upperBound(criteria.terminatedTo());
+        int bornFrom = lowerBound(criteria.bornFrom());
+        int bornTo = upperBound(criteria.bornTo());
+        boolean filterHired = criteria.hiredFrom() != null || criteria.hiredTo() != null;
+        boolean filterTerminated = criteria.terminatedFrom() != null || criteria.terminatedTo() != null;
+        boolean filterBorn = criteria.bornFrom() != null || criteria.bornTo() != null;
+        Boolean terminated = criteria.terminated();
+        if (!filterHired && !filterTerminated && !filterBorn && terminated == null) {
+            return rows;
+        }
+
+        RoaringBitmap filtered = new RoaringBitmap();
+        rows.forEach((int slot) -> {
+            if (filterHired && !inRange(hireDay[slot], hiredFrom, hiredTo)) {
+                return;
+            }
+            if (filterTerminated && !inRange(terminationDay[slot], terminatedFrom, terminatedTo)) {
+                return;
+            }
+            if (filterBorn && !inRange(birthDay[slot], bornFrom, bornTo)) {
+                return;
+            }
+            if (terminated != null && terminated == (terminationDay[slot] == NO_DATE)) {
+                return;
+            }
+            filtered.add(slot);
+        });
+        return filtered;
+    }
+
+    private void clearBitmaps(int slot) {
+        occupations.rows(occupation[slot]).remove(slot);
+        branches.rows(branch[slot]).remove(slot);
+        workStatuses.rows(workStatus[slot]).remove(slot);
+        supervisors.rows(supervisor[slot]).remove(slot);
+    }
+
+    private int allocateSlot() {
+        if (!free.isEmpty()) {
+            int slot = free.first();
+            free.remove(slot);
+            return slot;
+        }
+        if (slots == ids.length) {
+            int capacity = ids.length * 2;
+            ids = Arrays.copyOf(ids, capacity);
+            occupation = Arrays.copyOf(occupation, capacity);
+            branch = Arrays.copyOf(branch, capacity);
+            workStatus = Arrays.copyOf(workStatus, capacity);
+            supervisor = Arrays.copyOf(supervisor, capacity);
+            hireDay = Arrays.copyOf(hireDay, capacity);
+            terminationDay = Arrays.copyOf(terminationDay, capacity);
+            birthDay = Arrays.copyOf(birthDay, capacity);
+        }
+        return slots++;
+    }
+
+    private static void and(RoaringBitmap rows, RoaringBitmap filter) {
+        if (filter != null) {
+            rows.and(filter);
+        }
+    }
+
+    private static boolean inRange(int day, int from, int to) {
+        return day != NO_DATE && day >= from && day <= to;
+    }
+
+    private static int lowerBound(LocalDate date) {
+        return date != null ? epochDay(date) : Integer.MIN_VALUE + 1;
+    }
+
+    private static int upperBound(LocalDate date) {
+        return date != null ? epochDay(date) : Integer.MAX_VALUE;
+    }
+
+    private static int epochDay(LocalDate date) {
+        return date != null ? Math.toIntExact(date.toEpochDay()) : NO_DATE;
+    }
+}
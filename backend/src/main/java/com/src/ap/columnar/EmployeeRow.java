@@ -0,0 +1,10 @@
+package com.src.ap.columnar;
+
+import java.time.LocalDate;
+
+/**
+ * The employee attributes held by the columnar snapshot.
+ */
+public record EmployeeRow(long id, Long occupationId, Long branchId, String workStatus, Long supervisorId,
+                          LocalDate hireDt, LocalDate terminationDt, LocalDate dateOfBirth) {
+}
@@ -0,0 +1,203 @@
+package com.src.ap.columnar;
+
+import com.src.ap.datasource.Bulkhead;
+import com.src.ap.datasource.Workload;
+import com.src.ap.datasource.WorkloadContext;
+import com.src.ap.event.EntityChangeEvent;
+import com.src.ap.event.EntityType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * In-memory columnar copy of dbo.employees for multi-criteria slicing (see {@link EmployeeColumns}).
+ *
+ * <p>Loaded on startup and rebuilt nightly; in between, every committed transaction re-reads the
+ * employee rows it wrote, in one query. A rebuild fills a fresh copy while queries keep using the
+ * current one; employees changed while it runs are re-read once it has been swapped in, so none
+ * of those writes is lost.</p>
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class EmployeeSnapshot {
+
+    private static final int LOAD_BATCH_SIZE = 5000;
+
+    /**
+     * SQL Server accepts at most 2100 parameters per statement.
+     */
+    private static final int REFRESH_BATCH_SIZE = 2000;
+
+    private static final String SELECT_SQL = """
+            SELECT id, occupation_id, branch_id, work_status, supervisor_id, hire_dt, termination_dt, date_of_birth
+            FROM dbo.employees
+            """;
+
+    private static final RowMapper<EmployeeRow> ROW_MAPPER = (rs, rowNum) -> new EmployeeRow(
+            rs.getLong("id"),
+            rs.getObject("occupation_id", Long.class),
+            rs.getObject("branch_id", Long.class),
+            rs.getString("work_status"),
+            rs.getObject("supervisor_id", Long.class),
+            toLocalDate(rs.getDate("hire_dt")),
+            toLocalDate(rs.getDate("termination_dt")),
+            toLocalDate(rs.getDate("date_of_birth")));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private volatile EmployeeColumns columns = new EmployeeColumns();
+    private volatile boolean loaded;
+
+    private final AtomicBoolean rebuilding = new AtomicBoolean(false);
+    private final Set<Long> changedDuringRebuild = ConcurrentHashMap.newKeySet();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        Thread.ofVirtual().name("employee-snapshot-load").start(WorkloadContext.wrap(Workload.BULK, this::rebuild));
+    }
+
+    @Bulkhead(Workload.BULK)
+    @Scheduled(cron = "${app.employee-snapshot.rebuild-cron:0 15 3 * * *}")
+    public void scheduledRebuild() {
+        rebuild();
+    }
+
+    public void rebuild() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            log.info("Employee snapshot rebuild already running");
+            return;
+        }
+        try {
+            long start = System.currentTimeMillis();
+            changedDuringRebuild.clear();
+            EmployeeColumns fresh = new EmployeeColumns();
+            long lastId = 0;
+            while (true) {
+                List<EmployeeRow> batch = jdbcTemplate.query(
+                        SELECT_SQL + "WHERE id > ? ORDER BY id OFFSET 0 ROWS FETCH NEXT ? ROWS ONLY",
+                        ROW_MAPPER, lastId, LOAD_BATCH_SIZE);
+                if (batch.isEmpty()) {
+                    break;
+                }
+                batch.forEach(fresh::put);
+                lastId = batch.get(batch.size() - 1).id();
+            }
+
+            columns = fresh;
+            loaded = true;
+            rebuilding.set(false);
+            refresh(Set.copyOf(changedDuringRebuild));
+            log.info("Loaded {} employees into the columnar snapshot in {} ms",
+                    fresh.size(), System.currentTimeMillis() - start);
+        } catch (RuntimeException e) {
+            log.error("Employee snapshot rebuild failed", e);
+        } finally {
+            rebuilding.set(false);
+        }
+    }
+
+    /**
+     * Collects the employees a transaction writes and re-reads them together once it commits, so
+     * an import batch of hundreds of rows costs one IN query rather than one query per row.
+     */
+    @EventListener
+    public void onEntityChange(EntityChangeEvent event) {
+        if (event.type() != EntityType.EMPLOYEE) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            afterCommit(Set.of(event.id()));
+            return;
+        }
+
+        @SuppressWarnings("unchecked")
+        Set<Long> pending = (Set<Long>) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            Set<Long> ids = new LinkedHashSet<>();
+            TransactionSynchronizationManager.bindResource(this, ids);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(EmployeeSnapshot.this);
+                    if (status == STATUS_COMMITTED) {
+                        afterCommit(ids);
+                    }
+                }
+            });
+            pending = ids;
+        }
+        pending.add(event.id());
+    }
+
+    /**
+     * Whether the initial load has finished; until then the snapshot may be incomplete.
+     */
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    public int count(SliceCriteria criteria) {
+        return columns.count(criteria);
+    }
+
+    /**
+     * Ids of every matching employee, ascending.
+     */
+    public long[] matchingIds(SliceCriteria criteria) {
+        return columns.matchingIds(criteria);
+    }
+
+    private void afterCommit(Set<Long> ids) {
+        if (rebuilding.get()) {
+            changedDuringRebuild.addAll(ids);
+        }
+        try {
+            refresh(ids);
+        } catch (RuntimeException e) {
+            // The nightly rebuild repairs the rows; the writes themselves have already committed.
+            log.warn("Failed to update employee snapshot for {} employees", ids.size(), e);
+        }
+    }
+
+    /**
+     * Re-reads the given employees in IN lists of at most {@link #REFRESH_BATCH_SIZE}; an id whose
+     * row is gone was deleted and is removed.
+     */
+    private void refresh(Collection<Long> ids) {
+        List<Long> all = List.copyOf(ids);
+        for (int from = 0; from < all.size(); from += REFRESH_BATCH_SIZE) {
+            List<Long> chunk = all.subList(from, Math.min(from + REFRESH_BATCH_SIZE, all.size()));
+            String placeholders = String.join(",", Collections.nCopies(chunk.size(), "?"));
+            Set<Long> found = new HashSet<>();
+            for (EmployeeRow row : jdbcTemplate.query(SELECT_SQL + "WHERE id IN (" + placeholders + ")",
+                    ROW_MAPPER, chunk.toArray())) {
+                columns.put(row);
+                found.add(row.id());
+            }
+            chunk.stream().filter(id -> !found.contains(id)).forEach(columns::remove);
+        }
+    }
+
+    private static LocalDate toLocalDate(Date date) {
+        return date != null ? date.toLocalDate() : null;
+    }
+}
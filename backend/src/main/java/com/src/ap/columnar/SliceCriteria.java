@@ -0,0 +1,17 @@
+package com.src.ap.columnar;
+
+import java.time.LocalDate;
+import java.util.Set;
+
+/**
+ * A multi-criteria filter over the snapshot. Empty or null sets and null bounds do not filter;
+ * values within one set are OR-ed, the criteria themselves AND-ed. Date bounds are inclusive and
+ * never match an employee without that date.
+ */
+public record SliceCriteria(Set<Long> occupationIds, Set<Long> branchIds, Set<String> workStatuses,
+                            Set<Long> supervisorIds,
+                            LocalDate hiredFrom, LocalDate hiredTo,
+                            LocalDate terminatedFrom, LocalDate terminatedTo,
+                            LocalDate bornFrom, LocalDate bornTo,
+                            Boolean terminated) {
+}
@@ -0,0 +1,63 @@
+package com.src.ap.config;
+
+import com.src.ap.audit.AuditEntityListener;
+import com.src.ap.audit.AuditTrailWriter;
+import com.src.ap.audit.AuditedTable;
+import com.src.ap.audit.AuditedTable.AuditedColumn;
+import com.src.ap.entity.Occupation;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Wiring for {@code app.audit.mode=application}.
+ *
+ * <p>Each {@link AuditedTable} bean puts one entity under application-side auditing. Employee and
+ * Branch can be added the same way once their hg_* tables exist.</p>
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.audit", name = "mode", havingValue = "application")
+public class ApplicationAuditConfig {
+
+    @Bean
+    public AuditedTable occupationAuditedTable() {
+        return new AuditedTable(Occupation.class, "dbo.hg_occupations", List.of(
+                new AuditedColumn("name", "name", "Oname"),
+                new AuditedColumn("description", "description", "Odescription"),
+                new AuditedColumn("createdAt", "created_at", "Ocreated_at"),
+                new AuditedColumn("updatedAt", "updated_at", "Oupdated_at")
+        ));
+    }
+
+    @Bean
+    public AuditTrailWriter auditTrailWriter(JdbcTemplate jdbcTemplate) {
+        return new AuditTrailWriter(jdbcTemplate);
+    }
+
+    @Bean
+    public AuditEntityListener auditEntityListener(EntityManagerFactory entityManagerFactory,
+                                                   AuditTrailWriter auditTrailWriter,
+                                                   List<AuditedTable> auditedTables) {
+        Map<Class<?>, AuditedTable> tables = auditedTables.stream()
+                .collect(Collectors.toMap(AuditedTable::entityClass, Function.identity()));
+        AuditEntityListener listener = new AuditEntityListener(auditTrailWriter, tables);
+
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_INSERT, listener);
+        registry.appendListeners(EventType.POST_UPDATE, listener);
+        registry.appendListeners(EventType.POST_DELETE, listener);
+        return listener;
+    }
+}
@@ -0,0 +1,38 @@
+package com.src.ap.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration properties for the Occupation audit history archival job.
+ * Maps values from application.yml under the 'app.audit.archive' prefix.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "app.audit.archive")
+@Getter
+@Setter
+public class AuditArchiveConfig {
+
+    /**
+     * Whether the scheduled archival run is enabled.
+     */
+    private boolean enabled = true;
+
+    /**
+     * History rows whose changed_at is older than this many days are moved to the archive table.
+     */
+    private int horizonDays = 365;
+
+    /**
+     * Rows moved per statement. Kept well below SQL Server's lock escalation threshold (5000)
+     * so a batch only ever holds row locks at the head of the table.
+     */
+    private int batchSize = 1000;
+
+    /**
+     * Pause between batches so concurrent trigger inserts and history reads get a turn.
+     */
+    private long batchPauseMs = 200;
+}
@@ -0,0 +1,28 @@
+package com.src.ap.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration properties for point-in-time ("as of") Occupation reads.
+ * Maps values from application.yml under the 'app.audit.as-of' prefix.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "app.audit.as-of")
+@Getter
+@Setter
+public class AuditAsOfConfig {
+
+    /**
+     * Number of reconstructed catalogue states kept in the in-memory LRU.
+     */
+    private int cacheSize = 16;
+
+    /**
+     * A new persisted snapshot is taken once the trail has grown by at least this many rows
+     * since the previous one, bounding how much trail any as-of read has to replay.
+     */
+    private int snapshotIntervalRows = 1000;
+}
@@ -0,0 +1,20 @@
+package com.src.ap.config;
+
+import com.src.ap.audit.AuditMode;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration properties for audit trail capture.
+ * Maps values from application.yml under the 'app.audit' prefix.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "app.audit")
+@Getter
+@Setter
+public class AuditConfig {
+
+    private AuditMode mode = AuditMode.TRIGGER;
+}
@@ -0,0 +1,32 @@
+package com.src.ap.config;
+
+import com.src.ap.audit.AuditActorBindingDataSource;
+import com.src.ap.datasource.ReadReplicaDataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * Wraps the application DataSource with {@link AuditActorBindingDataSource}. A
+ * {@link ReadReplicaDataSource} already binds its primary and is left alone.
+ */
+@Configuration
+public class AuditDataSourceConfig {
+
+    @Bean
+    public static BeanPostProcessor auditActorBindingPostProcessor(ObjectProvider<AuditConfig> auditConfig) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof AuditActorBindingDataSource)
+                        && !(bean instanceof ReadReplicaDataSource)) {
+                    return new AuditActorBindingDataSource(dataSource, auditConfig::getObject);
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,48 @@
+package com.src.ap.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration properties for the server-sent Occupation change feed.
+ * Maps values from application.yml under the 'app.audit.feed' prefix.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "app.audit.feed")
+@Getter
+@Setter
+public class AuditFeedConfig {
+
+    /**
+     * Delay between tail queries against hg_occupations. Only runs while someone is subscribed.
+     */
+    private long pollIntervalMs = 1000;
+
+    /**
+     * Maximum rows read by one tail query; the poller keeps reading until it catches up.
+     */
+    private int batchSize = 500;
+
+    /**
+     * Interval of the comment lines that keep idle connections open through proxies.
+     */
+    private long heartbeatIntervalMs = 15000;
+
+    /**
+     * Lifetime of one stream; clients reconnect with Last-Event-ID when it ends.
+     */
+    private long emitterTimeoutMs = 1_800_000;
+
+    /**
+     * Events buffered per subscriber before a slow client is disconnected.
+     */
+    private int subscriberBuffer = 256;
+
+    /**
+     * Most rows replayed to a resuming client; further behind than this, or than fits in its
+     * buffer, it is told to reload.
+     */
+    private int maxBackfill = 1000;
+}
@@ -23,12 +23,11 @@ public class AuditRequestContextFilter extends OncePerRequestFilter {
             HttpServletResponse response,
             FilterChain filterChain
     ) throws ServletException, IOException {
-        String actor = resolveActor();
-        AuditContextHolder.set(new AuditRequestContext(actor));
+        AuditRequestContext previous = AuditContextHolder.bind(new AuditRequestContext(resolveActor()));
         try {
             filterChain.doFilter(request, response);
         } finally {
-            AuditContextHolder.clear();
+            AuditContextHolder.restore(previous);
         }
     }
 
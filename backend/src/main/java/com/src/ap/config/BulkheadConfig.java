@@ -0,0 +1,47 @@
+package com.src.ap.config;
+
+import com.src.ap.datasource.Workload;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Configuration properties for the connection pool bulkheads.
+ * Maps values from application.yml under the 'app.bulkheads' prefix.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "app.bulkheads")
+@Getter
+@Setter
+public class BulkheadConfig {
+
+    /**
+     * A dedicated pool per workload. OLTP always uses the main pool (spring.datasource.hikari.*);
+     * a workload without an entry here uses it too.
+     */
+    private Map<Workload, Pool> pools = new LinkedHashMap<>();
+
+    /**
+     * Request paths (Ant patterns) served on a workload's pool; other requests use OLTP.
+     */
+    private Map<Workload, List<String>> endpoints = new LinkedHashMap<>();
+
+    @Getter
+    @Setter
+    public static class Pool {
+
+        private int maximumPoolSize = 5;
+
+        private int minimumIdle = 1;
+
+        /**
+         * How long a caller waits for a connection from this pool before failing.
+         */
+        private long connectionTimeoutMs = 5000;
+    }
+}
@@ -0,0 +1,69 @@
+package com.src.ap.config;
+
+import com.src.ap.datasource.Bulkhead;
+import com.src.ap.datasource.BulkheadInterceptor;
+import com.src.ap.datasource.BulkheadPools;
+import com.src.ap.datasource.WorkloadRoutingDataSource;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.ComposablePointcut;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.Ordered;
+
+import javax.sql.DataSource;
+
+/**
+ * Connection pool bulkheads: wraps the main pool with {@link WorkloadRoutingDataSource} and
+ * applies {@link Bulkhead} annotations.
+ *
+ * <p>The routing wrapper is applied before every other DataSource wrapper (audit actor binding,
+ * read replica routing), so those see a single DataSource whatever pool a connection comes from.
+ * The advisor runs ahead of the transaction interceptor, so the workload is set by the time the
+ * transaction opens its connection.</p>
+ */
+@Configuration
+public class BulkheadDataSourceConfig {
+
+    @Bean
+    public static BeanPostProcessor workloadRoutingPostProcessor(ObjectProvider<BulkheadPools> pools) {
+        return new WorkloadRoutingPostProcessor(pools);
+    }
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor bulkheadAdvisor() {
+        ComposablePointcut pointcut = new ComposablePointcut(new AnnotationMatchingPointcut(Bulkhead.class, true))
+                .union(new AnnotationMatchingPointcut(null, Bulkhead.class, true));
+        DefaultPointcutAdvisor advisor = new DefaultPointcutAdvisor(pointcut, new BulkheadInterceptor());
+        advisor.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return advisor;
+    }
+
+    private static final class WorkloadRoutingPostProcessor implements BeanPostProcessor, Ordered {
+
+        private final ObjectProvider<BulkheadPools> pools;
+
+        private WorkloadRoutingPostProcessor(ObjectProvider<BulkheadPools> pools) {
+            this.pools = pools;
+        }
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (bean instanceof DataSource dataSource && !(bean instanceof WorkloadRoutingDataSource)) {
+                return new WorkloadRoutingDataSource(dataSource, pools::getObject);
+            }
+            return bean;
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.HIGHEST_PRECEDENCE;
+        }
+    }
+}
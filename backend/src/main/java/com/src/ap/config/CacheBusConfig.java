@@ -0,0 +1,46 @@
+package com.src.ap.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration properties for the cross-node cache invalidation bus.
+ * Maps values from application.yml under the 'app.cache-bus' prefix.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "app.cache-bus")
+@Getter
+@Setter
+public class CacheBusConfig {
+
+    /**
+     * Delay between tail queries against dbo.cache_invalidations.
+     */
+    private long pollIntervalMs = 1000;
+
+    /**
+     * Maximum rows read by one tail query; the poller keeps reading until it catches up.
+     */
+    private int batchSize = 500;
+
+    /**
+     * How long a skipped id is re-checked. Identity values are assigned at insert but become
+     * visible at commit, so a slower writer's row can appear behind one already read.
+     */
+    private long gapTimeoutMs = 30000;
+
+    /**
+     * Skipped ids tracked at once; a larger jump (e.g. the identity cache after a SQL Server
+     * restart) is not a set of in-flight writers and is not tracked.
+     */
+    private int maxGaps = 100;
+
+    /**
+     * Age after which rows are deleted; a node that is down longer than this has cold caches anyway.
+     */
+    private long retentionMinutes = 60;
+
+    private long cleanupIntervalMs = 600000;
+}
@@ -0,0 +1,81 @@
+package com.src.ap.config;
+
+import com.src.ap.limit.RequestPriority;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Configuration properties for the adaptive API concurrency limit.
+ * Maps values from application.yml under the 'app.concurrency-limit' prefix.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "app.concurrency-limit")
+@Getter
+@Setter
+public class ConcurrencyLimitConfig {
+
+    private boolean enabled = true;
+
+    /**
+     * Request paths (Ant patterns) counted against the limit.
+     */
+    private List<String> paths = new ArrayList<>(List.of("/api/**"));
+
+    private int initialLimit = 20;
+
+    private int minLimit = 5;
+
+    private int maxLimit = 200;
+
+    /**
+     * How long latency samples are averaged before the limit is recalculated.
+     */
+    private long windowMs = 1000;
+
+    /**
+     * Fewer samples than this in a window are not enough to move the limit.
+     */
+    private int minWindowSamples = 10;
+
+    /**
+     * Number of windows over which the long-term (no-load) latency is averaged.
+     */
+    private int longWindows = 100;
+
+    /**
+     * How much the short-term latency may exceed the long-term one before the limit shrinks.
+     */
+    private double tolerance = 1.5;
+
+    /**
+     * Weight of each new estimate in the limit, so a single window cannot swing it.
+     */
+    private double smoothing = 0.2;
+
+    /**
+     * Factor applied to the limit after a window in which requests failed with 503 or 504.
+     */
+    private double backoffRatio = 0.9;
+
+    /**
+     * Share of the limit each priority may fill. Requests of a priority are shed once that many
+     * are in flight, keeping the rest free for higher priorities.
+     */
+    private Map<RequestPriority, Double> shares = new EnumMap<>(Map.of(
+            RequestPriority.CRITICAL, 1.0,
+            RequestPriority.WRITE, 0.9,
+            RequestPriority.READ, 0.75));
+
+    /**
+     * Request paths (Ant patterns) with a fixed priority. Other requests are WRITE when their
+     * method changes data and READ otherwise.
+     */
+    private Map<RequestPriority, List<String>> routes = new EnumMap<>(RequestPriority.class);
+}
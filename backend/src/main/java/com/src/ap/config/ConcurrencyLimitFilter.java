@@ -0,0 +1,107 @@
+package com.src.ap.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.src.ap.limit.GradientConcurrencyLimiter;
+import com.src.ap.limit.RequestPriority;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Admits API requests through the {@link GradientConcurrencyLimiter} and answers the rest with an
+ * immediate 503 and {@code Retry-After}, instead of letting them queue for a worker thread.
+ *
+ * <p>Runs ahead of Spring Security, so a rejected request costs neither a token check nor a
+ * password hash, and the measured latency includes both.</p>
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 2)
+@RequiredArgsConstructor
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private static final Set<String> READ_METHODS = Set.of(
+            HttpMethod.GET.name(), HttpMethod.HEAD.name(), HttpMethod.OPTIONS.name());
+
+    private final ConcurrencyLimitConfig config;
+    private final GradientConcurrencyLimiter limiter;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        if (!config.isEnabled()) {
+            return true;
+        }
+        String path = request.getRequestURI();
+        return config.getPaths().stream().noneMatch(pattern -> pathMatcher.match(pattern, path));
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain
+    ) throws ServletException, IOException {
+        RequestPriority priority = resolvePriority(request);
+        if (!limiter.tryAcquire(priority)) {
+            reject(response);
+            return;
+        }
+
+        long start = System.nanoTime();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            if (request.isAsyncStarted()) {
+                limiter.releaseWithoutSample();
+            } else {
+                int status = response.getStatus();
+                boolean dropped = status == HttpServletResponse.SC_SERVICE_UNAVAILABLE
+                        || status == HttpServletResponse.SC_GATEWAY_TIMEOUT;
+                limiter.release(priority, System.nanoTime() - start, dropped);
+            }
+        }
+    }
+
+    private RequestPriority resolvePriority(HttpServletRequest request) {
+        String path = request.getRequestURI();
+        for (Map.Entry<RequestPriority, List<String>> entry : config.getRoutes().entrySet()) {
+            for (String pattern : entry.getValue()) {
+                if (pathMatcher.match(pattern, path)) {
+                    return entry.getKey();
+                }
+            }
+        }
+        return READ_METHODS.contains(request.getMethod()) ? RequestPriority.READ : RequestPriority.WRITE;
+    }
+
+    private void reject(HttpServletResponse response) throws IOException {
+        response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+        response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+        response.setContentType("application/json");
+        response.setCharacterEncoding("UTF-8");
+
+        Map<String, Object> errorResponse = new HashMap<>();
+        errorResponse.put("status", 503);
+        errorResponse.put("error", "SERVICE_UNAVAILABLE");
+        errorResponse.put("message", "The server is busy. Please retry shortly.");
+
+        response.getWriter().write(objectMapper.writeValueAsString(errorResponse));
+    }
+}
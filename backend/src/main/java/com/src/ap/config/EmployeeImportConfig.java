@@ -0,0 +1,33 @@
+package com.src.ap.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration properties for bulk employee imports.
+ * Maps values from application.yml under the 'app.employee-import' prefix.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "app.employee-import")
+@Getter
+@Setter
+public class EmployeeImportConfig {
+
+    /**
+     * Rows inserted per JDBC batch and per transaction. A failed batch is retried row by row,
+     * so this also bounds how much work one bad row can force to be redone.
+     */
+    private int batchSize = 500;
+
+    /**
+     * Imports run at the same time; further submissions queue behind them.
+     */
+    private int concurrency = 2;
+
+    /**
+     * How long a finished job and its error report stay available for download.
+     */
+    private long retentionMinutes = 1440;
+}
@@ -1,6 +1,7 @@
 package com.src.ap.config;
 
 import org.flywaydb.core.Flyway;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.DependsOn;
@@ -11,8 +12,11 @@ import javax.sql.DataSource;
  * Configuration to ensure Flyway runs AFTER Hibernate DDL.
  * This allows Hibernate to create the main tables (like occupations)
  * before Flyway creates audit triggers that depend on those tables.
+ *
+ * Disabled with {@code app.flyway.enabled=false}, e.g. for the H2 test profile.
  */
 @Configuration
+@ConditionalOnProperty(prefix = "app.flyway", name = "enabled", matchIfMissing = true)
 public class FlywayConfig {
 
     /**
@@ -0,0 +1,37 @@
+package com.src.ap.config;
+
+import com.src.ap.entity.CacheRegions;
+import com.src.ap.metrics.CacheRegionMetrics;
+import com.src.ap.metrics.FlushMetrics;
+import com.src.ap.metrics.UpdateStatementMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.hibernate.autoconfigure.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Publishes flush timings and UPDATE statement sizes to the actuator metrics endpoint
+ * ({@code /actuator/metrics/hibernate.flush}, {@code hibernate.update.columns}, {@code hibernate.update.size}),
+ * plus second-level cache hits and misses per region ({@code hibernate.cache.region.requests}).
+ */
+@Configuration
+public class HibernateMetricsConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer hibernateMetricsCustomizer(MeterRegistry meterRegistry) {
+        FlushMetrics.bindTo(meterRegistry);
+        return properties -> {
+            properties.put(AvailableSettings.STATEMENT_INSPECTOR, new UpdateStatementMetrics(meterRegistry));
+            properties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER, FlushMetrics.class.getName());
+        };
+    }
+
+    @Bean
+    public CacheRegionMetrics cacheRegionMetrics(EntityManagerFactory entityManagerFactory) {
+        return new CacheRegionMetrics(entityManagerFactory.unwrap(SessionFactory.class).getStatistics(),
+                CacheRegions.ALL);
+    }
+}
@@ -0,0 +1,60 @@
+package com.src.ap.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration properties for routing read-only transactions to a read replica.
+ * Maps values from application.yml under the 'app.read-replica' prefix.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "app.read-replica")
+@Getter
+@Setter
+public class ReadReplicaConfig {
+
+    /**
+     * Off by default: every transaction then uses the primary DataSource as before.
+     */
+    private boolean enabled = false;
+
+    private String url;
+
+    private String username;
+
+    private String password;
+
+    private String driverClassName;
+
+    /**
+     * The replica has its own pool, sized independently of the primary's.
+     */
+    private int maximumPoolSize = 10;
+
+    private int minimumIdle = 2;
+
+    /**
+     * Kept short: a read waiting this long for a replica connection falls back to the primary.
+     */
+    private long connectionTimeoutMs = 2000;
+
+    /**
+     * Delay between heartbeat writes to the primary and lag checks against the replica.
+     */
+    private long healthCheckIntervalMs = 1000;
+
+    /**
+     * Reads go to the primary while the replica's heartbeat is older than this. The measured lag
+     * includes up to one health check interval.
+     */
+    private long maxLagMs = 5000;
+
+    /**
+     * After committing a write, a user's read-only transactions go to the primary for this long,
+     * so they see their own writes. Should exceed max-lag-ms plus the health check interval. Other
+     * nodes apply the pin within one cache bus poll interval of the commit.
+     */
+    private long readYourWritesMs = 10000;
+}
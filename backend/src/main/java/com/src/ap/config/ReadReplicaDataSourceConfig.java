@@ -0,0 +1,41 @@
+package com.src.ap.config;
+
+import com.src.ap.audit.AuditActorBindingDataSource;
+import com.src.ap.datasource.ReadReplica;
+import com.src.ap.datasource.ReadReplicaDataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * Wraps the application DataSource with {@link ReadReplicaDataSource} when
+ * {@code app.read-replica.enabled=true}.
+ *
+ * <p>The primary inside it is bound by {@link AuditActorBindingDataSource}, whichever post
+ * processor runs first; the replica only serves reads and needs no actor.</p>
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.read-replica", name = "enabled", havingValue = "true")
+public class ReadReplicaDataSourceConfig {
+
+    @Bean
+    public static BeanPostProcessor readReplicaPostProcessor(ObjectProvider<AuditConfig> auditConfig,
+                                                             ObjectProvider<ReadReplica> readReplica) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ReadReplicaDataSource)) {
+                    DataSource primary = dataSource instanceof AuditActorBindingDataSource
+                            ? dataSource
+                            : new AuditActorBindingDataSource(dataSource, auditConfig::getObject);
+                    return new ReadReplicaDataSource(primary, readReplica::getObject);
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,52 @@
+package com.src.ap.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Configuration properties for per-request deadlines.
+ * Maps values from application.yml under the 'app.request-deadline' prefix.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "app.request-deadline")
+@Getter
+@Setter
+public class RequestDeadlineConfig {
+
+    /**
+     * Header in which a client sends how long, in milliseconds, it will wait for the response.
+     */
+    private String header = "X-Request-Timeout";
+
+    /**
+     * Deadline of requests matching no endpoint below and sending no header; 0 for none.
+     */
+    private long defaultMs = 30000;
+
+    /**
+     * Upper bound on any deadline, including one asked for in the header.
+     */
+    private long maxMs = 120000;
+
+    /**
+     * Per-endpoint defaults, first match wins.
+     */
+    private List<Endpoint> endpoints = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class Endpoint {
+
+        /**
+         * Ant pattern matched against the request path.
+         */
+        private String pattern;
+
+        private long timeoutMs;
+    }
+}
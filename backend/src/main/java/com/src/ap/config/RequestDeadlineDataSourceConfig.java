@@ -0,0 +1,38 @@
+package com.src.ap.config;
+
+import com.src.ap.datasource.DeadlineDataSource;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import javax.sql.DataSource;
+
+/**
+ * Wraps the application DataSource with {@link DeadlineDataSource}, directly above the bulkhead
+ * routing so the timeouts apply whichever pool a connection comes from.
+ */
+@Configuration
+public class RequestDeadlineDataSourceConfig {
+
+    @Bean
+    public static BeanPostProcessor deadlinePostProcessor() {
+        return new DeadlinePostProcessor();
+    }
+
+    private static final class DeadlinePostProcessor implements BeanPostProcessor, Ordered {
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (bean instanceof DataSource dataSource && !(bean instanceof DeadlineDataSource)) {
+                return new DeadlineDataSource(dataSource);
+            }
+            return bean;
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.HIGHEST_PRECEDENCE + 1;
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.src.ap.config;
+
+import com.src.ap.datasource.RequestDeadline;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * Gives each request a deadline: the client's {@code X-Request-Timeout} header, else the first
+ * matching endpoint default, else {@code default-ms}, capped at {@code max-ms}. Statements run
+ * while serving the request time out when it passes (see
+ * {@link com.src.ap.datasource.DeadlineDataSource}).
+ *
+ * <p>A blocked servlet request gets no signal when its client disconnects, so a client that
+ * stops waiting after a few seconds should send that as its timeout; its query is then cancelled
+ * when it gives up instead of running on. Requests that end past their deadline are counted as
+ * {@code http.server.requests.deadline.exceeded}, tagged with the endpoint.</p>
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+@RequiredArgsConstructor
+@Slf4j
+public class RequestDeadlineFilter extends OncePerRequestFilter {
+
+    public static final String EXCEEDED_METRIC = "http.server.requests.deadline.exceeded";
+
+    private final RequestDeadlineConfig config;
+    private final MeterRegistry meterRegistry;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain
+    ) throws ServletException, IOException {
+        long timeoutMs = resolveTimeoutMs(request);
+        if (timeoutMs <= 0) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        RequestDeadline.set(Duration.ofMillis(timeoutMs));
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            if (RequestDeadline.isExceeded() || response.getStatus() == HttpStatus.GATEWAY_TIMEOUT.value()) {
+                Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+                meterRegistry.counter(EXCEEDED_METRIC, "uri", pattern != null ? pattern.toString() : "UNKNOWN")
+                        .increment();
+            }
+            RequestDeadline.clear();
+        }
+    }
+
+    private long resolveTimeoutMs(HttpServletRequest request) {
+        String header = request.getHeader(config.getHeader());
+        if (header != null) {
+            try {
+                long requested = Long.parseLong(header.trim());
+                if (requested > 0) {
+                    return Math.min(requested, config.getMaxMs());
+                }
+            } catch (NumberFormatException e) {
+                log.debug("Ignoring invalid {} header: {}", config.getHeader(), header);
+            }
+        }
+        String path = request.getRequestURI();
+        for (RequestDeadlineConfig.Endpoint endpoint : config.getEndpoints()) {
+            if (pathMatcher.match(endpoint.getPattern(), path)) {
+                return Math.min(endpoint.getTimeoutMs(), config.getMaxMs());
+            }
+        }
+        return Math.min(config.getDefaultMs(), config.getMaxMs());
+    }
+}
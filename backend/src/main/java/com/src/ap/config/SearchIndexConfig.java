@@ -0,0 +1,37 @@
+package com.src.ap.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration properties for the embedded full-text search index.
+ * Maps values from application.yml under the 'app.search' prefix.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "app.search")
+@Getter
+@Setter
+public class SearchIndexConfig {
+
+    /**
+     * Local directory holding the index files. Each node keeps its own copy.
+     */
+    private String indexDir = "data/search-index";
+
+    /**
+     * Upper bound on how stale a search may be after a write, in milliseconds.
+     */
+    private long maxStaleMs = 1000;
+
+    /**
+     * Rebuild the index from the database in the background on startup.
+     */
+    private boolean rebuildOnStartup = true;
+
+    /**
+     * Rows read per database round trip during a rebuild.
+     */
+    private int rebuildBatchSize = 1000;
+}
@@ -3,6 +3,7 @@ package com.src.ap.config;
 import com.src.ap.config.JwtAuthenticationFilter;
 import com.src.ap.security.CustomAccessDeniedHandler;
 import com.src.ap.security.CustomAuthenticationEntryPoint;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
@@ -110,6 +111,10 @@ public class SecurityConfig {
                 .cors(cors -> cors.configurationSource(corsConfigurationSource()))
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(auth -> auth
+                        // Async dispatches (e.g. completing an SSE stream) were already
+                        // authorized on the original request
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+
                         // ============================================================
                         // PUBLIC ENDPOINTS - No JWT Required
                         // ============================================================
@@ -134,6 +139,10 @@ public class SecurityConfig {
                         // User registration - requires TECHADMIN or SUPERADMIN role
                         .requestMatchers("/api/auth/register").hasAnyRole("TECHADMIN", "SUPERADMIN")
 
+                        // Actuator: health is public for load balancers, metrics are admin-only
+                        .requestMatchers("/actuator/health").permitAll()
+                        .requestMatchers("/actuator/**").hasAnyRole("TECHADMIN", "SUPERADMIN")
+
                         // ============================================================
                         // PROTECTED ENDPOINTS - Valid JWT Required
                         // ============================================================
@@ -0,0 +1,31 @@
+package com.src.ap.config;
+
+import com.src.ap.metrics.VirtualThreadPinningMonitor;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Support for running requests and async work on virtual threads
+ * ({@code spring.threads.virtual.enabled}, off by default).
+ *
+ * <p>Work handed to another thread carries the submitting thread's audit actor and connection
+ * pool workload explicitly, with {@link com.src.ap.audit.AuditContextHolder#wrap} and
+ * {@link com.src.ap.datasource.WorkloadContext#wrap}, at the point of the hand-off. The pinning
+ * monitor reports virtual threads that block while pinned to their carrier.</p>
+ */
+@Configuration
+public class VirtualThreadConfig {
+
+    @Bean(initMethod = "start", destroyMethod = "close")
+    @ConditionalOnProperty(prefix = "app.virtual-threads.pinning-monitor", name = "enabled", matchIfMissing = true)
+    public VirtualThreadPinningMonitor virtualThreadPinningMonitor(
+            MeterRegistry meterRegistry,
+            @Value("${app.virtual-threads.pinning-monitor.threshold-ms:20}") long thresholdMs) {
+        return new VirtualThreadPinningMonitor(meterRegistry, Duration.ofMillis(thresholdMs));
+    }
+}
@@ -0,0 +1,62 @@
+package com.src.ap.config;
+
+import com.src.ap.datasource.Workload;
+import com.src.ap.datasource.WorkloadContext;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Serves each request on the pool of the workload whose {@code app.bulkheads.endpoints} pattern
+ * matches its path. {@link com.src.ap.datasource.Bulkhead} methods override it.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class WorkloadRequestFilter extends OncePerRequestFilter {
+
+    private final BulkheadConfig bulkheadConfig;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain
+    ) throws ServletException, IOException {
+        Workload workload = resolveWorkload(request.getRequestURI());
+        if (workload == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        Workload previous = WorkloadContext.set(workload);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            WorkloadContext.restore(previous);
+        }
+    }
+
+    private Workload resolveWorkload(String path) {
+        for (Map.Entry<Workload, List<String>> entry : bulkheadConfig.getEndpoints().entrySet()) {
+            for (String pattern : entry.getValue()) {
+                if (pathMatcher.match(pattern, path)) {
+                    return entry.getKey();
+                }
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,33 @@
+package com.src.ap.controller;
+
+import com.src.ap.dto.analytics.HeadcountSummaryResponse;
+import com.src.ap.dto.common.ApiResponse;
+import com.src.ap.service.HeadcountSummaryService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.YearMonth;
+
+@RestController
+@RequestMapping("/api/analytics")
+@RequiredArgsConstructor
+public class AnalyticsController {
+
+    private final HeadcountSummaryService headcountSummaryService;
+
+    /**
+     * Headcount by branch, occupation and work status, with hires and terminations per month
+     * between {@code from} and {@code to} (yyyy-MM, defaulting to the last 12 months).
+     */
+    @GetMapping("/headcount")
+    public ResponseEntity<ApiResponse<HeadcountSummaryResponse>> getHeadcount(
+            @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM") YearMonth from,
+            @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM") YearMonth to) {
+        return ResponseEntity.ok(ApiResponse.success(headcountSummaryService.getSummary(from, to)));
+    }
+}
@@ -2,15 +2,29 @@ package com.src.ap.controller;
 
 import com.src.ap.dto.common.ApiResponse;
 import com.src.ap.dto.common.PageResponse;
+import com.src.ap.dto.employee.EmployeeHierarchyNodeResponse;
+import com.src.ap.dto.employee.EmployeeImportJobResponse;
 import com.src.ap.dto.employee.EmployeeRequest;
 import com.src.ap.dto.employee.EmployeeResponse;
+import com.src.ap.dto.employee.EmployeeSliceRequest;
+import com.src.ap.service.EmployeeHierarchyService;
+import com.src.ap.service.EmployeeImportService;
 import com.src.ap.service.EmployeeService;
+import com.src.ap.service.EmployeeSliceService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.Resource;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.util.List;
+import java.util.UUID;
 
 @RestController
 @RequestMapping("/api/employees")
@@ -18,6 +32,9 @@ import org.springframework.web.bind.annotation.*;
 public class EmployeeController {
 
     private final EmployeeService employeeService;
+    private final EmployeeImportService employeeImportService;
+    private final EmployeeHierarchyService employeeHierarchyService;
+    private final EmployeeSliceService employeeSliceService;
 
     @GetMapping
     public ResponseEntity<ApiResponse<PageResponse<EmployeeResponse>>> getAllEmployees(
@@ -35,6 +52,29 @@ public class EmployeeController {
         return ResponseEntity.ok(ApiResponse.success(employee));
     }
 
+    /**
+     * Everyone below the employee in the supervisor tree, up to {@code depth} levels down,
+     * nearest levels first.
+     */
+    @GetMapping("/{id}/subordinates")
+    public ResponseEntity<ApiResponse<PageResponse<EmployeeHierarchyNodeResponse>>> getSubordinates(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "1") int depth,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "50") int size) {
+        PageResponse<EmployeeHierarchyNodeResponse> subordinates =
+                employeeHierarchyService.getSubordinates(id, depth, page, size);
+        return ResponseEntity.ok(ApiResponse.success(subordinates));
+    }
+
+    /**
+     * The employee's chain of command, direct supervisor first.
+     */
+    @GetMapping("/{id}/chain")
+    public ResponseEntity<ApiResponse<List<EmployeeHierarchyNodeResponse>>> getChain(@PathVariable Long id) {
+        return ResponseEntity.ok(ApiResponse.success(employeeHierarchyService.getChain(id)));
+    }
+
     @GetMapping("/search")
     public ResponseEntity<ApiResponse<PageResponse<EmployeeResponse>>> searchEmployees(
             @RequestParam String keyword,
@@ -53,6 +93,25 @@ public class EmployeeController {
         return ResponseEntity.ok(ApiResponse.success(employees));
     }
 
+    /**
+     * Employees matching any combination of occupation, branch, work status, supervisor and date
+     * ranges, ordered by id. Filtering runs against the in-memory employee snapshot.
+     */
+    @PostMapping("/slice")
+    public ResponseEntity<ApiResponse<PageResponse<EmployeeResponse>>> sliceEmployees(
+            @RequestBody(required = false) EmployeeSliceRequest request,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size) {
+        PageResponse<EmployeeResponse> employees = employeeSliceService.slice(request, page, size);
+        return ResponseEntity.ok(ApiResponse.success(employees));
+    }
+
+    @PostMapping("/slice/count")
+    public ResponseEntity<ApiResponse<Long>> countEmployeeSlice(
+            @RequestBody(required = false) EmployeeSliceRequest request) {
+        return ResponseEntity.ok(ApiResponse.success(employeeSliceService.count(request)));
+    }
+
     @PostMapping
     @PreAuthorize("hasAnyRole('TECHADMIN', 'SUPERADMIN')")
     public ResponseEntity<ApiResponse<EmployeeResponse>> createEmployee(@Valid @RequestBody EmployeeRequest request) {
@@ -77,4 +136,38 @@ public class EmployeeController {
         employeeService.deleteEmployee(id);
         return ResponseEntity.ok(ApiResponse.success("Employee deleted successfully", null));
     }
-}
\ No newline at end of file
+
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @PreAuthorize("hasAnyRole('TECHADMIN', 'SUPERADMIN')")
+    public ResponseEntity<ApiResponse<EmployeeImportJobResponse>> importEmployees(@RequestParam("file") MultipartFile file) {
+        EmployeeImportJobResponse job = employeeImportService.submit(file);
+        return ResponseEntity
+                .status(HttpStatus.ACCEPTED)
+                .body(ApiResponse.success("Employee import started", job));
+    }
+
+    @GetMapping("/import")
+    @PreAuthorize("hasAnyRole('TECHADMIN', 'SUPERADMIN')")
+    public ResponseEntity<ApiResponse<List<EmployeeImportJobResponse>>> getImportJobs() {
+        return ResponseEntity.ok(ApiResponse.success(employeeImportService.getJobs()));
+    }
+
+    @GetMapping("/import/{jobId}")
+    @PreAuthorize("hasAnyRole('TECHADMIN', 'SUPERADMIN')")
+    public ResponseEntity<ApiResponse<EmployeeImportJobResponse>> getImportJob(@PathVariable UUID jobId) {
+        return ResponseEntity.ok(ApiResponse.success(employeeImportService.getJob(jobId)));
+    }
+
+    @GetMapping("/import/{jobId}/errors")
+    @PreAuthorize("hasAnyRole('TECHADMIN', 'SUPERADMIN')")
+    public ResponseEntity<Resource> getImportErrors(@PathVariable UUID jobId) {
+        Resource report = employeeImportService.getErrorReport(jobId);
+        return ResponseEntity.ok()
+                .contentType(new MediaType("text", "csv"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("employee-import-" + jobId + "-errors.csv")
+                        .build()
+                        .toString())
+                .body(report);
+    }
+}
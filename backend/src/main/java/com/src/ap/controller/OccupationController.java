@@ -4,20 +4,28 @@ import com.src.ap.dto.common.ApiResponse;
 import com.src.ap.dto.common.PageResponse;
 import com.src.ap.dto.filter.FilterMetadataResponse;
 import com.src.ap.dto.filter.OccupationFilterRequest;
+import com.src.ap.dto.occupation.OccupationHistoryArchiveStatus;
+import com.src.ap.dto.occupation.OccupationHistoryPageResponse;
 import com.src.ap.dto.occupation.OccupationHistoryRequest;
 import com.src.ap.dto.occupation.OccupationHistoryResponse;
 import com.src.ap.dto.occupation.OccupationRequest;
 import com.src.ap.dto.occupation.OccupationResponse;
+import com.src.ap.service.OccupationAsOfService;
+import com.src.ap.service.OccupationChangeFeed;
 import com.src.ap.service.OccupationFilterService;
 import com.src.ap.service.OccupationService;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 
@@ -28,14 +36,19 @@ public class OccupationController {
 
     private final OccupationService occupationService;
     private final OccupationFilterService occupationFilterService;
+    private final OccupationAsOfService occupationAsOfService;
+    private final OccupationChangeFeed occupationChangeFeed;
 
     @GetMapping
     public ResponseEntity<ApiResponse<PageResponse<OccupationResponse>>> getAllOccupations(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(defaultValue = "id") String sortBy,
-            @RequestParam(defaultValue = "asc") String sortDir) {
-        PageResponse<OccupationResponse> occupations = occupationService.getAllOccupations(page, size, sortBy, sortDir);
+            @RequestParam(defaultValue = "asc") String sortDir,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime asOf) {
+        PageResponse<OccupationResponse> occupations = asOf != null
+                ? occupationAsOfService.getOccupationsAsOf(asOf, page, size, sortBy, sortDir)
+                : occupationService.getAllOccupations(page, size, sortBy, sortDir);
         return ResponseEntity.ok(ApiResponse.success(occupations));
     }
 
@@ -46,8 +59,12 @@ public class OccupationController {
     }
 
     @GetMapping("/{id:[0-9]+}")
-    public ResponseEntity<ApiResponse<OccupationResponse>> getOccupationById(@PathVariable Long id) {
-        OccupationResponse occupation = occupationService.getOccupationById(id);
+    public ResponseEntity<ApiResponse<OccupationResponse>> getOccupationById(
+            @PathVariable Long id,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime asOf) {
+        OccupationResponse occupation = asOf != null
+                ? occupationAsOfService.getOccupationAsOf(id, asOf)
+                : occupationService.getOccupationById(id);
         return ResponseEntity.ok(ApiResponse.success(occupation));
     }
 
@@ -119,4 +136,31 @@ public class OccupationController {
         List<OccupationHistoryResponse> history = occupationService.getOccupationHistory(id);
         return ResponseEntity.ok(ApiResponse.success(history));
     }
+
+    @GetMapping("/{id:[0-9]+}/history/page")
+    public ResponseEntity<ApiResponse<OccupationHistoryPageResponse>> getOccupationHistoryPage(
+            @PathVariable Long id,
+            @RequestParam(required = false) Long before,
+            @RequestParam(defaultValue = "50") int limit) {
+        OccupationHistoryPageResponse history = occupationService.getOccupationHistoryPage(id, before, limit);
+        return ResponseEntity.ok(ApiResponse.success(history));
+    }
+
+    @GetMapping("/history/archive")
+    @PreAuthorize("hasAnyRole('TECHADMIN', 'SUPERADMIN')")
+    public ResponseEntity<ApiResponse<OccupationHistoryArchiveStatus>> getHistoryArchiveStatus() {
+        OccupationHistoryArchiveStatus status = occupationService.getHistoryArchiveStatus();
+        return ResponseEntity.ok(ApiResponse.success(status));
+    }
+
+    /**
+     * Server-sent stream of new audit rows. Resumes after {@code Last-Event-ID} (or {@code after})
+     * when given, otherwise starts at the current end of the trail.
+     */
+    @GetMapping(value = "/changes", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamChanges(
+            @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId,
+            @RequestParam(required = false) Long after) {
+        return occupationChangeFeed.subscribe(lastEventId != null ? lastEventId : after);
+    }
 }
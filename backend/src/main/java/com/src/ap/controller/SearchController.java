@@ -0,0 +1,31 @@
+package com.src.ap.controller;
+
+import com.src.ap.dto.common.ApiResponse;
+import com.src.ap.dto.search.SearchResponse;
+import com.src.ap.event.EntityType;
+import com.src.ap.service.SearchService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Set;
+
+@RestController
+@RequestMapping("/api/search")
+@RequiredArgsConstructor
+public class SearchController {
+
+    private final SearchService searchService;
+
+    @GetMapping
+    public ResponseEntity<ApiResponse<SearchResponse>> search(
+            @RequestParam String q,
+            @RequestParam(required = false) Set<EntityType> types,
+            @RequestParam(defaultValue = "20") int limit) {
+        SearchResponse response = searchService.search(q, types, limit);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+}
@@ -0,0 +1,31 @@
+package com.src.ap.controller;
+
+import com.src.ap.dto.common.ApiResponse;
+import com.src.ap.dto.search.SuggestionResponse;
+import com.src.ap.event.EntityType;
+import com.src.ap.service.SearchService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/suggest")
+@RequiredArgsConstructor
+public class SuggestController {
+
+    private final SearchService searchService;
+
+    @GetMapping
+    public ResponseEntity<ApiResponse<List<SuggestionResponse>>> suggest(
+            @RequestParam EntityType type,
+            @RequestParam(defaultValue = "") String q,
+            @RequestParam(defaultValue = "10") int limit) {
+        List<SuggestionResponse> suggestions = searchService.suggest(type, q, limit);
+        return ResponseEntity.ok(ApiResponse.success(suggestions));
+    }
+}
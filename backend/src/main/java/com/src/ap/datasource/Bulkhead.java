@@ -0,0 +1,22 @@
+package com.src.ap.datasource;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Runs the annotated method, or every method of the annotated class, on the connection pool of
+ * the given workload. It overrides the workload chosen for the request.
+ *
+ * <p>The pool is chosen when a transaction opens its connection, so the annotation belongs on the
+ * method that starts the transaction, not on one that joins it.</p>
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface Bulkhead {
+
+    Workload value();
+}
@@ -0,0 +1,58 @@
+package com.src.ap.datasource;
+
+import com.src.ap.config.BulkheadConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * The connection pools of the workloads configured under {@code app.bulkheads.pools}. Each copies
+ * the main pool's connection settings and has its own size and timeout; its metrics are published
+ * as {@code hikaricp.*} tagged with {@code pool=<workload>}.
+ */
+@Component
+@Slf4j
+public class BulkheadPools implements DisposableBean {
+
+    private final Map<Workload, HikariDataSource> pools = new EnumMap<>(Workload.class);
+
+    public BulkheadPools(BulkheadConfig config, DataSource dataSource, MeterRegistry meterRegistry)
+            throws SQLException {
+        HikariDataSource main = dataSource.unwrap(HikariDataSource.class);
+        config.getPools().forEach((workload, settings) -> {
+            if (workload == Workload.OLTP) {
+                log.warn("Ignoring app.bulkheads.pools.oltp; OLTP uses the main pool");
+                return;
+            }
+            HikariDataSource pool = new HikariDataSource();
+            main.copyStateTo(pool);
+            pool.setPoolName(workload.name().toLowerCase(Locale.ROOT));
+            pool.setMaximumPoolSize(settings.getMaximumPoolSize());
+            pool.setMinimumIdle(settings.getMinimumIdle());
+            pool.setConnectionTimeout(settings.getConnectionTimeoutMs());
+            pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+            pools.put(workload, pool);
+        });
+    }
+
+    /**
+     * @return the workload's pool, or null when it uses the main pool
+     */
+    public DataSource get(Workload workload) {
+        return pools.get(workload);
+    }
+
+    @Override
+    public void destroy() {
+        pools.values().forEach(HikariDataSource::close);
+    }
+}
@@ -0,0 +1,79 @@
+package com.src.ap.datasource;
+
+import org.springframework.jdbc.datasource.ConnectionProxy;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Sets the time left until the {@link RequestDeadline} as the query timeout of every statement
+ * created while a deadline is set, so the database cancels a query the client has stopped waiting
+ * for. A statement created after the deadline fails with {@link java.sql.SQLTimeoutException}.
+ *
+ * <p>Connections opened without a deadline (scheduled and bulk work) are returned as they are.
+ * {@code unwrap} is passed through, so callers still reach the pooled physical connection.</p>
+ */
+public class DeadlineDataSource extends DelegatingDataSource {
+
+    public DeadlineDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return withDeadline(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return withDeadline(super.getConnection(username, password));
+    }
+
+    private static Connection withDeadline(Connection connection) {
+        if (!RequestDeadline.isSet()) {
+            return connection;
+        }
+        return (Connection) Proxy.newProxyInstance(ConnectionProxy.class.getClassLoader(),
+                new Class<?>[]{ConnectionProxy.class}, new DeadlineInvocationHandler(connection));
+    }
+
+    private record DeadlineInvocationHandler(Connection target) implements InvocationHandler {
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "getTargetConnection":
+                    return target;
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                default:
+                    break;
+            }
+
+            Object result;
+            try {
+                result = method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            }
+            if (result instanceof Statement statement) {
+                try {
+                    statement.setQueryTimeout(RequestDeadline.queryTimeoutSeconds());
+                } catch (SQLException e) {
+                    statement.close();
+                    throw e;
+                }
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,244 @@
+package com.src.ap.datasource;
+
+import com.src.ap.cache.CacheInvalidationBus;
+import com.src.ap.cache.CacheInvalidationHandler;
+import com.src.ap.config.ReadReplicaConfig;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * The read replica's connection pool and the decision whether a read-only transaction may use it.
+ *
+ * <p>Every node stamps dbo.replica_heartbeat on the primary with the primary's clock, reads the
+ * row back from the replica and compares it with the primary's clock again; the difference is the
+ * replication lag, measured on the database clock alone so skewed node clocks cannot hide it.
+ * While the replica is unreachable or lags by more than {@code max-lag-ms}, reads go to the
+ * primary. A replica connection that cannot be obtained marks the replica down until the next
+ * check.</p>
+ *
+ * <p>A user whose write has just committed reads from the primary for {@code read-your-writes-ms},
+ * so they never see the replica's older copy of their own change. Pins live in memory on every
+ * node: the writing transaction also puts its actor on the {@link CacheInvalidationBus}, and the
+ * other nodes pin the actor as the row arrives, within one poll interval of the commit. Deciding
+ * where a read goes therefore never touches the primary.</p>
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.read-replica", name = "enabled", havingValue = "true")
+@Slf4j
+public class ReadReplica implements CacheInvalidationHandler, DisposableBean {
+
+    public static final String AVAILABLE_METRIC = "datasource.replica.available";
+    public static final String LAG_METRIC = "datasource.replica.lag";
+    public static final String READS_METRIC = "datasource.reads";
+
+    /**
+     * Bus channel carrying read-your-writes pins; the key is the actor.
+     */
+    public static final String PIN_CHANNEL = "replica.read-pin";
+
+    private final ReadReplicaConfig config;
+    private final JdbcTemplate primary;
+    private final ObjectProvider<CacheInvalidationBus> cacheInvalidationBus;
+    private final HikariDataSource pool;
+    private final DataSource readDataSource;
+    private final JdbcTemplate replica;
+    private final Counter replicaReads;
+    private final Counter primaryReads;
+
+    /**
+     * Actor to the time until which their reads stay on the primary, from writes on any node.
+     */
+    private final Map<String, Long> pinnedUntil = new ConcurrentHashMap<>();
+
+    /**
+     * A lock rather than {@code synchronized}, which pins a virtual thread for the whole check.
+     */
+    private final ReentrantLock checkLock = new ReentrantLock();
+
+    private volatile boolean available;
+    private volatile long lagMs = -1;
+
+    /**
+     * The bus is resolved lazily: it collects every {@link CacheInvalidationHandler}, this one included.
+     */
+    public ReadReplica(ReadReplicaConfig config, JdbcTemplate jdbcTemplate,
+                       ObjectProvider<CacheInvalidationBus> cacheInvalidationBus, MeterRegistry meterRegistry) {
+        this.config = config;
+        this.primary = jdbcTemplate;
+        this.cacheInvalidationBus = cacheInvalidationBus;
+
+        HikariConfig hikari = new HikariConfig();
+        hikari.setPoolName("replica");
+        hikari.setJdbcUrl(config.getUrl());
+        hikari.setUsername(config.getUsername());
+        hikari.setPassword(config.getPassword());
+        if (config.getDriverClassName() != null) {
+            hikari.setDriverClassName(config.getDriverClassName());
+        }
+        hikari.setMaximumPoolSize(config.getMaximumPoolSize());
+        hikari.setMinimumIdle(config.getMinimumIdle());
+        hikari.setConnectionTimeout(config.getConnectionTimeoutMs());
+        hikari.setReadOnly(true);
+        // Start even when the replica is down; reads use the primary until it answers
+        hikari.setInitializationFailTimeout(-1);
+        hikari.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        this.pool = new HikariDataSource(hikari);
+        this.readDataSource = new DeadlineDataSource(pool);
+        this.replica = new JdbcTemplate(pool);
+
+        Gauge.builder(AVAILABLE_METRIC, this, r -> r.available ? 1 : 0)
+                .description("Whether read-only transactions may use the replica")
+                .register(meterRegistry);
+        Gauge.builder(LAG_METRIC, this, r -> r.lagMs)
+                .description("Replication lag measured through the heartbeat, -1 when unknown")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+        this.replicaReads = meterRegistry.counter(READS_METRIC, "target", "replica");
+        this.primaryReads = meterRegistry.counter(READS_METRIC, "target", "primary");
+    }
+
+    public boolean isAvailable() {
+        return available;
+    }
+
+    public long getLagMs() {
+        return lagMs;
+    }
+
+    /**
+     * A connection for a read-only transaction: from the replica when it is healthy and the actor
+     * has no recent write, otherwise from {@code primaryDataSource}.
+     */
+    Connection getReadConnection(DataSource primaryDataSource, String actor) throws SQLException {
+        if (available && !isPinned(actor)) {
+            try {
+                Connection connection = readDataSource.getConnection();
+                replicaReads.increment();
+                return connection;
+            } catch (SQLException e) {
+                markDown(e);
+            }
+        }
+        primaryReads.increment();
+        return primaryDataSource.getConnection();
+    }
+
+    /**
+     * Tells the other nodes about the actor's write. Called inside the writing transaction, so the
+     * bus row commits with the write and is discarded if it rolls back.
+     */
+    void shareWrite(String actor) {
+        cacheInvalidationBus.getObject().publish(PIN_CHANNEL, actor);
+    }
+
+    /**
+     * Pins the actor's reads on this node to the primary after their write has committed.
+     */
+    void recordWrite(String actor) {
+        pin(actor);
+    }
+
+    @Override
+    public Set<String> cacheNames() {
+        return Set.of(PIN_CHANNEL);
+    }
+
+    /**
+     * Pins an actor whose write committed on another node. The pin runs from receipt rather than
+     * from the writer's clock, which can only make it last longer.
+     */
+    @Override
+    public void invalidate(String cacheName, String key) {
+        if (key != null) {
+            pin(key);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.read-replica.health-check-interval-ms:1000}")
+    public void check() {
+        checkLock.lock();
+        try {
+            writeHeartbeat();
+            try {
+                Timestamp beat = replica.queryForObject("SELECT beat_at FROM dbo.replica_heartbeat WHERE id = 1",
+                        Timestamp.class);
+                Timestamp now = primary.queryForObject("SELECT CURRENT_TIMESTAMP", Timestamp.class);
+                lagMs = Math.max(0, now.getTime() - beat.getTime());
+                setAvailable(lagMs <= config.getMaxLagMs(), "lag " + lagMs + " ms");
+            } catch (DataAccessException e) {
+                lagMs = -1;
+                setAvailable(false, e.getMessage());
+            }
+            long expired = System.currentTimeMillis();
+            pinnedUntil.values().removeIf(until -> until < expired);
+        } finally {
+            checkLock.unlock();
+        }
+    }
+
+    @Override
+    public void destroy() {
+        pool.close();
+    }
+
+    private boolean isPinned(String actor) {
+        if (actor == null) {
+            return false;
+        }
+        Long until = pinnedUntil.get(actor);
+        return until != null && until >= System.currentTimeMillis();
+    }
+
+    private void pin(String actor) {
+        pinnedUntil.merge(actor, System.currentTimeMillis() + config.getReadYourWritesMs(), Math::max);
+    }
+
+    private void writeHeartbeat() {
+        try {
+            if (primary.update("UPDATE dbo.replica_heartbeat SET beat_at = CURRENT_TIMESTAMP WHERE id = 1") == 0) {
+                primary.update("INSERT INTO dbo.replica_heartbeat (id, beat_at) VALUES (1, CURRENT_TIMESTAMP)");
+            }
+        } catch (DuplicateKeyException e) {
+            // Inserted concurrently by another node
+        } catch (DataAccessException e) {
+            log.warn("Failed to write the replica heartbeat: {}", e.getMessage());
+        }
+    }
+
+    private void markDown(SQLException e) {
+        setAvailable(false, e.getMessage());
+    }
+
+    private void setAvailable(boolean value, String reason) {
+        if (available != value) {
+            if (value) {
+                log.info("Read replica available ({}); routing read-only transactions to it", reason);
+            } else {
+                log.warn("Read replica unavailable ({}); routing read-only transactions to the primary", reason);
+            }
+        }
+        available = value;
+    }
+}
@@ -0,0 +1,89 @@
+package com.src.ap.datasource;
+
+import com.src.ap.audit.AuditContextHolder;
+import com.src.ap.audit.AuditRequestContext;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.function.Supplier;
+
+/**
+ * The application DataSource when a read replica is configured.
+ *
+ * <p>The transaction manager marks the connection of a {@code @Transactional(readOnly = true)}
+ * method read-only before any statement runs; this proxy defers fetching the physical connection
+ * until then and takes it from {@link ReadReplica} for read-only transactions and from the
+ * primary otherwise. Connections outside a transaction always use the primary.</p>
+ *
+ * <p>A read-write transaction that commits pins its actor's reads to the primary for a while, on
+ * every node: the pin is shared with the other nodes inside the transaction and recorded locally
+ * once it commits.</p>
+ */
+public class ReadReplicaDataSource extends LazyConnectionDataSourceProxy {
+
+    public ReadReplicaDataSource(DataSource primary, Supplier<ReadReplica> readReplica) {
+        super(new WriteTrackingDataSource(primary, readReplica));
+        setReadOnlyDataSource(new ReadRoutingDataSource(primary, readReplica));
+    }
+
+    private static String currentActor() {
+        AuditRequestContext context = AuditContextHolder.get();
+        return context != null ? context.actor() : null;
+    }
+
+    private static final class ReadRoutingDataSource extends AbstractDataSource {
+
+        private final DataSource primary;
+        private final Supplier<ReadReplica> readReplica;
+
+        private ReadRoutingDataSource(DataSource primary, Supplier<ReadReplica> readReplica) {
+            this.primary = primary;
+            this.readReplica = readReplica;
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return readReplica.get().getReadConnection(primary, currentActor());
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            throw new SQLFeatureNotSupportedException("The read replica uses its configured credentials");
+        }
+    }
+
+    private static final class WriteTrackingDataSource extends DelegatingDataSource {
+
+        private final Supplier<ReadReplica> readReplica;
+
+        private WriteTrackingDataSource(DataSource primary, Supplier<ReadReplica> readReplica) {
+            super(primary);
+            this.readReplica = readReplica;
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            Connection connection = super.getConnection();
+            String actor = currentActor();
+            if (actor != null && TransactionSynchronizationManager.isSynchronizationActive()
+                    && !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+                ReadReplica replica = readReplica.get();
+                replica.shareWrite(actor);
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        replica.recordWrite(actor);
+                    }
+                });
+            }
+            return connection;
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.src.ap.datasource;
+
+import java.sql.SQLTimeoutException;
+import java.time.Duration;
+
+/**
+ * The deadline of the request being served on the current thread, applied by
+ * {@link DeadlineDataSource} as the query timeout of every statement.
+ */
+public final class RequestDeadline {
+
+    /**
+     * Deadline as a {@link System#nanoTime()} value.
+     */
+    private static final ThreadLocal<Long> DEADLINE = new ThreadLocal<>();
+
+    private RequestDeadline() {
+    }
+
+    public static void set(Duration timeout) {
+        DEADLINE.set(System.nanoTime() + timeout.toNanos());
+    }
+
+    public static void clear() {
+        DEADLINE.remove();
+    }
+
+    public static boolean isSet() {
+        return DEADLINE.get() != null;
+    }
+
+    /**
+     * @return the time left, or null when no deadline is set
+     */
+    public static Duration remaining() {
+        Long deadline = DEADLINE.get();
+        return deadline != null ? Duration.ofNanos(deadline - System.nanoTime()) : null;
+    }
+
+    public static boolean isExceeded() {
+        Duration remaining = remaining();
+        return remaining != null && !remaining.isPositive();
+    }
+
+    /**
+     * The JDBC query timeout for a statement created now: the time left rounded up to whole
+     * seconds, or 0 (no timeout) without a deadline.
+     *
+     * @throws SQLTimeoutException when the deadline has already passed
+     */
+    static int queryTimeoutSeconds() throws SQLTimeoutException {
+        Duration remaining = remaining();
+        if (remaining == null) {
+            return 0;
+        }
+        if (!remaining.isPositive()) {
+            throw new SQLTimeoutException("Request deadline exceeded");
+        }
+        long seconds = (remaining.toMillis() + 999) / 1000;
+        return (int) Math.min(Integer.MAX_VALUE, seconds);
+    }
+}
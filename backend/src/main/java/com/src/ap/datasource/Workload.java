@@ -0,0 +1,14 @@
+package com.src.ap.datasource;
+
+/**
+ * Connection pool bulkheads. Each workload takes its connections from its own pool, so one
+ * workload exhausting its pool cannot delay the others.
+ */
+public enum Workload {
+    /** Login and the per-request user lookup. */
+    AUTH,
+    /** Interactive requests; uses the application's main pool. */
+    OLTP,
+    /** Imports, history batch queries, rebuilds and maintenance jobs. */
+    BULK
+}
@@ -0,0 +1,48 @@
+package com.src.ap.datasource;
+
+/**
+ * The workload whose pool the current thread takes connections from; unset means
+ * {@link Workload#OLTP}.
+ */
+public final class WorkloadContext {
+
+    private static final ThreadLocal<Workload> CURRENT = new ThreadLocal<>();
+
+    private WorkloadContext() {
+    }
+
+    public static Workload get() {
+        return CURRENT.get();
+    }
+
+    /**
+     * @return the workload that was current before, to be passed to {@link #restore}
+     */
+    public static Workload set(Workload workload) {
+        Workload previous = CURRENT.get();
+        CURRENT.set(workload);
+        return previous;
+    }
+
+    public static void restore(Workload previous) {
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+
+    /**
+     * Wraps work handed to another thread, which does not inherit the caller's workload.
+     */
+    public static Runnable wrap(Workload workload, Runnable task) {
+        return () -> {
+            Workload previous = set(workload);
+            try {
+                task.run();
+            } finally {
+                restore(previous);
+            }
+        };
+    }
+}
@@ -0,0 +1,34 @@
+package com.src.ap.datasource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.function.Supplier;
+
+/**
+ * Takes each connection from the pool of the current {@link WorkloadContext} workload, falling
+ * back to the main pool for OLTP and for workloads without a pool of their own.
+ */
+public class WorkloadRoutingDataSource extends DelegatingDataSource {
+
+    private final Supplier<BulkheadPools> pools;
+
+    public WorkloadRoutingDataSource(DataSource main, Supplier<BulkheadPools> pools) {
+        super(main);
+        this.pools = pools;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        Workload workload = WorkloadContext.get();
+        if (workload != null && workload != Workload.OLTP) {
+            DataSource pool = pools.get().get(workload);
+            if (pool != null) {
+                return pool.getConnection();
+            }
+        }
+        return super.getConnection();
+    }
+}
@@ -0,0 +1,20 @@
+package com.src.ap.dto.analytics;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Headcount of one branch, occupation or work status. {@code id} is the branch or occupation id
+ * and null for work statuses; both fields are null for employees without a value.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class HeadcountGroupResponse {
+    private Long id;
+    private String name;
+    private long headcount;
+}
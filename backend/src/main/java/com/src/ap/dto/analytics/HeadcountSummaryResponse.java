@@ -0,0 +1,20 @@
+package com.src.ap.dto.analytics;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class HeadcountSummaryResponse {
+    private long total;
+    private List<HeadcountGroupResponse> byBranch;
+    private List<HeadcountGroupResponse> byOccupation;
+    private List<HeadcountGroupResponse> byWorkStatus;
+    private List<MonthlyMovementResponse> movements;
+}
@@ -0,0 +1,18 @@
+package com.src.ap.dto.analytics;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.YearMonth;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MonthlyMovementResponse {
+    private YearMonth month;
+    private long hires;
+    private long terminations;
+}
@@ -0,0 +1,23 @@
+package com.src.ap.dto.employee;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One employee in a subordinate list or chain of command. {@code depth} is the distance from the
+ * employee the request was made for: 1 for a direct report or direct supervisor.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EmployeeHierarchyNodeResponse {
+    private Long id;
+    private String fullName;
+    private String email;
+    private String occupationName;
+    private Long supervisorId;
+    private int depth;
+}
@@ -0,0 +1,32 @@
+package com.src.ap.dto.employee;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.Set;
+
+/**
+ * Filter for /api/employees/slice. Values within one set are OR-ed, the criteria AND-ed;
+ * omitted criteria do not filter. Date bounds are inclusive.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EmployeeSliceRequest {
+    private Set<Long> occupationIds;
+    private Set<Long> branchIds;
+    private Set<String> workStatuses;
+    private Set<Long> supervisorIds;
+    private LocalDate hiredFrom;
+    private LocalDate hiredTo;
+    private LocalDate terminatedFrom;
+    private LocalDate terminatedTo;
+    private LocalDate bornFrom;
+    private LocalDate bornTo;
+    /** true: only employees with a termination date; false: only those without. */
+    private Boolean terminated;
+}
@@ -0,0 +1,20 @@
+package com.src.ap.dto.occupation;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OccupationHistoryArchiveStatus {
+    private String state;
+    private Long watermarkTxId;
+    private long rowsMoved;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+}
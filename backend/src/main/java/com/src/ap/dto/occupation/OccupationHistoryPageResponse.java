@@ -0,0 +1,22 @@
+package com.src.ap.dto.occupation;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * One page of an occupation's audit history, newest first.
+ * Pass {@code nextCursor} back as {@code before} to fetch the next (older) page.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OccupationHistoryPageResponse {
+    private List<OccupationHistoryResponse> content;
+    private Long nextCursor;
+    private boolean hasMore;
+}
@@ -0,0 +1,19 @@
+package com.src.ap.dto.search;
+
+import com.src.ap.event.EntityType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SearchHitResponse {
+    private EntityType type;
+    private Long id;
+    private String title;
+    private String subtitle;
+    private float score;
+}
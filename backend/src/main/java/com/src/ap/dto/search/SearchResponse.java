@@ -0,0 +1,19 @@
+package com.src.ap.dto.search;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SearchResponse {
+    private String query;
+    private long totalHits;
+    private List<SearchHitResponse> hits;
+    private long tookMs;
+}
@@ -2,13 +2,19 @@ package com.src.ap.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "branches")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.BRANCHES)
+@DynamicUpdate
+@Table(name = "branches", uniqueConstraints = @UniqueConstraint(name = "UK_branches_name", columnNames = "name"))
 @Getter
 @Setter
 @NoArgsConstructor
@@ -17,10 +23,11 @@ import java.util.List;
 public class Branch {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "branches_seq")
+    @SequenceGenerator(name = "branches_seq", sequenceName = "branches_seq", allocationSize = 50)
     private Long id;
 
-    @Column(nullable = false, unique = true)
+    @Column(nullable = false)
     private String name;
 
 
@@ -34,6 +41,13 @@ public class Branch {
     @Builder.Default
     private List<Employee> employees = new ArrayList<>();
 
+    /**
+     * Maintained by {@code EmployeeCountService} with relative updates, never written from the entity.
+     */
+    @Column(name = "employee_count", nullable = false, insertable = false, updatable = false,
+            columnDefinition = "INTEGER DEFAULT 0")
+    private int employeeCount;
+
     @Column(name = "created_at")
     private LocalDateTime createdAt;
 
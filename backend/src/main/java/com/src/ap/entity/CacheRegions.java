@@ -0,0 +1,19 @@
+package com.src.ap.entity;
+
+import java.util.List;
+
+/**
+ * Second-level cache region names; each has a matching cache with its size and TTL in ehcache.xml.
+ */
+public final class CacheRegions {
+
+    public static final String ROLES = "reference.roles";
+    public static final String OCCUPATIONS = "reference.occupations";
+    public static final String BRANCHES = "reference.branches";
+    public static final String REFERENCE_QUERIES = "reference.queries";
+
+    public static final List<String> ALL = List.of(ROLES, OCCUPATIONS, BRANCHES, REFERENCE_QUERIES);
+
+    private CacheRegions() {
+    }
+}
@@ -2,6 +2,9 @@ package com.src.ap.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.Nationalized;
 
 import java.time.LocalDateTime;
@@ -9,7 +12,10 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "occupations")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.OCCUPATIONS)
+@DynamicUpdate
+@Table(name = "occupations", uniqueConstraints = @UniqueConstraint(name = "UK_occupations_name", columnNames = "name"))
 @Getter
 @Setter
 @NoArgsConstructor
@@ -18,11 +24,12 @@ import java.util.List;
 public class Occupation {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "occupations_seq")
+    @SequenceGenerator(name = "occupations_seq", sequenceName = "occupations_seq", allocationSize = 50)
     private Long id;
 
     @Nationalized
-    @Column(nullable = false, unique = true)
+    @Column(nullable = false)
     private String name;
 
     @Nationalized
@@ -32,6 +39,13 @@ public class Occupation {
     @Builder.Default
     private List<Employee> employees = new ArrayList<>();
 
+    /**
+     * Maintained by {@code EmployeeCountService} with relative updates, never written from the entity.
+     */
+    @Column(name = "employee_count", nullable = false, insertable = false, updatable = false,
+            columnDefinition = "INTEGER DEFAULT 0")
+    private int employeeCount;
+
     @Column(name = "created_at")
     private LocalDateTime createdAt;
 
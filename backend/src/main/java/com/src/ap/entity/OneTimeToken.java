@@ -22,7 +22,8 @@ import java.time.LocalDateTime;
 public class OneTimeToken {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "one_time_tokens_seq")
+    @SequenceGenerator(name = "one_time_tokens_seq", sequenceName = "one_time_tokens_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "token", nullable = false, unique = true, length = 128)
@@ -0,0 +1,22 @@
+package com.src.ap.event;
+
+import com.src.ap.entity.Employee;
+
+import java.time.LocalDate;
+
+/**
+ * The employee attributes the headcount summaries and the branch and occupation employee counts
+ * are aggregated over.
+ */
+public record EmployeeFacts(Long branchId, Long occupationId, String workStatus,
+                            LocalDate hireDt, LocalDate terminationDt) {
+
+    public static EmployeeFacts of(Employee employee) {
+        return new EmployeeFacts(
+                employee.getBranch() != null ? employee.getBranch().getId() : null,
+                employee.getOccupation() != null ? employee.getOccupation().getId() : null,
+                employee.getWorkStatus(),
+                employee.getHireDt(),
+                employee.getTerminationDt());
+    }
+}
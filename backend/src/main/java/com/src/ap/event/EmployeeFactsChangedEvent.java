@@ -0,0 +1,30 @@
+package com.src.ap.event;
+
+import java.util.List;
+
+/**
+ * Published inside the writing transaction whenever employees are created, updated or deleted,
+ * carrying their summary attributes before and after. Unlike {@link EntityChangeEvent} it is
+ * handled synchronously, so pre-aggregated summaries commit or roll back with the write.
+ *
+ * @param removed facts that no longer hold: deleted employees and the old side of updates
+ * @param added   facts that now hold: created employees and the new side of updates
+ */
+public record EmployeeFactsChangedEvent(List<EmployeeFacts> removed, List<EmployeeFacts> added) {
+
+    public static EmployeeFactsChangedEvent created(EmployeeFacts facts) {
+        return new EmployeeFactsChangedEvent(List.of(), List.of(facts));
+    }
+
+    public static EmployeeFactsChangedEvent createdAll(List<EmployeeFacts> facts) {
+        return new EmployeeFactsChangedEvent(List.of(), facts);
+    }
+
+    public static EmployeeFactsChangedEvent updated(EmployeeFacts before, EmployeeFacts after) {
+        return new EmployeeFactsChangedEvent(List.of(before), List.of(after));
+    }
+
+    public static EmployeeFactsChangedEvent deleted(EmployeeFacts facts) {
+        return new EmployeeFactsChangedEvent(List.of(facts), List.of());
+    }
+}
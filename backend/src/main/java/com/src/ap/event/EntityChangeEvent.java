@@ -0,0 +1,30 @@
+package com.src.ap.event;
+
+/**
+ * Published by the services after creating, updating or deleting an entity. Listeners that keep
+ * derived read models (search index, suggestions) in sync handle it after the transaction commits.
+ *
+ * @param type   the entity that changed
+ * @param id     its id
+ * @param action what happened to it
+ */
+public record EntityChangeEvent(EntityType type, Long id, Action action) {
+
+    public enum Action {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+
+    public static EntityChangeEvent created(EntityType type, Long id) {
+        return new EntityChangeEvent(type, id, Action.CREATED);
+    }
+
+    public static EntityChangeEvent updated(EntityType type, Long id) {
+        return new EntityChangeEvent(type, id, Action.UPDATED);
+    }
+
+    public static EntityChangeEvent deleted(EntityType type, Long id) {
+        return new EntityChangeEvent(type, id, Action.DELETED);
+    }
+}
@@ -0,0 +1,10 @@
+package com.src.ap.event;
+
+/**
+ * Entities whose changes are published as {@link EntityChangeEvent}s.
+ */
+public enum EntityType {
+    OCCUPATION,
+    BRANCH,
+    EMPLOYEE
+}
@@ -3,6 +3,8 @@ package com.src.ap.exception;
 import com.src.ap.dto.auth.PasswordChangeRequiredResponse;
 import com.src.ap.dto.common.ApiResponse;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
@@ -16,6 +18,7 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
 
 /**
  * Global exception handler for the application.
@@ -27,6 +30,8 @@ import java.util.Map;
  *   <li><b>403 Forbidden:</b> Authenticated but insufficient permissions, or temporary password required</li>
  *   <li><b>400 Bad Request:</b> Validation errors or invalid input</li>
  *   <li><b>409 Conflict:</b> Resource already exists (e.g., duplicate username)</li>
+ *   <li><b>503 Service Unavailable:</b> Data the request needs is still loading; retry after {@code Retry-After}</li>
+ *   <li><b>504 Gateway Timeout:</b> A query ran past the request deadline</li>
  * </ul>
  *
  * <p>All responses follow the ApiResponse structure with consistent fields:
@@ -184,13 +189,17 @@ public class GlobalExceptionHandler {
 
     @ExceptionHandler(DataIntegrityViolationException.class)
     public ResponseEntity<ApiResponse<Void>> handleDataIntegrityViolationException(DataIntegrityViolationException ex) {
+        // Services rely on named unique constraints instead of existsBy* pre-checks
+        Optional<DuplicateResourceException> duplicate = UniqueKey.toDuplicate(ex);
+        if (duplicate.isPresent()) {
+            return handleDuplicateResourceException(duplicate.get());
+        }
+
         String message = "Data integrity violation.";
-        String rootMessage = ex.getMostSpecificCause() != null ? ex.getMostSpecificCause().getMessage() : ex.getMessage();
+        String rootMessage = ex.getMostSpecificCause().getMessage();
         if (rootMessage != null) {
             String lower = rootMessage.toLowerCase();
-            if (rootMessage.contains("UK149od0cl28ed0rs7wxgrjbch7") || lower.contains("occupations")) {
-                message = "Occupation name already exists.";
-            } else if (lower.contains("unique") || lower.contains("duplicate")) {
+            if (lower.contains("unique") || lower.contains("duplicate")) {
                 message = "Duplicate value already exists.";
             }
         }
@@ -200,6 +209,24 @@ public class GlobalExceptionHandler {
                 .body(ApiResponse.error(message));
     }
 
+    @ExceptionHandler(ServiceUnavailableException.class)
+    public ResponseEntity<ApiResponse<Void>> handleServiceUnavailableException(ServiceUnavailableException ex) {
+        return ResponseEntity
+                .status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, ex.getRetryAfter().toSeconds())))
+                .body(ApiResponse.error(ex.getMessage()));
+    }
+
+    /**
+     * A statement outlived the request deadline and was cancelled by the database.
+     */
+    @ExceptionHandler({QueryTimeoutException.class, jakarta.persistence.QueryTimeoutException.class})
+    public ResponseEntity<ApiResponse<Void>> handleQueryTimeoutException(RuntimeException ex) {
+        return ResponseEntity
+                .status(HttpStatus.GATEWAY_TIMEOUT)
+                .body(ApiResponse.error("The request did not complete within its deadline."));
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ApiResponse<Void>> handleGenericException(Exception ex) {
         return ResponseEntity
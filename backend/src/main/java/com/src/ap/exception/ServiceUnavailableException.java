@@ -0,0 +1,19 @@
+package com.src.ap.exception;
+
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * The request cannot be served yet, e.g. because the data it needs is still loading. Answered
+ * with 503 and a {@code Retry-After} header.
+ */
+@Getter
+public class ServiceUnavailableException extends RuntimeException {
+    private final Duration retryAfter;
+
+    public ServiceUnavailableException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+}
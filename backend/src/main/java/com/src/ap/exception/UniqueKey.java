@@ -0,0 +1,106 @@
+package com.src.ap.exception;
+
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.Locale;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Named unique constraints that stand in for existsBy* pre-checks.
+ *
+ * <p>Writes go straight to the database and a violation is mapped back to the resource and field
+ * it guards, so the client still gets a {@link DuplicateResourceException} style 409. Names are
+ * matched case-insensitively because H2 reports them upper-cased (UK_OCCUPATIONS_NAME_INDEX_A).</p>
+ */
+public enum UniqueKey {
+
+    OCCUPATION_NAME("UK_occupations_name", "Occupation", "name"),
+    BRANCH_NAME("UK_branches_name", "Branch", "name"),
+    EMPLOYEE_EMAIL("UK_employees_email", "Employee", "email"),
+    USER_USERNAME("UK_users_username", "User", "username"),
+    USER_EMAIL("UK_users_email", "User", "email");
+
+    // SQL Server: "... The duplicate key value is (Nurse)."
+    private static final Pattern SQL_SERVER_VALUE = Pattern.compile("The duplicate key value is \\((.*)\\)\\.");
+
+    // H2: "... VALUES ( /* 1 */ 'Nurse' )"
+    private static final Pattern H2_VALUE = Pattern.compile("VALUES \\(\\s*/\\*\\s*\\d+\\s*\\*/\\s*'(.*)'\\s*\\)");
+
+    private final String constraintName;
+    private final String resourceName;
+    private final String fieldName;
+
+    UniqueKey(String constraintName, String resourceName, String fieldName) {
+        this.constraintName = constraintName;
+        this.resourceName = resourceName;
+        this.fieldName = fieldName;
+    }
+
+    public String getConstraintName() {
+        return constraintName;
+    }
+
+    /**
+     * Finds the key whose name appears in {@code text}, which may be a bare constraint name or a
+     * whole driver message.
+     */
+    public static Optional<UniqueKey> find(String text) {
+        if (text == null) {
+            return Optional.empty();
+        }
+        String lower = text.toLowerCase(Locale.ROOT);
+        for (UniqueKey key : values()) {
+            if (lower.contains(key.constraintName.toLowerCase(Locale.ROOT))) {
+                return Optional.of(key);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Translates a violation of one of these keys into a {@link DuplicateResourceException};
+     * empty for any other integrity violation.
+     */
+    public static Optional<DuplicateResourceException> toDuplicate(DataIntegrityViolationException ex) {
+        String message = ex.getMostSpecificCause().getMessage();
+        return find(constraintName(ex))
+                .or(() -> find(message))
+                .map(key -> key.duplicate(message));
+    }
+
+    private DuplicateResourceException duplicate(String message) {
+        String value = duplicateValue(message);
+        if (value == null) {
+            return new DuplicateResourceException(
+                    String.format("%s already exists with this %s", resourceName, fieldName));
+        }
+        return new DuplicateResourceException(resourceName, fieldName, value);
+    }
+
+    private static String constraintName(Throwable ex) {
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation) {
+                return violation.getConstraintName();
+            }
+        }
+        return null;
+    }
+
+    static String duplicateValue(String message) {
+        if (message == null) {
+            return null;
+        }
+        Matcher matcher = SQL_SERVER_VALUE.matcher(message);
+        if (matcher.find()) {
+            return matcher.group(1);
+        }
+        matcher = H2_VALUE.matcher(message);
+        if (matcher.find()) {
+            return matcher.group(1).replace("''", "'");
+        }
+        return null;
+    }
+}
@@ -0,0 +1,127 @@
+package com.src.ap.importer;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Streaming RFC 4180 CSV reader. Quoted fields may contain delimiters, doubled quotes and line
+ * breaks. The delimiter is detected from the header line, since spreadsheet exports use ';' in
+ * locales where ',' is the decimal separator.
+ */
+public class CsvTabularReader implements TabularReader {
+
+    private static final int HEADER_PEEK_LIMIT = 8192;
+    private static final char BOM = '\uFEFF';
+
+    private final BufferedReader reader;
+    private final char delimiter;
+    private long lineNumber = 1;
+    private long rowNumber;
+
+    public CsvTabularReader(Reader source) throws IOException {
+        this.reader = source instanceof BufferedReader buffered ? buffered : new BufferedReader(source);
+        this.reader.mark(1);
+        if (this.reader.read() != BOM) {
+            this.reader.reset();
+        }
+        this.delimiter = detectDelimiter();
+    }
+
+    @Override
+    public List<String> next() throws IOException {
+        int c = reader.read();
+        if (c == -1) {
+            return null;
+        }
+        rowNumber = lineNumber;
+
+        List<String> cells = new ArrayList<>();
+        StringBuilder cell = new StringBuilder();
+        boolean quoted = false;
+        boolean wasQuoted = false;
+        while (true) {
+            if (quoted) {
+                if (c == -1) {
+                    throw new IOException("Unterminated quoted field starting on line " + rowNumber);
+                }
+                if (c == '"') {
+                    reader.mark(1);
+                    if (reader.read() == '"') {
+                        cell.append('"');
+                    } else {
+                        reader.reset();
+                        quoted = false;
+                    }
+                } else {
+                    if (c == '\n') {
+                        lineNumber++;
+                    }
+                    cell.append((char) c);
+                }
+            } else if (c == '"' && cell.isEmpty() && !wasQuoted) {
+                quoted = true;
+                wasQuoted = true;
+            } else if (c == delimiter) {
+                cells.add(toValue(cell, wasQuoted));
+                cell.setLength(0);
+                wasQuoted = false;
+            } else if (c == '\r' || c == '\n' || c == -1) {
+                if (c == '\r') {
+                    reader.mark(1);
+                    if (reader.read() != '\n') {
+                        reader.reset();
+                    }
+                }
+                if (c != -1) {
+                    lineNumber++;
+                }
+                cells.add(toValue(cell, wasQuoted));
+                return cells;
+            } else {
+                cell.append((char) c);
+            }
+            c = reader.read();
+        }
+    }
+
+    @Override
+    public long rowNumber() {
+        return rowNumber;
+    }
+
+    /**
+     * CSV carries no cell types: every value is text, however it looks.
+     */
+    @Override
+    public boolean isNumeric(int column) {
+        return false;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private char detectDelimiter() throws IOException {
+        reader.mark(HEADER_PEEK_LIMIT);
+        int commas = 0;
+        int semicolons = 0;
+        for (int i = 0, c = reader.read(); i < HEADER_PEEK_LIMIT && c != -1 && c != '\n' && c != '\r'; i++, c = reader.read()) {
+            if (c == ',') {
+                commas++;
+            } else if (c == ';') {
+                semicolons++;
+            }
+        }
+        reader.reset();
+        return semicolons > commas ? ';' : ',';
+    }
+
+    private static String toValue(StringBuilder cell, boolean quoted) {
+        String value = quoted ? cell.toString() : cell.toString().trim();
+        return value.isEmpty() ? null : value;
+    }
+}
@@ -0,0 +1,32 @@
+package com.src.ap.importer;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Forward-only reader over the rows of a spreadsheet-like file. Rows are read one at a time,
+ * so memory use does not grow with the size of the file.
+ */
+public interface TabularReader extends Closeable {
+
+    /**
+     * Reads the next row.
+     *
+     * @return the cell values of the row, with {@code null} for missing cells, or {@code null}
+     * once the file is exhausted
+     */
+    List<String> next() throws IOException;
+
+    /**
+     * @return the 1-based row number of the row last returned by {@link #next()}, as the user
+     * sees it in the source file
+     */
+    long rowNumber();
+
+    /**
+     * @return whether the given 0-based cell of the row last returned by {@link #next()} is
+     * stored as a number, as opposed to text typed or exported as such
+     */
+    boolean isNumeric(int column);
+}
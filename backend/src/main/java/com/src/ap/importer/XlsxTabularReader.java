@@ -0,0 +1,255 @@
+package com.src.ap.importer;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+/**
+ * Streaming reader over the first worksheet of an .xlsx workbook.
+ *
+ * <p>The worksheet XML is pulled with StAX one row at a time; only the shared string table is
+ * held in memory. Cell values are returned as stored: numbers, including dates, come back as
+ * their raw numeric text, so callers must accept Excel date serials where they expect dates.
+ * {@link #isNumeric(int)} tells those cells apart from text that merely looks numeric.</p>
+ */
+public class XlsxTabularReader implements TabularReader {
+
+    private static final String WORKBOOK = "xl/workbook.xml";
+    private static final String WORKBOOK_RELS = "xl/_rels/workbook.xml.rels";
+    private static final String SHARED_STRINGS = "xl/sharedStrings.xml";
+    private static final String DEFAULT_SHEET = "xl/worksheets/sheet1.xml";
+    private static final String RELATIONSHIP_NS = "http://schemas.openxmlformats.org/officeDocument/2006/relationships";
+
+    private static final XMLInputFactory XML_INPUT_FACTORY = createInputFactory();
+
+    private final ZipFile zip;
+    private final List<String> sharedStrings;
+    private final InputStream sheetStream;
+    private final XMLStreamReader sheet;
+    private final BitSet numericCells = new BitSet();
+    private long rowNumber;
+
+    public XlsxTabularReader(Path path) throws IOException {
+        this.zip = new ZipFile(path.toFile());
+        try {
+            this.sharedStrings = readSharedStrings();
+            ZipEntry entry = zip.getEntry(firstSheetPath());
+            if (entry == null) {
+                throw new IOException("Workbook has no worksheet");
+            }
+            this.sheetStream = zip.getInputStream(entry);
+            this.sheet = XML_INPUT_FACTORY.createXMLStreamReader(sheetStream);
+        } catch (IOException | XMLStreamException | RuntimeException e) {
+            zip.close();
+            throw e instanceof IOException io ? io : new IOException("Unreadable workbook: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public List<String> next() throws IOException {
+        try {
+            while (sheet.hasNext()) {
+                if (sheet.next() == XMLStreamConstants.START_ELEMENT && "row".equals(sheet.getLocalName())) {
+                    String ref = sheet.getAttributeValue(null, "r");
+                    rowNumber = ref != null ? Long.parseLong(ref) : rowNumber + 1;
+                    return readRow();
+                }
+            }
+            return null;
+        } catch (XMLStreamException | RuntimeException e) {
+            throw new IOException("Unreadable worksheet near row " + rowNumber + ": " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public long rowNumber() {
+        return rowNumber;
+    }
+
+    @Override
+    public boolean isNumeric(int column) {
+        return numericCells.get(column);
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            sheet.close();
+        } catch (XMLStreamException e) {
+            // the underlying stream is closed below regardless
+        } finally {
+            sheetStream.close();
+            zip.close();
+        }
+    }
+
+    private List<String> readRow() throws XMLStreamException {
+        List<String> cells = new ArrayList<>();
+        numericCells.clear();
+        while (sheet.hasNext()) {
+            int event = sheet.next();
+            if (event == XMLStreamConstants.END_ELEMENT && "row".equals(sheet.getLocalName())) {
+                return cells;
+            }
+            if (event == XMLStreamConstants.START_ELEMENT && "c".equals(sheet.getLocalName())) {
+                String ref = sheet.getAttributeValue(null, "r");
+                String type = sheet.getAttributeValue(null, "t");
+                int column = ref != null ? columnIndex(ref) : cells.size();
+                String value = readCellValue(type);
+                while (cells.size() <= column) {
+                    cells.add(null);
+                }
+                cells.set(column, value == null || value.isBlank() ? null : value.trim());
+                // Cells without a type attribute are numbers
+                numericCells.set(column, value != null && (type == null || "n".equals(type)));
+            }
+        }
+        return cells;
+    }
+
+    private String readCellValue(String type) throws XMLStreamException {
+        String raw = null;
+        StringBuilder inline = null;
+        while (sheet.hasNext()) {
+            int event = sheet.next();
+            if (event == XMLStreamConstants.END_ELEMENT && "c".equals(sheet.getLocalName())) {
+                break;
+            }
+            if (event != XMLStreamConstants.START_ELEMENT) {
+                continue;
+            }
+            switch (sheet.getLocalName()) {
+                case "v" -> raw = sheet.getElementText();
+                case "t" -> {
+                    if (inline == null) {
+                        inline = new StringBuilder();
+                    }
+                    inline.append(sheet.getElementText());
+                }
+                default -> {
+                    // <is>, <r>, <f> and friends only wrap the elements handled above
+                }
+            }
+        }
+
+        if ("inlineStr".equals(type)) {
+            return inline != null ? inline.toString() : null;
+        }
+        if (raw == null) {
+            return null;
+        }
+        return switch (type == null ? "n" : type) {
+            case "s" -> sharedStrings.get(Integer.parseInt(raw.trim()));
+            case "b" -> "1".equals(raw.trim()) ? "TRUE" : "FALSE";
+            default -> raw;
+        };
+    }
+
+    private List<String> readSharedStrings() throws IOException, XMLStreamException {
+        List<String> strings = new ArrayList<>();
+        ZipEntry entry = zip.getEntry(SHARED_STRINGS);
+        if (entry == null) {
+            return strings;
+        }
+        try (InputStream in = zip.getInputStream(entry)) {
+            XMLStreamReader xml = XML_INPUT_FACTORY.createXMLStreamReader(in);
+            StringBuilder current = null;
+            int phoneticDepth = 0;
+            while (xml.hasNext()) {
+                int event = xml.next();
+                if (event == XMLStreamConstants.START_ELEMENT) {
+                    switch (xml.getLocalName()) {
+                        case "si" -> current = new StringBuilder();
+                        case "rPh" -> phoneticDepth++;
+                        case "t" -> {
+                            String text = xml.getElementText();
+                            if (current != null && phoneticDepth == 0) {
+                                current.append(text);
+                            }
+                        }
+                        default -> {
+                        }
+                    }
+                } else if (event == XMLStreamConstants.END_ELEMENT) {
+                    if ("si".equals(xml.getLocalName()) && current != null) {
+                        strings.add(current.toString());
+                        current = null;
+                    } else if ("rPh".equals(xml.getLocalName())) {
+                        phoneticDepth--;
+                    }
+                }
+            }
+            xml.close();
+        }
+        return strings;
+    }
+
+    /**
+     * Resolves the first sheet listed in the workbook through the workbook relationships, since
+     * sheet1.xml is not necessarily the first tab.
+     */
+    private String firstSheetPath() throws IOException, XMLStreamException {
+        String relationshipId = null;
+        ZipEntry workbook = zip.getEntry(WORKBOOK);
+        if (workbook != null) {
+            try (InputStream in = zip.getInputStream(workbook)) {
+                XMLStreamReader xml = XML_INPUT_FACTORY.createXMLStreamReader(in);
+                while (relationshipId == null && xml.hasNext()) {
+                    if (xml.next() == XMLStreamConstants.START_ELEMENT && "sheet".equals(xml.getLocalName())) {
+                        relationshipId = xml.getAttributeValue(RELATIONSHIP_NS, "id");
+                    }
+                }
+                xml.close();
+            }
+        }
+        ZipEntry rels = zip.getEntry(WORKBOOK_RELS);
+        if (relationshipId == null || rels == null) {
+            return DEFAULT_SHEET;
+        }
+
+        Map<String, String> targets = new HashMap<>();
+        try (InputStream in = zip.getInputStream(rels)) {
+            XMLStreamReader xml = XML_INPUT_FACTORY.createXMLStreamReader(in);
+            while (xml.hasNext()) {
+                if (xml.next() == XMLStreamConstants.START_ELEMENT && "Relationship".equals(xml.getLocalName())) {
+                    targets.put(xml.getAttributeValue(null, "Id"), xml.getAttributeValue(null, "Target"));
+                }
+            }
+            xml.close();
+        }
+        String target = targets.get(relationshipId);
+        if (target == null) {
+            return DEFAULT_SHEET;
+        }
+        return target.startsWith("/") ? target.substring(1) : "xl/" + target;
+    }
+
+    /**
+     * Converts the column letters of a cell reference such as "AB12" to a 0-based index.
+     */
+    static int columnIndex(String cellRef) {
+        int column = 0;
+        for (int i = 0; i < cellRef.length() && Character.isLetter(cellRef.charAt(i)); i++) {
+            column = column * 26 + (Character.toUpperCase(cellRef.charAt(i)) - 'A' + 1);
+        }
+        return column - 1;
+    }
+
+    private static XMLInputFactory createInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        return factory;
+    }
+}
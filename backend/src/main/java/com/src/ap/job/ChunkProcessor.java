@@ -0,0 +1,11 @@
+package com.src.ap.job;
+
+/**
+ * Processes one chunk of a job. Runs inside a transaction that also stores the checkpoint, so the
+ * chunk's writes commit only while the run still holds its lease.
+ */
+@FunctionalInterface
+public interface ChunkProcessor {
+
+    JobChunk process(JobContext context);
+}
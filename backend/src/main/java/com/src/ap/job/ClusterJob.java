@@ -0,0 +1,53 @@
+package com.src.ap.job;
+
+import java.time.Duration;
+
+/**
+ * A job coordinated across the replicas by {@link JobRunner}.
+ *
+ * @param name        unique job name, also the lease key
+ * @param concurrency how many runs may hold a lease at once across the cluster
+ * @param lease       how long a lease lasts without a checkpoint; must exceed the slowest chunk
+ * @param minInterval a slot whose last run completed less than this long ago is not run again;
+ *                    zero to run whenever a slot is free
+ * @param chunkPause  how long a run waits between chunks, outside any transaction, to leave the
+ *                    database room for other work; zero for none
+ */
+public record ClusterJob(String name, int concurrency, Duration lease, Duration minInterval, Duration chunkPause) {
+
+    public ClusterJob {
+        if (concurrency < 1) {
+            throw new IllegalArgumentException("concurrency must be at least 1");
+        }
+        if (minInterval == null || minInterval.isNegative()) {
+            throw new IllegalArgumentException("minInterval must not be negative");
+        }
+        if (chunkPause == null || chunkPause.isNegative()) {
+            throw new IllegalArgumentException("chunkPause must not be negative");
+        }
+    }
+
+    public ClusterJob(String name, int concurrency, Duration lease) {
+        this(name, concurrency, lease, Duration.ZERO, Duration.ZERO);
+    }
+
+    public static ClusterJob single(String name, Duration lease) {
+        return new ClusterJob(name, 1, lease);
+    }
+
+    /**
+     * The same job, run at most once per {@code interval}. Every replica fires the same cron, but
+     * not at the same instant: without this, a replica whose trigger fires after another one's run
+     * has finished and released the lease would run the job a second time.
+     */
+    public ClusterJob oncePer(Duration interval) {
+        return new ClusterJob(name, concurrency, lease, interval, chunkPause);
+    }
+
+    /**
+     * The same job, pausing {@code pause} between chunks.
+     */
+    public ClusterJob withChunkPause(Duration pause) {
+        return new ClusterJob(name, concurrency, lease, minInterval, pause);
+    }
+}
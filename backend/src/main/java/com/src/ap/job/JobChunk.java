@@ -0,0 +1,19 @@
+package com.src.ap.job;
+
+/**
+ * Result of one chunk.
+ *
+ * @param checkpoint where the next chunk starts; stored with the lease so a later run resumes there
+ * @param rows       rows processed by the chunk
+ * @param done       whether the work is finished; the checkpoint is then cleared
+ */
+public record JobChunk(String checkpoint, long rows, boolean done) {
+
+    public static JobChunk next(String checkpoint, long rows) {
+        return new JobChunk(checkpoint, rows, false);
+    }
+
+    public static JobChunk last(long rows) {
+        return new JobChunk(null, rows, true);
+    }
+}
@@ -0,0 +1,12 @@
+package com.src.ap.job;
+
+/**
+ * What a chunk needs to know about the run it belongs to.
+ *
+ * @param slot        the lease slot held, 0 to concurrency - 1; jobs running concurrently use it to
+ *                    partition their work
+ * @param concurrency the job's number of slots
+ * @param checkpoint  where the previous chunk stopped, or null at the start of the work
+ */
+public record JobContext(int slot, int concurrency, String checkpoint) {
+}
@@ -0,0 +1,24 @@
+package com.src.ap.job;
+
+import java.time.Duration;
+
+/**
+ * Outcome of {@link JobRunner#run}.
+ */
+public record JobRun(String job, Outcome outcome, long rows, Duration duration) {
+
+    public enum Outcome {
+        /** All chunks processed. */
+        COMPLETED,
+        /** Every slot was leased by other runs; nothing was done. */
+        SKIPPED,
+        /** Another run took the lease over; the last chunk was rolled back. */
+        LEASE_LOST,
+        /** A chunk threw; the next run resumes from the last checkpoint. */
+        FAILED
+    }
+
+    static JobRun skipped(String job) {
+        return new JobRun(job, Outcome.SKIPPED, 0, Duration.ZERO);
+    }
+}
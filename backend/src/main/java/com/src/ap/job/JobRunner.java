@@ -0,0 +1,157 @@
+package com.src.ap.job;
+
+import com.src.ap.datasource.Bulkhead;
+import com.src.ap.datasource.Workload;
+import com.src.ap.repository.JobLeaseRepository;
+import com.src.ap.repository.JobLeaseRepository.Lease;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Runs maintenance jobs so that, with every replica triggering the same {@code @Scheduled}
+ * method, at most {@link ClusterJob#concurrency()} runs of a job do the work at once.
+ *
+ * <p>A run first leases a free slot in dbo.job_leases, then processes the job in chunks. A job
+ * with a {@link ClusterJob#minInterval()} also skips a slot whose last run completed within it,
+ * so a cron firing on every replica does the work once per period, not once per replica. Each
+ * chunk runs in its own transaction together with a checkpoint write fenced by the lease's token:
+ * if another node has taken the lease over (because this one stalled past the lease), the
+ * checkpoint matches no row, the chunk rolls back and the run stops. A failed or interrupted run
+ * leaves its last checkpoint behind and the next run of that slot resumes from it. A job's
+ * {@link ClusterJob#chunkPause()} is waited out between chunks, with no transaction open.</p>
+ *
+ * <p>Every run reports {@code jobs.run} (duration, tagged with job and outcome) and
+ * {@code jobs.rows} (rows processed). Jobs use the {@link Workload#BULK} connection pool.</p>
+ */
+@Component
+@Slf4j
+public class JobRunner {
+
+    public static final String RUN_METRIC = "jobs.run";
+    public static final String ROWS_METRIC = "jobs.rows";
+
+    private final JobLeaseRepository jobLeaseRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Set<String> knownJobs = ConcurrentHashMap.newKeySet();
+
+    public JobRunner(JobLeaseRepository jobLeaseRepository, PlatformTransactionManager transactionManager,
+                     MeterRegistry meterRegistry) {
+        this.jobLeaseRepository = jobLeaseRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Bulkhead(Workload.BULK)
+    public JobRun run(ClusterJob job, ChunkProcessor processor) {
+        if (!knownJobs.contains(job.name())) {
+            jobLeaseRepository.ensureSlots(job.name(), job.concurrency());
+            knownJobs.add(job.name());
+        }
+        Optional<Lease> acquired = acquire(job);
+        if (acquired.isEmpty()) {
+            log.debug("Skipping job {}: all {} slots are leased or ran within {}", job.name(), job.concurrency(),
+                    job.minInterval());
+            return JobRun.skipped(job.name());
+        }
+
+        Lease lease = acquired.get();
+        long leaseMs = job.lease().toMillis();
+        long start = System.nanoTime();
+        long rows = 0;
+        String checkpoint = lease.checkpoint();
+        JobRun.Outcome outcome = JobRun.Outcome.FAILED;
+        if (checkpoint != null) {
+            log.info("Resuming job {} slot {} from checkpoint {}", job.name(), lease.slot(), checkpoint);
+        }
+        try {
+            JobChunk chunk;
+            do {
+                JobContext context = new JobContext(lease.slot(), job.concurrency(), checkpoint);
+                long rowsBefore = rows;
+                chunk = transactionTemplate.execute(status -> {
+                    JobChunk result = processor.process(context);
+                    if (!jobLeaseRepository.checkpoint(lease, result.done() ? null : result.checkpoint(),
+                            rowsBefore + result.rows(), leaseMs)) {
+                        throw new LeaseLostException();
+                    }
+                    return result;
+                });
+                rows += chunk.rows();
+                checkpoint = chunk.checkpoint();
+                if (!chunk.done()) {
+                    pause(job);
+                }
+            } while (!chunk.done());
+            outcome = JobRun.Outcome.COMPLETED;
+        } catch (LeaseLostException e) {
+            outcome = JobRun.Outcome.LEASE_LOST;
+            log.warn("Job {} slot {} lost its lease after {} rows; stopping", job.name(), lease.slot(), rows);
+        } catch (RuntimeException e) {
+            log.error("Job {} slot {} failed after {} rows; it resumes from checkpoint {}",
+                    job.name(), lease.slot(), rows, checkpoint, e);
+        } finally {
+            jobLeaseRepository.release(lease, outcome.name(), rows);
+        }
+
+        Duration duration = Duration.ofNanos(System.nanoTime() - start);
+        record(job, outcome, rows, duration);
+        log.info("Job {} {} in {} ms, {} rows", job.name(), outcome, duration.toMillis(), rows);
+        return new JobRun(job.name(), outcome, rows, duration);
+    }
+
+    private Optional<Lease> acquire(ClusterJob job) {
+        String owner = nodeId + "/" + UUID.randomUUID();
+        for (int slot = 0; slot < job.concurrency(); slot++) {
+            Optional<Lease> lease = jobLeaseRepository.tryAcquire(job.name(), slot, owner, job.lease().toMillis(),
+                    job.minInterval().toMillis());
+            if (lease.isPresent()) {
+                return lease;
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static void pause(ClusterJob job) {
+        if (job.chunkPause().isZero()) {
+            return;
+        }
+        try {
+            Thread.sleep(job.chunkPause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Job " + job.name() + " interrupted", e);
+        }
+    }
+
+    private void record(ClusterJob job, JobRun.Outcome outcome, long rows, Duration duration) {
+        Timer.builder(RUN_METRIC)
+                .description("Duration of a maintenance job run")
+                .tag("job", job.name())
+                .tag("outcome", outcome.name())
+                .register(meterRegistry)
+                .record(duration);
+        meterRegistry.summary(ROWS_METRIC, "job", job.name()).record(rows);
+    }
+
+    /**
+     * The fenced checkpoint matched no row: another run holds the lease now.
+     */
+    private static final class LeaseLostException extends RuntimeException {
+
+        private LeaseLostException() {
+            super("Job lease was taken over by another run");
+        }
+    }
+}
@@ -0,0 +1,196 @@
+package com.src.ap.limit;
+
+import com.src.ap.config.ConcurrencyLimitConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Caps the number of API requests in flight at a limit learned from their latency.
+ *
+ * <p>Each window compares the average latency of its requests with the long-term average, per
+ * priority: a login hashing a password is far slower than a read, so a shift in the request mix
+ * must not look like queueing. The gradients of the priorities sampled in the window are averaged,
+ * weighted by their sample counts. While recent latency matches the long-term one the server is
+ * not queueing and the limit grows by about its square root; once recent requests are slower than
+ * {@code tolerance} times the long-term latency, the limit shrinks in proportion. Windows with
+ * 503 or 504 responses back off by {@code backoff-ratio}. The limit only grows while at least
+ * half of it is in use, so a quiet period does not inflate it.</p>
+ *
+ * <p>Lower priorities may only fill their share of the limit, so under overload reads are
+ * rejected before writes and writes before authentication.</p>
+ */
+@Component
+@Slf4j
+public class GradientConcurrencyLimiter {
+
+    public static final String LIMIT_METRIC = "http.server.requests.concurrency.limit";
+    public static final String INFLIGHT_METRIC = "http.server.requests.concurrency.inflight";
+    public static final String REJECTED_METRIC = "http.server.requests.concurrency.rejected";
+
+    private final ConcurrencyLimitConfig config;
+    private final long windowNanos;
+    private final AtomicInteger inflight = new AtomicInteger();
+    private final Map<RequestPriority, Counter> rejected = new EnumMap<>(RequestPriority.class);
+
+    private volatile double limit;
+
+    // Window state, guarded by this; the latency arrays are indexed by priority ordinal
+    private long windowStart = -1;
+    private final long[] windowRttNanos = new long[RequestPriority.values().length];
+    private final int[] windowSamples = new int[RequestPriority.values().length];
+    private int windowSampleCount;
+    private int windowMaxInflight;
+    private boolean windowDropped;
+    private final double[] longRttNanos = new double[RequestPriority.values().length];
+
+    public GradientConcurrencyLimiter(ConcurrencyLimitConfig config, MeterRegistry meterRegistry) {
+        this.config = config;
+        this.windowNanos = TimeUnit.MILLISECONDS.toNanos(config.getWindowMs());
+        this.limit = config.getInitialLimit();
+
+        Gauge.builder(LIMIT_METRIC, this, GradientConcurrencyLimiter::getLimit)
+                .description("Adaptive limit on concurrent API requests")
+                .register(meterRegistry);
+        Gauge.builder(INFLIGHT_METRIC, inflight, AtomicInteger::get)
+                .description("API requests currently counted against the limit")
+                .register(meterRegistry);
+        for (RequestPriority priority : RequestPriority.values()) {
+            rejected.put(priority, Counter.builder(REJECTED_METRIC)
+                    .description("API requests rejected because the concurrency limit was reached")
+                    .tag("priority", priority.name().toLowerCase(Locale.ROOT))
+                    .register(meterRegistry));
+        }
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getInflight() {
+        return inflight.get();
+    }
+
+    /**
+     * Admits a request unless its priority's share of the limit is in flight. An admitted
+     * request must be released exactly once.
+     */
+    public boolean tryAcquire(RequestPriority priority) {
+        int admitted = Math.max(1, (int) (limit * config.getShares().getOrDefault(priority, 1.0)));
+        while (true) {
+            int current = inflight.get();
+            if (current >= admitted) {
+                rejected.get(priority).increment();
+                return false;
+            }
+            if (inflight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Releases an admitted request and feeds its latency to the limit.
+     *
+     * @param dropped whether the request failed because the server was overloaded
+     */
+    public void release(RequestPriority priority, long rttNanos, boolean dropped) {
+        int current = inflight.getAndDecrement();
+        onSample(priority, rttNanos, current, dropped, System.nanoTime());
+    }
+
+    /**
+     * Releases an admitted request whose latency says nothing about load, such as one that went
+     * asynchronous.
+     */
+    public void releaseWithoutSample() {
+        inflight.decrementAndGet();
+    }
+
+    synchronized void onSample(RequestPriority priority, long rttNanos, int inflightAtSample, boolean dropped,
+                               long now) {
+        if (windowStart < 0) {
+            windowStart = now;
+        }
+        if (dropped) {
+            windowDropped = true;
+        } else {
+            windowRttNanos[priority.ordinal()] += rttNanos;
+            windowSamples[priority.ordinal()]++;
+            windowSampleCount++;
+        }
+        windowMaxInflight = Math.max(windowMaxInflight, inflightAtSample);
+
+        if (now - windowStart < windowNanos || (!windowDropped && windowSampleCount < config.getMinWindowSamples())) {
+            return;
+        }
+        boolean backOff = windowDropped;
+        int maxInflight = windowMaxInflight;
+        double gradient = backOff ? 0 : windowGradient();
+        windowStart = now;
+        Arrays.fill(windowRttNanos, 0);
+        Arrays.fill(windowSamples, 0);
+        windowSampleCount = 0;
+        windowMaxInflight = 0;
+        windowDropped = false;
+
+        double previous = limit;
+        double next;
+        if (backOff) {
+            next = previous * config.getBackoffRatio();
+        } else {
+            if (gradient == 0) {
+                return;
+            }
+            double estimate = previous * gradient + Math.sqrt(previous);
+            next = previous * (1 - config.getSmoothing()) + estimate * config.getSmoothing();
+            if (next > previous && maxInflight < previous / 2) {
+                return;
+            }
+        }
+        limit = Math.max(config.getMinLimit(), Math.min(config.getMaxLimit(), next));
+        if ((int) limit != (int) previous) {
+            log.debug("Concurrency limit {} -> {} (gradient {})", (int) previous, (int) limit, gradient);
+        }
+    }
+
+    /**
+     * Folds the window's latencies into each priority's long-term average and returns their
+     * sample-weighted gradient, or 0 when the window has no latency samples.
+     */
+    private double windowGradient() {
+        double weighted = 0;
+        int samples = 0;
+        for (int p = 0; p < windowSamples.length; p++) {
+            if (windowSamples[p] == 0) {
+                continue;
+            }
+            double shortRttNanos = (double) windowRttNanos[p] / windowSamples[p];
+            if (longRttNanos[p] == 0) {
+                longRttNanos[p] = shortRttNanos;
+            } else {
+                longRttNanos[p] += (shortRttNanos - longRttNanos[p]) / config.getLongWindows();
+                if (longRttNanos[p] > 2 * shortRttNanos) {
+                    // Load has dropped well below what the long-term average remembers; catch up
+                    longRttNanos[p] = shortRttNanos + (longRttNanos[p] - shortRttNanos) * 0.95;
+                }
+            }
+            if (shortRttNanos == 0) {
+                continue;
+            }
+            double gradient = Math.max(0.5, Math.min(1.0, config.getTolerance() * longRttNanos[p] / shortRttNanos));
+            weighted += gradient * windowSamples[p];
+            samples += windowSamples[p];
+        }
+        return samples > 0 ? weighted / samples : 0;
+    }
+}
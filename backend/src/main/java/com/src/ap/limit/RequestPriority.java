@@ -0,0 +1,11 @@
+package com.src.ap.limit;
+
+/**
+ * How long a request keeps being admitted as the server approaches its concurrency limit.
+ * Reads are shed first, then writes; authentication is shed last.
+ */
+public enum RequestPriority {
+    CRITICAL,
+    WRITE,
+    READ
+}
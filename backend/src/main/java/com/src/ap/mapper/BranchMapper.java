@@ -10,16 +10,17 @@ public interface BranchMapper {
 
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "employees", ignore = true)
+    @Mapping(target = "employeeCount", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
     Branch toEntity(BranchRequest request);
 
-    @Mapping(target = "employeeCount", expression = "java(branch.getEmployees() != null ? branch.getEmployees().size() : 0)")
     BranchResponse toResponse(Branch branch);
 
     @BeanMapping(nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE)
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "employees", ignore = true)
+    @Mapping(target = "employeeCount", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
     void updateEntity(BranchRequest request, @MappingTarget Branch branch);
@@ -10,17 +10,23 @@ public interface EmployeeMapper {
 
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "occupation", ignore = true)
+    @Mapping(target = "branch", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
     Employee toEntity(EmployeeRequest request);
 
     @Mapping(source = "occupation.id", target = "occupationId")
     @Mapping(source = "occupation.name", target = "occupationName")
+    @Mapping(source = "branch.id", target = "branchId")
+    @Mapping(source = "branch.name", target = "branchName")
+    @Mapping(source = "supvEmployee.id", target = "supervisorId")
+    @Mapping(source = "supvEmployee.fullName", target = "supervisorName")
     EmployeeResponse toResponse(Employee employee);
 
     @BeanMapping(nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE)
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "occupation", ignore = true)
+    @Mapping(target = "branch", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
     void updateEntity(EmployeeRequest request, @MappingTarget Employee employee);
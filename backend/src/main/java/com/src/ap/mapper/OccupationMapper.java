@@ -10,16 +10,17 @@ public interface OccupationMapper {
 
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "employees", ignore = true)
+    @Mapping(target = "employeeCount", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
     Occupation toEntity(OccupationRequest request);
 
-    @Mapping(target = "employeeCount", expression = "java(occupation.getEmployees() != null ? occupation.getEmployees().size() : 0)")
     OccupationResponse toResponse(Occupation occupation);
 
     @BeanMapping(nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE)
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "employees", ignore = true)
+    @Mapping(target = "employeeCount", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
     void updateEntity(OccupationRequest request, @MappingTarget Occupation occupation);
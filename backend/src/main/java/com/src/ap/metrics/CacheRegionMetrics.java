@@ -0,0 +1,63 @@
+package com.src.ap.metrics;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+
+import java.util.Collection;
+import java.util.function.ToLongFunction;
+
+/**
+ * Hit, miss and put counts of the second-level cache regions
+ * ({@code /actuator/metrics/hibernate.cache.region.requests?tag=region:...&tag=result:hit}).
+ *
+ * <p>Counts come from Hibernate's statistics, which must be enabled; a region that has not been
+ * created yet (query regions are built on first use) reports zero.</p>
+ */
+public class CacheRegionMetrics implements MeterBinder {
+
+    public static final String REQUESTS_METRIC = "hibernate.cache.region.requests";
+    public static final String PUTS_METRIC = "hibernate.cache.region.puts";
+
+    private final Statistics statistics;
+    private final Collection<String> regions;
+
+    public CacheRegionMetrics(Statistics statistics, Collection<String> regions) {
+        this.statistics = statistics;
+        this.regions = regions;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (String region : regions) {
+            counter(registry, region, "hit", CacheRegionStatistics::getHitCount);
+            counter(registry, region, "miss", CacheRegionStatistics::getMissCount);
+            FunctionCounter.builder(PUTS_METRIC, statistics,
+                            stats -> count(stats, region, CacheRegionStatistics::getPutCount))
+                    .tag("region", region)
+                    .description("Entries put into a second-level cache region")
+                    .register(registry);
+        }
+    }
+
+    private void counter(MeterRegistry registry, String region, String result,
+                         ToLongFunction<CacheRegionStatistics> value) {
+        FunctionCounter.builder(REQUESTS_METRIC, statistics, stats -> count(stats, region, value))
+                .tag("region", region)
+                .tag("result", result)
+                .description("Lookups in a second-level cache region")
+                .register(registry);
+    }
+
+    private static double count(Statistics statistics, String region, ToLongFunction<CacheRegionStatistics> value) {
+        CacheRegionStatistics regionStatistics;
+        try {
+            regionStatistics = statistics.getCacheRegionStatistics(region);
+        } catch (IllegalArgumentException e) {
+            return 0;
+        }
+        return regionStatistics != null ? value.applyAsLong(regionStatistics) : 0;
+    }
+}
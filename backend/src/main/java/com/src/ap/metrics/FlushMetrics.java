@@ -0,0 +1,44 @@
+package com.src.ap.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import org.hibernate.SessionEventListener;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times every Hibernate flush, i.e. dirty checking plus the writes it issues, and records how
+ * many entities each flush had to consider.
+ *
+ * <p>Hibernate instantiates one listener per session from its class name, so meters are looked up
+ * in the registry installed by {@link #bindTo(MeterRegistry)} at startup.</p>
+ */
+public class FlushMetrics implements SessionEventListener {
+
+    public static final String FLUSH_METRIC = "hibernate.flush";
+    public static final String FLUSH_ENTITIES_METRIC = "hibernate.flush.entities";
+
+    private static volatile MeterRegistry registry = Metrics.globalRegistry;
+
+    private long flushStart;
+
+    public static void bindTo(MeterRegistry meterRegistry) {
+        registry = meterRegistry;
+    }
+
+    @Override
+    public void flushStart() {
+        flushStart = System.nanoTime();
+    }
+
+    @Override
+    public void flushEnd(int numberOfEntities, int numberOfCollections) {
+        MeterRegistry meterRegistry = registry;
+        Timer.builder(FLUSH_METRIC)
+                .description("Time spent flushing a Hibernate session")
+                .register(meterRegistry)
+                .record(System.nanoTime() - flushStart, TimeUnit.NANOSECONDS);
+        meterRegistry.summary(FLUSH_ENTITIES_METRIC).record(numberOfEntities);
+    }
+}
@@ -0,0 +1,85 @@
+package com.src.ap.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Records the shape of every UPDATE statement Hibernate prepares: how many columns it assigns
+ * and how long its SQL text is, per table. With dynamic updates these shrink to the columns that
+ * actually changed. The statement itself is passed through unchanged.
+ */
+public class UpdateStatementMetrics implements StatementInspector {
+
+    public static final String COLUMNS_METRIC = "hibernate.update.columns";
+    public static final String SIZE_METRIC = "hibernate.update.size";
+
+    private record TableMeters(DistributionSummary columns, DistributionSummary size) {
+    }
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, TableMeters> meters = new ConcurrentHashMap<>();
+
+    public UpdateStatementMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public String inspect(String sql) {
+        if (sql.regionMatches(true, 0, "update ", 0, 7)) {
+            ParsedUpdate update = parse(sql);
+            if (update != null) {
+                TableMeters tableMeters = meters.computeIfAbsent(update.table(), this::register);
+                tableMeters.columns().record(update.columns());
+                tableMeters.size().record(sql.length());
+            }
+        }
+        return sql;
+    }
+
+    record ParsedUpdate(String table, int columns) {
+    }
+
+    /**
+     * Extracts the table and the number of SET assignments from Hibernate-generated
+     * {@code update <table> set a=?,b=? where ...} SQL; returns null for anything else.
+     */
+    static ParsedUpdate parse(String sql) {
+        String lower = sql.toLowerCase(Locale.ROOT);
+        int tableStart = 7;
+        int tableEnd = lower.indexOf(' ', tableStart);
+        int set = lower.indexOf(" set ", tableStart);
+        if (tableEnd < 0 || set < 0) {
+            return null;
+        }
+        int where = lower.indexOf(" where ", set);
+        String assignments = lower.substring(set + 5, where < 0 ? lower.length() : where);
+
+        int columns = 0;
+        for (int i = 0; i < assignments.length(); i++) {
+            if (assignments.charAt(i) == '=') {
+                columns++;
+            }
+        }
+        String table = lower.substring(tableStart, tableEnd);
+        int schemaDot = table.lastIndexOf('.');
+        return new ParsedUpdate(schemaDot >= 0 ? table.substring(schemaDot + 1) : table, columns);
+    }
+
+    private TableMeters register(String table) {
+        return new TableMeters(
+                DistributionSummary.builder(COLUMNS_METRIC)
+                        .description("Columns assigned per UPDATE statement")
+                        .tag("table", table)
+                        .register(meterRegistry),
+                DistributionSummary.builder(SIZE_METRIC)
+                        .description("Length of UPDATE statements")
+                        .baseUnit("characters")
+                        .tag("table", table)
+                        .register(meterRegistry));
+    }
+}
@@ -0,0 +1,73 @@
+package com.src.ap.repository;
+
+import com.src.ap.cache.CacheInvalidation;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * The append-only dbo.cache_invalidations table tailed by every node.
+ */
+@Repository
+@RequiredArgsConstructor
+public class CacheInvalidationRepository {
+
+    private static final String SELECT_SQL = """
+            SELECT id, cache_name, cache_key, origin, created_at
+            FROM dbo.cache_invalidations
+            """;
+
+    private static final RowMapper<CacheInvalidation> ROW_MAPPER = (rs, rowNum) -> new CacheInvalidation(
+            rs.getLong("id"),
+            rs.getString("cache_name"),
+            rs.getString("cache_key"),
+            rs.getString("origin"),
+            rs.getTimestamp("created_at").toInstant());
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Appends the rows in one JDBC batch.
+     *
+     * @param rows {@code cache_name, cache_key, origin, created_at} per row
+     */
+    public void insertAll(List<Object[]> rows) {
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO dbo.cache_invalidations (cache_name, cache_key, origin, created_at) VALUES (?, ?, ?, ?)",
+                rows);
+    }
+
+    public long findLatestId() {
+        Long latest = jdbcTemplate.queryForObject("SELECT MAX(id) FROM dbo.cache_invalidations", Long.class);
+        return latest != null ? latest : 0;
+    }
+
+    /**
+     * Rows after {@code afterId} in id order; served by the clustered primary key.
+     */
+    public List<CacheInvalidation> findAfter(long afterId, int limit) {
+        return jdbcTemplate.query(SELECT_SQL + "WHERE id > ? ORDER BY id OFFSET 0 ROWS FETCH NEXT ? ROWS ONLY",
+                ROW_MAPPER, afterId, limit);
+    }
+
+    public List<CacheInvalidation> findBetween(long afterId, long upToId) {
+        return jdbcTemplate.query(SELECT_SQL + "WHERE id > ? AND id <= ? ORDER BY id", ROW_MAPPER, afterId, upToId);
+    }
+
+    /**
+     * Deletes at most {@code limit} of the oldest rows written before {@code cutoff}, keeping each
+     * delete short enough not to block writers.
+     */
+    public int deleteOlderThan(Instant cutoff, int limit) {
+        return jdbcTemplate.update("""
+                        DELETE FROM dbo.cache_invalidations
+                        WHERE id IN (SELECT TOP (?) id FROM dbo.cache_invalidations WHERE created_at < ? ORDER BY id)
+                        """,
+                limit, Timestamp.from(cutoff));
+    }
+}
@@ -0,0 +1,101 @@
+package com.src.ap.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Set-based employee reads and writes for bulk imports, bypassing the persistence context so a
+ * batch of rows costs a handful of round trips instead of several per row.
+ */
+@Repository
+@RequiredArgsConstructor
+public class EmployeeBulkRepository {
+
+    public record NewEmployee(String email, String fullName, String firstName, String middleName, String lastName,
+                              LocalDate hireDt, LocalDate terminationDt, String citizenIdCard, LocalDate dateOfBirth,
+                              String passport, String contractId, String phone, String workStatus,
+                              Long occupationId, Long branchId, Long supervisorId) {
+    }
+
+    private static final String INSERT_SQL = """
+            INSERT INTO dbo.employees (id, email, full_name, first_name, middle_name, last_name, hire_dt, termination_dt,
+                                       citizen_id_card, date_of_birth, passport, contract_id, phone, work_status,
+                                       occupation_id, branch_id, supervisor_id, create_user, created_at,
+                                       last_update_user, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PooledIdAllocator pooledIdAllocator;
+
+    /**
+     * @return the lower-cased emails among {@code emails} that already belong to an employee
+     */
+    public Set<String> findExistingEmails(Collection<String> emails) {
+        if (emails.isEmpty()) {
+            return Set.of();
+        }
+        Set<String> existing = new HashSet<>();
+        jdbcTemplate.query("SELECT email FROM dbo.employees WHERE email IN (" + placeholders(emails.size()) + ")",
+                rs -> {
+                    existing.add(rs.getString("email").toLowerCase(Locale.ROOT));
+                },
+                emails.toArray());
+        return existing;
+    }
+
+    public Set<Long> findExistingIds(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(jdbcTemplate.queryForList(
+                "SELECT id FROM dbo.employees WHERE id IN (" + placeholders(ids.size()) + ")",
+                Long.class, ids.toArray()));
+    }
+
+    /**
+     * Inserts the rows in a single JDBC batch.
+     *
+     * @return the ids assigned to the rows, in the order given
+     */
+    public long[] insertAll(List<NewEmployee> employees, String actor) {
+        long[] ids = pooledIdAllocator.allocate(PooledIdAllocator.EMPLOYEES_SEQUENCE, employees.size());
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = new ArrayList<>(employees.size());
+        for (int i = 0; i < employees.size(); i++) {
+            NewEmployee e = employees.get(i);
+            rows.add(new Object[]{
+                    ids[i], e.email(), e.fullName(), e.firstName(), e.middleName(), e.lastName(),
+                    toDate(e.hireDt()), toDate(e.terminationDt()), e.citizenIdCard(), toDate(e.dateOfBirth()),
+                    e.passport(), e.contractId(), e.phone(), e.workStatus(),
+                    e.occupationId(), e.branchId(), e.supervisorId(), actor, now, actor, now
+            });
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+        return ids;
+    }
+
+    private static Date toDate(LocalDate date) {
+        return date != null ? Date.valueOf(date) : null;
+    }
+
+    private static String placeholders(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> "?")
+                .collect(Collectors.joining(", "));
+    }
+}
@@ -0,0 +1,89 @@
+package com.src.ap.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The denormalised {@code employee_count} columns of dbo.branches and dbo.occupations.
+ *
+ * <p>Counts are only ever changed relatively ({@code employee_count = employee_count + ?}), so
+ * concurrent writers never overwrite each other, and in id order so two transactions touching
+ * the same rows lock them in the same sequence. The entities map the column read-only.</p>
+ */
+@Repository
+@RequiredArgsConstructor
+public class EmployeeCountRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void applyBranchDeltas(Map<Long, Long> deltas) {
+        applyDeltas("dbo.branches", deltas);
+    }
+
+    public void applyOccupationDeltas(Map<Long, Long> deltas) {
+        applyDeltas("dbo.occupations", deltas);
+    }
+
+    /**
+     * Reads a branch's count from the row itself, never from a cached entity, and keeps the row
+     * update-locked until the transaction ends, so no employee can be counted into the branch
+     * while the caller acts on the value.
+     *
+     * @return the count, or null when the branch does not exist
+     */
+    public Long lockBranchCount(Long id) {
+        return lockCount("dbo.branches", id);
+    }
+
+    /**
+     * Reads an occupation's count from the row itself and update-locks it; see
+     * {@link #lockBranchCount(Long)}.
+     *
+     * @return the count, or null when the occupation does not exist
+     */
+    public Long lockOccupationCount(Long id) {
+        return lockCount("dbo.occupations", id);
+    }
+
+    /**
+     * Resets every branch count that differs from dbo.employees.
+     *
+     * @return the number of branches corrected
+     */
+    public int repairBranchCounts() {
+        return repair("dbo.branches", "branches", "branch_id");
+    }
+
+    /**
+     * Resets every occupation count that differs from dbo.employees.
+     *
+     * @return the number of occupations corrected
+     */
+    public int repairOccupationCounts() {
+        return repair("dbo.occupations", "occupations", "occupation_id");
+    }
+
+    private void applyDeltas(String table, Map<Long, Long> deltas) {
+        String sql = "UPDATE " + table + " SET employee_count = employee_count + ? WHERE id = ?";
+        deltas.entrySet().stream()
+                .filter(entry -> entry.getKey() != null && entry.getValue() != 0)
+                .sorted(Map.Entry.comparingByKey())
+                .forEach(entry -> jdbcTemplate.update(sql, entry.getValue(), entry.getKey()));
+    }
+
+    private Long lockCount(String table, Long id) {
+        List<Long> counts = jdbcTemplate.queryForList(
+                "SELECT employee_count FROM " + table + " WITH (UPDLOCK, ROWLOCK) WHERE id = ?", Long.class, id);
+        return counts.isEmpty() ? null : counts.get(0);
+    }
+
+    private int repair(String table, String alias, String foreignKey) {
+        String count = "(SELECT COUNT(*) FROM dbo.employees e WHERE e." + foreignKey + " = " + alias + ".id)";
+        return jdbcTemplate.update("UPDATE " + table + " SET employee_count = " + count
+                + " WHERE employee_count <> " + count);
+    }
+}
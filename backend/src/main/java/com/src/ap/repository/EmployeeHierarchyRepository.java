@@ -0,0 +1,150 @@
+package com.src.ap.repository;
+
+import com.src.ap.dto.employee.EmployeeHierarchyNodeResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Reads and writes the supervisor closure table {@code dbo.employee_hierarchy}.
+ *
+ * <p>Every employee has a depth-0 row for itself plus one row per ancestor, so subtree and
+ * chain-of-command reads are single index range scans. Callers keep the table in step with
+ * {@code employees.supervisor_id} inside the same transaction.</p>
+ */
+@Repository
+@RequiredArgsConstructor
+public class EmployeeHierarchyRepository {
+
+    /**
+     * Adds a new leaf: its self row plus its supervisor's ancestor rows, one level deeper.
+     * A null supervisor matches no rows, leaving just the self row.
+     */
+    private static final String INSERT_LEAF_SQL = """
+            INSERT INTO dbo.employee_hierarchy (ancestor_id, descendant_id, depth)
+            SELECT CAST(? AS BIGINT), CAST(? AS BIGINT), 0
+            UNION ALL
+            SELECT ancestor_id, CAST(? AS BIGINT), depth + 1
+            FROM dbo.employee_hierarchy
+            WHERE descendant_id = ?
+            """;
+
+    /** Cuts the subtree rooted at ? off from every ancestor outside it. */
+    private static final String DETACH_SUBTREE_SQL = """
+            DELETE FROM dbo.employee_hierarchy
+            WHERE descendant_id IN (SELECT descendant_id FROM dbo.employee_hierarchy WHERE ancestor_id = ?)
+              AND ancestor_id NOT IN (SELECT descendant_id FROM dbo.employee_hierarchy WHERE ancestor_id = ?)
+            """;
+
+    /** Joins every ancestor of the new supervisor to every member of the moved subtree. */
+    private static final String ATTACH_SUBTREE_SQL = """
+            INSERT INTO dbo.employee_hierarchy (ancestor_id, descendant_id, depth)
+            SELECT a.ancestor_id, d.descendant_id, a.depth + d.depth + 1
+            FROM dbo.employee_hierarchy a
+            CROSS JOIN dbo.employee_hierarchy d
+            WHERE a.descendant_id = ? AND d.ancestor_id = ?
+            """;
+
+    private static final String NODE_COLUMNS = """
+            SELECT e.id, e.full_name, e.email, e.supervisor_id, o.name AS occupation_name, h.depth
+            FROM dbo.employee_hierarchy h
+            """;
+
+    private static final String SUBORDINATES_SQL = NODE_COLUMNS + """
+            JOIN dbo.employees e ON e.id = h.descendant_id
+            LEFT JOIN dbo.occupations o ON o.id = e.occupation_id
+            WHERE h.ancestor_id = ? AND h.depth BETWEEN 1 AND ?
+            ORDER BY h.depth, e.full_name, e.id
+            OFFSET ? ROWS FETCH NEXT ? ROWS ONLY
+            """;
+
+    private static final String CHAIN_SQL = NODE_COLUMNS + """
+            JOIN dbo.employees e ON e.id = h.ancestor_id
+            LEFT JOIN dbo.occupations o ON o.id = e.occupation_id
+            WHERE h.descendant_id = ? AND h.depth > 0
+            ORDER BY h.depth
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final RowMapper<EmployeeHierarchyNodeResponse> rowMapper = (rs, rowNum) -> EmployeeHierarchyNodeResponse.builder()
+            .id(rs.getLong("id"))
+            .fullName(rs.getString("full_name"))
+            .email(rs.getString("email"))
+            .occupationName(rs.getString("occupation_name"))
+            .supervisorId(rs.getObject("supervisor_id", Long.class))
+            .depth(rs.getInt("depth"))
+            .build();
+
+    public void insertLeaf(long employeeId, Long supervisorId) {
+        jdbcTemplate.update(INSERT_LEAF_SQL, employeeId, employeeId, employeeId, supervisorId);
+    }
+
+    /**
+     * Inserts leaves laid out as (employee_id, supervisor_id), used by the bulk import. Rows run
+     * in order, so a leaf may name a supervisor inserted earlier in the same batch.
+     */
+    public void insertLeaves(List<Object[]> rows) {
+        jdbcTemplate.batchUpdate(INSERT_LEAF_SQL, rows.stream()
+                .map(row -> new Object[]{row[0], row[0], row[0], row[1]})
+                .toList());
+    }
+
+    /**
+     * Re-hangs the subtree rooted at {@code employeeId} under {@code supervisorId}, or makes it a
+     * root when {@code supervisorId} is null. The caller must have ruled out cycles.
+     */
+    public void move(long employeeId, Long supervisorId) {
+        jdbcTemplate.update(DETACH_SUBTREE_SQL, employeeId, employeeId);
+        if (supervisorId != null) {
+            jdbcTemplate.update(ATTACH_SUBTREE_SQL, supervisorId, employeeId);
+        }
+    }
+
+    /**
+     * Removes a leaf's rows. An employee that still supervises someone keeps its ancestor rows,
+     * so callers check {@link #hasSubordinates} first.
+     */
+    public void deleteLeaf(long employeeId) {
+        jdbcTemplate.update("DELETE FROM dbo.employee_hierarchy WHERE descendant_id = ?", employeeId);
+    }
+
+    public boolean hasSubordinates(long employeeId) {
+        return !jdbcTemplate.queryForList(
+                "SELECT TOP (1) 1 FROM dbo.employee_hierarchy WHERE ancestor_id = ? AND depth = 1",
+                Integer.class, employeeId).isEmpty();
+    }
+
+    public boolean isAncestor(long ancestorId, long descendantId) {
+        return !jdbcTemplate.queryForList(
+                "SELECT TOP (1) 1 FROM dbo.employee_hierarchy WHERE descendant_id = ? AND ancestor_id = ?",
+                Integer.class, descendantId, ancestorId).isEmpty();
+    }
+
+    /**
+     * Ids of every ancestor of {@code employeeId}, nearest first, excluding the employee itself.
+     */
+    public List<Long> findAncestorIds(long employeeId) {
+        return jdbcTemplate.queryForList(
+                "SELECT ancestor_id FROM dbo.employee_hierarchy WHERE descendant_id = ? AND depth > 0 ORDER BY depth",
+                Long.class, employeeId);
+    }
+
+    public List<EmployeeHierarchyNodeResponse> findSubordinates(long employeeId, int maxDepth, long offset, int limit) {
+        return jdbcTemplate.query(SUBORDINATES_SQL, rowMapper, employeeId, maxDepth, offset, limit);
+    }
+
+    public long countSubordinates(long employeeId, int maxDepth) {
+        Long count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM dbo.employee_hierarchy WHERE ancestor_id = ? AND depth BETWEEN 1 AND ?",
+                Long.class, employeeId, maxDepth);
+        return count != null ? count : 0L;
+    }
+
+    public List<EmployeeHierarchyNodeResponse> findChain(long employeeId) {
+        return jdbcTemplate.query(CHAIN_SQL, rowMapper, employeeId);
+    }
+}
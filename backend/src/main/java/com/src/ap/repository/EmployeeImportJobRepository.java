@@ -0,0 +1,113 @@
+package com.src.ap.repository;
+
+import com.src.ap.dto.employee.EmployeeImportJobResponse;
+import com.src.ap.importer.ImportJob;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * The state of bulk employee imports in dbo.employee_import_jobs, shared by every node.
+ */
+@Repository
+@RequiredArgsConstructor
+public class EmployeeImportJobRepository {
+
+    private static final String SELECT_SQL = """
+            SELECT id, file_name, status, processed_rows, imported_rows, failed_rows, submitted_by,
+                   submitted_at, started_at, finished_at, message
+            FROM dbo.employee_import_jobs
+            """;
+
+    private static final RowMapper<EmployeeImportJobResponse> ROW_MAPPER = (rs, rowNum) ->
+            EmployeeImportJobResponse.builder()
+                    .id(UUID.fromString(rs.getString("id")))
+                    .fileName(rs.getString("file_name"))
+                    .status(rs.getString("status"))
+                    .processedRows(rs.getLong("processed_rows"))
+                    .importedRows(rs.getLong("imported_rows"))
+                    .failedRows(rs.getLong("failed_rows"))
+                    .submittedBy(rs.getString("submitted_by"))
+                    .submittedAt(toLocalDateTime(rs.getTimestamp("submitted_at")))
+                    .startedAt(toLocalDateTime(rs.getTimestamp("started_at")))
+                    .finishedAt(toLocalDateTime(rs.getTimestamp("finished_at")))
+                    .message(rs.getString("message"))
+                    .build();
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void insert(ImportJob job) {
+        jdbcTemplate.update("""
+                        INSERT INTO dbo.employee_import_jobs
+                            (id, file_name, status, processed_rows, imported_rows, failed_rows, submitted_by, submitted_at)
+                        VALUES (?, ?, ?, 0, 0, 0, ?, ?)
+                        """,
+                job.getId().toString(), job.getFileName(), job.getStatus().name(), job.getSubmittedBy(),
+                Timestamp.valueOf(job.getSubmittedAt()));
+    }
+
+    /**
+     * Writes the status and counters of a running job.
+     */
+    public void updateProgress(ImportJob job) {
+        jdbcTemplate.update("""
+                        UPDATE dbo.employee_import_jobs
+                        SET status = ?, started_at = ?, processed_rows = ?, imported_rows = ?, failed_rows = ?
+                        WHERE id = ?
+                        """,
+                job.getStatus().name(), toTimestamp(job.getStartedAt()), job.getProcessedRows().get(),
+                job.getImportedRows().get(), job.getFailedRows().get(), job.getId().toString());
+    }
+
+    /**
+     * Writes the outcome of a finished job together with its error report.
+     */
+    public void finish(ImportJob job, byte[] errorReport) {
+        jdbcTemplate.update("""
+                        UPDATE dbo.employee_import_jobs
+                        SET status = ?, started_at = ?, finished_at = ?, message = ?, processed_rows = ?,
+                            imported_rows = ?, failed_rows = ?, error_report = ?
+                        WHERE id = ?
+                        """,
+                job.getStatus().name(), toTimestamp(job.getStartedAt()), toTimestamp(job.getFinishedAt()),
+                job.getMessage(), job.getProcessedRows().get(), job.getImportedRows().get(),
+                job.getFailedRows().get(), errorReport, job.getId().toString());
+    }
+
+    public Optional<EmployeeImportJobResponse> findById(UUID id) {
+        return jdbcTemplate.query(SELECT_SQL + "WHERE id = ?", ROW_MAPPER, id.toString()).stream().findFirst();
+    }
+
+    public List<EmployeeImportJobResponse> findAll() {
+        return jdbcTemplate.query(SELECT_SQL + "ORDER BY submitted_at DESC", ROW_MAPPER);
+    }
+
+    public Optional<byte[]> findErrorReport(UUID id) {
+        return jdbcTemplate.query("SELECT error_report FROM dbo.employee_import_jobs WHERE id = ?",
+                        (rs, rowNum) -> rs.getBytes("error_report"), id.toString())
+                .stream()
+                .filter(Objects::nonNull)
+                .findFirst();
+    }
+
+    public int deleteFinishedBefore(LocalDateTime cutoff) {
+        return jdbcTemplate.update("DELETE FROM dbo.employee_import_jobs WHERE finished_at < ?",
+                Timestamp.valueOf(cutoff));
+    }
+
+    private static Timestamp toTimestamp(LocalDateTime value) {
+        return value != null ? Timestamp.valueOf(value) : null;
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp value) {
+        return value != null ? value.toLocalDateTime() : null;
+    }
+}
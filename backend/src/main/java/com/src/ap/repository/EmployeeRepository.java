@@ -1,25 +1,61 @@
 package com.src.ap.repository;
 
+import com.src.ap.dto.employee.EmployeeResponse;
 import com.src.ap.entity.Employee;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface EmployeeRepository extends JpaRepository<Employee, Long> {
-    Optional<Employee> findByEmail(String email);
-    boolean existsByEmail(String email);
 
-    @Query("SELECT e FROM Employee e WHERE " +
-           "LOWER(e.firstName) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-           "LOWER(e.lastName) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-           "LOWER(e.email) LIKE LOWER(CONCAT('%', :keyword, '%'))")
-    Page<Employee> searchByKeyword(@Param("keyword") String keyword, Pageable pageable);
+    /**
+     * Selects exactly the columns of {@link EmployeeResponse}, with occupation, branch and
+     * supervisor LEFT JOINed in, so a page is read in one statement without hydrating entities.
+     */
+    String RESPONSE_PROJECTION = "SELECT new com.src.ap.dto.employee.EmployeeResponse(" +
+            "e.id, e.email, e.fullName, e.firstName, e.middleName, e.lastName, " +
+            "e.hireDt, e.terminationDt, e.citizenIdCard, e.dateOfBirth, e.passport, e.contractId, " +
+            "e.phone, e.workStatus, " +
+            "o.id, o.name, b.id, b.name, s.id, s.fullName, " +
+            "e.createUser, e.createdAt, e.lastUpdateUser, e.updatedAt) " +
+            "FROM Employee e " +
+            "LEFT JOIN e.occupation o " +
+            "LEFT JOIN e.branch b " +
+            "LEFT JOIN e.supvEmployee s ";
+
+    Optional<Employee> findByEmail(String email);
 
     Page<Employee> findByOccupationId(Long occupationId, Pageable pageable);
-}
\ No newline at end of file
+
+    @Query(value = RESPONSE_PROJECTION,
+           countQuery = "SELECT COUNT(e) FROM Employee e")
+    Page<EmployeeResponse> findAllResponses(Pageable pageable);
+
+    @Query(RESPONSE_PROJECTION + "WHERE e.id = :id")
+    Optional<EmployeeResponse> findResponseById(@Param("id") Long id);
+
+    @Query(RESPONSE_PROJECTION + "WHERE e.id IN :ids")
+    List<EmployeeResponse> findResponsesByIds(@Param("ids") Collection<Long> ids);
+
+    @Query(value = RESPONSE_PROJECTION + "WHERE o.id = :occupationId",
+           countQuery = "SELECT COUNT(e) FROM Employee e WHERE e.occupation.id = :occupationId")
+    Page<EmployeeResponse> findResponsesByOccupationId(@Param("occupationId") Long occupationId, Pageable pageable);
+
+    /**
+     * Row-locks the given employees in id order, so concurrent hierarchy writes that touch
+     * overlapping supervisor chains queue behind each other instead of deadlocking.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT e FROM Employee e WHERE e.id IN :ids ORDER BY e.id")
+    List<Employee> lockAllByIds(@Param("ids") Collection<Long> ids);
+}
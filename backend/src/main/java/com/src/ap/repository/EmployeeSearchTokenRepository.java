@@ -0,0 +1,142 @@
+package com.src.ap.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Reads and writes the accent-folded search keys in {@code dbo.employee_search_tokens}.
+ */
+@Repository
+@RequiredArgsConstructor
+public class EmployeeSearchTokenRepository {
+
+    public record SearchToken(String token, int field, int weight) {
+    }
+
+    private static final String INSERT_SQL =
+            "INSERT INTO dbo.employee_search_tokens (token, employee_id, field, weight) VALUES (?, ?, ?, ?)";
+
+    /**
+     * One branch per query token: every employee with a key starting with the token, scored by the
+     * best matching field, doubled for an exact token match.
+     */
+    private static final String TOKEN_MATCH_SQL = """
+            SELECT employee_id, MAX(CASE WHEN token = ? THEN weight * 2 ELSE weight END) AS score
+            FROM dbo.employee_search_tokens
+            WHERE token LIKE ? ESCAPE '\\'
+            GROUP BY employee_id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Replaces the keys of one employee. The employee row is locked first (UPDLOCK, as the bulk
+     * rebuild reads it), so this and a rebuild batch covering the employee run one after the other.
+     */
+    public void replaceTokens(long employeeId, Collection<SearchToken> tokens) {
+        jdbcTemplate.queryForList("SELECT id FROM dbo.employees WITH (UPDLOCK, ROWLOCK) WHERE id = ?",
+                Long.class, employeeId);
+        deleteByEmployeeId(employeeId);
+        List<Object[]> rows = new ArrayList<>(tokens.size());
+        for (SearchToken token : tokens) {
+            rows.add(new Object[]{token.token(), employeeId, token.field(), token.weight()});
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+    }
+
+    public void deleteByEmployeeId(long employeeId) {
+        jdbcTemplate.update("DELETE FROM dbo.employee_search_tokens WHERE employee_id = ?", employeeId);
+    }
+
+    /**
+     * Inserts rows laid out as (token, employee_id, field, weight), used by the bulk rebuild.
+     */
+    public void insertAll(List<Object[]> rows) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+    }
+
+    /**
+     * Deletes the keys of employees with {@code fromId < employee_id <= toId}, used by the bulk
+     * rebuild before it inserts that id range again.
+     */
+    public void deleteByEmployeeIdRange(long fromId, long toId) {
+        jdbcTemplate.update("DELETE FROM dbo.employee_search_tokens WHERE employee_id > ? AND employee_id <= ?",
+                fromId, toId);
+    }
+
+    public boolean isEmpty() {
+        List<Integer> any = jdbcTemplate.queryForList(
+                "SELECT TOP (1) 1 FROM dbo.employee_search_tokens", Integer.class);
+        return any.isEmpty();
+    }
+
+    /**
+     * One page of matches, best score first, with the total number of matches.
+     */
+    public record SearchPage(List<Long> ids, long total) {
+    }
+
+    /**
+     * Returns the ids of employees matching every query token (as a prefix of one of their keys),
+     * best score first. The total is a window count over the same aggregation, so the prefix
+     * matches are scanned once for both; only a page past the end, which returns no row to carry
+     * the total, falls back to a separate count.
+     */
+    public SearchPage search(List<String> queryTokens, long offset, int limit) {
+        List<Object> params = matchParams(queryTokens);
+        params.add(offset);
+        params.add(limit);
+        List<Long> ids = new ArrayList<>(limit);
+        long[] total = {0L};
+        jdbcTemplate.query(
+                "SELECT employee_id, COUNT(*) OVER () AS total FROM (" + matchSql(queryTokens.size()) + ") r"
+                        + " ORDER BY score DESC, employee_id OFFSET ? ROWS FETCH NEXT ? ROWS ONLY",
+                rs -> {
+                    ids.add(rs.getLong("employee_id"));
+                    total[0] = rs.getLong("total");
+                },
+                params.toArray());
+        if (ids.isEmpty() && offset > 0) {
+            return new SearchPage(ids, countMatches(queryTokens));
+        }
+        return new SearchPage(ids, total[0]);
+    }
+
+    public long countMatches(List<String> queryTokens) {
+        Long count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM (" + matchSql(queryTokens.size()) + ") r",
+                Long.class, matchParams(queryTokens).toArray());
+        return count != null ? count : 0L;
+    }
+
+    private static String matchSql(int tokenCount) {
+        String branches = IntStream.range(0, tokenCount)
+                .mapToObj(i -> TOKEN_MATCH_SQL)
+                .collect(Collectors.joining(" UNION ALL "));
+        return "SELECT employee_id, SUM(score) AS score FROM (" + branches + ") m "
+                + "GROUP BY employee_id HAVING COUNT(*) = " + tokenCount;
+    }
+
+    private static List<Object> matchParams(List<String> queryTokens) {
+        List<Object> params = new ArrayList<>(queryTokens.size() * 2 + 2);
+        for (String token : queryTokens) {
+            params.add(token);
+            params.add(escapeLike(token) + "%");
+        }
+        return params;
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_")
+                .replace("[", "\\[");
+    }
+}
@@ -0,0 +1,267 @@
+package com.src.ap.repository;
+
+import com.src.ap.dto.analytics.HeadcountGroupResponse;
+import com.src.ap.dto.analytics.MonthlyMovementResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.time.YearMonth;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Pre-aggregated headcount rows in {@code dbo.employee_headcount} and
+ * {@code dbo.employee_movements}.
+ *
+ * <p>The key columns are NOT NULL so they can form the primary key; a missing branch or
+ * occupation is stored as 0 and a missing work status as ''. Deltas are applied with an
+ * UPDATE, falling back to an INSERT for a new key, and in key order so two writers touching
+ * the same rows always lock them in the same sequence.</p>
+ */
+@Repository
+@RequiredArgsConstructor
+public class HeadcountSummaryRepository {
+
+    public record HeadcountKey(Long branchId, Long occupationId, String workStatus) {
+    }
+
+    public record Movement(long hires, long terminations) {
+
+        public static final Movement NONE = new Movement(0, 0);
+
+        public Movement plus(Movement other) {
+            return new Movement(hires + other.hires, terminations + other.terminations);
+        }
+
+        public Movement minus(Movement other) {
+            return new Movement(hires - other.hires, terminations - other.terminations);
+        }
+
+        public boolean isZero() {
+            return hires == 0 && terminations == 0;
+        }
+    }
+
+    private static final Comparator<HeadcountKey> KEY_ORDER = Comparator
+            .comparingLong((HeadcountKey key) -> idOrZero(key.branchId()))
+            .thenComparingLong(key -> idOrZero(key.occupationId()))
+            .thenComparing(key -> statusOrEmpty(key.workStatus()));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void applyHeadcountDeltas(Map<HeadcountKey, Long> deltas) {
+        deltas.entrySet().stream()
+                .filter(entry -> entry.getValue() != 0)
+                .sorted(Map.Entry.comparingByKey(KEY_ORDER))
+                .forEach(entry -> applyHeadcountDelta(entry.getKey(), entry.getValue()));
+    }
+
+    public void applyMovementDeltas(Map<YearMonth, Movement> deltas) {
+        deltas.entrySet().stream()
+                .filter(entry -> !entry.getValue().isZero())
+                .sorted(Map.Entry.comparingByKey())
+                .forEach(entry -> applyMovementDelta(entry.getKey(), entry.getValue()));
+    }
+
+    /**
+     * Drops rows whose counts have gone back to zero.
+     */
+    public void deleteEmpty() {
+        jdbcTemplate.update("DELETE FROM dbo.employee_headcount WHERE headcount = 0");
+        jdbcTemplate.update("DELETE FROM dbo.employee_movements WHERE hires = 0 AND terminations = 0");
+    }
+
+    /**
+     * Takes exclusive table locks on both summary tables until the end of the transaction. Writers
+     * that have already applied a delta are waited for; writers that have not block on their delta
+     * until the transaction commits, so neither shows up on one side of a reconcile but not the other.
+     */
+    public void lockSummaries() {
+        jdbcTemplate.queryForList("SELECT TOP (1) 1 FROM dbo.employee_headcount WITH (TABLOCKX, HOLDLOCK)", Integer.class);
+        jdbcTemplate.queryForList("SELECT TOP (1) 1 FROM dbo.employee_movements WITH (TABLOCKX, HOLDLOCK)", Integer.class);
+    }
+
+    public Map<HeadcountKey, Long> findHeadcounts() {
+        return queryHeadcounts("""
+                SELECT branch_id, occupation_id, work_status, headcount
+                FROM dbo.employee_headcount
+                """);
+    }
+
+    /**
+     * Aggregates dbo.employees from scratch, for the reconcile.
+     */
+    public Map<HeadcountKey, Long> countHeadcounts() {
+        return queryHeadcounts("""
+                SELECT COALESCE(branch_id, 0) AS branch_id, COALESCE(occupation_id, 0) AS occupation_id,
+                       COALESCE(work_status, '') AS work_status, COUNT(*) AS headcount
+                FROM dbo.employees
+                GROUP BY COALESCE(branch_id, 0), COALESCE(occupation_id, 0), COALESCE(work_status, '')
+                """);
+    }
+
+    public Map<YearMonth, Movement> findMovements() {
+        Map<YearMonth, Movement> movements = new HashMap<>();
+        jdbcTemplate.query("SELECT month_start, hires, terminations FROM dbo.employee_movements", rs -> {
+            movements.put(YearMonth.from(rs.getDate("month_start").toLocalDate()),
+                    new Movement(rs.getLong("hires"), rs.getLong("terminations")));
+        });
+        return movements;
+    }
+
+    /**
+     * Aggregates hires and terminations per month from dbo.employees, for the reconcile.
+     */
+    public Map<YearMonth, Movement> countMovements() {
+        Map<YearMonth, Movement> movements = new HashMap<>();
+        jdbcTemplate.query("""
+                        SELECT YEAR(hire_dt) AS y, MONTH(hire_dt) AS m, COUNT(*) AS n
+                        FROM dbo.employees
+                        WHERE hire_dt IS NOT NULL
+                        GROUP BY YEAR(hire_dt), MONTH(hire_dt)
+                        """,
+                rs -> {
+                    movements.merge(YearMonth.of(rs.getInt("y"), rs.getInt("m")),
+                            new Movement(rs.getLong("n"), 0), Movement::plus);
+                });
+        jdbcTemplate.query("""
+                        SELECT YEAR(termination_dt) AS y, MONTH(termination_dt) AS m, COUNT(*) AS n
+                        FROM dbo.employees
+                        WHERE termination_dt IS NOT NULL
+                        GROUP BY YEAR(termination_dt), MONTH(termination_dt)
+                        """,
+                rs -> {
+                    movements.merge(YearMonth.of(rs.getInt("y"), rs.getInt("m")),
+                            new Movement(0, rs.getLong("n")), Movement::plus);
+                });
+        return movements;
+    }
+
+    public List<HeadcountGroupResponse> findByBranch() {
+        return jdbcTemplate.query("""
+                        SELECT h.branch_id AS id, b.name AS name, SUM(h.headcount) AS headcount
+                        FROM dbo.employee_headcount h
+                        LEFT JOIN dbo.branches b ON b.id = h.branch_id
+                        GROUP BY h.branch_id, b.name
+                        HAVING SUM(h.headcount) <> 0
+                        ORDER BY h.branch_id
+                        """,
+                (rs, rowNum) -> group(nullIfZero(rs.getLong("id")), rs.getString("name"), rs.getLong("headcount")));
+    }
+
+    public List<HeadcountGroupResponse> findByOccupation() {
+        return jdbcTemplate.query("""
+                        SELECT h.occupation_id AS id, o.name AS name, SUM(h.headcount) AS headcount
+                        FROM dbo.employee_headcount h
+                        LEFT JOIN dbo.occupations o ON o.id = h.occupation_id
+                        GROUP BY h.occupation_id, o.name
+                        HAVING SUM(h.headcount) <> 0
+                        ORDER BY h.occupation_id
+                        """,
+                (rs, rowNum) -> group(nullIfZero(rs.getLong("id")), rs.getString("name"), rs.getLong("headcount")));
+    }
+
+    public List<HeadcountGroupResponse> findByWorkStatus() {
+        return jdbcTemplate.query("""
+                        SELECT work_status, SUM(headcount) AS headcount
+                        FROM dbo.employee_headcount
+                        GROUP BY work_status
+                        HAVING SUM(headcount) <> 0
+                        ORDER BY work_status
+                        """,
+                (rs, rowNum) -> group(null, nullIfEmpty(rs.getString("work_status")), rs.getLong("headcount")));
+    }
+
+    public List<MonthlyMovementResponse> findMovements(YearMonth from, YearMonth to) {
+        return jdbcTemplate.query("""
+                        SELECT month_start, hires, terminations
+                        FROM dbo.employee_movements
+                        WHERE month_start BETWEEN ? AND ?
+                        ORDER BY month_start
+                        """,
+                (rs, rowNum) -> MonthlyMovementResponse.builder()
+                        .month(YearMonth.from(rs.getDate("month_start").toLocalDate()))
+                        .hires(rs.getLong("hires"))
+                        .terminations(rs.getLong("terminations"))
+                        .build(),
+                monthStart(from), monthStart(to));
+    }
+
+    private void applyHeadcountDelta(HeadcountKey key, long delta) {
+        Object[] keyArgs = {idOrZero(key.branchId()), idOrZero(key.occupationId()), statusOrEmpty(key.workStatus())};
+        String update = """
+                UPDATE dbo.employee_headcount SET headcount = headcount + ?
+                WHERE branch_id = ? AND occupation_id = ? AND work_status = ?
+                """;
+        if (jdbcTemplate.update(update, delta, keyArgs[0], keyArgs[1], keyArgs[2]) > 0) {
+            return;
+        }
+        try {
+            jdbcTemplate.update(
+                    "INSERT INTO dbo.employee_headcount (branch_id, occupation_id, work_status, headcount) VALUES (?, ?, ?, ?)",
+                    keyArgs[0], keyArgs[1], keyArgs[2], delta);
+        } catch (DuplicateKeyException e) {
+            // A concurrent writer created the row between our UPDATE and INSERT
+            jdbcTemplate.update(update, delta, keyArgs[0], keyArgs[1], keyArgs[2]);
+        }
+    }
+
+    private void applyMovementDelta(YearMonth month, Movement delta) {
+        String update = """
+                UPDATE dbo.employee_movements SET hires = hires + ?, terminations = terminations + ?
+                WHERE month_start = ?
+                """;
+        Date monthStart = monthStart(month);
+        if (jdbcTemplate.update(update, delta.hires(), delta.terminations(), monthStart) > 0) {
+            return;
+        }
+        try {
+            jdbcTemplate.update(
+                    "INSERT INTO dbo.employee_movements (month_start, hires, terminations) VALUES (?, ?, ?)",
+                    monthStart, delta.hires(), delta.terminations());
+        } catch (DuplicateKeyException e) {
+            jdbcTemplate.update(update, delta.hires(), delta.terminations(), monthStart);
+        }
+    }
+
+    private Map<HeadcountKey, Long> queryHeadcounts(String sql) {
+        Map<HeadcountKey, Long> headcounts = new HashMap<>();
+        jdbcTemplate.query(sql, rs -> {
+            HeadcountKey key = new HeadcountKey(
+                    nullIfZero(rs.getLong("branch_id")),
+                    nullIfZero(rs.getLong("occupation_id")),
+                    nullIfEmpty(rs.getString("work_status")));
+            headcounts.put(key, rs.getLong("headcount"));
+        });
+        return headcounts;
+    }
+
+    private static HeadcountGroupResponse group(Long id, String name, long headcount) {
+        return HeadcountGroupResponse.builder().id(id).name(name).headcount(headcount).build();
+    }
+
+    private static Date monthStart(YearMonth month) {
+        return Date.valueOf(month.atDay(1));
+    }
+
+    private static long idOrZero(Long id) {
+        return id != null ? id : 0L;
+    }
+
+    private static String statusOrEmpty(String status) {
+        return status != null ? status : "";
+    }
+
+    private static Long nullIfZero(long id) {
+        return id != 0 ? id : null;
+    }
+
+    private static String nullIfEmpty(String status) {
+        return status == null || status.isEmpty() ? null : status;
+    }
+}
@@ -0,0 +1,129 @@
+package com.src.ap.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Lease rows in {@code dbo.job_leases}, one per job and concurrency slot.
+ *
+ * <p>Leases expire on the database clock, so nodes with skewed clocks still agree on them. Each
+ * acquisition increments the row's fencing token; checkpoints and releases only apply while the
+ * token is unchanged, so a run whose lease was taken over can no longer write. The same clock
+ * decides whether a slot's last completed run is recent enough to skip the next one.</p>
+ */
+@Repository
+@RequiredArgsConstructor
+public class JobLeaseRepository {
+
+    public record Lease(String job, int slot, long fencingToken, String checkpoint) {
+    }
+
+    /**
+     * What a slot shows of its current or last run.
+     *
+     * @param leased   whether a run holds an unexpired lease
+     * @param lastRows rows of the last run, or of the current one so far while leased
+     */
+    public record SlotState(boolean leased, String checkpoint, LocalDateTime lastStartedAt,
+                            LocalDateTime lastFinishedAt, String lastOutcome, long lastRows) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Creates the slot rows a job needs; existing rows are left alone.
+     */
+    public void ensureSlots(String job, int concurrency) {
+        for (int slot = 0; slot < concurrency; slot++) {
+            try {
+                jdbcTemplate.update("INSERT INTO dbo.job_leases (job_name, slot, fencing_token) VALUES (?, ?, 0)",
+                        job, slot);
+            } catch (DuplicateKeyException e) {
+                // Created earlier or by another node
+            }
+        }
+    }
+
+    /**
+     * Takes the slot if it is free or its lease has expired, and its last run did not complete
+     * within the last {@code minIntervalMs}.
+     *
+     * @param owner unique per acquisition, used to read back the new token
+     */
+    public Optional<Lease> tryAcquire(String job, int slot, String owner, long leaseMs, long minIntervalMs) {
+        // DATEADD only takes an int amount
+        int updated = jdbcTemplate.update("""
+                        UPDATE dbo.job_leases
+                        SET owner = ?, lease_until = DATEADD(MILLISECOND, ?, CURRENT_TIMESTAMP),
+                            fencing_token = fencing_token + 1, last_started_at = CURRENT_TIMESTAMP, last_rows = 0
+                        WHERE job_name = ? AND slot = ? AND (lease_until IS NULL OR lease_until < CURRENT_TIMESTAMP)
+                          AND (last_outcome IS NULL OR last_outcome <> 'COMPLETED' OR last_finished_at IS NULL
+                               OR last_finished_at <= DATEADD(MILLISECOND, ?, CURRENT_TIMESTAMP))
+                        """,
+                owner, Math.toIntExact(leaseMs), job, slot, Math.toIntExact(-minIntervalMs));
+        if (updated == 0) {
+            return Optional.empty();
+        }
+        List<Lease> leases = jdbcTemplate.query(
+                "SELECT fencing_token, job_checkpoint FROM dbo.job_leases WHERE job_name = ? AND slot = ? AND owner = ?",
+                (rs, rowNum) -> new Lease(job, slot, rs.getLong("fencing_token"), rs.getString("job_checkpoint")),
+                job, slot, owner);
+        return leases.stream().findFirst();
+    }
+
+    /**
+     * Stores the checkpoint and the rows processed so far, and extends the lease.
+     *
+     * @return false if the lease has been taken over since it was acquired
+     */
+    public boolean checkpoint(Lease lease, String checkpoint, long rows, long leaseMs) {
+        return jdbcTemplate.update("""
+                        UPDATE dbo.job_leases
+                        SET job_checkpoint = ?, last_rows = ?,
+                            lease_until = DATEADD(MILLISECOND, ?, CURRENT_TIMESTAMP)
+                        WHERE job_name = ? AND slot = ? AND fencing_token = ?
+                        """,
+                checkpoint, rows, Math.toIntExact(leaseMs), lease.job(), lease.slot(), lease.fencingToken()) > 0;
+    }
+
+    /**
+     * Frees the slot and records the run, unless the lease has been taken over.
+     */
+    public void release(Lease lease, String outcome, long rows) {
+        jdbcTemplate.update("""
+                        UPDATE dbo.job_leases
+                        SET owner = NULL, lease_until = NULL, last_outcome = ?, last_rows = ?,
+                            last_finished_at = CURRENT_TIMESTAMP
+                        WHERE job_name = ? AND slot = ? AND fencing_token = ?
+                        """,
+                outcome, rows, lease.job(), lease.slot(), lease.fencingToken());
+    }
+
+    public Optional<SlotState> findSlot(String job, int slot) {
+        return jdbcTemplate.query("""
+                        SELECT CASE WHEN lease_until >= CURRENT_TIMESTAMP THEN 1 ELSE 0 END AS leased,
+                               job_checkpoint, last_started_at, last_finished_at, last_outcome, last_rows
+                        FROM dbo.job_leases
+                        WHERE job_name = ? AND slot = ?
+                        """,
+                (rs, rowNum) -> new SlotState(
+                        rs.getInt("leased") == 1,
+                        rs.getString("job_checkpoint"),
+                        toLocalDateTime(rs.getTimestamp("last_started_at")),
+                        toLocalDateTime(rs.getTimestamp("last_finished_at")),
+                        rs.getString("last_outcome"),
+                        rs.getLong("last_rows")),
+                job, slot).stream().findFirst();
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp value) {
+        return value != null ? value.toLocalDateTime() : null;
+    }
+}
@@ -6,16 +6,32 @@ import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.stereotype.Repository;
 
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
 import java.util.stream.Collectors;
 
+/**
+ * Reads Occupation audit history.
+ *
+ * <p>History lives in two tables: the hot {@code dbo.hg_occupations} written by the audit trigger,
+ * and {@code dbo.hg_occupations_archive} holding rows moved out by the archiver. Every query reads
+ * the hot table first and only touches the archive when the walk backwards through an occupation's
+ * history reaches it, i.e. the hot rows run out before the occupation's 'C' (create) row.</p>
+ */
 @Repository
 @RequiredArgsConstructor
 public class OccupationHistoryRepository {
 
-    private static final String HISTORY_SQL = """
-            SELECT
+    public static final String HOT_TABLE = "dbo.hg_occupations";
+    public static final String ARCHIVE_TABLE = "dbo.hg_occupations_archive";
+
+    private static final String COLUMNS = """
                 tx_id,
                 op,
                 id,
@@ -30,11 +46,44 @@ public class OccupationHistoryRepository {
                 Oupdated_at AS oupdated_at,
                 changed_at,
                 actor
-            FROM dbo.hg_occupations
+            """;
+
+    private static final String HISTORY_SQL = "SELECT" + COLUMNS + """
+            FROM %s
             WHERE id = ?
             ORDER BY changed_at DESC
             """;
 
+    private static final String HISTORY_PAGE_SQL = "SELECT TOP (?)" + COLUMNS + """
+            FROM %s
+            WHERE id = ? AND tx_id < ?
+            ORDER BY tx_id DESC
+            """;
+
+    private static final String LATEST_AT_OR_BEFORE_SQL = "SELECT TOP (1)" + COLUMNS + """
+            FROM %s
+            WHERE id = ? AND changed_at <= ?
+            ORDER BY changed_at DESC, tx_id DESC
+            """;
+
+    private static final String TRAIL_SQL = "SELECT" + COLUMNS + """
+            FROM %s
+            WHERE tx_id > ? AND tx_id <= ?
+            ORDER BY tx_id
+            """;
+
+    /**
+     * READCOMMITTEDLOCK makes the tail wait for in-flight audit inserts instead of reading past
+     * them, so a lower tx_id that commits late is never skipped by a cursor that already moved on.
+     */
+    private static final String TAIL_SQL = "SELECT TOP (?)" + COLUMNS + """
+            FROM dbo.hg_occupations WITH (READCOMMITTEDLOCK)
+            WHERE tx_id > ?
+            ORDER BY tx_id
+            """;
+
+    private static final String ARCHIVE_WATERMARK_SQL = "SELECT COALESCE(MAX(tx_id), 0) FROM " + ARCHIVE_TABLE;
+
     private final JdbcTemplate jdbcTemplate;
 
     private final RowMapper<OccupationHistoryResponse> rowMapper = (rs, rowNum) -> OccupationHistoryResponse.builder()
@@ -55,7 +104,31 @@ public class OccupationHistoryRepository {
             .build();
 
     public List<OccupationHistoryResponse> findByOccupationId(Long occupationId) {
-        return jdbcTemplate.query(HISTORY_SQL, rowMapper, occupationId);
+        List<OccupationHistoryResponse> hot = jdbcTemplate.query(HISTORY_SQL.formatted(HOT_TABLE), rowMapper, occupationId);
+        if (!reachesArchive(hot, currentArchiveWatermark())) {
+            return hot;
+        }
+
+        List<OccupationHistoryResponse> history = new ArrayList<>(hot);
+        history.addAll(jdbcTemplate.query(HISTORY_SQL.formatted(ARCHIVE_TABLE), rowMapper, occupationId));
+        return history;
+    }
+
+    /**
+     * Returns up to {@code limit} history rows with tx_id below {@code beforeTxId}, newest first.
+     * The archive is only queried when the hot table cannot fill the page.
+     */
+    public List<OccupationHistoryResponse> findPageByOccupationId(Long occupationId, Long beforeTxId, int limit) {
+        long cursor = beforeTxId != null ? beforeTxId : Long.MAX_VALUE;
+        List<OccupationHistoryResponse> page = new ArrayList<>(
+                jdbcTemplate.query(HISTORY_PAGE_SQL.formatted(HOT_TABLE), rowMapper, limit, occupationId, cursor));
+
+        if (page.size() < limit && reachesArchive(page, currentArchiveWatermark())) {
+            long archiveCursor = page.isEmpty() ? cursor : page.get(page.size() - 1).getTxId();
+            page.addAll(jdbcTemplate.query(HISTORY_PAGE_SQL.formatted(ARCHIVE_TABLE), rowMapper,
+                    limit - page.size(), occupationId, archiveCursor));
+        }
+        return page;
     }
 
     public Map<Long, List<OccupationHistoryResponse>> findByOccupationIds(List<Long> occupationIds) {
@@ -63,38 +136,123 @@ public class OccupationHistoryRepository {
             return Map.of();
         }
 
+        Map<Long, List<OccupationHistoryResponse>> histories = queryByIds(HOT_TABLE, occupationIds).stream()
+                .collect(Collectors.groupingBy(OccupationHistoryResponse::getId, LinkedHashMap::new, Collectors.toList()));
+
+        long watermark = currentArchiveWatermark();
+        if (watermark > 0) {
+            List<Long> archiveIds = occupationIds.stream()
+                    .filter(id -> reachesArchive(histories.getOrDefault(id, List.of()), watermark))
+                    .toList();
+            if (!archiveIds.isEmpty()) {
+                for (OccupationHistoryResponse row : queryByIds(ARCHIVE_TABLE, archiveIds)) {
+                    histories.computeIfAbsent(row.getId(), id -> new ArrayList<>()).add(row);
+                }
+            }
+        }
+        return histories;
+    }
+
+    /**
+     * Returns the newest history row of one occupation with changed_at at or before {@code asOf},
+     * falling back to the archive only when the hot table has nothing that old.
+     */
+    public Optional<OccupationHistoryResponse> findLatestAtOrBefore(Long occupationId, LocalDateTime asOf) {
+        Timestamp at = Timestamp.valueOf(asOf);
+        List<OccupationHistoryResponse> rows = jdbcTemplate.query(
+                LATEST_AT_OR_BEFORE_SQL.formatted(HOT_TABLE), rowMapper, occupationId, at);
+        if (rows.isEmpty() && currentArchiveWatermark() > 0) {
+            rows = jdbcTemplate.query(LATEST_AT_OR_BEFORE_SQL.formatted(ARCHIVE_TABLE), rowMapper, occupationId, at);
+        }
+        return rows.stream().findFirst();
+    }
+
+    /**
+     * Resolves the newest tx_id whose changed_at is at or before {@code asOf}; 0 if the trail
+     * has nothing that old.
+     */
+    public long findTxIdAtOrBefore(LocalDateTime asOf) {
+        Timestamp at = Timestamp.valueOf(asOf);
+        Long txId = jdbcTemplate.queryForObject(
+                "SELECT MAX(tx_id) FROM " + HOT_TABLE + " WHERE changed_at <= ?", Long.class, at);
+        if (txId == null && currentArchiveWatermark() > 0) {
+            txId = jdbcTemplate.queryForObject(
+                    "SELECT MAX(tx_id) FROM " + ARCHIVE_TABLE + " WHERE changed_at <= ?", Long.class, at);
+        }
+        return txId != null ? txId : 0L;
+    }
+
+    public long findLatestTxId() {
+        Long txId = jdbcTemplate.queryForObject("SELECT MAX(tx_id) FROM " + HOT_TABLE, Long.class);
+        return txId != null ? txId : currentArchiveWatermark();
+    }
+
+    /**
+     * Returns every history row with {@code afterTxId < tx_id <= uptoTxId} in tx_id order.
+     * The archive is only read when the range starts below the archive watermark; it is read
+     * after the hot table so a row moved mid-read shows up twice rather than not at all.
+     *
+     * <p>The hot table is read with READCOMMITTEDLOCK, like the tail: an audit insert in the range
+     * that has not committed yet is waited for instead of read past, so the trail up to
+     * {@code uptoTxId} is complete once returned and states built from it can be kept.</p>
+     */
+    public List<OccupationHistoryResponse> findTrail(long afterTxId, long uptoTxId) {
+        List<OccupationHistoryResponse> hot = jdbcTemplate.query(
+                TRAIL_SQL.formatted(HOT_TABLE + " WITH (READCOMMITTEDLOCK)"), rowMapper, afterTxId, uptoTxId);
+        if (afterTxId >= currentArchiveWatermark()) {
+            return hot;
+        }
+
+        Map<Long, OccupationHistoryResponse> byTxId = new TreeMap<>();
+        jdbcTemplate.query(TRAIL_SQL.formatted(ARCHIVE_TABLE), rowMapper, afterTxId, uptoTxId)
+                .forEach(row -> byTxId.put(row.getTxId(), row));
+        hot.forEach(row -> byTxId.put(row.getTxId(), row));
+        return new ArrayList<>(byTxId.values());
+    }
+
+    /**
+     * Returns up to {@code limit} hot-table rows with tx_id above {@code afterTxId}, oldest first.
+     * Used to tail the trail; new rows are never in the archive.
+     */
+    public List<OccupationHistoryResponse> findAfter(long afterTxId, int limit) {
+        return jdbcTemplate.query(TAIL_SQL, rowMapper, limit, afterTxId);
+    }
+
+    /**
+     * Highest tx_id currently in the archive; 0 while it is empty.
+     *
+     * <p>Read from the database on every call (a single seek at the end of the clustered key), so
+     * rows archived by any node are seen at once. Callers read it after the hot table: each archive
+     * batch moves its rows in one statement, so a row missing from the hot read is already below
+     * the watermark read after it.</p>
+     */
+    public long currentArchiveWatermark() {
+        Long watermark = jdbcTemplate.queryForObject(ARCHIVE_WATERMARK_SQL, Long.class);
+        return watermark != null ? watermark : 0L;
+    }
+
+    private List<OccupationHistoryResponse> queryByIds(String table, List<Long> occupationIds) {
         String placeholders = occupationIds.stream()
                 .map(id -> "?")
                 .collect(Collectors.joining(", "));
 
-        String sql = """
-                SELECT
-                    tx_id,
-                    op,
-                    id,
-                    Oid AS oid,
-                    name,
-                    Oname AS oname,
-                    description,
-                    Odescription AS odescription,
-                    created_at,
-                    Ocreated_at AS ocreated_at,
-                    updated_at,
-                    Oupdated_at AS oupdated_at,
-                    changed_at,
-                    actor
-                FROM dbo.hg_occupations
+        String sql = "SELECT" + COLUMNS + """
+                FROM %s
                 WHERE id IN (%s)
                 ORDER BY id, changed_at DESC
-                """.formatted(placeholders);
+                """.formatted(table, placeholders);
 
-        List<OccupationHistoryResponse> allHistories = jdbcTemplate.query(
-                sql,
-                rowMapper,
-                occupationIds.toArray()
-        );
+        return jdbcTemplate.query(sql, rowMapper, occupationIds.toArray());
+    }
 
-        return allHistories.stream()
-                .collect(Collectors.groupingBy(OccupationHistoryResponse::getId));
+    /**
+     * An occupation's history always begins with its 'C' row. If the oldest hot row read so far
+     * is not that row, older entries can only be in the archive.
+     */
+    private static boolean reachesArchive(List<OccupationHistoryResponse> newestFirst, long watermark) {
+        if (!newestFirst.isEmpty() && "C".equals(newestFirst.get(newestFirst.size() - 1).getOp())) {
+            return false;
+        }
+        return watermark > 0;
     }
 }
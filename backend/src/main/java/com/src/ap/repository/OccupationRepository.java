@@ -1,11 +1,15 @@
 package com.src.ap.repository;
 
+import com.src.ap.entity.CacheRegions;
 import com.src.ap.entity.Occupation;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -15,7 +19,16 @@ import java.util.Optional;
 @Repository
 public interface OccupationRepository extends JpaRepository<Occupation, Long>, JpaSpecificationExecutor<Occupation> {
     Optional<Occupation> findByName(String name);
-    boolean existsByName(String name);
+
+    /**
+     * The full catalogue for the /list endpoint, served from the query cache.
+     */
+    @Override
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.REFERENCE_QUERIES)
+    })
+    List<Occupation> findAll();
 
     @Query("SELECT o FROM Occupation o WHERE " +
            "LOWER(o.name) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
@@ -28,6 +41,10 @@ public interface OccupationRepository extends JpaRepository<Occupation, Long>, J
      *
      * @return list of distinct occupation names, sorted alphabetically
      */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.REFERENCE_QUERIES)
+    })
     @Query("SELECT DISTINCT o.name FROM Occupation o WHERE o.name IS NOT NULL ORDER BY o.name")
     List<String> findDistinctNames();
 }
\ No newline at end of file
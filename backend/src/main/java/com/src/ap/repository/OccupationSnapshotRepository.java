@@ -0,0 +1,103 @@
+package com.src.ap.repository;
+
+import com.src.ap.audit.OccupationState;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Persisted full snapshots of the Occupation catalogue, keyed by the hg_occupations tx_id
+ * they were reconstructed at.
+ */
+@Repository
+@RequiredArgsConstructor
+public class OccupationSnapshotRepository {
+
+    public record SnapshotHeader(long snapshotId, long txId) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public Optional<SnapshotHeader> findLatestAtOrBefore(long txId) {
+        List<SnapshotHeader> headers = jdbcTemplate.query("""
+                        SELECT TOP (1) snapshot_id, tx_id
+                        FROM dbo.hg_occupations_snapshots
+                        WHERE tx_id <= ?
+                        ORDER BY tx_id DESC
+                        """,
+                (rs, rowNum) -> new SnapshotHeader(rs.getLong("snapshot_id"), rs.getLong("tx_id")),
+                txId);
+        return headers.stream().findFirst();
+    }
+
+    public long findLatestTxId() {
+        Long txId = jdbcTemplate.queryForObject(
+                "SELECT COALESCE(MAX(tx_id), 0) FROM dbo.hg_occupations_snapshots", Long.class);
+        return txId != null ? txId : 0L;
+    }
+
+    public Map<Long, OccupationState> findRows(long snapshotId) {
+        Map<Long, OccupationState> rows = new HashMap<>();
+        jdbcTemplate.query("""
+                        SELECT id, name, description, created_at, updated_at
+                        FROM dbo.hg_occupations_snapshot_rows
+                        WHERE snapshot_id = ?
+                        """,
+                rs -> {
+                    Timestamp createdAt = rs.getTimestamp("created_at");
+                    Timestamp updatedAt = rs.getTimestamp("updated_at");
+                    OccupationState state = new OccupationState(
+                            rs.getLong("id"),
+                            rs.getString("name"),
+                            rs.getString("description"),
+                            createdAt != null ? createdAt.toLocalDateTime() : null,
+                            updatedAt != null ? updatedAt.toLocalDateTime() : null);
+                    rows.put(state.id(), state);
+                },
+                snapshotId);
+        return rows;
+    }
+
+    @Transactional
+    public long save(long txId, Collection<OccupationState> rows) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(
+                    "INSERT INTO dbo.hg_occupations_snapshots (tx_id, row_count) VALUES (?, ?)",
+                    new String[]{"snapshot_id"});
+            ps.setLong(1, txId);
+            ps.setInt(2, rows.size());
+            return ps;
+        }, keyHolder);
+        long snapshotId = keyHolder.getKey().longValue();
+
+        List<Object[]> batch = new ArrayList<>(rows.size());
+        for (OccupationState row : rows) {
+            batch.add(new Object[]{
+                    snapshotId,
+                    row.id(),
+                    row.name(),
+                    row.description(),
+                    row.createdAt() != null ? Timestamp.valueOf(row.createdAt()) : null,
+                    row.updatedAt() != null ? Timestamp.valueOf(row.updatedAt()) : null
+            });
+        }
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO dbo.hg_occupations_snapshot_rows (snapshot_id, id, name, description, created_at, updated_at)
+                VALUES (?, ?, ?, ?, ?, ?)
+                """, batch);
+        return snapshotId;
+    }
+}
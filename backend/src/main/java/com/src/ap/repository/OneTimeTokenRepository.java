@@ -4,8 +4,12 @@ import com.src.ap.entity.OneTimeToken;
 import com.src.ap.entity.TokenType;
 import com.src.ap.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -44,4 +48,18 @@ public interface OneTimeTokenRepository extends JpaRepository<OneTimeToken, Long
      * @return List of matching tokens
      */
     List<OneTimeToken> findByUserAndTypeAndUsed(User user, TokenType type, boolean used);
+
+    /**
+     * Deletes up to {@code limit} used tokens created before the cutoff.
+     *
+     * @param cutoff tokens created before this are deleted
+     * @param limit  the most tokens to delete in one statement
+     * @return the number of tokens deleted
+     */
+    @Modifying
+    @Query(value = """
+            DELETE FROM dbo.one_time_tokens
+            WHERE id IN (SELECT TOP (:limit) id FROM dbo.one_time_tokens WHERE used = 1 AND created_at < :cutoff)
+            """, nativeQuery = true)
+    int deleteUsedCreatedBefore(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
 }
@@ -0,0 +1,65 @@
+package com.src.ap.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Hands out entity ids to JDBC write paths from the same sequences Hibernate uses.
+ *
+ * <p>Every id sequence increments by {@link #ALLOCATION_SIZE} and is read with pooled-lo
+ * semantics, like the entities' {@code @SequenceGenerator}s: one {@code NEXT VALUE FOR} reserves
+ * the block starting at the returned value. Blocks reserved here and by Hibernate never
+ * overlap, so ids from both can be mixed in the same table.</p>
+ */
+@Repository
+@RequiredArgsConstructor
+public class PooledIdAllocator {
+
+    /**
+     * Must match the sequences' INCREMENT BY and the entities' allocationSize.
+     */
+    public static final int ALLOCATION_SIZE = 50;
+
+    public static final String EMPLOYEES_SEQUENCE = "employees_seq";
+
+    private static final class Block {
+        private long next;
+        private long end;
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final Map<String, Block> blocks = new HashMap<>();
+
+    /**
+     * Held across the sequence query; {@code synchronized} would pin a virtual thread while it waits.
+     */
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /**
+     * Returns {@code count} unused ids from {@code sequence}, taking new blocks as needed.
+     */
+    public long[] allocate(String sequence, int count) {
+        lock.lock();
+        try {
+            Block block = blocks.computeIfAbsent(sequence, name -> new Block());
+            long[] ids = new long[count];
+            for (int i = 0; i < count; i++) {
+                if (block.next == block.end) {
+                    Long low = jdbcTemplate.queryForObject("SELECT NEXT VALUE FOR dbo." + sequence, Long.class);
+                    block.next = low;
+                    block.end = low + ALLOCATION_SIZE;
+                }
+                ids[i] = block.next++;
+            }
+            return ids;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,223 @@
+package com.src.ap.search;
+
+import com.src.ap.util.TextNormalizer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Compact, diacritic-folded prefix index over the labels of one entity type.
+ *
+ * <p>Every label is stored under its folded form and under the folded suffixes starting at its
+ * next few words, so "an" finds "Nguyễn Văn An". Keys live in an immutable sorted base: one UTF-8
+ * byte array plus offsets and ids, roughly the size of the keys themselves, searched by binary
+ * search. Writes go to a small sorted delta, and ids whose base entries are stale are masked;
+ * once the delta grows past a fraction of the base, the base is rebuilt from the live labels.</p>
+ *
+ * <p>Reads are lock-free against an immutable snapshot reference; writes are serialized.</p>
+ */
+final class PrefixTable {
+
+    record Suggestion(long id, String label) {
+    }
+
+    private static final int MAX_WORD_STARTS = 3;
+    private static final int MAX_KEY_LENGTH = 64;
+    private static final int MIN_COMPACTION_THRESHOLD = 1024;
+    private static final char ID_SEPARATOR = '\u0000';
+
+    private record Base(byte[] data, int[] offsets, long[] ids) {
+
+        static final Base EMPTY = new Base(new byte[0], new int[]{0}, new long[0]);
+
+        int size() {
+            return ids.length;
+        }
+
+        int compareKey(int index, byte[] probe) {
+            return Arrays.compareUnsigned(data, offsets[index], offsets[index + 1], probe, 0, probe.length);
+        }
+
+        boolean keyStartsWith(int index, byte[] prefix) {
+            int length = offsets[index + 1] - offsets[index];
+            return length >= prefix.length
+                    && Arrays.equals(data, offsets[index], offsets[index] + prefix.length, prefix, 0, prefix.length);
+        }
+
+        String key(int index) {
+            return new String(data, offsets[index], offsets[index + 1] - offsets[index], StandardCharsets.UTF_8);
+        }
+    }
+
+    /**
+     * @param base    compacted keys
+     * @param delta   keys written since the base was built, as "key\0id" to keep them unique
+     * @param masked  ids whose base keys are out of date (updated or deleted since)
+     */
+    private record Snapshot(Base base, ConcurrentSkipListMap<String, Long> delta, Set<Long> masked) {
+    }
+
+    private record Candidate(String key, long id) {
+    }
+
+    private final Map<Long, String> labels = new ConcurrentHashMap<>();
+    private volatile Snapshot snapshot = new Snapshot(Base.EMPTY, new ConcurrentSkipListMap<>(), ConcurrentHashMap.newKeySet());
+
+    /**
+     * Replaces the whole table with the given labels.
+     */
+    synchronized void load(Map<Long, String> entries) {
+        labels.clear();
+        labels.putAll(entries);
+        compact();
+    }
+
+    synchronized void put(long id, String label) {
+        Snapshot current = snapshot;
+        String previous = labels.put(id, label);
+        if (previous != null) {
+            keysFor(previous).forEach(key -> current.delta().remove(deltaKey(key, id)));
+        }
+        current.masked().add(id);
+        keysFor(label).forEach(key -> current.delta().put(deltaKey(key, id), id));
+        compactIfNeeded();
+    }
+
+    synchronized void remove(long id) {
+        Snapshot current = snapshot;
+        String previous = labels.remove(id);
+        if (previous != null) {
+            keysFor(previous).forEach(key -> current.delta().remove(deltaKey(key, id)));
+        }
+        current.masked().add(id);
+        compactIfNeeded();
+    }
+
+    int size() {
+        return labels.size();
+    }
+
+    /**
+     * Returns up to {@code limit} entries with a key starting with the folded query, in key order.
+     */
+    List<Suggestion> lookup(String query, int limit) {
+        Snapshot current = snapshot;
+        String prefix = String.join(" ", TextNormalizer.tokenize(query));
+        List<Candidate> candidates = new ArrayList<>(limit * 2);
+
+        // Top-k of each sorted source; the overall top-k is within their union.
+        byte[] probe = prefix.getBytes(StandardCharsets.UTF_8);
+        Base base = current.base();
+        Set<Long> fromBase = new LinkedHashSet<>();
+        for (int i = lowerBound(base, probe); i < base.size() && fromBase.size() < limit && base.keyStartsWith(i, probe); i++) {
+            long id = base.ids()[i];
+            if (!current.masked().contains(id) && fromBase.add(id)) {
+                candidates.add(new Candidate(base.key(i), id));
+            }
+        }
+
+        Set<Long> fromDelta = new LinkedHashSet<>();
+        for (Map.Entry<String, Long> entry : current.delta().subMap(prefix, true, prefix + Character.MAX_VALUE, false).entrySet()) {
+            if (fromDelta.size() >= limit) {
+                break;
+            }
+            if (fromDelta.add(entry.getValue())) {
+                String key = entry.getKey();
+                candidates.add(new Candidate(key.substring(0, key.indexOf(ID_SEPARATOR)), entry.getValue()));
+            }
+        }
+
+        candidates.sort(Comparator.comparing(Candidate::key).thenComparingLong(Candidate::id));
+        Set<Long> seen = new LinkedHashSet<>();
+        List<Suggestion> suggestions = new ArrayList<>(limit);
+        for (Candidate candidate : candidates) {
+            if (suggestions.size() >= limit) {
+                break;
+            }
+            String label = labels.get(candidate.id());
+            if (label != null && seen.add(candidate.id())) {
+                suggestions.add(new Suggestion(candidate.id(), label));
+            }
+        }
+        return suggestions;
+    }
+
+    static List<String> keysFor(String label) {
+        List<String> tokens = TextNormalizer.tokenize(label);
+        List<String> keys = new ArrayList<>(MAX_WORD_STARTS);
+        for (int start = 0; start < Math.min(tokens.size(), MAX_WORD_STARTS); start++) {
+            String key = String.join(" ", tokens.subList(start, tokens.size()));
+            keys.add(key.length() > MAX_KEY_LENGTH ? key.substring(0, MAX_KEY_LENGTH) : key);
+        }
+        return keys;
+    }
+
+    private void compactIfNeeded() {
+        Snapshot current = snapshot;
+        int threshold = Math.max(MIN_COMPACTION_THRESHOLD, current.base().size() / 8);
+        if (current.delta().size() + current.masked().size() > threshold) {
+            compact();
+        }
+    }
+
+    /**
+     * Rebuilds the base from the live labels and starts an empty delta, published as one snapshot.
+     */
+    private void compact() {
+        List<byte[]> keys = new ArrayList<>(labels.size() * 2);
+        List<Long> ids = new ArrayList<>(labels.size() * 2);
+        labels.forEach((id, label) -> keysFor(label).forEach(key -> {
+            keys.add(key.getBytes(StandardCharsets.UTF_8));
+            ids.add(id);
+        }));
+
+        Integer[] order = new Integer[keys.size()];
+        Arrays.setAll(order, i -> i);
+        Arrays.sort(order, (a, b) -> {
+            int byKey = Arrays.compareUnsigned(keys.get(a), keys.get(b));
+            return byKey != 0 ? byKey : Long.compare(ids.get(a), ids.get(b));
+        });
+
+        int totalBytes = keys.stream().mapToInt(key -> key.length).sum();
+        byte[] data = new byte[totalBytes];
+        int[] offsets = new int[order.length + 1];
+        long[] sortedIds = new long[order.length];
+        int position = 0;
+        for (int i = 0; i < order.length; i++) {
+            byte[] key = keys.get(order[i]);
+            offsets[i] = position;
+            System.arraycopy(key, 0, data, position, key.length);
+            position += key.length;
+            sortedIds[i] = ids.get(order[i]);
+        }
+        offsets[order.length] = position;
+
+        snapshot = new Snapshot(new Base(data, offsets, sortedIds), new ConcurrentSkipListMap<>(), ConcurrentHashMap.newKeySet());
+    }
+
+    private static int lowerBound(Base base, byte[] probe) {
+        int low = 0;
+        int high = base.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (base.compareKey(mid, probe) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static String deltaKey(String key, long id) {
+        return key + ID_SEPARATOR + id;
+    }
+}
@@ -0,0 +1,23 @@
+package com.src.ap.search;
+
+import com.src.ap.event.EntityType;
+
+/**
+ * One entity as stored in the search index.
+ *
+ * @param type     entity type
+ * @param id       entity id
+ * @param title    primary display text, weighted highest in scoring
+ * @param subtitle secondary display text returned with hits
+ * @param text     everything else that should be searchable
+ */
+public record SearchDocument(EntityType type, long id, String title, String subtitle, String text) {
+
+    public String uid() {
+        return uid(type, id);
+    }
+
+    public static String uid(EntityType type, long id) {
+        return type.name() + ":" + id;
+    }
+}
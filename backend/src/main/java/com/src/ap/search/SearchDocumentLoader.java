@@ -0,0 +1,141 @@
+package com.src.ap.search;
+
+import com.src.ap.event.EntityType;
+import com.src.ap.util.TextNormalizer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Reads the columns each entity contributes to the search index straight from the database.
+ */
+@Component
+@RequiredArgsConstructor
+public class SearchDocumentLoader {
+
+    private static final String OCCUPATION_SQL = """
+            SELECT o.id, o.name, o.description
+            FROM dbo.occupations o
+            """;
+
+    private static final String BRANCH_SQL = """
+            SELECT b.id, b.name, b.address, b.city, b.country
+            FROM dbo.branches b
+            """;
+
+    private static final String EMPLOYEE_SQL = """
+            SELECT e.id, e.full_name, e.email, e.phone, e.contract_id,
+                   o.name AS occupation_name, b.name AS branch_name
+            FROM dbo.employees e
+            LEFT JOIN dbo.occupations o ON o.id = e.occupation_id
+            LEFT JOIN dbo.branches b ON b.id = e.branch_id
+            """;
+
+    private static final RowMapper<SearchDocument> OCCUPATION_MAPPER = (rs, rowNum) -> new SearchDocument(
+            EntityType.OCCUPATION,
+            rs.getLong("id"),
+            rs.getString("name"),
+            rs.getString("description"),
+            rs.getString("description"));
+
+    private static final RowMapper<SearchDocument> BRANCH_MAPPER = (rs, rowNum) -> {
+        String location = join(", ", rs.getString("address"), rs.getString("city"), rs.getString("country"));
+        return new SearchDocument(EntityType.BRANCH, rs.getLong("id"), rs.getString("name"), location, location);
+    };
+
+    private static final RowMapper<SearchDocument> EMPLOYEE_MAPPER = (rs, rowNum) -> {
+        String email = rs.getString("email");
+        String phone = rs.getString("phone");
+        String occupation = rs.getString("occupation_name");
+        String branch = rs.getString("branch_name");
+        return new SearchDocument(
+                EntityType.EMPLOYEE,
+                rs.getLong("id"),
+                rs.getString("full_name"),
+                join(" · ", email, occupation, branch),
+                join(" ", email, phone, TextNormalizer.digits(phone), rs.getString("contract_id"), occupation, branch));
+    };
+
+    private static final Map<EntityType, String> SQL = Map.of(
+            EntityType.OCCUPATION, OCCUPATION_SQL,
+            EntityType.BRANCH, BRANCH_SQL,
+            EntityType.EMPLOYEE, EMPLOYEE_SQL);
+
+    private static final Map<EntityType, String> ALIAS = Map.of(
+            EntityType.OCCUPATION, "o",
+            EntityType.BRANCH, "b",
+            EntityType.EMPLOYEE, "e");
+
+    private static final Map<EntityType, RowMapper<SearchDocument>> MAPPERS = Map.of(
+            EntityType.OCCUPATION, OCCUPATION_MAPPER,
+            EntityType.BRANCH, BRANCH_MAPPER,
+            EntityType.EMPLOYEE, EMPLOYEE_MAPPER);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public Optional<SearchDocument> load(EntityType type, long id) {
+        return jdbcTemplate.query(SQL.get(type) + "WHERE " + ALIAS.get(type) + ".id = ?", MAPPERS.get(type), id)
+                .stream()
+                .findFirst();
+    }
+
+    /**
+     * Walks every row of one entity type in id order, handing documents over one batch at a time.
+     */
+    public void forEachBatch(EntityType type, int batchSize, Consumer<List<SearchDocument>> consumer) {
+        String alias = ALIAS.get(type);
+        walk(SQL.get(type) + "WHERE " + alias + ".id > ? ORDER BY " + alias + ".id "
+                + "OFFSET 0 ROWS FETCH NEXT ? ROWS ONLY", MAPPERS.get(type), null, batchSize, consumer);
+    }
+
+    /**
+     * Walks the documents of the employees that embed the given occupation's or branch's name,
+     * in id order, loading each batch with one joined query.
+     */
+    public void forEachEmployeeBatchReferencing(EntityType type, long id, int batchSize,
+                                                Consumer<List<SearchDocument>> consumer) {
+        String column = switch (type) {
+            case OCCUPATION -> "occupation_id";
+            case BRANCH -> "branch_id";
+            case EMPLOYEE -> throw new IllegalArgumentException("Employees are not referenced by employees");
+        };
+        walk(EMPLOYEE_SQL + "WHERE e." + column + " = ? AND e.id > ? ORDER BY e.id "
+                + "OFFSET 0 ROWS FETCH NEXT ? ROWS ONLY", EMPLOYEE_MAPPER, id, batchSize, consumer);
+    }
+
+    /**
+     * Keyset walk over {@code sql}, whose parameters are the optional {@code filter}, the last id
+     * seen and the batch size.
+     */
+    private void walk(String sql, RowMapper<SearchDocument> mapper, Object filter, int batchSize,
+                      Consumer<List<SearchDocument>> consumer) {
+        long lastId = 0;
+        while (true) {
+            Object[] params = filter != null
+                    ? new Object[]{filter, lastId, batchSize}
+                    : new Object[]{lastId, batchSize};
+            List<SearchDocument> batch = jdbcTemplate.query(sql, mapper, params);
+            if (batch.isEmpty()) {
+                return;
+            }
+            consumer.accept(batch);
+            lastId = batch.get(batch.size() - 1).id();
+        }
+    }
+
+    private static String join(String separator, String... parts) {
+        return Stream.of(parts)
+                .filter(Objects::nonNull)
+                .filter(part -> !part.isBlank())
+                .collect(Collectors.joining(separator));
+    }
+}
@@ -0,0 +1,297 @@
+package com.src.ap.search;
+
+import com.src.ap.config.SearchIndexConfig;
+import com.src.ap.event.EntityType;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.LowerCaseFilter;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.Tokenizer;
+import org.apache.lucene.analysis.miscellaneous.ASCIIFoldingFilter;
+import org.apache.lucene.analysis.standard.StandardTokenizer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.LongPoint;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.ControlledRealTimeReopenThread;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.PrefixQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.store.MMapDirectory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Embedded Lucene index over occupations, branches and employees, kept in a memory-mapped
+ * directory on local disk.
+ *
+ * <p>Writes go straight to the {@link IndexWriter}; a near-real-time reopen thread makes them
+ * searchable within {@code app.search.max-stale-ms} without a commit. Commits only make the
+ * index durable across restarts and run periodically. Text is lower-cased and ASCII-folded at
+ * index and query time, so "Nguyen" finds "Nguyễn".</p>
+ *
+ * <p>Every document carries the generation of the rebuild (or live update) that wrote it. A
+ * rebuild rewrites every document under a new generation and then deletes whatever is older,
+ * which removes entities deleted while the node was down without ever emptying the index.</p>
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SearchIndex {
+
+    public record Hit(EntityType type, long id, String title, String subtitle, float score) {
+    }
+
+    public record Result(long total, List<Hit> hits) {
+    }
+
+    static final String UID = "uid";
+    static final String TYPE = "type";
+    static final String ID = "id";
+    static final String TITLE = "title";
+    static final String SUBTITLE = "subtitle";
+    static final String BODY = "body";
+    static final String GENERATION = "generation";
+
+    private static final int MAX_QUERY_TERMS = 8;
+
+    private final SearchIndexConfig config;
+
+    private final Analyzer analyzer = new FoldingAnalyzer();
+    private MMapDirectory directory;
+    private IndexWriter writer;
+    private SearcherManager searcherManager;
+    private ControlledRealTimeReopenThread<IndexSearcher> reopenThread;
+    private volatile long generation;
+
+    @PostConstruct
+    public void open() throws IOException {
+        Path path = Path.of(config.getIndexDir()).toAbsolutePath();
+        Files.createDirectories(path);
+        directory = new MMapDirectory(path);
+        writer = new IndexWriter(directory, new IndexWriterConfig(analyzer)
+                .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND));
+        searcherManager = new SearcherManager(writer, null);
+
+        double maxStaleSec = config.getMaxStaleMs() / 1000.0;
+        reopenThread = new ControlledRealTimeReopenThread<>(writer, searcherManager, maxStaleSec, Math.min(0.025, maxStaleSec));
+        reopenThread.setName("search-index-reopen");
+        reopenThread.setDaemon(true);
+        reopenThread.start();
+
+        generation = System.currentTimeMillis();
+        log.info("Opened search index at {} ({} documents)", path, writer.getDocStats().numDocs);
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        reopenThread.close();
+        searcherManager.close();
+        writer.commit();
+        writer.close();
+        directory.close();
+    }
+
+    public void upsert(SearchDocument document) {
+        upsert(List.of(document), generation);
+    }
+
+    public void upsert(Collection<SearchDocument> documents) {
+        upsert(documents, generation);
+    }
+
+    public void upsert(Collection<SearchDocument> documents, long documentGeneration) {
+        try {
+            for (SearchDocument document : documents) {
+                writer.updateDocument(new Term(UID, document.uid()), toLuceneDocument(document, documentGeneration));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to update search index", e);
+        }
+    }
+
+    public void delete(EntityType type, long id) {
+        try {
+            writer.deleteDocuments(new Term(UID, SearchDocument.uid(type, id)));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to delete from search index", e);
+        }
+    }
+
+    public boolean isEmpty() {
+        return writer.getDocStats().numDocs == 0;
+    }
+
+    /**
+     * Starts a rebuild: live updates from now on are written under the returned generation,
+     * so {@link #finishRebuild(long)} will keep them.
+     */
+    public synchronized long beginRebuild() {
+        generation = Math.max(System.currentTimeMillis(), generation + 1);
+        return generation;
+    }
+
+    /**
+     * Drops every document not rewritten since {@link #beginRebuild()} and commits.
+     */
+    public void finishRebuild(long rebuildGeneration) {
+        try {
+            writer.deleteDocuments(LongPoint.newRangeQuery(GENERATION, Long.MIN_VALUE, rebuildGeneration - 1));
+            writer.commit();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to finish search index rebuild", e);
+        }
+    }
+
+    /**
+     * Makes every write so far visible to searches immediately instead of within the stale bound.
+     */
+    void refresh() {
+        try {
+            searcherManager.maybeRefreshBlocking();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.search.commit-interval-ms:60000}")
+    public void commit() throws IOException {
+        if (writer.hasUncommittedChanges()) {
+            writer.commit();
+        }
+    }
+
+    /**
+     * Every word of the query must match, either exactly or as a prefix, in the title or the
+     * body. Exact and title matches score higher.
+     */
+    public Result search(String queryText, Collection<EntityType> types, int limit) {
+        List<String> terms = analyze(queryText);
+        if (terms.isEmpty()) {
+            return new Result(0, List.of());
+        }
+
+        BooleanQuery.Builder query = new BooleanQuery.Builder();
+        for (String term : terms) {
+            query.add(termQuery(term), BooleanClause.Occur.MUST);
+        }
+        if (types != null && !types.isEmpty()) {
+            BooleanQuery.Builder typeFilter = new BooleanQuery.Builder();
+            types.forEach(type -> typeFilter.add(new TermQuery(new Term(TYPE, type.name())), BooleanClause.Occur.SHOULD));
+            query.add(typeFilter.build(), BooleanClause.Occur.FILTER);
+        }
+
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                TopDocs topDocs = searcher.search(query.build(), limit);
+                StoredFields storedFields = searcher.storedFields();
+                List<Hit> hits = new ArrayList<>(topDocs.scoreDocs.length);
+                for (ScoreDoc scoreDoc : topDocs.scoreDocs) {
+                    Document document = storedFields.document(scoreDoc.doc);
+                    hits.add(new Hit(
+                            EntityType.valueOf(document.get(TYPE)),
+                            document.getField(ID).numericValue().longValue(),
+                            document.get(TITLE),
+                            document.get(SUBTITLE),
+                            scoreDoc.score));
+                }
+                return new Result(topDocs.totalHits.value, hits);
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Search failed", e);
+        }
+    }
+
+    private static Query termQuery(String term) {
+        return new BooleanQuery.Builder()
+                .add(new BoostQuery(new TermQuery(new Term(TITLE, term)), 4f), BooleanClause.Occur.SHOULD)
+                .add(new BoostQuery(new TermQuery(new Term(BODY, term)), 2f), BooleanClause.Occur.SHOULD)
+                .add(new BoostQuery(new PrefixQuery(new Term(TITLE, term)), 1.5f), BooleanClause.Occur.SHOULD)
+                .add(new PrefixQuery(new Term(BODY, term)), BooleanClause.Occur.SHOULD)
+                .build();
+    }
+
+    private List<String> analyze(String text) {
+        List<String> terms = new ArrayList<>();
+        if (text == null) {
+            return terms;
+        }
+        try (TokenStream stream = analyzer.tokenStream(BODY, text)) {
+            CharTermAttribute term = stream.addAttribute(CharTermAttribute.class);
+            stream.reset();
+            while (stream.incrementToken() && terms.size() < MAX_QUERY_TERMS) {
+                if (!terms.contains(term.toString())) {
+                    terms.add(term.toString());
+                }
+            }
+            stream.end();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return terms;
+    }
+
+    private static Document toLuceneDocument(SearchDocument source, long documentGeneration) {
+        Document document = new Document();
+        document.add(new StringField(UID, source.uid(), Field.Store.NO));
+        document.add(new StringField(TYPE, source.type().name(), Field.Store.YES));
+        document.add(new StoredField(ID, source.id()));
+        document.add(new LongPoint(GENERATION, documentGeneration));
+        if (source.title() != null) {
+            document.add(new TextField(TITLE, source.title(), Field.Store.YES));
+        }
+        if (source.subtitle() != null) {
+            document.add(new StoredField(SUBTITLE, source.subtitle()));
+        }
+        if (source.text() != null) {
+            document.add(new TextField(BODY, source.text(), Field.Store.NO));
+        }
+        return document;
+    }
+
+    /**
+     * Standard tokenization, lower-cased and folded to ASCII (Vietnamese diacritics and đ included).
+     */
+    private static final class FoldingAnalyzer extends Analyzer {
+
+        @Override
+        protected TokenStreamComponents createComponents(String fieldName) {
+            Tokenizer tokenizer = new StandardTokenizer();
+            TokenStream stream = new ASCIIFoldingFilter(new LowerCaseFilter(tokenizer));
+            return new TokenStreamComponents(tokenizer, stream);
+        }
+
+        @Override
+        protected TokenStream normalize(String fieldName, TokenStream in) {
+            return new ASCIIFoldingFilter(new LowerCaseFilter(in));
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.src.ap.search;
+
+import com.src.ap.config.SearchIndexConfig;
+import com.src.ap.datasource.Bulkhead;
+import com.src.ap.datasource.Workload;
+import com.src.ap.datasource.WorkloadContext;
+import com.src.ap.event.EntityChangeEvent;
+import com.src.ap.event.EntityType;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Keeps the {@link SearchIndex} in step with the database: near-real-time from committed service
+ * writes, and through full background rebuilds on startup and nightly.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SearchIndexUpdater {
+
+    private final SearchIndex searchIndex;
+    private final SearchDocumentLoader searchDocumentLoader;
+    private final SearchIndexConfig config;
+
+    private final AtomicBoolean rebuilding = new AtomicBoolean(false);
+    private final ExecutorService executor =
+            Executors.newSingleThreadExecutor(Thread.ofVirtual().name("search-index-update").factory());
+
+    /**
+     * Re-reads the changed row after commit, so the index only ever reflects committed data.
+     * Renaming an occupation or branch also refreshes the employees that display its name.
+     *
+     * <p>The work is handed to a single background thread, which applies the changes in commit
+     * order without holding up the request that made them.</p>
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onEntityChange(EntityChangeEvent event) {
+        executor.execute(() -> apply(event));
+    }
+
+    void apply(EntityChangeEvent event) {
+        try {
+            if (event.action() == EntityChangeEvent.Action.DELETED) {
+                searchIndex.delete(event.type(), event.id());
+                return;
+            }
+            reindex(event.type(), event.id());
+            if (event.action() == EntityChangeEvent.Action.UPDATED && event.type() != EntityType.EMPLOYEE) {
+                WorkloadContext.wrap(Workload.BULK, () -> searchDocumentLoader.forEachEmployeeBatchReferencing(
+                        event.type(), event.id(), config.getRebuildBatchSize(), searchIndex::upsert)).run();
+            }
+        } catch (RuntimeException e) {
+            // The next rebuild repairs the document; the write itself has already committed.
+            log.warn("Failed to update search index for {} {}", event.type(), event.id(), e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        if (config.isRebuildOnStartup() || searchIndex.isEmpty()) {
+            Thread.ofVirtual().name("search-index-rebuild").start(WorkloadContext.wrap(Workload.BULK, this::rebuild));
+        }
+    }
+
+    @Bulkhead(Workload.BULK)
+    @Scheduled(cron = "${app.search.rebuild-cron:0 0 3 * * *}")
+    public void scheduledRebuild() {
+        rebuild();
+    }
+
+    /**
+     * Rewrites every document from the database under a new generation, then drops the rest.
+     * Searches keep being served from the existing documents throughout.
+     */
+    public void rebuild() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            log.info("Search index rebuild already running");
+            return;
+        }
+        try {
+            long start = System.currentTimeMillis();
+            long generation = searchIndex.beginRebuild();
+            long[] documents = {0};
+            for (EntityType type : EntityType.values()) {
+                searchDocumentLoader.forEachBatch(type, config.getRebuildBatchSize(), batch -> {
+                    searchIndex.upsert(batch, generation);
+                    documents[0] += batch.size();
+                });
+            }
+            searchIndex.finishRebuild(generation);
+            log.info("Rebuilt search index with {} documents in {} ms", documents[0], System.currentTimeMillis() - start);
+        } catch (RuntimeException e) {
+            log.error("Search index rebuild failed", e);
+        } finally {
+            rebuilding.set(false);
+        }
+    }
+
+    private void reindex(EntityType type, long id) {
+        searchDocumentLoader.load(type, id)
+                .ifPresentOrElse(searchIndex::upsert, () -> searchIndex.delete(type, id));
+    }
+}
@@ -0,0 +1,75 @@
+package com.src.ap.search;
+
+import com.src.ap.datasource.Bulkhead;
+import com.src.ap.datasource.Workload;
+import com.src.ap.event.EntityChangeEvent;
+import com.src.ap.event.EntityType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * In-memory autocomplete over occupation, branch and employee labels, one {@link PrefixTable}
+ * per type. Loaded from the database on startup and kept current from committed writes.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SuggestIndex {
+
+    public record Suggestion(long id, String label) {
+    }
+
+    private static final int LOAD_BATCH_SIZE = 5000;
+
+    private final SearchDocumentLoader searchDocumentLoader;
+
+    private final Map<EntityType, PrefixTable> tables = new EnumMap<>(Map.of(
+            EntityType.OCCUPATION, new PrefixTable(),
+            EntityType.BRANCH, new PrefixTable(),
+            EntityType.EMPLOYEE, new PrefixTable()));
+
+    @Bulkhead(Workload.BULK)
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        for (EntityType type : EntityType.values()) {
+            long start = System.currentTimeMillis();
+            Map<Long, String> labels = new HashMap<>();
+            searchDocumentLoader.forEachBatch(type, LOAD_BATCH_SIZE,
+                    batch -> batch.forEach(document -> labels.put(document.id(), document.title())));
+            tables.get(type).load(labels);
+            log.info("Loaded {} {} suggestions in {} ms", labels.size(), type, System.currentTimeMillis() - start);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onEntityChange(EntityChangeEvent event) {
+        PrefixTable table = tables.get(event.type());
+        try {
+            if (event.action() == EntityChangeEvent.Action.DELETED) {
+                table.remove(event.id());
+                return;
+            }
+            searchDocumentLoader.load(event.type(), event.id()).ifPresentOrElse(
+                    document -> table.put(document.id(), document.title()),
+                    () -> table.remove(event.id()));
+        } catch (RuntimeException e) {
+            log.warn("Failed to update suggestions for {} {}", event.type(), event.id(), e);
+        }
+    }
+
+    public List<Suggestion> suggest(EntityType type, String query, int limit) {
+        return tables.get(type).lookup(query, limit).stream()
+                .map(suggestion -> new Suggestion(suggestion.id(), suggestion.label()))
+                .toList();
+    }
+}
@@ -12,7 +12,6 @@ import com.src.ap.entity.Role;
 import com.src.ap.entity.RoleName;
 import com.src.ap.entity.User;
 import com.src.ap.exception.BadRequestException;
-import com.src.ap.exception.DuplicateResourceException;
 import com.src.ap.exception.ResourceNotFoundException;
 import com.src.ap.exception.UnauthorizedException;
 import com.src.ap.entity.OneTimeToken;
@@ -56,13 +55,6 @@ public class AuthService {
 
     @Transactional
     public CreateUserResponse register(RegisterRequest request) {
-        if (userRepository.existsByUsername(request.getUsername())) {
-            throw new DuplicateResourceException("User", "username", request.getUsername());
-        }
-        if (userRepository.existsByEmail(request.getEmail())) {
-            throw new DuplicateResourceException("User", "email", request.getEmail());
-        }
-
         Role userRole = roleRepository.findByName(RoleName.USER)
                 .orElseThrow(() -> new RuntimeException("USER role not found"));
 
@@ -80,7 +72,8 @@ public class AuthService {
                 .temporaryPassword(true)
                 .build();
 
-        userRepository.save(user);
+        // UK_users_username / UK_users_email reject duplicates; flush so that happens before any email goes out
+        userRepository.saveAndFlush(user);
 
         // Generate and save a one-time token for first login
         OneTimeToken firstLoginToken = oneTimeTokenService.createFirstLoginToken(user);
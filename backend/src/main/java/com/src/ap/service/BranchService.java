@@ -4,12 +4,15 @@ import com.src.ap.dto.branch.BranchRequest;
 import com.src.ap.dto.branch.BranchResponse;
 import com.src.ap.dto.common.PageResponse;
 import com.src.ap.entity.Branch;
+import com.src.ap.event.EntityChangeEvent;
+import com.src.ap.event.EntityType;
 import com.src.ap.exception.BadRequestException;
-import com.src.ap.exception.DuplicateResourceException;
 import com.src.ap.exception.ResourceNotFoundException;
 import com.src.ap.mapper.BranchMapper;
 import com.src.ap.repository.BranchRepository;
+import com.src.ap.repository.EmployeeCountRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -24,7 +27,9 @@ import java.util.List;
 public class BranchService {
 
     private final BranchRepository branchRepository;
+    private final EmployeeCountRepository employeeCountRepository;
     private final BranchMapper branchMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional(readOnly = true)
     public PageResponse<BranchResponse> getAllBranches(int page, int size, String sortBy, String sortDir) {
@@ -61,12 +66,10 @@ public class BranchService {
 
     @Transactional
     public BranchResponse createBranch(BranchRequest request) {
-        if (branchRepository.existsByName(request.getName())) {
-            throw new DuplicateResourceException("Branch", "name", request.getName());
-        }
-
+        // UK_branches_name rejects duplicates; flushing here surfaces the violation inside this call
         Branch branch = branchMapper.toEntity(request);
-        branch = branchRepository.save(branch);
+        branch = branchRepository.saveAndFlush(branch);
+        eventPublisher.publishEvent(EntityChangeEvent.created(EntityType.BRANCH, branch.getId()));
         return branchMapper.toResponse(branch);
     }
 
@@ -75,24 +78,24 @@ public class BranchService {
         Branch branch = branchRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Branch", "id", id));
 
-        if (!branch.getName().equals(request.getName()) && branchRepository.existsByName(request.getName())) {
-            throw new DuplicateResourceException("Branch", "name", request.getName());
-        }
-
         branchMapper.updateEntity(request, branch);
-        branch = branchRepository.save(branch);
+        branch = branchRepository.saveAndFlush(branch);
+        eventPublisher.publishEvent(EntityChangeEvent.updated(EntityType.BRANCH, branch.getId()));
         return branchMapper.toResponse(branch);
     }
 
     @Transactional
     public void deleteBranch(Long id) {
-        Branch branch = branchRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Branch", "id", id));
-
-        if (branch.getEmployees() != null && !branch.getEmployees().isEmpty()) {
+        // The row's own count, locked: the entity may come from a stale second-level cache
+        Long employeeCount = employeeCountRepository.lockBranchCount(id);
+        if (employeeCount == null) {
+            throw new ResourceNotFoundException("Branch", "id", id);
+        }
+        if (employeeCount > 0) {
             throw new BadRequestException("Cannot delete branch with assigned employees");
         }
 
         branchRepository.deleteById(id);
+        eventPublisher.publishEvent(EntityChangeEvent.deleted(EntityType.BRANCH, id));
     }
 }
\ No newline at end of file
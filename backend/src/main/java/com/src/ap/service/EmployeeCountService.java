@@ -0,0 +1,126 @@
+package com.src.ap.service;
+
+import com.src.ap.cache.CacheInvalidationBus;
+import com.src.ap.entity.Branch;
+import com.src.ap.entity.CacheRegions;
+import com.src.ap.entity.Occupation;
+import com.src.ap.event.EmployeeFacts;
+import com.src.ap.event.EmployeeFactsChangedEvent;
+import com.src.ap.job.ClusterJob;
+import com.src.ap.job.JobChunk;
+import com.src.ap.job.JobRun;
+import com.src.ap.job.JobRunner;
+import com.src.ap.repository.EmployeeCountRepository;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Keeps {@code Branch.employeeCount} and {@code Occupation.employeeCount} in step with
+ * dbo.employees.
+ *
+ * <p>Like {@link HeadcountSummaryService} it applies the deltas of each
+ * {@link EmployeeFactsChangedEvent} inside the writing transaction, so a count commits or rolls
+ * back with the employee write that changed it. A nightly repair recomputes any count that
+ * drifted through writes made around the services; it runs on one replica at a time through the
+ * {@link JobRunner}.</p>
+ *
+ * <p>The counts are written over JDBC, past Hibernate, so the affected branches and occupations
+ * are evicted from the second-level cache once the write has committed.</p>
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class EmployeeCountService {
+
+    static final ClusterJob REPAIR_JOB = ClusterJob.single("employee-count-repair", Duration.ofMinutes(10))
+            .oncePer(Duration.ofHours(12));
+
+    private final EmployeeCountRepository employeeCountRepository;
+    private final EntityManagerFactory entityManagerFactory;
+    private final CacheInvalidationBus cacheInvalidationBus;
+    private final JobRunner jobRunner;
+
+    @EventListener
+    public void onEmployeeFactsChanged(EmployeeFactsChangedEvent event) {
+        Map<Long, Long> branches = new HashMap<>();
+        Map<Long, Long> occupations = new HashMap<>();
+        event.removed().forEach(facts -> accumulate(branches, occupations, facts, -1));
+        event.added().forEach(facts -> accumulate(branches, occupations, facts, 1));
+        employeeCountRepository.applyBranchDeltas(branches);
+        employeeCountRepository.applyOccupationDeltas(occupations);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void evictCachedCounts(EmployeeFactsChangedEvent event) {
+        Cache cache = entityManagerFactory.getCache();
+        for (EmployeeFacts facts : event.removed()) {
+            evict(cache, facts);
+        }
+        for (EmployeeFacts facts : event.added()) {
+            evict(cache, facts);
+        }
+    }
+
+    @Scheduled(cron = "${app.employee-counts.repair-cron:0 50 2 * * *}")
+    public void scheduledRepair() {
+        JobRun run = jobRunner.run(REPAIR_JOB, context -> JobChunk.last(repair()));
+        if (run.rows() > 0) {
+            // Only now are the corrected counts committed
+            entityManagerFactory.getCache().evict(Branch.class);
+            entityManagerFactory.getCache().evict(Occupation.class);
+        }
+    }
+
+    /**
+     * Resets every count that differs from dbo.employees and tells the other nodes to drop their
+     * cached branches and occupations. The caller evicts this node's cache after commit.
+     *
+     * @return the number of branches and occupations corrected
+     */
+    @Transactional
+    public int repair() {
+        int branches = employeeCountRepository.repairBranchCounts();
+        int occupations = employeeCountRepository.repairOccupationCounts();
+        if (branches > 0) {
+            cacheInvalidationBus.publish(CacheRegions.BRANCHES, null);
+        }
+        if (occupations > 0) {
+            cacheInvalidationBus.publish(CacheRegions.OCCUPATIONS, null);
+        }
+        if (branches > 0 || occupations > 0) {
+            log.warn("Employee count repair corrected {} branches and {} occupations", branches, occupations);
+        }
+        return branches + occupations;
+    }
+
+    private static void evict(Cache cache, EmployeeFacts facts) {
+        if (facts.branchId() != null) {
+            cache.evict(Branch.class, facts.branchId());
+        }
+        if (facts.occupationId() != null) {
+            cache.evict(Occupation.class, facts.occupationId());
+        }
+    }
+
+    private static void accumulate(Map<Long, Long> branches, Map<Long, Long> occupations,
+                                   EmployeeFacts facts, int sign) {
+        if (facts.branchId() != null) {
+            branches.merge(facts.branchId(), (long) sign, Long::sum);
+        }
+        if (facts.occupationId() != null) {
+            occupations.merge(facts.occupationId(), (long) sign, Long::sum);
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.src.ap.service;
+
+import com.src.ap.dto.common.PageResponse;
+import com.src.ap.dto.employee.EmployeeHierarchyNodeResponse;
+import com.src.ap.exception.BadRequestException;
+import com.src.ap.exception.ResourceNotFoundException;
+import com.src.ap.repository.EmployeeHierarchyRepository;
+import com.src.ap.repository.EmployeeRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * The supervisor tree formed by {@code Employee.supvEmployee}, kept as a closure table.
+ *
+ * <p>The write methods are called by {@link EmployeeService} inside its transaction whenever a
+ * supervisor is set, changed or removed. A change first locks the moved employee and both its old
+ * and new chains of command, so two moves that could together close a loop run one after the other
+ * and the second one sees the first one's rows when it checks for a cycle.</p>
+ */
+@Service
+@RequiredArgsConstructor
+public class EmployeeHierarchyService {
+
+    /** Deepest subtree a single request may ask for; matches the backfill cap in V12. */
+    public static final int MAX_DEPTH = 100;
+
+    private final EmployeeHierarchyRepository employeeHierarchyRepository;
+    private final EmployeeRepository employeeRepository;
+
+    /**
+     * Adds a newly created employee. A new employee has no subordinates, so no cycle is possible.
+     */
+    public void attach(long employeeId, Long supervisorId) {
+        if (supervisorId != null) {
+            lockChainOf(supervisorId, List.of());
+        }
+        employeeHierarchyRepository.insertLeaf(employeeId, supervisorId);
+    }
+
+    /**
+     * Moves an employee, with everyone under them, below {@code newSupervisorId}.
+     *
+     * @throws BadRequestException if the new supervisor is the employee or one of their subordinates
+     */
+    public void changeSupervisor(long employeeId, Long oldSupervisorId, Long newSupervisorId) {
+        if (Objects.equals(oldSupervisorId, newSupervisorId)) {
+            return;
+        }
+
+        List<Long> locked = new ArrayList<>(employeeHierarchyRepository.findAncestorIds(employeeId));
+        locked.add(employeeId);
+        if (newSupervisorId != null) {
+            lockChainOf(newSupervisorId, locked);
+            if (newSupervisorId == employeeId || employeeHierarchyRepository.isAncestor(employeeId, newSupervisorId)) {
+                throw new BadRequestException("Employee " + newSupervisorId
+                        + " reports to employee " + employeeId + " and cannot become their supervisor");
+            }
+        } else {
+            employeeRepository.lockAllByIds(locked);
+        }
+        employeeHierarchyRepository.move(employeeId, newSupervisorId);
+    }
+
+    /**
+     * Removes an employee that is about to be deleted.
+     *
+     * @throws BadRequestException if someone still reports to the employee
+     */
+    public void detach(long employeeId) {
+        if (employeeHierarchyRepository.hasSubordinates(employeeId)) {
+            throw new BadRequestException("Employee " + employeeId
+                    + " still supervises other employees; reassign them first");
+        }
+        employeeHierarchyRepository.deleteLeaf(employeeId);
+    }
+
+    @Transactional(readOnly = true)
+    public PageResponse<EmployeeHierarchyNodeResponse> getSubordinates(Long id, int depth, int page, int size) {
+        if (depth < 1 || depth > MAX_DEPTH) {
+            throw new BadRequestException("depth must be between 1 and " + MAX_DEPTH);
+        }
+        requireEmployee(id);
+
+        PageRequest pageable = PageRequest.of(page, size);
+        List<EmployeeHierarchyNodeResponse> content =
+                employeeHierarchyRepository.findSubordinates(id, depth, pageable.getOffset(), size);
+        long total = employeeHierarchyRepository.countSubordinates(id, depth);
+        return PageResponse.of(new PageImpl<>(content, pageable, total));
+    }
+
+    /**
+     * Returns the employee's chain of command, direct supervisor first.
+     */
+    @Transactional(readOnly = true)
+    public List<EmployeeHierarchyNodeResponse> getChain(Long id) {
+        requireEmployee(id);
+        return employeeHierarchyRepository.findChain(id);
+    }
+
+    private void lockChainOf(long supervisorId, List<Long> alsoLock) {
+        List<Long> ids = new ArrayList<>(alsoLock);
+        ids.add(supervisorId);
+        ids.addAll(employeeHierarchyRepository.findAncestorIds(supervisorId));
+        if (employeeRepository.lockAllByIds(ids).stream().noneMatch(e -> e.getId() == supervisorId)) {
+            throw new ResourceNotFoundException("Employee", "id", supervisorId);
+        }
+    }
+
+    private void requireEmployee(Long id) {
+        if (!employeeRepository.existsById(id)) {
+            throw new ResourceNotFoundException("Employee", "id", id);
+        }
+    }
+}
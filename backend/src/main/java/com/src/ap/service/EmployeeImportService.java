@@ -0,0 +1,575 @@
+package com.src.ap.service;
+
+import com.src.ap.audit.AuditContextHolder;
+import com.src.ap.config.EmployeeImportConfig;
+import com.src.ap.datasource.Workload;
+import com.src.ap.datasource.WorkloadContext;
+import com.src.ap.dto.employee.EmployeeImportJobResponse;
+import com.src.ap.dto.employee.EmployeeRequest;
+import com.src.ap.event.EmployeeFacts;
+import com.src.ap.event.EmployeeFactsChangedEvent;
+import com.src.ap.event.EntityChangeEvent;
+import com.src.ap.event.EntityType;
+import com.src.ap.exception.BadRequestException;
+import com.src.ap.exception.ResourceNotFoundException;
+import com.src.ap.importer.CsvTabularReader;
+import com.src.ap.importer.ImportJob;
+import com.src.ap.importer.TabularReader;
+import com.src.ap.importer.XlsxTabularReader;
+import com.src.ap.repository.EmployeeBulkRepository;
+import com.src.ap.repository.EmployeeBulkRepository.NewEmployee;
+import com.src.ap.repository.EmployeeHierarchyRepository;
+import com.src.ap.repository.EmployeeImportJobRepository;
+import com.src.ap.repository.EmployeeSearchTokenRepository;
+import com.src.ap.repository.EmployeeSearchTokenRepository.SearchToken;
+import com.src.ap.util.TextNormalizer;
+import jakarta.annotation.PreDestroy;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.Resource;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+/**
+ * Bulk import of employees from CSV or XLSX files.
+ *
+ * <p>An upload is spooled to a temporary file and processed by a background job: rows are
+ * streamed one at a time, validated against the {@link EmployeeRequest} constraints, resolved
+ * against occupations and branches held in memory for the duration of the job, and inserted in
+ * JDBC batches of one transaction each. Rows that fail are written to a per-job CSV error report
+ * instead of stopping the import.</p>
+ *
+ * <p>The job runs on the node that accepted the upload and records its progress in
+ * dbo.employee_import_jobs after every batch, so status polls and the error report download can be
+ * served by any node.</p>
+ */
+@Service
+@Slf4j
+public class EmployeeImportService {
+
+    /**
+     * SQL Server accepts at most 2100 parameters per statement; batches are also used as IN lists.
+     */
+    private static final int MAX_BATCH_SIZE = 2000;
+
+    private static final DateTimeFormatter DAY_FIRST = DateTimeFormatter.ofPattern("d/M/uuuu");
+    private static final LocalDate EXCEL_EPOCH = LocalDate.of(1899, 12, 30);
+
+    /**
+     * Recognised header names, compared after folding and dropping everything but letters and
+     * digits, so "Hire Date", "hire_dt" and "hireDt" all match.
+     */
+    private enum Column {
+        EMAIL("email"),
+        FULL_NAME("fullname"),
+        FIRST_NAME("firstname"),
+        MIDDLE_NAME("middlename"),
+        LAST_NAME("lastname"),
+        HIRE_DT("hiredt", "hiredate"),
+        TERMINATION_DT("terminationdt", "terminationdate"),
+        CITIZEN_ID_CARD("citizenidcard", "citizenid"),
+        DATE_OF_BIRTH("dateofbirth", "dob"),
+        PASSPORT("passport"),
+        CONTRACT_ID("contractid"),
+        PHONE("phone"),
+        WORK_STATUS("workstatus"),
+        OCCUPATION_ID("occupationid"),
+        OCCUPATION("occupation", "occupationname"),
+        BRANCH_ID("branchid"),
+        BRANCH("branch", "branchname"),
+        SUPERVISOR_ID("supervisorid");
+
+        private final List<String> aliases;
+
+        Column(String... aliases) {
+            this.aliases = List.of(aliases);
+        }
+    }
+
+    private record ReferenceData(Set<Long> occupationIds, Map<String, Long> occupationsByName,
+                                 Set<Long> branchIds, Map<String, Long> branchesByName) {
+    }
+
+    private record PendingRow(long rowNumber, NewEmployee employee) {
+    }
+
+    private static class RowException extends Exception {
+        RowException(String message) {
+            super(message);
+        }
+    }
+
+    private final EmployeeBulkRepository employeeBulkRepository;
+    private final EmployeeSearchTokenRepository employeeSearchTokenRepository;
+    private final EmployeeHierarchyRepository employeeHierarchyRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Validator validator;
+    private final EmployeeImportJobRepository employeeImportJobRepository;
+    private final EmployeeImportConfig config;
+
+    private final ExecutorService executor;
+
+    public EmployeeImportService(EmployeeBulkRepository employeeBulkRepository,
+                                 EmployeeSearchTokenRepository employeeSearchTokenRepository,
+                                 EmployeeHierarchyRepository employeeHierarchyRepository,
+                                 EmployeeImportJobRepository employeeImportJobRepository,
+                                 JdbcTemplate jdbcTemplate,
+                                 PlatformTransactionManager transactionManager,
+                                 ApplicationEventPublisher eventPublisher,
+                                 Validator validator,
+                                 EmployeeImportConfig config) {
+        this.employeeBulkRepository = employeeBulkRepository;
+        this.employeeSearchTokenRepository = employeeSearchTokenRepository;
+        this.employeeHierarchyRepository = employeeHierarchyRepository;
+        this.employeeImportJobRepository = employeeImportJobRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+        this.validator = validator;
+        this.config = config;
+        this.executor = Executors.newFixedThreadPool(config.getConcurrency(),
+                Thread.ofVirtual().name("employee-import-", 0).factory());
+    }
+
+    public EmployeeImportJobResponse submit(MultipartFile file) {
+        String fileName = file.getOriginalFilename() != null ? file.getOriginalFilename() : "upload";
+        String extension = extensionOf(fileName);
+        if (file.isEmpty()) {
+            throw new BadRequestException("Import file is empty");
+        }
+        if (!extension.equals("csv") && !extension.equals("xlsx")) {
+            throw new BadRequestException("Unsupported import file type: " + fileName + ". Allowed types: csv, xlsx");
+        }
+
+        ImportJob job;
+        try {
+            Path source = Files.createTempFile("employee-import-", "." + extension);
+            file.transferTo(source);
+            job = new ImportJob(fileName, currentUsername(), source,
+                    Files.createTempFile("employee-import-errors-", ".csv"));
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not store import file", e);
+        }
+
+        employeeImportJobRepository.insert(job);
+        // The import's writes are audited as the user who submitted it
+        executor.execute(AuditContextHolder.wrap(WorkloadContext.wrap(Workload.BULK, () -> run(job))));
+        log.info("Queued employee import {} of {} by {}", job.getId(), fileName, job.getSubmittedBy());
+        return toResponse(job);
+    }
+
+    public EmployeeImportJobResponse getJob(UUID jobId) {
+        return employeeImportJobRepository.findById(jobId)
+                .orElseThrow(() -> new ResourceNotFoundException("Import job", "id", jobId));
+    }
+
+    public List<EmployeeImportJobResponse> getJobs() {
+        return employeeImportJobRepository.findAll();
+    }
+
+    public Resource getErrorReport(UUID jobId) {
+        EmployeeImportJobResponse job = getJob(jobId);
+        if (job.getFinishedAt() == null) {
+            throw new BadRequestException("Import " + jobId + " is still running");
+        }
+        return new ByteArrayResource(employeeImportJobRepository.findErrorReport(jobId).orElse(new byte[0]));
+    }
+
+    /**
+     * Deletes finished jobs past their retention, with their error reports.
+     */
+    @Scheduled(fixedDelayString = "${app.employee-import.cleanup-interval-ms:600000}")
+    public void evictExpiredJobs() {
+        employeeImportJobRepository.deleteFinishedBefore(LocalDateTime.now().minusMinutes(config.getRetentionMinutes()));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    void run(ImportJob job) {
+        job.start();
+        employeeImportJobRepository.updateProgress(job);
+        long start = System.currentTimeMillis();
+        try (TabularReader reader = open(job.getSource());
+             BufferedWriter errors = Files.newBufferedWriter(job.getErrorReport(), StandardCharsets.UTF_8)) {
+            // BOM so that Excel opens the report as UTF-8
+            errors.write("\uFEFFrow,email,error\r\n");
+
+            List<String> header = reader.next();
+            if (header == null) {
+                throw new BadRequestException("Import file has no header row");
+            }
+            Map<Column, Integer> columns = resolveColumns(header);
+            ReferenceData references = loadReferenceData();
+            int batchSize = Math.max(1, Math.min(config.getBatchSize(), MAX_BATCH_SIZE));
+
+            Map<String, Long> seenEmails = new HashMap<>();
+            List<PendingRow> batch = new ArrayList<>(batchSize);
+            List<String> cells;
+            while ((cells = reader.next()) != null) {
+                if (cells.stream().allMatch(Objects::isNull)) {
+                    continue;
+                }
+                long rowNumber = reader.rowNumber();
+                job.getProcessedRows().incrementAndGet();
+                try {
+                    NewEmployee employee = parseRow(reader, cells, columns, references);
+                    Long firstSeen = seenEmails.putIfAbsent(employee.email().toLowerCase(Locale.ROOT), rowNumber);
+                    if (firstSeen != null) {
+                        throw new RowException("Duplicate email in file, first seen on row " + firstSeen);
+                    }
+                    batch.add(new PendingRow(rowNumber, employee));
+                } catch (RowException e) {
+                    reportError(job, errors, rowNumber, cell(cells, columns, Column.EMAIL), e.getMessage());
+                }
+
+                if (batch.size() >= batchSize) {
+                    flush(job, errors, batch);
+                    batch.clear();
+                    employeeImportJobRepository.updateProgress(job);
+                }
+            }
+            flush(job, errors, batch);
+            job.complete();
+            log.info("Employee import {} finished in {} ms: {} imported, {} failed", job.getId(),
+                    System.currentTimeMillis() - start, job.getImportedRows().get(), job.getFailedRows().get());
+        } catch (IOException | RuntimeException e) {
+            log.error("Employee import {} failed after {} rows", job.getId(), job.getProcessedRows().get(), e);
+            job.fail(e.getMessage());
+        } finally {
+            deleteQuietly(job.getSource());
+            storeOutcome(job);
+        }
+    }
+
+    /**
+     * Writes the finished job and its error report to the database and drops the local report.
+     */
+    private void storeOutcome(ImportJob job) {
+        try {
+            byte[] report = Files.exists(job.getErrorReport()) ? Files.readAllBytes(job.getErrorReport()) : new byte[0];
+            employeeImportJobRepository.finish(job, report);
+        } catch (IOException | RuntimeException e) {
+            log.error("Could not store the outcome of employee import {}", job.getId(), e);
+        } finally {
+            deleteQuietly(job.getErrorReport());
+        }
+    }
+
+    /**
+     * Inserts the valid rows of a batch in one transaction. Rows that clash with data already in
+     * the database are rejected up front; if the batch still fails, e.g. because a concurrent write
+     * took one of its emails, it is retried row by row so only the offending rows are rejected.
+     */
+    private void flush(ImportJob job, BufferedWriter errors, List<PendingRow> batch) throws IOException {
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        Set<String> takenEmails = employeeBulkRepository.findExistingEmails(
+                batch.stream().map(row -> row.employee().email()).toList());
+        Set<Long> supervisorIds = employeeBulkRepository.findExistingIds(batch.stream()
+                .map(row -> row.employee().supervisorId())
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet()));
+
+        List<PendingRow> accepted = new ArrayList<>(batch.size());
+        for (PendingRow row : batch) {
+            NewEmployee employee = row.employee();
+            if (takenEmails.contains(employee.email().toLowerCase(Locale.ROOT))) {
+                reportError(job, errors, row.rowNumber(), employee.email(), "Employee with this email already exists");
+            } else if (employee.supervisorId() != null && !supervisorIds.contains(employee.supervisorId())) {
+                reportError(job, errors, row.rowNumber(), employee.email(),
+                        "Supervisor not found with id: " + employee.supervisorId());
+            } else {
+                accepted.add(row);
+            }
+        }
+        if (accepted.isEmpty()) {
+            return;
+        }
+
+        try {
+            insert(job, accepted);
+        } catch (DataAccessException batchFailure) {
+            log.debug("Employee import {} batch failed, retrying row by row", job.getId(), batchFailure);
+            for (PendingRow row : accepted) {
+                try {
+                    insert(job, List.of(row));
+                } catch (DataAccessException e) {
+                    reportError(job, errors, row.rowNumber(), row.employee().email(),
+                            NestedExceptionUtils.getMostSpecificCause(e).getMessage());
+                }
+            }
+        }
+    }
+
+    private void insert(ImportJob job, List<PendingRow> rows) {
+        transactionTemplate.executeWithoutResult(status -> {
+            List<NewEmployee> employees = rows.stream().map(PendingRow::employee).toList();
+            long[] ids = employeeBulkRepository.insertAll(employees, job.getSubmittedBy());
+
+            List<Object[]> tokenRows = new ArrayList<>();
+            List<Object[]> hierarchyRows = new ArrayList<>(employees.size());
+            List<EmployeeFacts> facts = new ArrayList<>(employees.size());
+            for (int i = 0; i < employees.size(); i++) {
+                NewEmployee employee = employees.get(i);
+                long id = ids[i];
+                hierarchyRows.add(new Object[]{id, employee.supervisorId()});
+                facts.add(new EmployeeFacts(employee.branchId(), employee.occupationId(), employee.workStatus(),
+                        employee.hireDt(), employee.terminationDt()));
+                for (SearchToken token : EmployeeSearchIndexer.tokensFor(employee.fullName(), employee.firstName(),
+                        employee.middleName(), employee.lastName(), employee.email(), employee.phone(),
+                        employee.contractId())) {
+                    tokenRows.add(new Object[]{token.token(), id, token.field(), token.weight()});
+                }
+                eventPublisher.publishEvent(EntityChangeEvent.created(EntityType.EMPLOYEE, id));
+            }
+            employeeSearchTokenRepository.insertAll(tokenRows);
+            // Supervisors were checked to exist before the batch, so every row is a new leaf
+            employeeHierarchyRepository.insertLeaves(hierarchyRows);
+            eventPublisher.publishEvent(EmployeeFactsChangedEvent.createdAll(facts));
+        });
+        job.getImportedRows().addAndGet(rows.size());
+    }
+
+    private NewEmployee parseRow(TabularReader reader, List<String> cells, Map<Column, Integer> columns,
+                                 ReferenceData references) throws RowException {
+        EmployeeRequest request = new EmployeeRequest();
+        request.setEmail(cell(cells, columns, Column.EMAIL));
+        request.setFullName(cell(cells, columns, Column.FULL_NAME));
+        request.setFirstName(cell(cells, columns, Column.FIRST_NAME));
+        request.setMiddleName(cell(cells, columns, Column.MIDDLE_NAME));
+        request.setLastName(cell(cells, columns, Column.LAST_NAME));
+        request.setHireDt(parseDate(reader, cells, columns, Column.HIRE_DT));
+        request.setTerminationDt(parseDate(reader, cells, columns, Column.TERMINATION_DT));
+        request.setCitizenIdCard(cell(cells, columns, Column.CITIZEN_ID_CARD));
+        request.setDateOfBirth(parseDate(reader, cells, columns, Column.DATE_OF_BIRTH));
+        request.setPassport(cell(cells, columns, Column.PASSPORT));
+        request.setContractId(cell(cells, columns, Column.CONTRACT_ID));
+        request.setPhone(cell(cells, columns, Column.PHONE));
+        request.setWorkStatus(cell(cells, columns, Column.WORK_STATUS));
+        request.setOccupationId(resolveReference(cells, columns, Column.OCCUPATION_ID, Column.OCCUPATION,
+                references.occupationIds(), references.occupationsByName(), "Occupation"));
+        request.setBranchId(resolveReference(cells, columns, Column.BRANCH_ID, Column.BRANCH,
+                references.branchIds(), references.branchesByName(), "Branch"));
+        request.setSupervisorId(parseId(cells, columns, Column.SUPERVISOR_ID));
+
+        Set<ConstraintViolation<EmployeeRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            throw new RowException(violations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .collect(Collectors.joining("; ")));
+        }
+
+        return new NewEmployee(request.getEmail(), request.getFullName(), request.getFirstName(),
+                request.getMiddleName(), request.getLastName(), request.getHireDt(), request.getTerminationDt(),
+                request.getCitizenIdCard(), request.getDateOfBirth(), request.getPassport(), request.getContractId(),
+                request.getPhone(), request.getWorkStatus(), request.getOccupationId(), request.getBranchId(),
+                request.getSupervisorId());
+    }
+
+    /**
+     * Resolves an occupation or branch either by id or, when only the name column is filled,
+     * by accent- and case-insensitive name.
+     */
+    private static Long resolveReference(List<String> cells, Map<Column, Integer> columns, Column idColumn,
+                                         Column nameColumn, Set<Long> ids, Map<String, Long> byName,
+                                         String resourceName) throws RowException {
+        Long id = parseId(cells, columns, idColumn);
+        if (id != null) {
+            if (!ids.contains(id)) {
+                throw new RowException(resourceName + " not found with id: " + id);
+            }
+            return id;
+        }
+        String name = cell(cells, columns, nameColumn);
+        if (name == null) {
+            return null;
+        }
+        Long resolved = byName.get(TextNormalizer.fold(name));
+        if (resolved == null) {
+            throw new RowException(resourceName + " not found with name: " + name);
+        }
+        return resolved;
+    }
+
+    private ReferenceData loadReferenceData() {
+        Map<String, Long> occupationsByName = new HashMap<>();
+        Map<String, Long> branchesByName = new HashMap<>();
+        jdbcTemplate.query("SELECT id, name FROM dbo.occupations",
+                rs -> {
+                    occupationsByName.put(TextNormalizer.fold(rs.getString("name")), rs.getLong("id"));
+                });
+        jdbcTemplate.query("SELECT id, name FROM dbo.branches",
+                rs -> {
+                    branchesByName.put(TextNormalizer.fold(rs.getString("name")), rs.getLong("id"));
+                });
+        return new ReferenceData(new HashSet<>(occupationsByName.values()), occupationsByName,
+                new HashSet<>(branchesByName.values()), branchesByName);
+    }
+
+    private static Map<Column, Integer> resolveColumns(List<String> header) {
+        Map<String, Column> byAlias = new HashMap<>();
+        for (Column column : Column.values()) {
+            column.aliases.forEach(alias -> byAlias.put(alias, column));
+        }
+
+        Map<Column, Integer> columns = new EnumMap<>(Column.class);
+        for (int i = 0; i < header.size(); i++) {
+            String name = header.get(i) == null ? "" : String.join("", TextNormalizer.tokenize(header.get(i)));
+            Column column = byAlias.get(name);
+            if (column != null) {
+                columns.putIfAbsent(column, i);
+            }
+        }
+        if (!columns.containsKey(Column.EMAIL)) {
+            throw new BadRequestException("Import file has no email column");
+        }
+        return columns;
+    }
+
+    private static String cell(List<String> cells, Map<Column, Integer> columns, Column column) {
+        Integer index = columns.get(column);
+        return index != null && index < cells.size() ? cells.get(index) : null;
+    }
+
+    private static Long parseId(List<String> cells, Map<Column, Integer> columns, Column column) throws RowException {
+        String value = cell(cells, columns, column);
+        if (value == null) {
+            return null;
+        }
+        try {
+            // spreadsheet numbers may come through as "12.0"
+            return value.endsWith(".0") ? Long.parseLong(value.substring(0, value.length() - 2)) : Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            throw new RowException("Invalid " + column.aliases.get(0) + ": " + value);
+        }
+    }
+
+    /**
+     * Accepts ISO dates (2024-03-01) and day-first dates (1/3/2024) written as text, and Excel date
+     * serials from cells the workbook stores as numbers. A number written as text, such as a bare
+     * year in a CSV, is not a date.
+     */
+    static LocalDate parseDate(String value, boolean numeric) {
+        if (numeric) {
+            if (!value.matches("\\d+(\\.\\d+)?")) {
+                throw new DateTimeParseException("Not an Excel date serial", value, 0);
+            }
+            // the fraction is the time of day
+            return EXCEL_EPOCH.plusDays(Long.parseLong(value.replaceFirst("\\..*", "")));
+        }
+        if (value.contains("/")) {
+            return LocalDate.parse(value, DAY_FIRST);
+        }
+        return LocalDate.parse(value.length() > 10 ? value.substring(0, 10) : value);
+    }
+
+    private static LocalDate parseDate(TabularReader reader, List<String> cells, Map<Column, Integer> columns,
+                                       Column column) throws RowException {
+        String value = cell(cells, columns, column);
+        if (value == null) {
+            return null;
+        }
+        try {
+            return parseDate(value, reader.isNumeric(columns.get(column)));
+        } catch (DateTimeParseException e) {
+            throw new RowException("Invalid " + column.aliases.get(0) + ": " + value);
+        }
+    }
+
+    private static TabularReader open(Path source) throws IOException {
+        if (source.toString().endsWith(".xlsx")) {
+            return new XlsxTabularReader(source);
+        }
+        return new CsvTabularReader(Files.newBufferedReader(source, StandardCharsets.UTF_8));
+    }
+
+    private static void reportError(ImportJob job, BufferedWriter errors, long rowNumber, String email, String message)
+            throws IOException {
+        job.getFailedRows().incrementAndGet();
+        errors.write(rowNumber + "," + csv(email) + "," + csv(message) + "\r\n");
+    }
+
+    private static String csv(String value) {
+        if (value == null) {
+            return "";
+        }
+        boolean needsQuotes = value.chars().anyMatch(c -> c == ',' || c == '"' || c == '\n' || c == '\r');
+        return needsQuotes ? '"' + value.replace("\"", "\"\"") + '"' : value;
+    }
+
+    private static String extensionOf(String fileName) {
+        int dot = fileName.lastIndexOf('.');
+        return dot < 0 ? "" : fileName.substring(dot + 1).toLowerCase(Locale.ROOT);
+    }
+
+    private static String currentUsername() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null ? authentication.getName() : null;
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("Could not delete {}", path, e);
+        }
+    }
+
+    private static EmployeeImportJobResponse toResponse(ImportJob job) {
+        return EmployeeImportJobResponse.builder()
+                .id(job.getId())
+                .fileName(job.getFileName())
+                .status(job.getStatus().name())
+                .processedRows(job.getProcessedRows().get())
+                .importedRows(job.getImportedRows().get())
+                .failedRows(job.getFailedRows().get())
+                .submittedBy(job.getSubmittedBy())
+                .submittedAt(job.getSubmittedAt())
+                .startedAt(job.getStartedAt())
+                .finishedAt(job.getFinishedAt())
+                .message(job.getMessage())
+                .build();
+    }
+}
@@ -0,0 +1,169 @@
+package com.src.ap.service;
+
+import com.src.ap.datasource.Workload;
+import com.src.ap.datasource.WorkloadContext;
+import com.src.ap.entity.Employee;
+import com.src.ap.job.ClusterJob;
+import com.src.ap.job.JobChunk;
+import com.src.ap.job.JobRun;
+import com.src.ap.job.JobRunner;
+import com.src.ap.repository.EmployeeSearchTokenRepository;
+import com.src.ap.repository.EmployeeSearchTokenRepository.SearchToken;
+import com.src.ap.util.TextNormalizer;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Maintains the accent-folded search keys of employees.
+ *
+ * <p>Keys are rewritten inside the same transaction as the employee write, so search never sees
+ * a half-updated employee. On startup the table is rebuilt when it is empty, e.g. right after the
+ * migration that introduced it; the rebuild and the per-employee writes both lock the employee row
+ * first, so a rebuild never puts back keys a concurrent save has just replaced.</p>
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class EmployeeSearchIndexer {
+
+    private static final int MAX_TOKEN_LENGTH = 64;
+    private static final int REBUILD_BATCH_SIZE = 1000;
+
+    static final ClusterJob REBUILD_JOB = ClusterJob.single("employee-search-rebuild", Duration.ofMinutes(5));
+
+    @Getter
+    @RequiredArgsConstructor
+    public enum SearchField {
+        FULL_NAME(1, 10),
+        NAME_PART(2, 8),
+        CONTRACT_ID(3, 6),
+        EMAIL(4, 5),
+        PHONE(5, 4);
+
+        private final int code;
+        private final int weight;
+    }
+
+    private final EmployeeSearchTokenRepository employeeSearchTokenRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final JobRunner jobRunner;
+
+    public void index(Employee employee) {
+        employeeSearchTokenRepository.replaceTokens(employee.getId(), tokensFor(
+                employee.getFullName(), employee.getFirstName(), employee.getMiddleName(), employee.getLastName(),
+                employee.getEmail(), employee.getPhone(), employee.getContractId()));
+    }
+
+    public void remove(Long employeeId) {
+        employeeSearchTokenRepository.deleteByEmployeeId(employeeId);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIfEmpty() {
+        Integer employees = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM dbo.employees", Integer.class);
+        if (employees == null || employees == 0 || !employeeSearchTokenRepository.isEmpty()) {
+            return;
+        }
+        Thread.ofVirtual().name("employee-search-rebuild").start(WorkloadContext.wrap(Workload.BULK, this::rebuild));
+    }
+
+    /**
+     * Recomputes every employee's keys, walking the table in id order. The run holds the
+     * {@link #REBUILD_JOB} lease, so one node rebuilds at a time, and each batch is a chunk that
+     * resumes after the last id it committed.
+     */
+    public JobRun rebuild() {
+        return jobRunner.run(REBUILD_JOB, context ->
+                rebuildBatch(context.checkpoint() != null ? Long.parseLong(context.checkpoint()) : 0L));
+    }
+
+    /**
+     * Rewrites the keys of the next batch of employees after {@code lastId}. The employee rows are
+     * read with UPDLOCK, the same lock {@link EmployeeSearchTokenRepository#replaceTokens} takes
+     * before it touches an employee's keys: a concurrent save either finishes before the batch
+     * reads its row, or waits for the batch to commit and then writes its own keys over it.
+     */
+    JobChunk rebuildBatch(long lastId) {
+        List<Object[]> rows = new ArrayList<>();
+        List<Long> ids = new ArrayList<>();
+        jdbcTemplate.query("""
+                        SELECT id, full_name, first_name, middle_name, last_name, email, phone, contract_id
+                        FROM dbo.employees WITH (UPDLOCK)
+                        WHERE id > ?
+                        ORDER BY id
+                        OFFSET 0 ROWS FETCH NEXT ? ROWS ONLY
+                        """,
+                rs -> {
+                    long id = rs.getLong("id");
+                    ids.add(id);
+                    for (SearchToken token : tokensFor(rs.getString("full_name"), rs.getString("first_name"),
+                            rs.getString("middle_name"), rs.getString("last_name"), rs.getString("email"),
+                            rs.getString("phone"), rs.getString("contract_id"))) {
+                        rows.add(new Object[]{token.token(), id, token.field(), token.weight()});
+                    }
+                },
+                lastId, REBUILD_BATCH_SIZE);
+        if (ids.isEmpty()) {
+            return JobChunk.last(0);
+        }
+
+        long batchLastId = ids.get(ids.size() - 1);
+        employeeSearchTokenRepository.deleteByEmployeeIdRange(lastId, batchLastId);
+        employeeSearchTokenRepository.insertAll(rows);
+        return ids.size() < REBUILD_BATCH_SIZE
+                ? JobChunk.last(ids.size())
+                : JobChunk.next(Long.toString(batchLastId), ids.size());
+    }
+
+    /**
+     * Builds the keys of one employee. A token is kept once per field; the same token reached
+     * through several fields is stored for each, and search scores it by the best field.
+     */
+    static List<SearchToken> tokensFor(String fullName, String firstName, String middleName, String lastName,
+                                       String email, String phone, String contractId) {
+        Map<String, SearchToken> tokens = new LinkedHashMap<>();
+        TextNormalizer.tokenize(fullName).forEach(token -> add(tokens, token, SearchField.FULL_NAME));
+        for (String part : new String[]{firstName, middleName, lastName}) {
+            TextNormalizer.tokenize(part).forEach(token -> add(tokens, token, SearchField.NAME_PART));
+        }
+
+        if (contractId != null) {
+            add(tokens, String.join("", TextNormalizer.tokenize(contractId)), SearchField.CONTRACT_ID);
+            TextNormalizer.tokenize(contractId).forEach(token -> add(tokens, token, SearchField.CONTRACT_ID));
+        }
+
+        if (email != null) {
+            add(tokens, TextNormalizer.fold(email), SearchField.EMAIL);
+            TextNormalizer.tokenize(email).forEach(token -> add(tokens, token, SearchField.EMAIL));
+        }
+
+        String digits = TextNormalizer.digits(phone);
+        add(tokens, digits, SearchField.PHONE);
+        // Numbers are typed both in national (0xx) and international (84xx) form.
+        if (digits.startsWith("84") && digits.length() > 9) {
+            add(tokens, "0" + digits.substring(2), SearchField.PHONE);
+        } else if (digits.startsWith("0") && digits.length() > 9) {
+            add(tokens, "84" + digits.substring(1), SearchField.PHONE);
+        }
+        return new ArrayList<>(tokens.values());
+    }
+
+    private static void add(Map<String, SearchToken> tokens, String token, SearchField field) {
+        if (token == null || token.isEmpty()) {
+            return;
+        }
+        String key = token.length() > MAX_TOKEN_LENGTH ? token.substring(0, MAX_TOKEN_LENGTH) : token;
+        tokens.putIfAbsent(field.getCode() + ":" + key, new SearchToken(key, field.getCode(), field.getWeight()));
+    }
+}
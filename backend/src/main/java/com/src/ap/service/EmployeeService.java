@@ -3,28 +3,51 @@ package com.src.ap.service;
 import com.src.ap.dto.common.PageResponse;
 import com.src.ap.dto.employee.EmployeeRequest;
 import com.src.ap.dto.employee.EmployeeResponse;
+import com.src.ap.entity.Branch;
 import com.src.ap.entity.Employee;
 import com.src.ap.entity.Occupation;
-import com.src.ap.exception.DuplicateResourceException;
+import com.src.ap.event.EmployeeFacts;
+import com.src.ap.event.EmployeeFactsChangedEvent;
+import com.src.ap.event.EntityChangeEvent;
+import com.src.ap.event.EntityType;
 import com.src.ap.exception.ResourceNotFoundException;
 import com.src.ap.mapper.EmployeeMapper;
+import com.src.ap.repository.BranchRepository;
 import com.src.ap.repository.EmployeeRepository;
+import com.src.ap.repository.EmployeeSearchTokenRepository;
 import com.src.ap.repository.OccupationRepository;
+import com.src.ap.util.TextNormalizer;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 @Service
 @RequiredArgsConstructor
 public class EmployeeService {
 
+    private static final int MIN_SEARCH_TOKEN_LENGTH = 2;
+    private static final int MAX_SEARCH_TOKENS = 8;
+
     private final EmployeeRepository employeeRepository;
     private final OccupationRepository occupationRepository;
+    private final BranchRepository branchRepository;
     private final EmployeeMapper employeeMapper;
+    private final EmployeeSearchTokenRepository employeeSearchTokenRepository;
+    private final EmployeeSearchIndexer employeeSearchIndexer;
+    private final EmployeeHierarchyService employeeHierarchyService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional(readOnly = true)
     public PageResponse<EmployeeResponse> getAllEmployees(int page, int size, String sortBy, String sortDir) {
@@ -32,40 +55,57 @@ public class EmployeeService {
                 ? Sort.by(sortBy).descending()
                 : Sort.by(sortBy).ascending();
         Pageable pageable = PageRequest.of(page, size, sort);
-        Page<Employee> employees = employeeRepository.findAll(pageable);
-        Page<EmployeeResponse> responsePage = employees.map(employeeMapper::toResponse);
-        return PageResponse.of(responsePage);
+        return PageResponse.of(employeeRepository.findAllResponses(pageable));
     }
 
     @Transactional(readOnly = true)
     public EmployeeResponse getEmployeeById(Long id) {
-        Employee employee = employeeRepository.findById(id)
+        return employeeRepository.findResponseById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Employee", "id", id));
-        return employeeMapper.toResponse(employee);
     }
 
+    /**
+     * Accent-insensitive search over name, email, phone and contract id. Every word of the keyword
+     * must prefix-match one of the employee's search keys; results are ranked by which fields
+     * matched and whether the match was exact.
+     */
     @Transactional(readOnly = true)
     public PageResponse<EmployeeResponse> searchEmployees(String keyword, int page, int size) {
         Pageable pageable = PageRequest.of(page, size);
-        Page<Employee> employees = employeeRepository.searchByKeyword(keyword, pageable);
-        Page<EmployeeResponse> responsePage = employees.map(employeeMapper::toResponse);
-        return PageResponse.of(responsePage);
+        List<String> queryTokens = TextNormalizer.tokenize(keyword).stream()
+                .filter(token -> token.length() >= MIN_SEARCH_TOKEN_LENGTH)
+                .distinct()
+                .limit(MAX_SEARCH_TOKENS)
+                .toList();
+        if (queryTokens.isEmpty()) {
+            return PageResponse.of(Page.empty(pageable));
+        }
+
+        EmployeeSearchTokenRepository.SearchPage matches =
+                employeeSearchTokenRepository.search(queryTokens, pageable.getOffset(), size);
+        long total = matches.total();
+        List<Long> rankedIds = matches.ids();
+        if (rankedIds.isEmpty()) {
+            return PageResponse.of(new PageImpl<>(List.of(), pageable, total));
+        }
+
+        Map<Long, EmployeeResponse> byId = employeeRepository.findResponsesByIds(rankedIds).stream()
+                .collect(Collectors.toMap(EmployeeResponse::getId, Function.identity()));
+        List<EmployeeResponse> content = rankedIds.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .toList();
+        return PageResponse.of(new PageImpl<>(content, pageable, total));
     }
 
     @Transactional(readOnly = true)
     public PageResponse<EmployeeResponse> getEmployeesByOccupation(Long occupationId, int page, int size) {
         Pageable pageable = PageRequest.of(page, size);
-        Page<Employee> employees = employeeRepository.findByOccupationId(occupationId, pageable);
-        Page<EmployeeResponse> responsePage = employees.map(employeeMapper::toResponse);
-        return PageResponse.of(responsePage);
+        return PageResponse.of(employeeRepository.findResponsesByOccupationId(occupationId, pageable));
     }
 
     @Transactional
     public EmployeeResponse createEmployee(EmployeeRequest request) {
-        if (employeeRepository.existsByEmail(request.getEmail())) {
-            throw new DuplicateResourceException("Employee", "email", request.getEmail());
-        }
-
         Employee employee = employeeMapper.toEntity(request);
 
         if (request.getOccupationId() != null) {
@@ -73,8 +113,20 @@ public class EmployeeService {
                     .orElseThrow(() -> new ResourceNotFoundException("Occupation", "id", request.getOccupationId()));
             employee.setOccupation(occupation);
         }
+        if (request.getBranchId() != null) {
+            employee.setBranch(findBranch(request.getBranchId()));
+        }
+        if (request.getSupervisorId() != null) {
+            employee.setSupvEmployee(findSupervisor(request.getSupervisorId()));
+        }
 
-        employee = employeeRepository.save(employee);
+        // UK_employees_email rejects duplicates. The flush also has to happen before the search
+        // tokens and hierarchy rows are written over JDBC, since their foreign keys need the employee row.
+        employee = employeeRepository.saveAndFlush(employee);
+        employeeHierarchyService.attach(employee.getId(), request.getSupervisorId());
+        eventPublisher.publishEvent(EmployeeFactsChangedEvent.created(EmployeeFacts.of(employee)));
+        eventPublisher.publishEvent(EntityChangeEvent.created(EntityType.EMPLOYEE, employee.getId()));
+        employeeSearchIndexer.index(employee);
         return employeeMapper.toResponse(employee);
     }
 
@@ -82,10 +134,7 @@ public class EmployeeService {
     public EmployeeResponse updateEmployee(Long id, EmployeeRequest request) {
         Employee employee = employeeRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Employee", "id", id));
-
-        if (!employee.getEmail().equals(request.getEmail()) && employeeRepository.existsByEmail(request.getEmail())) {
-            throw new DuplicateResourceException("Employee", "email", request.getEmail());
-        }
+        EmployeeFacts before = EmployeeFacts.of(employee);
 
         employeeMapper.updateEntity(request, employee);
 
@@ -96,16 +145,38 @@ public class EmployeeService {
         } else {
             employee.setOccupation(null);
         }
+        employee.setBranch(request.getBranchId() != null ? findBranch(request.getBranchId()) : null);
 
-        employee = employeeRepository.save(employee);
+        Long currentSupervisorId = employee.getSupvEmployee() != null ? employee.getSupvEmployee().getId() : null;
+        employeeHierarchyService.changeSupervisor(id, currentSupervisorId, request.getSupervisorId());
+        employee.setSupvEmployee(request.getSupervisorId() != null ? findSupervisor(request.getSupervisorId()) : null);
+
+        employee = employeeRepository.saveAndFlush(employee);
+        eventPublisher.publishEvent(EmployeeFactsChangedEvent.updated(before, EmployeeFacts.of(employee)));
+        eventPublisher.publishEvent(EntityChangeEvent.updated(EntityType.EMPLOYEE, employee.getId()));
+        employeeSearchIndexer.index(employee);
         return employeeMapper.toResponse(employee);
     }
 
     @Transactional
     public void deleteEmployee(Long id) {
-        if (!employeeRepository.existsById(id)) {
-            throw new ResourceNotFoundException("Employee", "id", id);
-        }
-        employeeRepository.deleteById(id);
+        Employee employee = employeeRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Employee", "id", id));
+        EmployeeFacts facts = EmployeeFacts.of(employee);
+        employeeHierarchyService.detach(id);
+        employeeSearchIndexer.remove(id);
+        employeeRepository.delete(employee);
+        eventPublisher.publishEvent(EmployeeFactsChangedEvent.deleted(facts));
+        eventPublisher.publishEvent(EntityChangeEvent.deleted(EntityType.EMPLOYEE, id));
+    }
+
+    private Branch findBranch(Long branchId) {
+        return branchRepository.findById(branchId)
+                .orElseThrow(() -> new ResourceNotFoundException("Branch", "id", branchId));
+    }
+
+    private Employee findSupervisor(Long supervisorId) {
+        return employeeRepository.findById(supervisorId)
+                .orElseThrow(() -> new ResourceNotFoundException("Employee", "id", supervisorId));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,74 @@
+package com.src.ap.service;
+
+import com.src.ap.columnar.EmployeeSnapshot;
+import com.src.ap.columnar.SliceCriteria;
+import com.src.ap.dto.common.PageResponse;
+import com.src.ap.dto.employee.EmployeeResponse;
+import com.src.ap.dto.employee.EmployeeSliceRequest;
+import com.src.ap.exception.ServiceUnavailableException;
+import com.src.ap.repository.EmployeeRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Ad-hoc employee slicing: filters and counts are answered from the in-memory
+ * {@link EmployeeSnapshot}, and only the ids on the requested page are read from the database.
+ */
+@Service
+@RequiredArgsConstructor
+public class EmployeeSliceService {
+
+    private static final Duration SNAPSHOT_LOADING_RETRY_AFTER = Duration.ofSeconds(5);
+
+    private final EmployeeSnapshot employeeSnapshot;
+    private final EmployeeRepository employeeRepository;
+
+    public long count(EmployeeSliceRequest request) {
+        return employeeSnapshot.count(toCriteria(request));
+    }
+
+    /**
+     * Matching employees ordered by id. An employee deleted after the snapshot matched it is
+     * simply missing from its page.
+     */
+    @Transactional(readOnly = true)
+    public PageResponse<EmployeeResponse> slice(EmployeeSliceRequest request, int page, int size) {
+        long[] ids = employeeSnapshot.matchingIds(toCriteria(request));
+        PageRequest pageable = PageRequest.of(page, size);
+        int from = (int) Math.min(pageable.getOffset(), ids.length);
+        int to = Math.min(from + size, ids.length);
+
+        List<Long> pageIds = Arrays.stream(ids, from, to).boxed().toList();
+        List<EmployeeResponse> content = new ArrayList<>(pageIds.size());
+        if (!pageIds.isEmpty()) {
+            Map<Long, EmployeeResponse> byId = employeeRepository.findResponsesByIds(pageIds).stream()
+                    .collect(Collectors.toMap(EmployeeResponse::getId, Function.identity()));
+            pageIds.stream().map(byId::get).filter(Objects::nonNull).forEach(content::add);
+        }
+        return PageResponse.of(new PageImpl<>(content, pageable, ids.length));
+    }
+
+    private SliceCriteria toCriteria(EmployeeSliceRequest request) {
+        if (!employeeSnapshot.isLoaded()) {
+            throw new ServiceUnavailableException("Employee snapshot is still loading, please retry shortly",
+                    SNAPSHOT_LOADING_RETRY_AFTER);
+        }
+        EmployeeSliceRequest filter = request != null ? request : new EmployeeSliceRequest();
+        return new SliceCriteria(filter.getOccupationIds(), filter.getBranchIds(), filter.getWorkStatuses(),
+                filter.getSupervisorIds(), filter.getHiredFrom(), filter.getHiredTo(),
+                filter.getTerminatedFrom(), filter.getTerminatedTo(), filter.getBornFrom(), filter.getBornTo(),
+                filter.getTerminated());
+    }
+}
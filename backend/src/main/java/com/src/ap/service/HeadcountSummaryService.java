@@ -0,0 +1,163 @@
+package com.src.ap.service;
+
+import com.src.ap.dto.analytics.HeadcountGroupResponse;
+import com.src.ap.dto.analytics.HeadcountSummaryResponse;
+import com.src.ap.event.EmployeeFacts;
+import com.src.ap.event.EmployeeFactsChangedEvent;
+import com.src.ap.exception.BadRequestException;
+import com.src.ap.job.ClusterJob;
+import com.src.ap.job.JobChunk;
+import com.src.ap.job.JobRunner;
+import com.src.ap.repository.HeadcountSummaryRepository;
+import com.src.ap.repository.HeadcountSummaryRepository.HeadcountKey;
+import com.src.ap.repository.HeadcountSummaryRepository.Movement;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Headcount by branch, occupation and work status, plus hires and terminations per month, kept
+ * as pre-aggregated rows so dashboards never scan dbo.employees.
+ *
+ * <p>Every employee write publishes an {@link EmployeeFactsChangedEvent}; this service turns it
+ * into per-row deltas and applies them in the same transaction. A nightly reconcile recomputes
+ * the summaries from dbo.employees and applies the difference, so anything written around the
+ * services (manual SQL, a failed listener) is corrected within a day. The reconcile runs on one
+ * replica at a time through the {@link JobRunner}.</p>
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class HeadcountSummaryService {
+
+    private static final int DEFAULT_MONTHS = 12;
+    private static final int MAX_MONTHS = 120;
+
+    static final ClusterJob RECONCILE_JOB = ClusterJob.single("headcount-reconcile", Duration.ofMinutes(10))
+            .oncePer(Duration.ofHours(12));
+
+    private final HeadcountSummaryRepository headcountSummaryRepository;
+    private final JobRunner jobRunner;
+
+    @EventListener
+    public void onEmployeeFactsChanged(EmployeeFactsChangedEvent event) {
+        Map<HeadcountKey, Long> headcounts = new HashMap<>();
+        Map<YearMonth, Movement> movements = new HashMap<>();
+        event.removed().forEach(facts -> accumulate(headcounts, movements, facts, -1));
+        event.added().forEach(facts -> accumulate(headcounts, movements, facts, 1));
+        headcountSummaryRepository.applyHeadcountDeltas(headcounts);
+        headcountSummaryRepository.applyMovementDeltas(movements);
+    }
+
+    @Transactional(readOnly = true)
+    public HeadcountSummaryResponse getSummary(YearMonth from, YearMonth to) {
+        YearMonth end = to != null ? to : YearMonth.now();
+        YearMonth start = from != null ? from : end.minusMonths(DEFAULT_MONTHS - 1);
+        if (start.isAfter(end)) {
+            throw new BadRequestException("from must not be after to");
+        }
+        if (start.plusMonths(MAX_MONTHS).isBefore(end)) {
+            throw new BadRequestException("At most " + MAX_MONTHS + " months can be requested at once");
+        }
+
+        List<HeadcountGroupResponse> byWorkStatus = headcountSummaryRepository.findByWorkStatus();
+        return HeadcountSummaryResponse.builder()
+                .total(byWorkStatus.stream().mapToLong(HeadcountGroupResponse::getHeadcount).sum())
+                .byBranch(headcountSummaryRepository.findByBranch())
+                .byOccupation(headcountSummaryRepository.findByOccupation())
+                .byWorkStatus(byWorkStatus)
+                .movements(headcountSummaryRepository.findMovements(start, end))
+                .build();
+    }
+
+    @Scheduled(cron = "${app.analytics.reconcile-cron:0 45 2 * * *}")
+    public void scheduledReconcile() {
+        jobRunner.run(RECONCILE_JOB, context -> JobChunk.last(reconcile()));
+    }
+
+    /**
+     * Recomputes the summaries from dbo.employees and applies only the difference, so rows kept
+     * correct by the incremental path are not rewritten and concurrent deltas are not lost.
+     *
+     * <p>The summary tables are locked before anything is read. Otherwise an employee write
+     * committing between the two reads is counted on one side only and "corrected" into drift.
+     * With the lock held, a write either finished before the reconcile read both sides, or applies
+     * its delta after the reconcile commits. A write that has already changed its employee row but
+     * not yet its delta can deadlock with the reconcile; SQL Server then rolls one of them back
+     * whole, and no correction is made from a half-seen write.</p>
+     *
+     * @return the number of summary rows corrected
+     */
+    @Transactional
+    public int reconcile() {
+        headcountSummaryRepository.lockSummaries();
+        Map<HeadcountKey, Long> headcountDrift = difference(
+                headcountSummaryRepository.countHeadcounts(), headcountSummaryRepository.findHeadcounts());
+        Map<YearMonth, Movement> movementDrift = movementDifference(
+                headcountSummaryRepository.countMovements(), headcountSummaryRepository.findMovements());
+
+        headcountSummaryRepository.applyHeadcountDeltas(headcountDrift);
+        headcountSummaryRepository.applyMovementDeltas(movementDrift);
+        headcountSummaryRepository.deleteEmpty();
+
+        if (!headcountDrift.isEmpty() || !movementDrift.isEmpty()) {
+            log.warn("Headcount reconcile corrected {} headcount rows and {} monthly movement rows",
+                    headcountDrift.size(), movementDrift.size());
+        }
+        return headcountDrift.size() + movementDrift.size();
+    }
+
+    private static void accumulate(Map<HeadcountKey, Long> headcounts, Map<YearMonth, Movement> movements,
+                                   EmployeeFacts facts, int sign) {
+        headcounts.merge(new HeadcountKey(facts.branchId(), facts.occupationId(), facts.workStatus()),
+                (long) sign, Long::sum);
+        addMovement(movements, facts.hireDt(), new Movement(sign, 0));
+        addMovement(movements, facts.terminationDt(), new Movement(0, sign));
+    }
+
+    private static void addMovement(Map<YearMonth, Movement> movements, LocalDate date, Movement delta) {
+        if (date != null) {
+            movements.merge(YearMonth.from(date), delta, Movement::plus);
+        }
+    }
+
+    private static Map<HeadcountKey, Long> difference(Map<HeadcountKey, Long> expected, Map<HeadcountKey, Long> actual) {
+        Set<HeadcountKey> keys = new HashSet<>(expected.keySet());
+        keys.addAll(actual.keySet());
+        Map<HeadcountKey, Long> drift = new HashMap<>();
+        for (HeadcountKey key : keys) {
+            long delta = expected.getOrDefault(key, 0L) - actual.getOrDefault(key, 0L);
+            if (delta != 0) {
+                drift.put(key, delta);
+            }
+        }
+        return drift;
+    }
+
+    private static Map<YearMonth, Movement> movementDifference(Map<YearMonth, Movement> expected,
+                                                               Map<YearMonth, Movement> actual) {
+        Set<YearMonth> months = new HashSet<>(expected.keySet());
+        months.addAll(actual.keySet());
+        Map<YearMonth, Movement> drift = new HashMap<>();
+        for (YearMonth month : months) {
+            Movement delta = expected.getOrDefault(month, Movement.NONE)
+                    .minus(actual.getOrDefault(month, Movement.NONE));
+            if (!delta.isZero()) {
+                drift.put(month, delta);
+            }
+        }
+        return drift;
+    }
+}
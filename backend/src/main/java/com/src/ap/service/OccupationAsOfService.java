@@ -0,0 +1,206 @@
+package com.src.ap.service;
+
+import com.src.ap.audit.OccupationState;
+import com.src.ap.config.AuditAsOfConfig;
+import com.src.ap.dto.common.PageResponse;
+import com.src.ap.dto.occupation.OccupationHistoryResponse;
+import com.src.ap.dto.occupation.OccupationResponse;
+import com.src.ap.exception.BadRequestException;
+import com.src.ap.exception.ResourceNotFoundException;
+import com.src.ap.job.ClusterJob;
+import com.src.ap.job.JobChunk;
+import com.src.ap.job.JobRunner;
+import com.src.ap.repository.OccupationHistoryRepository;
+import com.src.ap.repository.OccupationSnapshotRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Point-in-time ("as of") reads of the Occupation catalogue, reconstructed from the
+ * hg_occupations audit trail.
+ *
+ * <p>A catalogue state at tx_id T is rebuilt by starting from the closest known state at or
+ * before T — either a persisted snapshot or a recently reconstructed state still in the LRU —
+ * and replaying the trail rows after it. Timestamps are compared against changed_at, which the
+ * audit trigger records in UTC, so {@code asOf} values are interpreted as UTC.</p>
+ *
+ * <p>The trail is read with READCOMMITTEDLOCK (see {@link OccupationHistoryRepository#findTrail}),
+ * so a lower tx_id still being inserted when a state is built is waited for rather than left out
+ * of the snapshot or cached state for good.</p>
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class OccupationAsOfService {
+
+    private static final Map<String, Comparator<OccupationResponse>> SORTABLE_FIELDS = Map.of(
+            "id", Comparator.comparing(OccupationResponse::getId),
+            "name", nullsLast(OccupationResponse::getName),
+            "description", nullsLast(OccupationResponse::getDescription),
+            "createdAt", nullsLast(OccupationResponse::getCreatedAt),
+            "updatedAt", nullsLast(OccupationResponse::getUpdatedAt)
+    );
+
+    static final ClusterJob SNAPSHOT_JOB = ClusterJob.single("occupation-snapshot", Duration.ofMinutes(30))
+            .oncePer(Duration.ofMinutes(30));
+
+    private final OccupationHistoryRepository occupationHistoryRepository;
+    private final OccupationSnapshotRepository occupationSnapshotRepository;
+    private final AuditAsOfConfig asOfConfig;
+    private final JobRunner jobRunner;
+
+    private final LinkedHashMap<Long, Map<Long, OccupationState>> recentStates =
+            new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Long, Map<Long, OccupationState>> eldest) {
+                    return size() > asOfConfig.getCacheSize();
+                }
+            };
+
+    public PageResponse<OccupationResponse> getOccupationsAsOf(LocalDateTime asOf, int page, int size,
+                                                               String sortBy, String sortDir) {
+        Comparator<OccupationResponse> comparator = SORTABLE_FIELDS.get(sortBy);
+        if (comparator == null) {
+            throw new BadRequestException("Invalid sort field for as-of reads: " + sortBy
+                    + ". Allowed fields: " + String.join(", ", SORTABLE_FIELDS.keySet()));
+        }
+        if (sortDir.equalsIgnoreCase("desc")) {
+            comparator = comparator.reversed();
+        }
+
+        List<OccupationResponse> all = stateAt(asOf).values().stream()
+                .map(OccupationAsOfService::toResponse)
+                .sorted(comparator)
+                .toList();
+
+        PageRequest pageable = PageRequest.of(page, size, sortDir.equalsIgnoreCase("desc")
+                ? Sort.by(sortBy).descending()
+                : Sort.by(sortBy).ascending());
+        int from = (int) Math.min(pageable.getOffset(), all.size());
+        int to = Math.min(from + size, all.size());
+        return PageResponse.of(new PageImpl<>(all.subList(from, to), pageable, all.size()));
+    }
+
+    public OccupationResponse getOccupationAsOf(Long id, LocalDateTime asOf) {
+        // A single row only needs its own latest audit entry, which the (id, changed_at) index seeks directly.
+        return occupationHistoryRepository.findLatestAtOrBefore(id, asOf)
+                .filter(row -> !"D".equals(row.getOp()))
+                .map(OccupationState::from)
+                .map(OccupationAsOfService::toResponse)
+                .orElseThrow(() -> new ResourceNotFoundException("Occupation", "id", id));
+    }
+
+    /**
+     * Persists a new snapshot at the current end of the trail once enough rows have accumulated
+     * since the last one. Runs on one node at a time, so replicas do not race to save the same
+     * snapshot.
+     */
+    @Scheduled(cron = "${app.audit.as-of.snapshot-cron:0 15 * * * *}")
+    public void scheduledSnapshot() {
+        jobRunner.run(SNAPSHOT_JOB, context -> JobChunk.last(takeSnapshotIfDue()));
+    }
+
+    /**
+     * @return the number of catalogue rows in the new snapshot, 0 if none was due
+     */
+    int takeSnapshotIfDue() {
+        long latestTxId = occupationHistoryRepository.findLatestTxId();
+        long lastSnapshotTxId = occupationSnapshotRepository.findLatestTxId();
+        if (latestTxId - lastSnapshotTxId < asOfConfig.getSnapshotIntervalRows()) {
+            return 0;
+        }
+
+        Map<Long, OccupationState> state = stateAtTxId(latestTxId);
+        occupationSnapshotRepository.save(latestTxId, state.values());
+        log.info("Saved occupation catalogue snapshot at tx_id {} ({} rows)", latestTxId, state.size());
+        return state.size();
+    }
+
+    private Map<Long, OccupationState> stateAt(LocalDateTime asOf) {
+        return stateAtTxId(occupationHistoryRepository.findTxIdAtOrBefore(asOf));
+    }
+
+    private Map<Long, OccupationState> stateAtTxId(long txId) {
+        if (txId == 0) {
+            return Map.of();
+        }
+
+        Map.Entry<Long, Map<Long, OccupationState>> cachedBase;
+        synchronized (recentStates) {
+            Map<Long, OccupationState> cached = recentStates.get(txId);
+            if (cached != null) {
+                return cached;
+            }
+            cachedBase = recentStates.entrySet().stream()
+                    .filter(entry -> entry.getKey() < txId)
+                    .max(Map.Entry.comparingByKey())
+                    .orElse(null);
+        }
+
+        long baseTxId = 0;
+        Map<Long, OccupationState> state = new HashMap<>();
+        Optional<OccupationSnapshotRepository.SnapshotHeader> snapshot = occupationSnapshotRepository.findLatestAtOrBefore(txId);
+        if (cachedBase != null && (snapshot.isEmpty() || cachedBase.getKey() >= snapshot.get().txId())) {
+            baseTxId = cachedBase.getKey();
+            state.putAll(cachedBase.getValue());
+        } else if (snapshot.isPresent()) {
+            baseTxId = snapshot.get().txId();
+            state.putAll(occupationSnapshotRepository.findRows(snapshot.get().snapshotId()));
+        }
+
+        List<OccupationHistoryResponse> trail = occupationHistoryRepository.findTrail(baseTxId, txId);
+        trail.forEach(row -> apply(state, row));
+        log.debug("Reconstructed occupation catalogue at tx_id {} from base {} by replaying {} rows",
+                txId, baseTxId, trail.size());
+
+        Map<Long, OccupationState> result = Collections.unmodifiableMap(state);
+        synchronized (recentStates) {
+            recentStates.put(txId, result);
+        }
+        return result;
+    }
+
+    /**
+     * Applies one audit row to a catalogue state: 'C' and 'U' rows carry the full new row image,
+     * 'D' removes the occupation.
+     */
+    static void apply(Map<Long, OccupationState> state, OccupationHistoryResponse row) {
+        switch (row.getOp()) {
+            case "C", "U" -> state.put(row.getId(), OccupationState.from(row));
+            case "D" -> state.remove(row.getId());
+            default -> log.warn("Ignoring hg_occupations row {} with unknown op '{}'", row.getTxId(), row.getOp());
+        }
+    }
+
+    private static OccupationResponse toResponse(OccupationState state) {
+        // employees are not part of the audit trail, so employeeCount is left at 0 for historical reads
+        return OccupationResponse.builder()
+                .id(state.id())
+                .name(state.name())
+                .description(state.description())
+                .createdAt(state.createdAt())
+                .updatedAt(state.updatedAt())
+                .build();
+    }
+
+    private static <U extends Comparable<? super U>> Comparator<OccupationResponse> nullsLast(
+            Function<OccupationResponse, U> keyExtractor) {
+        return Comparator.comparing(keyExtractor, Comparator.nullsLast(Comparator.naturalOrder()));
+    }
+}
@@ -0,0 +1,229 @@
+package com.src.ap.service;
+
+import com.src.ap.config.AuditFeedConfig;
+import com.src.ap.dto.occupation.OccupationHistoryResponse;
+import com.src.ap.repository.OccupationHistoryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Streams new hg_occupations rows to subscribed clients as server-sent events.
+ *
+ * <p>One poller per node tails the trail by tx_id and fans every row out to all subscribers, so
+ * the database sees a single query per interval no matter how many screens are open. Each event
+ * carries its tx_id as the SSE id; a reconnecting client sends it back as {@code Last-Event-ID}
+ * and is replayed what it missed before joining the live stream.</p>
+ *
+ * <p>Every subscriber gets a small buffer drained by its own virtual thread, so a slow client only
+ * ever blocks itself. A client that falls a full buffer behind is disconnected and resumes from
+ * its last event id.</p>
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class OccupationChangeFeed {
+
+    static final String CHANGE_EVENT = "occupation-change";
+    static final String RESET_EVENT = "reset";
+
+    private final OccupationHistoryRepository occupationHistoryRepository;
+    private final AuditFeedConfig feedConfig;
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Held across trail queries, so a lock rather than {@code synchronized}, which would pin a
+     * virtual thread to its carrier while it waits on the database.
+     */
+    private final ReentrantLock cursorLock = new ReentrantLock();
+
+    /**
+     * Highest tx_id already broadcast; -1 while nobody is subscribed and the tail is not running.
+     */
+    private long cursor = -1;
+
+    /**
+     * Opens a stream. With {@code lastEventId} the rows after it are replayed first; the replay
+     * and registration happen under the cursor lock so nothing is missed or sent twice between
+     * the replay and the live tail. Delivery starts before the lock is released, so the live
+     * tail finds the buffer already draining.
+     */
+    public SseEmitter subscribe(Long lastEventId) {
+        return subscribe(lastEventId, new SseEmitter(feedConfig.getEmitterTimeoutMs()));
+    }
+
+    SseEmitter subscribe(Long lastEventId, SseEmitter emitter) {
+        Subscriber subscriber = new Subscriber(emitter, feedConfig.getSubscriberBuffer());
+        emitter.onCompletion(subscriber::close);
+        emitter.onTimeout(subscriber::close);
+        emitter.onError(error -> subscriber.close());
+
+        cursorLock.lock();
+        try {
+            long head = currentCursor();
+            if (lastEventId != null && lastEventId < head) {
+                backfill(subscriber, lastEventId, head);
+            }
+            subscribers.add(subscriber);
+            subscriber.start();
+        } finally {
+            cursorLock.unlock();
+        }
+        return emitter;
+    }
+
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    @Scheduled(fixedDelayString = "${app.audit.feed.poll-interval-ms:1000}")
+    public void poll() {
+        if (subscribers.isEmpty()) {
+            cursorLock.lock();
+            try {
+                cursor = -1;
+            } finally {
+                cursorLock.unlock();
+            }
+            return;
+        }
+
+        cursorLock.lock();
+        try {
+            long from = currentCursor();
+            List<OccupationHistoryResponse> rows;
+            do {
+                rows = occupationHistoryRepository.findAfter(cursor, feedConfig.getBatchSize());
+                for (OccupationHistoryResponse row : rows) {
+                    subscribers.forEach(subscriber -> subscriber.offer(changeEvent(row)));
+                    cursor = row.getTxId();
+                }
+            } while (rows.size() == feedConfig.getBatchSize());
+
+            if (cursor > from) {
+                log.debug("Broadcast occupation changes {}..{} to {} subscribers", from + 1, cursor, subscribers.size());
+            }
+        } finally {
+            cursorLock.unlock();
+        }
+    }
+
+    @Scheduled(fixedRateString = "${app.audit.feed.heartbeat-interval-ms:15000}")
+    public void heartbeat() {
+        subscribers.forEach(subscriber -> subscriber.offer(SseEmitter.event().comment("heartbeat")));
+    }
+
+    private long currentCursor() {
+        if (cursor < 0) {
+            cursor = occupationHistoryRepository.findLatestTxId();
+        }
+        return cursor;
+    }
+
+    /**
+     * Replays at most what fits in the subscriber's buffer. A longer replay would overflow it
+     * before delivery starts, disconnecting the client, which would then resume from the same
+     * position and overflow again; such a client is told to reload instead.
+     */
+    private void backfill(Subscriber subscriber, long lastEventId, long head) {
+        if (lastEventId < occupationHistoryRepository.currentArchiveWatermark()) {
+            subscriber.offer(resetEvent("Requested position has been archived"));
+            return;
+        }
+
+        int limit = Math.min(feedConfig.getMaxBackfill(), subscriber.freeCapacity());
+        List<OccupationHistoryResponse> missed = occupationHistoryRepository.findAfter(lastEventId, limit + 1)
+                .stream()
+                .filter(row -> row.getTxId() <= head)
+                .toList();
+        if (missed.size() > limit) {
+            subscriber.offer(resetEvent("Too many changes missed"));
+            return;
+        }
+        missed.forEach(row -> subscriber.offer(changeEvent(row)));
+    }
+
+    private static SseEmitter.SseEventBuilder changeEvent(OccupationHistoryResponse row) {
+        return SseEmitter.event()
+                .id(String.valueOf(row.getTxId()))
+                .name(CHANGE_EVENT)
+                .data(row, MediaType.APPLICATION_JSON);
+    }
+
+    /**
+     * Tells the client its position cannot be resumed and it should reload the list.
+     */
+    private static SseEmitter.SseEventBuilder resetEvent(String reason) {
+        return SseEmitter.event()
+                .name(RESET_EVENT)
+                .data(Map.of("reason", reason), MediaType.APPLICATION_JSON);
+    }
+
+    private final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final BlockingQueue<SseEmitter.SseEventBuilder> buffer;
+        private volatile boolean closed;
+
+        private Subscriber(SseEmitter emitter, int capacity) {
+            this.emitter = emitter;
+            this.buffer = new ArrayBlockingQueue<>(capacity);
+        }
+
+        private int freeCapacity() {
+            return buffer.remainingCapacity();
+        }
+
+        private void start() {
+            Thread.ofVirtual().name("occupation-feed-subscriber").start(this::deliver);
+        }
+
+        private void offer(SseEmitter.SseEventBuilder event) {
+            if (closed) {
+                return;
+            }
+            if (!buffer.offer(event)) {
+                log.debug("Disconnecting slow occupation feed subscriber");
+                close();
+                emitter.complete();
+            }
+        }
+
+        private void deliver() {
+            try {
+                while (!closed) {
+                    SseEmitter.SseEventBuilder event = buffer.poll(1, TimeUnit.SECONDS);
+                    if (event != null) {
+                        emitter.send(event);
+                    }
+                }
+            } catch (IOException | IllegalStateException e) {
+                // Client went away; the emitter callbacks or the next offer clean up.
+                close();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                close();
+            }
+        }
+
+        private void close() {
+            closed = true;
+            subscribers.remove(this);
+            buffer.clear();
+        }
+    }
+}
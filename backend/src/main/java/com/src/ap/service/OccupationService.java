@@ -1,18 +1,23 @@
 package com.src.ap.service;
 
 import com.src.ap.dto.common.PageResponse;
-import com.src.ap.audit.AuditSessionContextService;
+import com.src.ap.audit.OccupationHistoryArchiver;
+import com.src.ap.dto.occupation.OccupationHistoryArchiveStatus;
+import com.src.ap.dto.occupation.OccupationHistoryPageResponse;
 import com.src.ap.dto.occupation.OccupationHistoryResponse;
 import com.src.ap.dto.occupation.OccupationRequest;
 import com.src.ap.dto.occupation.OccupationResponse;
 import com.src.ap.entity.Occupation;
+import com.src.ap.event.EntityChangeEvent;
+import com.src.ap.event.EntityType;
 import com.src.ap.exception.BadRequestException;
-import com.src.ap.exception.DuplicateResourceException;
 import com.src.ap.exception.ResourceNotFoundException;
 import com.src.ap.mapper.OccupationMapper;
+import com.src.ap.repository.EmployeeCountRepository;
 import com.src.ap.repository.OccupationHistoryRepository;
 import com.src.ap.repository.OccupationRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -28,9 +33,11 @@ import java.util.Map;
 public class OccupationService {
 
     private final OccupationRepository occupationRepository;
+    private final EmployeeCountRepository employeeCountRepository;
     private final OccupationHistoryRepository occupationHistoryRepository;
     private final OccupationMapper occupationMapper;
-    private final AuditSessionContextService auditSessionContextService;
+    private final OccupationHistoryArchiver occupationHistoryArchiver;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional(readOnly = true)
     public PageResponse<OccupationResponse> getAllOccupations(int page, int size, String sortBy, String sortDir) {
@@ -67,13 +74,10 @@ public class OccupationService {
 
     @Transactional
     public OccupationResponse createOccupation(OccupationRequest request) {
-        if (occupationRepository.existsByName(request.getName())) {
-            throw new DuplicateResourceException("Occupation", "name", request.getName());
-        }
-
-        auditSessionContextService.applySessionContextForWrite();
+        // UK_occupations_name rejects duplicates; flushing here surfaces the violation inside this call
         Occupation occupation = occupationMapper.toEntity(request);
-        occupation = occupationRepository.save(occupation);
+        occupation = occupationRepository.saveAndFlush(occupation);
+        eventPublisher.publishEvent(EntityChangeEvent.created(EntityType.OCCUPATION, occupation.getId()));
         return occupationMapper.toResponse(occupation);
     }
 
@@ -82,27 +86,25 @@ public class OccupationService {
         Occupation occupation = occupationRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Occupation", "id", id));
 
-        if (!occupation.getName().equals(request.getName()) && occupationRepository.existsByName(request.getName())) {
-            throw new DuplicateResourceException("Occupation", "name", request.getName());
-        }
-
-        auditSessionContextService.applySessionContextForWrite();
         occupationMapper.updateEntity(request, occupation);
-        occupation = occupationRepository.save(occupation);
+        occupation = occupationRepository.saveAndFlush(occupation);
+        eventPublisher.publishEvent(EntityChangeEvent.updated(EntityType.OCCUPATION, occupation.getId()));
         return occupationMapper.toResponse(occupation);
     }
 
     @Transactional
     public void deleteOccupation(Long id) {
-        Occupation occupation = occupationRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Occupation", "id", id));
-
-        if (occupation.getEmployees() != null && !occupation.getEmployees().isEmpty()) {
+        // The row's own count, locked: the entity may come from a stale second-level cache
+        Long employeeCount = employeeCountRepository.lockOccupationCount(id);
+        if (employeeCount == null) {
+            throw new ResourceNotFoundException("Occupation", "id", id);
+        }
+        if (employeeCount > 0) {
             throw new BadRequestException("Cannot delete occupation with assigned employees");
         }
 
-        auditSessionContextService.applySessionContextForWrite();
         occupationRepository.deleteById(id);
+        eventPublisher.publishEvent(EntityChangeEvent.deleted(EntityType.OCCUPATION, id));
     }
 
     @Transactional(readOnly = true)
@@ -113,8 +115,30 @@ public class OccupationService {
         return occupationHistoryRepository.findByOccupationId(id);
     }
 
+    @Transactional(readOnly = true)
+    public OccupationHistoryPageResponse getOccupationHistoryPage(Long id, Long before, int limit) {
+        if (!occupationRepository.existsById(id)) {
+            throw new ResourceNotFoundException("Occupation", "id", id);
+        }
+        if (limit < 1 || limit > 500) {
+            throw new BadRequestException("limit must be between 1 and 500");
+        }
+
+        List<OccupationHistoryResponse> content = occupationHistoryRepository.findPageByOccupationId(id, before, limit);
+        boolean hasMore = content.size() == limit;
+        return OccupationHistoryPageResponse.builder()
+                .content(content)
+                .nextCursor(hasMore ? content.get(content.size() - 1).getTxId() : null)
+                .hasMore(hasMore)
+                .build();
+    }
+
     @Transactional(readOnly = true)
     public Map<Long, List<OccupationHistoryResponse>> getOccupationHistoryByIds(List<Long> occupationIds) {
         return occupationHistoryRepository.findByOccupationIds(occupationIds);
     }
+
+    public OccupationHistoryArchiveStatus getHistoryArchiveStatus() {
+        return occupationHistoryArchiver.getStatus();
+    }
 }
@@ -4,13 +4,19 @@ import com.src.ap.entity.OneTimeToken;
 import com.src.ap.entity.TokenType;
 import com.src.ap.entity.User;
 import com.src.ap.exception.BadRequestException;
+import com.src.ap.job.ClusterJob;
+import com.src.ap.job.JobChunk;
+import com.src.ap.job.JobRunner;
 import com.src.ap.repository.OneTimeTokenRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.Base64;
 import java.util.List;
 
@@ -24,9 +30,15 @@ import java.util.List;
 public class OneTimeTokenService {
 
     private final OneTimeTokenRepository oneTimeTokenRepository;
+    private final JobRunner jobRunner;
     private static final SecureRandom secureRandom = new SecureRandom();
     private static final int TOKEN_BYTE_LENGTH = 32; // 256 bits
 
+    static final ClusterJob PURGE_JOB = ClusterJob.single("one-time-token-purge", Duration.ofMinutes(5))
+            .oncePer(Duration.ofHours(12));
+    private static final Duration USED_TOKEN_RETENTION = Duration.ofDays(30);
+    private static final int PURGE_BATCH_SIZE = 1000;
+
     /**
      * Generates a cryptographically secure random token.
      * Uses SecureRandom and URL-safe Base64 encoding.
@@ -175,4 +187,17 @@ public class OneTimeTokenService {
     public List<OneTimeToken> getUnusedTokensByUserAndType(User user, TokenType type) {
         return oneTimeTokenRepository.findByUserAndTypeAndUsed(user, type, false);
     }
+
+    /**
+     * Deletes used tokens older than the retention, one batch per chunk, once a night across the
+     * cluster.
+     */
+    @Scheduled(cron = "${app.one-time-tokens.purge-cron:0 40 2 * * *}")
+    public void purgeUsedTokens() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(USED_TOKEN_RETENTION);
+        jobRunner.run(PURGE_JOB, context -> {
+            int deleted = oneTimeTokenRepository.deleteUsedCreatedBefore(cutoff, PURGE_BATCH_SIZE);
+            return deleted < PURGE_BATCH_SIZE ? JobChunk.last(deleted) : JobChunk.next(null, deleted);
+        });
+    }
 }
@@ -0,0 +1,61 @@
+package com.src.ap.service;
+
+import com.src.ap.dto.search.SearchHitResponse;
+import com.src.ap.dto.search.SearchResponse;
+import com.src.ap.dto.search.SuggestionResponse;
+import com.src.ap.event.EntityType;
+import com.src.ap.exception.BadRequestException;
+import com.src.ap.search.SearchIndex;
+import com.src.ap.search.SuggestIndex;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Global search and picker autocomplete across occupations, branches and employees, served
+ * entirely from local in-process indexes without touching the database.
+ */
+@Service
+@RequiredArgsConstructor
+public class SearchService {
+
+    private static final int MAX_LIMIT = 100;
+    private static final int MAX_SUGGESTIONS = 50;
+
+    private final SearchIndex searchIndex;
+    private final SuggestIndex suggestIndex;
+
+    public SearchResponse search(String query, Set<EntityType> types, int limit) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new BadRequestException("limit must be between 1 and " + MAX_LIMIT);
+        }
+
+        long start = System.nanoTime();
+        SearchIndex.Result result = searchIndex.search(query, types, limit);
+        return SearchResponse.builder()
+                .query(query)
+                .totalHits(result.total())
+                .hits(result.hits().stream()
+                        .map(hit -> SearchHitResponse.builder()
+                                .type(hit.type())
+                                .id(hit.id())
+                                .title(hit.title())
+                                .subtitle(hit.subtitle())
+                                .score(hit.score())
+                                .build())
+                        .toList())
+                .tookMs((System.nanoTime() - start) / 1_000_000)
+                .build();
+    }
+
+    public List<SuggestionResponse> suggest(EntityType type, String query, int limit) {
+        if (limit < 1 || limit > MAX_SUGGESTIONS) {
+            throw new BadRequestException("limit must be between 1 and " + MAX_SUGGESTIONS);
+        }
+        return suggestIndex.suggest(type, query, limit).stream()
+                .map(suggestion -> new SuggestionResponse(suggestion.id(), suggestion.label()))
+                .toList();
+    }
+}
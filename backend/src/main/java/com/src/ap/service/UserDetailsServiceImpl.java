@@ -1,5 +1,7 @@
 package com.src.ap.service;
 
+import com.src.ap.datasource.Bulkhead;
+import com.src.ap.datasource.Workload;
 import com.src.ap.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -14,6 +16,7 @@ public class UserDetailsServiceImpl implements UserDetailsService {
     private final UserRepository userRepository;
 
     @Override
+    @Bulkhead(Workload.AUTH)
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
         return userRepository.findByUsername(username)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found with username: " + username));
@@ -0,0 +1,65 @@
+package com.src.ap.util;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Utility class for folding free text into accent-insensitive search keys.
+ */
+public class TextNormalizer {
+
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern TOKEN_SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final Pattern NON_DIGITS = Pattern.compile("\\D+");
+
+    private TextNormalizer() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Lower-cases text and strips diacritics, so "Nguyễn Đức" becomes "nguyen duc".
+     * Đ/đ are not decomposable in Unicode and are mapped to d explicitly.
+     *
+     * @param text the text to fold, may be null
+     * @return the folded text, or an empty string for null
+     */
+    public static String fold(String text) {
+        if (text == null || text.isEmpty()) {
+            return "";
+        }
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+        return COMBINING_MARKS.matcher(decomposed).replaceAll("")
+                .replace('Đ', 'd')
+                .replace('đ', 'd')
+                .toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Folds text and splits it into alphanumeric tokens.
+     *
+     * @param text the text to tokenize, may be null
+     * @return the folded tokens in order of appearance
+     */
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        for (String token : TOKEN_SEPARATORS.split(fold(text))) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * Keeps only the digits of a phone number or similar identifier.
+     *
+     * @param text the text to reduce, may be null
+     * @return the digits, or an empty string
+     */
+    public static String digits(String text) {
+        return text == null ? "" : NON_DIGITS.matcher(text).replaceAll("");
+    }
+}
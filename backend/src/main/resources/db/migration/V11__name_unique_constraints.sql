@@ -0,0 +1,59 @@
+-- Give every natural-key unique constraint a stable name. The services no longer check
+-- existsBy* before writing; they rely on these constraints and GlobalExceptionHandler maps a
+-- violation back to a 409 by constraint name, so the names must be the same on every database.
+--
+-- Any other single-column unique constraint or unique index on the same column (the hash-named
+-- UK... keys Hibernate generated from @Column(unique = true)) is dropped, then the named
+-- constraint is created if ddl-auto has not already done so.
+DECLARE @keys TABLE (table_name SYSNAME, column_name SYSNAME, constraint_name SYSNAME);
+INSERT INTO @keys (table_name, column_name, constraint_name) VALUES
+    (N'occupations', N'name', N'UK_occupations_name'),
+    (N'branches', N'name', N'UK_branches_name'),
+    (N'employees', N'email', N'UK_employees_email'),
+    (N'users', N'username', N'UK_users_username'),
+    (N'users', N'email', N'UK_users_email');
+
+DECLARE @table SYSNAME, @column SYSNAME, @constraint SYSNAME, @qualified NVARCHAR(300), @sql NVARCHAR(MAX);
+
+DECLARE key_cursor CURSOR LOCAL FAST_FORWARD FOR
+    SELECT table_name, column_name, constraint_name FROM @keys;
+OPEN key_cursor;
+FETCH NEXT FROM key_cursor INTO @table, @column, @constraint;
+
+WHILE @@FETCH_STATUS = 0
+BEGIN
+    SET @qualified = N'dbo.' + QUOTENAME(@table);
+
+    IF OBJECT_ID(@qualified, 'U') IS NOT NULL
+    BEGIN
+        SET @sql = N'';
+
+        SELECT @sql += CASE WHEN i.is_unique_constraint = 1
+                            THEN N'ALTER TABLE ' + @qualified + N' DROP CONSTRAINT ' + QUOTENAME(i.name) + N'; '
+                            ELSE N'DROP INDEX ' + QUOTENAME(i.name) + N' ON ' + @qualified + N'; '
+                       END
+        FROM sys.indexes i
+        WHERE i.object_id = OBJECT_ID(@qualified)
+          AND i.is_unique = 1
+          AND i.is_primary_key = 0
+          AND i.name <> @constraint
+          AND (SELECT COUNT(*) FROM sys.index_columns ic
+               WHERE ic.object_id = i.object_id AND ic.index_id = i.index_id AND ic.is_included_column = 0) = 1
+          AND EXISTS (SELECT 1 FROM sys.index_columns ic
+                      WHERE ic.object_id = i.object_id AND ic.index_id = i.index_id
+                        AND COL_NAME(ic.object_id, ic.column_id) = @column);
+
+        IF NOT EXISTS (SELECT 1 FROM sys.key_constraints
+                       WHERE parent_object_id = OBJECT_ID(@qualified) AND name = @constraint)
+            SET @sql += N'ALTER TABLE ' + @qualified + N' ADD CONSTRAINT ' + QUOTENAME(@constraint)
+                      + N' UNIQUE (' + QUOTENAME(@column) + N');';
+
+        IF @sql <> N''
+            EXEC sp_executesql @sql;
+    END
+
+    FETCH NEXT FROM key_cursor INTO @table, @column, @constraint;
+END
+
+CLOSE key_cursor;
+DEALLOCATE key_cursor;
@@ -0,0 +1,36 @@
+-- Closure table of the supervisor tree, maintained by EmployeeHierarchyRepository.
+-- One row per (ancestor, descendant) pair including the depth-0 self row, so "everyone under X"
+-- is a seek on the primary key and "X's chain of command" a seek on IX_employee_hierarchy_Descendant.
+-- Neither foreign key cascades (SQL Server rejects two cascade paths to dbo.employees);
+-- EmployeeService removes an employee's rows before deleting it.
+IF OBJECT_ID('dbo.employee_hierarchy', 'U') IS NULL
+BEGIN
+    CREATE TABLE dbo.employee_hierarchy (
+        ancestor_id BIGINT NOT NULL,
+        descendant_id BIGINT NOT NULL,
+        depth INT NOT NULL,
+        CONSTRAINT PK_employee_hierarchy PRIMARY KEY CLUSTERED (ancestor_id, depth, descendant_id),
+        CONSTRAINT FK_employee_hierarchy_ancestor FOREIGN KEY (ancestor_id) REFERENCES dbo.employees (id),
+        CONSTRAINT FK_employee_hierarchy_descendant FOREIGN KEY (descendant_id) REFERENCES dbo.employees (id)
+    );
+
+    CREATE UNIQUE INDEX IX_employee_hierarchy_Descendant
+        ON dbo.employee_hierarchy (descendant_id, depth) INCLUDE (ancestor_id);
+
+    -- Backfill from supervisor_id. The depth cap stops the walk if existing data already holds a
+    -- cycle; such rows are left for the service to reject on the next supervisor change.
+    WITH chain (ancestor_id, descendant_id, depth) AS (
+        SELECT id, id, 0
+        FROM dbo.employees
+        UNION ALL
+        SELECT e.supervisor_id, c.descendant_id, c.depth + 1
+        FROM chain c
+        JOIN dbo.employees e ON e.id = c.ancestor_id
+        WHERE e.supervisor_id IS NOT NULL AND c.depth < 100
+    )
+    INSERT INTO dbo.employee_hierarchy (ancestor_id, descendant_id, depth)
+    SELECT ancestor_id, descendant_id, MIN(depth)
+    FROM chain
+    GROUP BY ancestor_id, descendant_id
+    OPTION (MAXRECURSION 100);
+END
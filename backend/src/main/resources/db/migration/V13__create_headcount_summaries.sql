@@ -0,0 +1,42 @@
+-- Pre-aggregated headcount summaries, maintained incrementally by HeadcountSummaryService on every
+-- employee write and reconciled nightly. Key columns are NOT NULL so they can form the primary key:
+-- a missing branch or occupation is stored as 0, a missing work status as ''.
+IF OBJECT_ID('dbo.employee_headcount', 'U') IS NULL
+BEGIN
+    CREATE TABLE dbo.employee_headcount (
+        branch_id BIGINT NOT NULL,
+        occupation_id BIGINT NOT NULL,
+        work_status NVARCHAR(255) NOT NULL,
+        headcount INT NOT NULL,
+        CONSTRAINT PK_employee_headcount PRIMARY KEY CLUSTERED (branch_id, occupation_id, work_status)
+    );
+
+    INSERT INTO dbo.employee_headcount (branch_id, occupation_id, work_status, headcount)
+    SELECT COALESCE(branch_id, 0), COALESCE(occupation_id, 0), COALESCE(work_status, N''), COUNT(*)
+    FROM dbo.employees
+    GROUP BY COALESCE(branch_id, 0), COALESCE(occupation_id, 0), COALESCE(work_status, N'');
+END
+
+-- Hires and terminations per calendar month, keyed by the first day of the month.
+IF OBJECT_ID('dbo.employee_movements', 'U') IS NULL
+BEGIN
+    CREATE TABLE dbo.employee_movements (
+        month_start DATE NOT NULL,
+        hires INT NOT NULL,
+        terminations INT NOT NULL,
+        CONSTRAINT PK_employee_movements PRIMARY KEY CLUSTERED (month_start)
+    );
+
+    INSERT INTO dbo.employee_movements (month_start, hires, terminations)
+    SELECT month_start, SUM(hires), SUM(terminations)
+    FROM (
+        SELECT DATEFROMPARTS(YEAR(hire_dt), MONTH(hire_dt), 1) AS month_start, 1 AS hires, 0 AS terminations
+        FROM dbo.employees
+        WHERE hire_dt IS NOT NULL
+        UNION ALL
+        SELECT DATEFROMPARTS(YEAR(termination_dt), MONTH(termination_dt), 1), 0, 1
+        FROM dbo.employees
+        WHERE termination_dt IS NOT NULL
+    ) movements
+    GROUP BY month_start;
+END
@@ -0,0 +1,122 @@
+-- Denormalised employee counts on branches and occupations, maintained by EmployeeCountService on
+-- every employee write and repaired nightly. Hibernate normally adds the columns first (with a
+-- default of 0); they are added here when it has not, then backfilled from dbo.employees.
+IF COL_LENGTH('dbo.branches', 'employee_count') IS NULL
+    ALTER TABLE dbo.branches ADD employee_count INT NOT NULL CONSTRAINT DF_branches_employee_count DEFAULT 0;
+
+IF COL_LENGTH('dbo.occupations', 'employee_count') IS NULL
+    ALTER TABLE dbo.occupations ADD employee_count INT NOT NULL CONSTRAINT DF_occupations_employee_count DEFAULT 0;
+
+-- Recreates the Occupation audit trigger from V10 so that count-only updates, starting with the
+-- backfill below, are not audited.
+IF OBJECT_ID('dbo.trg_Occupation_Audit', 'TR') IS NOT NULL
+    DROP TRIGGER dbo.trg_Occupation_Audit;
+
+DECLARE @sql NVARCHAR(MAX) = N'
+CREATE TRIGGER dbo.trg_Occupation_Audit
+ON dbo.occupations
+AFTER INSERT, UPDATE, DELETE
+AS
+BEGIN
+    SET NOCOUNT ON;
+
+    -- employee_count is maintained by relative updates on every employee write; a statement that
+    -- assigns nothing else is not an edit of the occupation and is kept out of the history.
+    IF EXISTS (SELECT 1 FROM deleted) AND EXISTS (SELECT 1 FROM inserted)
+        AND NOT (UPDATE(name) OR UPDATE(description) OR UPDATE(created_at) OR UPDATE(updated_at))
+        RETURN;
+
+    DECLARE @actor NVARCHAR(128) = TRY_CAST(SESSION_CONTEXT(N''actor'') AS NVARCHAR(128));
+
+    INSERT INTO dbo.hg_occupations (
+        op, id, Oid,
+        name, Oname,
+        description, Odescription,
+        created_at, Ocreated_at,
+        updated_at, Oupdated_at,
+        actor
+    )
+    SELECT
+        ''C'', i.id, ''M'',
+        i.name, ''M'',
+        i.description, ''M'',
+        i.created_at, ''M'',
+        i.updated_at, ''M'',
+        @actor
+    FROM inserted i
+    LEFT JOIN deleted d ON d.id = i.id
+    WHERE d.id IS NULL;
+
+    INSERT INTO dbo.hg_occupations (
+        op, id, Oid,
+        name, Oname,
+        description, Odescription,
+        created_at, Ocreated_at,
+        updated_at, Oupdated_at,
+        actor
+    )
+    SELECT
+        ''U'', i.id, NULL,
+        i.name,
+        CASE
+            WHEN NOT UPDATE(name) THEN NULL
+            WHEN (i.name <> d.name) OR (i.name IS NULL AND d.name IS NOT NULL) OR (i.name IS NOT NULL AND d.name IS NULL)
+                THEN ''M''
+            ELSE NULL
+        END,
+        i.description,
+        CASE
+            WHEN NOT UPDATE(description) THEN NULL
+            WHEN (i.description <> d.description) OR (i.description IS NULL AND d.description IS NOT NULL) OR (i.description IS NOT NULL AND d.description IS NULL)
+                THEN ''M''
+            ELSE NULL
+        END,
+        i.created_at,
+        CASE
+            WHEN NOT UPDATE(created_at) THEN NULL
+            WHEN (i.created_at <> d.created_at) OR (i.created_at IS NULL AND d.created_at IS NOT NULL) OR (i.created_at IS NOT NULL AND d.created_at IS NULL)
+                THEN ''M''
+            ELSE NULL
+        END,
+        i.updated_at,
+        CASE
+            WHEN NOT UPDATE(updated_at) THEN NULL
+            WHEN (i.updated_at <> d.updated_at) OR (i.updated_at IS NULL AND d.updated_at IS NOT NULL) OR (i.updated_at IS NOT NULL AND d.updated_at IS NULL)
+                THEN ''M''
+            ELSE NULL
+        END,
+        @actor
+    FROM inserted i
+    INNER JOIN deleted d ON d.id = i.id;
+
+    INSERT INTO dbo.hg_occupations (
+        op, id, Oid,
+        name, Oname,
+        description, Odescription,
+        created_at, Ocreated_at,
+        updated_at, Oupdated_at,
+        actor
+    )
+    SELECT
+        ''D'', d.id, NULL,
+        d.name, NULL,
+        d.description, NULL,
+        d.created_at, NULL,
+        d.updated_at, NULL,
+        @actor
+    FROM deleted d
+    LEFT JOIN inserted i ON i.id = d.id
+    WHERE i.id IS NULL;
+END
+';
+
+EXEC sp_executesql @sql;
+
+-- Dynamic SQL: the columns may have been added by this batch.
+EXEC sp_executesql N'
+UPDATE dbo.branches
+SET employee_count = (SELECT COUNT(*) FROM dbo.employees e WHERE e.branch_id = branches.id);
+
+UPDATE dbo.occupations
+SET employee_count = (SELECT COUNT(*) FROM dbo.employees e WHERE e.occupation_id = occupations.id);
+';
@@ -0,0 +1,15 @@
+-- Cross-node cache invalidation bus (CacheInvalidationBus). Writers append rows inside their own
+-- transaction; every node tails the table by id. Rows are deleted after the retention period.
+IF OBJECT_ID('dbo.cache_invalidations', 'U') IS NULL
+BEGIN
+    CREATE TABLE dbo.cache_invalidations (
+        id BIGINT IDENTITY(1, 1) NOT NULL,
+        cache_name VARCHAR(100) NOT NULL,
+        cache_key NVARCHAR(200) NULL,
+        origin VARCHAR(64) NOT NULL,
+        created_at DATETIME2 NOT NULL,
+        CONSTRAINT PK_cache_invalidations PRIMARY KEY CLUSTERED (id)
+    );
+
+    CREATE INDEX IX_cache_invalidations_CreatedAt ON dbo.cache_invalidations (created_at);
+END
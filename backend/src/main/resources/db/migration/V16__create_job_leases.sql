@@ -0,0 +1,19 @@
+-- Leases for cluster-wide maintenance jobs (JobRunner): one row per job and concurrency slot.
+-- fencing_token increases on every acquisition; checkpoints and releases are conditional on it.
+-- The last_* columns describe the most recent run of the slot.
+IF OBJECT_ID('dbo.job_leases', 'U') IS NULL
+BEGIN
+    CREATE TABLE dbo.job_leases (
+        job_name VARCHAR(100) NOT NULL,
+        slot INT NOT NULL,
+        owner VARCHAR(100) NULL,
+        lease_until DATETIME2 NULL,
+        fencing_token BIGINT NOT NULL,
+        job_checkpoint NVARCHAR(400) NULL,
+        last_started_at DATETIME2 NULL,
+        last_finished_at DATETIME2 NULL,
+        last_outcome VARCHAR(20) NULL,
+        last_rows BIGINT NULL,
+        CONSTRAINT PK_job_leases PRIMARY KEY CLUSTERED (job_name, slot)
+    );
+END
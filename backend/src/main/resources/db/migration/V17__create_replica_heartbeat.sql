@@ -0,0 +1,10 @@
+-- Heartbeat for read replica routing (ReadReplica): every node writes its clock into the single
+-- row on the primary and reads it back from the replica to measure replication lag.
+IF OBJECT_ID('dbo.replica_heartbeat', 'U') IS NULL
+BEGIN
+    CREATE TABLE dbo.replica_heartbeat (
+        id INT NOT NULL,
+        beat_at DATETIME2 NOT NULL,
+        CONSTRAINT PK_replica_heartbeat PRIMARY KEY CLUSTERED (id)
+    );
+END
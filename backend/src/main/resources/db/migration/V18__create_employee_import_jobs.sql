@@ -0,0 +1,23 @@
+-- Bulk employee imports (EmployeeImportService). The node that accepted the upload runs the job and
+-- writes its progress here after every batch, so any node can answer status polls; the error report
+-- is stored with the job when it finishes. Finished jobs are deleted after the retention period.
+IF OBJECT_ID('dbo.employee_import_jobs', 'U') IS NULL
+BEGIN
+    CREATE TABLE dbo.employee_import_jobs (
+        id UNIQUEIDENTIFIER NOT NULL,
+        file_name NVARCHAR(255) NOT NULL,
+        status VARCHAR(20) NOT NULL,
+        processed_rows BIGINT NOT NULL,
+        imported_rows BIGINT NOT NULL,
+        failed_rows BIGINT NOT NULL,
+        submitted_by NVARCHAR(255) NULL,
+        submitted_at DATETIME2 NOT NULL,
+        started_at DATETIME2 NULL,
+        finished_at DATETIME2 NULL,
+        message NVARCHAR(2000) NULL,
+        error_report VARBINARY(MAX) NULL,
+        CONSTRAINT PK_employee_import_jobs PRIMARY KEY CLUSTERED (id)
+    );
+
+    CREATE INDEX IX_employee_import_jobs_SubmittedAt ON dbo.employee_import_jobs (submitted_at);
+END
@@ -0,0 +1,10 @@
+-- Read-your-writes pins for read replica routing (ReadReplica): after a user's write commits,
+-- their read-only transactions on every node use the primary until pinned_until.
+IF OBJECT_ID('dbo.replica_read_pins', 'U') IS NULL
+BEGIN
+    CREATE TABLE dbo.replica_read_pins (
+        actor NVARCHAR(128) NOT NULL,
+        pinned_until DATETIME2 NOT NULL,
+        CONSTRAINT PK_replica_read_pins PRIMARY KEY CLUSTERED (actor)
+    );
+END
@@ -0,0 +1,6 @@
+-- Read-your-writes pins now reach the other nodes over dbo.cache_invalidations and are kept in
+-- memory (ReadReplica), so the per-read lookup table is no longer used.
+IF OBJECT_ID('dbo.replica_read_pins', 'U') IS NOT NULL
+BEGIN
+    DROP TABLE dbo.replica_read_pins;
+END
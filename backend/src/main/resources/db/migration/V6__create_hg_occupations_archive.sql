@@ -0,0 +1,32 @@
+-- Cold storage for Occupation audit history.
+-- Rows older than the configured horizon are moved here by OccupationHistoryArchiver.
+-- tx_id is copied from dbo.hg_occupations, so it is NOT an identity column here.
+IF OBJECT_ID('dbo.hg_occupations_archive', 'U') IS NULL
+BEGIN
+    CREATE TABLE dbo.hg_occupations_archive (
+        tx_id BIGINT NOT NULL PRIMARY KEY,
+        op CHAR(1) NOT NULL,
+        id BIGINT NOT NULL,
+        Oid CHAR(1) NULL,
+        name NVARCHAR(255) NULL,
+        Oname CHAR(1) NULL,
+        description NVARCHAR(2000) NULL,
+        Odescription CHAR(1) NULL,
+        created_at DATETIME2 NULL,
+        Ocreated_at CHAR(1) NULL,
+        updated_at DATETIME2 NULL,
+        Oupdated_at CHAR(1) NULL,
+        changed_at DATETIME2 NOT NULL,
+        actor NVARCHAR(128) NULL
+    );
+
+    CREATE INDEX IX_hg_occupations_archive_Id_ChangedAt
+        ON dbo.hg_occupations_archive (id, changed_at DESC);
+END
+
+-- Lets the archiver resolve its tx_id watermark with a seek instead of scanning the hot table.
+IF NOT EXISTS (SELECT * FROM sys.indexes WHERE object_id = OBJECT_ID('dbo.hg_occupations') AND name = 'IX_hg_occupations_ChangedAt')
+BEGIN
+    CREATE INDEX IX_hg_occupations_ChangedAt
+        ON dbo.hg_occupations (changed_at);
+END
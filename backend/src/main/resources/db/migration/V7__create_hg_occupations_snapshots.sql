@@ -0,0 +1,36 @@
+-- Periodic full snapshots of the Occupation catalogue, used as replay starting points
+-- for point-in-time ("as of") reads over dbo.hg_occupations.
+IF OBJECT_ID('dbo.hg_occupations_snapshots', 'U') IS NULL
+BEGIN
+    CREATE TABLE dbo.hg_occupations_snapshots (
+        snapshot_id BIGINT IDENTITY(1,1) PRIMARY KEY,
+        tx_id BIGINT NOT NULL,
+        row_count INT NOT NULL,
+        taken_at DATETIME2 NOT NULL CONSTRAINT DF_hg_occupations_snapshots_taken_at DEFAULT SYSUTCDATETIME()
+    );
+
+    CREATE UNIQUE INDEX UX_hg_occupations_snapshots_TxId
+        ON dbo.hg_occupations_snapshots (tx_id);
+END
+
+IF OBJECT_ID('dbo.hg_occupations_snapshot_rows', 'U') IS NULL
+BEGIN
+    CREATE TABLE dbo.hg_occupations_snapshot_rows (
+        snapshot_id BIGINT NOT NULL,
+        id BIGINT NOT NULL,
+        name NVARCHAR(255) NULL,
+        description NVARCHAR(2000) NULL,
+        created_at DATETIME2 NULL,
+        updated_at DATETIME2 NULL,
+        CONSTRAINT PK_hg_occupations_snapshot_rows PRIMARY KEY (snapshot_id, id),
+        CONSTRAINT FK_hg_occupations_snapshot_rows_snapshot FOREIGN KEY (snapshot_id)
+            REFERENCES dbo.hg_occupations_snapshots (snapshot_id) ON DELETE CASCADE
+    );
+END
+
+-- As-of reads that predate the hot table resolve their tx_id watermark in the archive.
+IF NOT EXISTS (SELECT * FROM sys.indexes WHERE object_id = OBJECT_ID('dbo.hg_occupations_archive') AND name = 'IX_hg_occupations_archive_ChangedAt')
+BEGIN
+    CREATE INDEX IX_hg_occupations_archive_ChangedAt
+        ON dbo.hg_occupations_archive (changed_at);
+END
@@ -0,0 +1,19 @@
+-- Accent-folded search keys for employees, maintained by EmployeeSearchIndexer.
+-- One row per (token, employee, field); the clustered key on token makes prefix
+-- matches (token LIKE 'nguy%') index seeks. Tokens are already folded to lower case
+-- without diacritics, so a binary collation is used for cheap comparisons.
+IF OBJECT_ID('dbo.employee_search_tokens', 'U') IS NULL
+BEGIN
+    CREATE TABLE dbo.employee_search_tokens (
+        token NVARCHAR(64) COLLATE Latin1_General_100_BIN2 NOT NULL,
+        employee_id BIGINT NOT NULL,
+        field TINYINT NOT NULL,
+        weight SMALLINT NOT NULL,
+        CONSTRAINT PK_employee_search_tokens PRIMARY KEY CLUSTERED (token, employee_id, field),
+        CONSTRAINT FK_employee_search_tokens_employee FOREIGN KEY (employee_id)
+            REFERENCES dbo.employees (id) ON DELETE CASCADE
+    );
+
+    CREATE INDEX IX_employee_search_tokens_EmployeeId
+        ON dbo.employee_search_tokens (employee_id);
+END
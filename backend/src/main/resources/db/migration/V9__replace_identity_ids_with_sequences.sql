@@ -0,0 +1,117 @@
+-- Moves employees, occupations, branches, users and one_time_tokens from IDENTITY ids to
+-- one sequence per table (INCREMENT BY 50), so Hibernate can allocate ids in pooled-lo blocks
+-- and batch inserts. Existing ids are kept.
+--
+-- SQL Server cannot drop the IDENTITY property of a column in place, so each id column is
+-- swapped for a plain BIGINT copy: the foreign keys referencing the table and its primary key
+-- are dropped, the values copied, and the keys recreated under their original names. Enabled
+-- triggers are suspended during the copy so it is not recorded as an update of every row.
+--
+-- Each sequence then restarts after its table's highest id. Hibernate may already have created
+-- the sequence with START WITH 1 on this startup, since ddl-auto runs before Flyway.
+DECLARE @tables TABLE (name SYSNAME PRIMARY KEY);
+INSERT INTO @tables (name)
+VALUES (N'employees'), (N'occupations'), (N'branches'), (N'users'), (N'one_time_tokens');
+
+DECLARE @foreign_keys TABLE (
+    name SYSNAME,
+    parent NVARCHAR(300),
+    parent_column SYSNAME,
+    on_delete NVARCHAR(60),
+    on_update NVARCHAR(60)
+);
+DECLARE @triggers TABLE (name NVARCHAR(300));
+
+DECLARE @table SYSNAME;
+DECLARE @qualified NVARCHAR(300);
+DECLARE @pk SYSNAME;
+DECLARE @pk_type NVARCHAR(60);
+DECLARE @next BIGINT;
+DECLARE @sql NVARCHAR(MAX);
+
+DECLARE table_cursor CURSOR LOCAL FAST_FORWARD FOR SELECT name FROM @tables;
+OPEN table_cursor;
+FETCH NEXT FROM table_cursor INTO @table;
+
+WHILE @@FETCH_STATUS = 0
+BEGIN
+    SET @qualified = N'dbo.' + QUOTENAME(@table);
+
+    IF OBJECT_ID(@qualified, 'U') IS NOT NULL
+       AND COLUMNPROPERTY(OBJECT_ID(@qualified), 'id', 'IsIdentity') = 1
+    BEGIN
+        DELETE FROM @foreign_keys;
+        INSERT INTO @foreign_keys (name, parent, parent_column, on_delete, on_update)
+        SELECT fk.name,
+               QUOTENAME(SCHEMA_NAME(parent.schema_id)) + N'.' + QUOTENAME(parent.name),
+               COL_NAME(fkc.parent_object_id, fkc.parent_column_id),
+               REPLACE(fk.delete_referential_action_desc, N'_', N' '),
+               REPLACE(fk.update_referential_action_desc, N'_', N' ')
+        FROM sys.foreign_keys fk
+        JOIN sys.foreign_key_columns fkc ON fkc.constraint_object_id = fk.object_id
+        JOIN sys.tables parent ON parent.object_id = fk.parent_object_id
+        WHERE fk.referenced_object_id = OBJECT_ID(@qualified);
+
+        DELETE FROM @triggers;
+        INSERT INTO @triggers (name)
+        SELECT QUOTENAME(OBJECT_SCHEMA_NAME(object_id)) + N'.' + QUOTENAME(name)
+        FROM sys.triggers
+        WHERE parent_id = OBJECT_ID(@qualified) AND is_disabled = 0;
+
+        SELECT @pk = kc.name, @pk_type = i.type_desc
+        FROM sys.key_constraints kc
+        JOIN sys.indexes i ON i.object_id = kc.parent_object_id AND i.index_id = kc.unique_index_id
+        WHERE kc.parent_object_id = OBJECT_ID(@qualified) AND kc.type = 'PK';
+
+        SET @sql = N'';
+        SELECT @sql += N'ALTER TABLE ' + parent + N' DROP CONSTRAINT ' + QUOTENAME(name) + N'; '
+        FROM @foreign_keys;
+        SELECT @sql += N'DISABLE TRIGGER ' + name + N' ON ' + @qualified + N'; '
+        FROM @triggers;
+        SET @sql += N'ALTER TABLE ' + @qualified + N' DROP CONSTRAINT ' + QUOTENAME(@pk) + N';';
+        EXEC sp_executesql @sql;
+
+        SET @sql = N'dbo.' + @table + N'.id';
+        EXEC sp_rename @sql, N'id_identity', N'COLUMN';
+
+        SET @sql = N'ALTER TABLE ' + @qualified + N' ADD id BIGINT NULL;';
+        EXEC sp_executesql @sql;
+
+        SET @sql = N'UPDATE ' + @qualified + N' SET id = id_identity;';
+        EXEC sp_executesql @sql;
+
+        SET @sql = N'ALTER TABLE ' + @qualified + N' ALTER COLUMN id BIGINT NOT NULL; '
+            + N'ALTER TABLE ' + @qualified + N' DROP COLUMN id_identity; '
+            + N'ALTER TABLE ' + @qualified + N' ADD CONSTRAINT ' + QUOTENAME(@pk)
+            + N' PRIMARY KEY ' + @pk_type + N' (id);';
+        EXEC sp_executesql @sql;
+
+        SET @sql = N'';
+        SELECT @sql += N'ALTER TABLE ' + parent + N' WITH CHECK ADD CONSTRAINT ' + QUOTENAME(name)
+            + N' FOREIGN KEY (' + QUOTENAME(parent_column) + N') REFERENCES ' + @qualified + N' (id)'
+            + N' ON DELETE ' + on_delete + N' ON UPDATE ' + on_update + N'; '
+        FROM @foreign_keys;
+        SELECT @sql += N'ENABLE TRIGGER ' + name + N' ON ' + @qualified + N'; '
+        FROM @triggers;
+        EXEC sp_executesql @sql;
+    END
+
+    IF OBJECT_ID(@qualified, 'U') IS NOT NULL
+    BEGIN
+        SET @sql = N'SELECT @next = COALESCE(MAX(id), 0) + 1 FROM ' + @qualified + N';';
+        EXEC sp_executesql @sql, N'@next BIGINT OUTPUT', @next = @next OUTPUT;
+
+        IF OBJECT_ID(N'dbo.' + QUOTENAME(@table + N'_seq'), 'SO') IS NULL
+            SET @sql = N'CREATE SEQUENCE dbo.' + QUOTENAME(@table + N'_seq') + N' AS BIGINT START WITH '
+                + CAST(@next AS NVARCHAR(20)) + N' INCREMENT BY 50;';
+        ELSE
+            SET @sql = N'ALTER SEQUENCE dbo.' + QUOTENAME(@table + N'_seq') + N' RESTART WITH '
+                + CAST(@next AS NVARCHAR(20)) + N' INCREMENT BY 50;';
+        EXEC sp_executesql @sql;
+    END
+
+    FETCH NEXT FROM table_cursor INTO @table;
+END
+
+CLOSE table_cursor;
+DEALLOCATE table_cursor;
@@ -0,0 +1,112 @@
+package com.src.ap.audit;
+
+import com.src.ap.dto.occupation.OccupationRequest;
+import com.src.ap.dto.occupation.OccupationResponse;
+import com.src.ap.repository.OccupationRepository;
+import com.src.ap.service.OccupationService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Not transactional: history rows are written when the transaction commits, which a rolled-back
+ * test transaction would never do.
+ */
+@SpringBootTest(properties = "app.audit.mode=application")
+@ActiveProfiles("test")
+@DisplayName("Application audit mode Tests")
+class ApplicationAuditModeTest {
+
+    private static final String ACTOR = "audit-mode-tester";
+
+    @Autowired
+    private OccupationService occupationService;
+
+    @Autowired
+    private OccupationRepository occupationRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        AuditContextHolder.set(new AuditRequestContext(ACTOR));
+    }
+
+    @AfterEach
+    void tearDown() {
+        AuditContextHolder.clear();
+        jdbcTemplate.update("DELETE FROM dbo.hg_occupations WHERE actor = ?", ACTOR);
+        jdbcTemplate.update("DELETE FROM dbo.occupations WHERE name LIKE 'App audit %'");
+    }
+
+    @Test
+    @DisplayName("Should write the history rows with the actor and modified flags")
+    void shouldWriteHistoryWithActor() {
+        // When
+        OccupationResponse created = occupationService.createOccupation(
+                new OccupationRequest("App audit nurse", "Ward staff"));
+        occupationService.updateOccupation(created.getId(),
+                new OccupationRequest("App audit nurse", "Night shift"));
+
+        // Then
+        List<Map<String, Object>> rows = jdbcTemplate.queryForList(
+                "SELECT op, description, Oname, Odescription, actor FROM dbo.hg_occupations WHERE id = ? ORDER BY tx_id",
+                created.getId());
+        assertThat(rows).hasSize(2);
+        assertThat(rows.get(0)).containsEntry("OP", "C").containsEntry("ONAME", "M").containsEntry("ACTOR", ACTOR);
+        assertThat(rows.get(1)).containsEntry("OP", "U").containsEntry("DESCRIPTION", "Night shift")
+                .containsEntry("ODESCRIPTION", "M").containsEntry("ACTOR", ACTOR);
+        assertThat(rows.get(1).get("ONAME")).isNull();
+    }
+
+    @Test
+    @DisplayName("Should hold a transaction's history rows until it commits")
+    void shouldWriteHistoryAtCommit() {
+        // When: two changes are flushed in one transaction
+        Integer rowsBeforeCommit = new TransactionTemplate(transactionManager).execute(status -> {
+            occupationService.createOccupation(new OccupationRequest("App audit batch one", null));
+            occupationService.createOccupation(new OccupationRequest("App audit batch two", null));
+            occupationRepository.flush();
+            return jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM dbo.hg_occupations WHERE name LIKE 'App audit batch %'", Integer.class);
+        });
+
+        // Then: nothing was written at flush time, and both rows arrived with the commit
+        assertThat(rowsBeforeCommit).isZero();
+        List<String> names = jdbcTemplate.queryForList(
+                "SELECT name FROM dbo.hg_occupations WHERE name LIKE 'App audit batch %' ORDER BY tx_id", String.class);
+        assertThat(names).containsExactly("App audit batch one", "App audit batch two");
+    }
+
+    @Test
+    @DisplayName("Should roll the history row back with the change")
+    void shouldRollBackHistoryWithChange() {
+        // When: the change is flushed, then its transaction rolls back
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            occupationService.createOccupation(new OccupationRequest("App audit rolled back", null));
+            occupationRepository.flush();
+            status.setRollbackOnly();
+        });
+
+        // Then
+        Integer rows = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM dbo.hg_occupations WHERE name = ?", Integer.class, "App audit rolled back");
+        assertThat(rows).isZero();
+    }
+}
@@ -0,0 +1,126 @@
+package com.src.ap.audit;
+
+import com.src.ap.config.AuditConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("AuditActorBindingDataSource Tests")
+class AuditActorBindingDataSourceTest {
+
+    @Mock
+    private DataSource target;
+
+    @Mock
+    private Connection connection;
+
+    @Mock
+    private DatabaseMetaData metaData;
+
+    @Mock
+    private PreparedStatement statement;
+
+    private AuditConfig auditConfig;
+    private AuditActorBindingDataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        auditConfig = new AuditConfig();
+        dataSource = new AuditActorBindingDataSource(target, () -> auditConfig);
+
+        when(target.getConnection()).thenReturn(connection);
+        when(connection.isWrapperFor(Connection.class)).thenReturn(false);
+        when(connection.getMetaData()).thenReturn(metaData);
+        when(metaData.getDatabaseProductName()).thenReturn("Microsoft SQL Server");
+        when(connection.prepareStatement(anyString())).thenReturn(statement);
+    }
+
+    @AfterEach
+    void tearDown() {
+        AuditContextHolder.clear();
+    }
+
+    @Test
+    @DisplayName("Should send the actor once for repeated checkouts by the same actor")
+    void shouldSkipRebindingSameActor() throws Exception {
+        // Given
+        AuditContextHolder.set(new AuditRequestContext("alice"));
+
+        // When: three transactions check out the same pooled connection
+        for (int i = 0; i < 3; i++) {
+            dataSource.getConnection();
+        }
+
+        // Then: only the first checkout costs a round trip
+        verify(connection, times(1)).prepareStatement(AuditActorBindingDataSource.SET_ACTOR_SQL);
+        verify(statement, times(1)).setString(1, "alice");
+        verify(statement, times(1)).execute();
+    }
+
+    @Test
+    @DisplayName("Should rebind when a different actor checks out the connection")
+    void shouldRebindWhenActorChanges() throws Exception {
+        // Given
+        AuditContextHolder.set(new AuditRequestContext("alice"));
+        dataSource.getConnection();
+
+        // When
+        AuditContextHolder.set(new AuditRequestContext("bob"));
+        dataSource.getConnection();
+        dataSource.getConnection();
+
+        // Then
+        verify(statement).setString(1, "alice");
+        verify(statement).setString(1, "bob");
+        verify(statement, times(2)).execute();
+    }
+
+    @Test
+    @DisplayName("Should not send anything in application audit mode")
+    void shouldNotBindInApplicationMode() throws Exception {
+        // Given
+        auditConfig.setMode(AuditMode.APPLICATION);
+        AuditContextHolder.set(new AuditRequestContext("alice"));
+
+        // When
+        dataSource.getConnection();
+
+        // Then
+        verify(connection, never()).prepareStatement(anyString());
+    }
+
+    @Test
+    @DisplayName("Should not send anything on databases other than SQL Server")
+    void shouldNotBindOnOtherDatabases() throws Exception {
+        // Given
+        when(metaData.getDatabaseProductName()).thenReturn("H2");
+        AuditContextHolder.set(new AuditRequestContext("alice"));
+
+        // When
+        dataSource.getConnection();
+        dataSource.getConnection();
+
+        // Then
+        verify(connection, never()).prepareStatement(anyString());
+        verify(metaData, times(1)).getDatabaseProductName();
+    }
+}
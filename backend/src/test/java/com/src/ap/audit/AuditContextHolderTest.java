@@ -0,0 +1,87 @@
+package com.src.ap.audit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("AuditContextHolder Tests")
+class AuditContextHolderTest {
+
+    private static final AuditRequestContext ALICE = new AuditRequestContext("alice");
+    private static final AuditRequestContext BOB = new AuditRequestContext("bob");
+
+    @AfterEach
+    void tearDown() {
+        AuditContextHolder.clear();
+    }
+
+    @Test
+    @DisplayName("Should restore the outer binding after a nested one")
+    void shouldRestoreOuterBinding() {
+        // Given
+        AuditRequestContext none = AuditContextHolder.bind(ALICE);
+
+        // When
+        AuditRequestContext outer = AuditContextHolder.bind(BOB);
+        AuditRequestContext inner = AuditContextHolder.get();
+        AuditContextHolder.restore(outer);
+
+        // Then
+        assertThat(inner).isEqualTo(BOB);
+        assertThat(AuditContextHolder.get()).isEqualTo(ALICE);
+        AuditContextHolder.restore(none);
+        assertThat(AuditContextHolder.get()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should restore the previous binding when the work throws")
+    void shouldRestoreWhenWorkThrows() {
+        // Given
+        AuditContextHolder.set(ALICE);
+
+        // When
+        assertThatThrownBy(() -> AuditContextHolder.runWith(BOB, () -> {
+            throw new IllegalStateException("boom");
+        })).isInstanceOf(IllegalStateException.class);
+
+        // Then
+        assertThat(AuditContextHolder.get()).isEqualTo(ALICE);
+    }
+
+    @Test
+    @DisplayName("Should carry the binding into a task on another thread without leaking it")
+    void shouldCarryBindingAcrossHandOff() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            // Given
+            AuditContextHolder.set(ALICE);
+            AuditRequestContext[] seen = new AuditRequestContext[2];
+
+            // When: a wrapped task, then an unwrapped one on the same pooled thread
+            executor.submit(AuditContextHolder.wrap(() -> seen[0] = AuditContextHolder.get())).get();
+            executor.submit(() -> seen[1] = AuditContextHolder.get()).get();
+
+            // Then
+            assertThat(seen[0]).isEqualTo(ALICE);
+            assertThat(seen[1]).isNull();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Should leave the task unchanged when nothing is bound")
+    void shouldNotWrapWithoutBinding() {
+        // Given
+        Runnable task = () -> { };
+
+        // When / Then
+        assertThat(AuditContextHolder.wrap(task)).isSameAs(task);
+    }
+}
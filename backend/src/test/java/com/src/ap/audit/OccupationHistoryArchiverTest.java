@@ -0,0 +1,128 @@
+package com.src.ap.audit;
+
+import com.src.ap.config.AuditArchiveConfig;
+import com.src.ap.dto.occupation.OccupationHistoryArchiveStatus;
+import com.src.ap.job.JobChunk;
+import com.src.ap.job.JobContext;
+import com.src.ap.job.JobRunner;
+import com.src.ap.repository.JobLeaseRepository;
+import com.src.ap.repository.JobLeaseRepository.SlotState;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OccupationHistoryArchiver Tests")
+class OccupationHistoryArchiverTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private JobRunner jobRunner;
+
+    @Mock
+    private JobLeaseRepository jobLeaseRepository;
+
+    private OccupationHistoryArchiver archiver;
+
+    @BeforeEach
+    void setUp() {
+        archiver = new OccupationHistoryArchiver(jdbcTemplate, new AuditArchiveConfig(), jobRunner,
+                jobLeaseRepository);
+    }
+
+    @Test
+    @DisplayName("Should resolve the watermark in the first chunk and carry it as the checkpoint")
+    void shouldCarryWatermarkAsCheckpoint() {
+        // Given
+        when(jdbcTemplate.queryForObject(contains("MAX(tx_id)"), eq(Long.class), any(Timestamp.class)))
+                .thenReturn(42L);
+        when(jdbcTemplate.update(contains("DELETE FROM batch"), eq(1000), eq(42L))).thenReturn(1000);
+
+        // When
+        JobChunk chunk = archiver.archiveBatch(new JobContext(0, 1, null));
+
+        // Then
+        assertThat(chunk).isEqualTo(JobChunk.next("42", 1000));
+    }
+
+    @Test
+    @DisplayName("Should keep moving up to the checkpoint's watermark without resolving a new one")
+    void shouldResumeFromCheckpoint() {
+        // Given: a resumed pass whose rows up to tx_id 42 are all moved after one more batch
+        when(jdbcTemplate.update(contains("DELETE FROM batch"), eq(1000), eq(42L))).thenReturn(300, 0);
+
+        // When
+        JobChunk partial = archiver.archiveBatch(new JobContext(0, 1, "42"));
+        JobChunk last = archiver.archiveBatch(new JobContext(0, 1, partial.checkpoint()));
+
+        // Then
+        assertThat(partial).isEqualTo(JobChunk.next("42", 300));
+        assertThat(last.done()).isTrue();
+        verify(jdbcTemplate, never()).queryForObject(anyString(), eq(Long.class), any(Timestamp.class));
+    }
+
+    @Test
+    @DisplayName("Should finish at once when nothing is older than the horizon")
+    void shouldFinishWithoutWatermark() {
+        // Given
+        when(jdbcTemplate.queryForObject(contains("MAX(tx_id)"), eq(Long.class), any(Timestamp.class)))
+                .thenReturn(null);
+
+        // When
+        JobChunk chunk = archiver.archiveBatch(new JobContext(0, 1, null));
+
+        // Then
+        assertThat(chunk).isEqualTo(JobChunk.last(0));
+        verify(jdbcTemplate, never()).update(contains("DELETE FROM batch"), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should report a run in progress on any node from the lease row")
+    void shouldReportRunningPassFromLease() {
+        // Given
+        LocalDateTime started = LocalDateTime.of(2026, 10, 18, 2, 30);
+        when(jobLeaseRepository.findSlot(OccupationHistoryArchiver.ARCHIVE_JOB.name(), 0))
+                .thenReturn(Optional.of(new SlotState(true, "42", started, started.minusDays(1), "COMPLETED", 3000)));
+
+        // When
+        OccupationHistoryArchiveStatus status = archiver.getStatus();
+
+        // Then
+        assertThat(status.getState()).isEqualTo("RUNNING");
+        assertThat(status.getWatermarkTxId()).isEqualTo(42L);
+        assertThat(status.getRowsMoved()).isEqualTo(3000);
+        assertThat(status.getStartedAt()).isEqualTo(started);
+        assertThat(status.getFinishedAt()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should report a run that died without releasing its lease as interrupted")
+    void shouldReportInterruptedPass() {
+        // Given
+        LocalDateTime started = LocalDateTime.of(2026, 10, 18, 2, 30);
+        when(jobLeaseRepository.findSlot(OccupationHistoryArchiver.ARCHIVE_JOB.name(), 0))
+                .thenReturn(Optional.of(new SlotState(false, "42", started, started.minusDays(1), "COMPLETED", 3000)));
+
+        // When / Then
+        assertThat(archiver.getStatus().getState()).isEqualTo("INTERRUPTED");
+    }
+}
@@ -0,0 +1,103 @@
+package com.src.ap.benchmark;
+
+import com.src.ap.ApApplication;
+import com.src.ap.audit.AuditContextHolder;
+import com.src.ap.audit.AuditRequestContext;
+import com.src.ap.dto.occupation.OccupationRequest;
+import com.src.ap.dto.occupation.OccupationResponse;
+import com.src.ap.service.OccupationService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Compares Occupation write latency between {@code app.audit.mode=trigger} and
+ * {@code app.audit.mode=application} against the configured SQL Server database.
+ *
+ * <p>Run explicitly with {@code mvn test -DskipTests=false -Dtest=AuditModeWriteBenchmark -Dbenchmark=true}.
+ * Each mode boots its own context, warms up, then times create/update/delete round trips through
+ * {@link OccupationService}.</p>
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class AuditModeWriteBenchmark {
+
+    private static final int WARMUP = 200;
+    private static final int ITERATIONS = 2000;
+
+    @Test
+    @DisplayName("Benchmark write latency with trigger and application audit modes")
+    void compareAuditModes() throws Exception {
+        run("trigger");
+        run("application");
+    }
+
+    private void run(String mode) throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(ApApplication.class)
+                .properties("app.audit.mode=" + mode, "spring.main.web-application-type=none",
+                        "spring.jpa.show-sql=false")
+                .run()) {
+            OccupationService occupationService = context.getBean(OccupationService.class);
+            JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+            AuditContextHolder.set(new AuditRequestContext("benchmark"));
+            try {
+                writes(occupationService, WARMUP);
+                long auditRowsBefore = countAuditRows(jdbcTemplate);
+
+                long[] nanos = writes(occupationService, ITERATIONS);
+                long auditRows = countAuditRows(jdbcTemplate) - auditRowsBefore;
+
+                report(mode, nanos, auditRows);
+            } finally {
+                AuditContextHolder.clear();
+            }
+        }
+    }
+
+    /**
+     * Each iteration creates, updates and deletes one occupation and records the latency of
+     * the three committed transactions together.
+     */
+    private long[] writes(OccupationService occupationService, int count) {
+        long[] nanos = new long[count];
+        for (int i = 0; i < count; i++) {
+            String name = "bench-" + UUID.randomUUID();
+            long start = System.nanoTime();
+            OccupationResponse created = occupationService.createOccupation(new OccupationRequest(name, "benchmark"));
+            occupationService.updateOccupation(created.getId(), new OccupationRequest(name, "benchmark updated"));
+            occupationService.deleteOccupation(created.getId());
+            nanos[i] = System.nanoTime() - start;
+        }
+        return nanos;
+    }
+
+    private long countAuditRows(JdbcTemplate jdbcTemplate) {
+        Long count = jdbcTemplate.queryForObject("SELECT COUNT_BIG(*) FROM dbo.hg_occupations", Long.class);
+        return count != null ? count : 0L;
+    }
+
+    private void report(String mode, long[] nanos, long auditRows) {
+        long[] sorted = nanos.clone();
+        Arrays.sort(sorted);
+        List<String> lines = new ArrayList<>();
+        lines.add("audit mode        : " + mode);
+        lines.add("iterations        : " + sorted.length + " (create + update + delete)");
+        lines.add("mean              : " + micros(Arrays.stream(sorted).sum() / sorted.length) + " us");
+        lines.add("p50               : " + micros(sorted[sorted.length / 2]) + " us");
+        lines.add("p95               : " + micros(sorted[(int) (sorted.length * 0.95)]) + " us");
+        lines.add("p99               : " + micros(sorted[(int) (sorted.length * 0.99)]) + " us");
+        lines.add("audit rows written: " + auditRows);
+        System.out.println(String.join(System.lineSeparator(), lines));
+    }
+
+    private static long micros(long nanos) {
+        return nanos / 1_000;
+    }
+}
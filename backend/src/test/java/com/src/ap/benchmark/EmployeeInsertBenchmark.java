@@ -0,0 +1,132 @@
+package com.src.ap.benchmark;
+
+import com.src.ap.ApApplication;
+import com.src.ap.entity.Employee;
+import com.src.ap.repository.EmployeeBulkRepository;
+import com.src.ap.repository.EmployeeBulkRepository.NewEmployee;
+import com.src.ap.repository.EmployeeRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Measures employee insert throughput in rows per second.
+ *
+ * <p>Run explicitly with {@code mvn test -DskipTests=false -Dtest=EmployeeInsertBenchmark -Dbenchmark=true}
+ * against a disposable SQL Server database. Three paths are timed, each inserting
+ * {@value #BATCHES} transactions of {@value #BATCH_SIZE} rows:</p>
+ * <ul>
+ *     <li>{@code saveAll} with {@code hibernate.jdbc.batch_size=1}: one round trip per row, the
+ *     shape every insert had while ids were IDENTITY columns (which additionally needed the
+ *     generated key read back per row);</li>
+ *     <li>{@code saveAll} with the configured JDBC batching and pooled-lo sequence ids;</li>
+ *     <li>{@link EmployeeBulkRepository#insertAll}, the path used by bulk imports.</li>
+ * </ul>
+ * <p>Benchmark rows are deleted afterwards.</p>
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class EmployeeInsertBenchmark {
+
+    private static final int BATCH_SIZE = 500;
+    private static final int BATCHES = 20;
+    private static final int WARMUP_BATCHES = 2;
+    private static final String EMAIL_DOMAIN = "@insert-bench.anphuc.vn";
+
+    @Test
+    @DisplayName("Benchmark employee insert throughput with and without batching")
+    void compareInsertPaths() {
+        runSaveAll("saveAll, one statement per row", "spring.jpa.properties.hibernate.jdbc.batch_size=1");
+        runSaveAll("saveAll, batched", "spring.jpa.properties.hibernate.jdbc.batch_size=50");
+        runBulkRepository();
+    }
+
+    private void runSaveAll(String label, String batchProperty) {
+        try (ConfigurableApplicationContext context = start(batchProperty)) {
+            EmployeeRepository employeeRepository = context.getBean(EmployeeRepository.class);
+            TransactionTemplate transactionTemplate =
+                    new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+            try {
+                for (int i = 0; i < WARMUP_BATCHES; i++) {
+                    transactionTemplate.executeWithoutResult(status -> employeeRepository.saveAll(entities()));
+                }
+                long start = System.nanoTime();
+                for (int i = 0; i < BATCHES; i++) {
+                    transactionTemplate.executeWithoutResult(status -> employeeRepository.saveAll(entities()));
+                }
+                report(label, System.nanoTime() - start);
+            } finally {
+                cleanUp(context);
+            }
+        }
+    }
+
+    private void runBulkRepository() {
+        try (ConfigurableApplicationContext context = start("spring.jpa.properties.hibernate.jdbc.batch_size=50")) {
+            EmployeeBulkRepository bulkRepository = context.getBean(EmployeeBulkRepository.class);
+            TransactionTemplate transactionTemplate =
+                    new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+            try {
+                for (int i = 0; i < WARMUP_BATCHES; i++) {
+                    transactionTemplate.executeWithoutResult(status -> bulkRepository.insertAll(rows(), "benchmark"));
+                }
+                long start = System.nanoTime();
+                for (int i = 0; i < BATCHES; i++) {
+                    transactionTemplate.executeWithoutResult(status -> bulkRepository.insertAll(rows(), "benchmark"));
+                }
+                report("EmployeeBulkRepository.insertAll", System.nanoTime() - start);
+            } finally {
+                cleanUp(context);
+            }
+        }
+    }
+
+    private ConfigurableApplicationContext start(String batchProperty) {
+        return new SpringApplicationBuilder(ApApplication.class)
+                .properties("spring.main.web-application-type=none", "spring.jpa.show-sql=false", batchProperty)
+                .run();
+    }
+
+    private List<Employee> entities() {
+        List<Employee> employees = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            employees.add(Employee.builder()
+                    .email(UUID.randomUUID() + EMAIL_DOMAIN)
+                    .fullName("Nguyễn Văn Bench")
+                    .firstName("Bench")
+                    .middleName("Văn")
+                    .lastName("Nguyễn")
+                    .hireDt(LocalDate.of(2024, 1, 1))
+                    .build());
+        }
+        return employees;
+    }
+
+    private List<NewEmployee> rows() {
+        List<NewEmployee> rows = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            rows.add(new NewEmployee(UUID.randomUUID() + EMAIL_DOMAIN, "Nguyễn Văn Bench", "Bench", "Văn", "Nguyễn",
+                    LocalDate.of(2024, 1, 1), null, null, null, null, null, null, null, null, null, null));
+        }
+        return rows;
+    }
+
+    private void cleanUp(ConfigurableApplicationContext context) {
+        context.getBean(JdbcTemplate.class).update("DELETE FROM dbo.employees WHERE email LIKE ?", "%" + EMAIL_DOMAIN);
+    }
+
+    private void report(String label, long nanos) {
+        long rows = (long) BATCHES * BATCH_SIZE;
+        System.out.printf("%-36s rows=%d time=%d ms throughput=%d rows/s%n", label, rows, nanos / 1_000_000,
+                rows * 1_000_000_000L / nanos);
+    }
+}
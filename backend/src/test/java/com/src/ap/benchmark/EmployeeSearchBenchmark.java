@@ -0,0 +1,141 @@
+package com.src.ap.benchmark;
+
+import com.src.ap.ApApplication;
+import com.src.ap.repository.PooledIdAllocator;
+import com.src.ap.service.EmployeeSearchIndexer;
+import com.src.ap.service.EmployeeService;
+import com.src.ap.util.TextNormalizer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Measures employee search latency at 1M employees, comparing the folded token search with the
+ * previous {@code LOWER(x) LIKE '%kw%'} predicate.
+ *
+ * <p>Run explicitly with {@code mvn test -DskipTests=false -Dtest=EmployeeSearchBenchmark -Dbenchmark=true}
+ * against a disposable SQL Server database: missing employees are generated with synthetic
+ * Vietnamese names and the search keys are rebuilt before timing.</p>
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class EmployeeSearchBenchmark {
+
+    private static final int EMPLOYEES = 1_000_000;
+    private static final int QUERIES = 500;
+    private static final int LEGACY_QUERIES = 20;
+
+    private static final String[] FAMILY = {"Nguyễn", "Trần", "Lê", "Phạm", "Hoàng", "Huỳnh", "Phan", "Vũ", "Võ", "Đặng",
+            "Bùi", "Đỗ", "Hồ", "Ngô", "Dương", "Lý"};
+    private static final String[] MIDDLE = {"Văn", "Thị", "Hữu", "Đức", "Minh", "Thanh", "Ngọc", "Quốc", "Xuân", "Bảo"};
+    private static final String[] GIVEN = {"An", "Bình", "Cường", "Dũng", "Giang", "Hà", "Hải", "Hạnh", "Hiếu", "Hòa",
+            "Hùng", "Hương", "Khánh", "Lan", "Linh", "Long", "Mai", "Nam", "Nga", "Nhung", "Phúc", "Phương", "Quân",
+            "Quang", "Sơn", "Tâm", "Thảo", "Thắng", "Trang", "Trung", "Tuấn", "Vân", "Việt", "Yến"};
+
+    @Test
+    @DisplayName("Benchmark employee search at 1M employees")
+    void benchmarkSearch() {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(ApApplication.class)
+                .properties("spring.main.web-application-type=none", "spring.jpa.show-sql=false")
+                .run()) {
+            JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+            EmployeeService employeeService = context.getBean(EmployeeService.class);
+
+            seed(jdbcTemplate, context.getBean(PooledIdAllocator.class));
+            context.getBean(EmployeeSearchIndexer.class).rebuild();
+
+            Random random = new Random(42);
+            long[] folded = new long[QUERIES];
+            for (int i = 0; i < QUERIES; i++) {
+                // Typed without diacritics, the way users search
+                String keyword = plain(pick(random, FAMILY)) + " " + plain(pick(random, GIVEN));
+                long start = System.nanoTime();
+                employeeService.searchEmployees(keyword, 0, 20);
+                folded[i] = System.nanoTime() - start;
+            }
+            report("token search (folded, ranked)", folded);
+
+            long[] legacy = new long[LEGACY_QUERIES];
+            for (int i = 0; i < LEGACY_QUERIES; i++) {
+                String keyword = pick(random, GIVEN).toLowerCase();
+                long start = System.nanoTime();
+                jdbcTemplate.queryForList("""
+                        SELECT id FROM dbo.employees
+                        WHERE LOWER(first_name) LIKE ? OR LOWER(last_name) LIKE ? OR LOWER(email) LIKE ?
+                        ORDER BY id OFFSET 0 ROWS FETCH NEXT 20 ROWS ONLY
+                        """, Long.class, "%" + keyword + "%", "%" + keyword + "%", "%" + keyword + "%");
+                legacy[i] = System.nanoTime() - start;
+            }
+            report("legacy LIKE '%kw%' (accented)", legacy);
+        }
+    }
+
+    private void seed(JdbcTemplate jdbcTemplate, PooledIdAllocator idAllocator) {
+        Integer existing = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM dbo.employees", Integer.class);
+        int missing = EMPLOYEES - (existing != null ? existing : 0);
+        Random random = new Random(7);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        Date hired = Date.valueOf(LocalDate.of(2020, 1, 1));
+        List<Object[]> batch = new ArrayList<>(5000);
+        for (int i = 0; i < missing; i++) {
+            String family = pick(random, FAMILY);
+            String middle = pick(random, MIDDLE);
+            String given = pick(random, GIVEN);
+            String email = plain(given).toLowerCase() + "." + plain(family).toLowerCase() + "." + i + "@bench.anphuc.vn";
+            batch.add(new Object[]{email, family + " " + middle + " " + given, given, middle, family, hired,
+                    "09" + String.format("%08d", random.nextInt(100_000_000)), "HD-" + i, now, now});
+            if (batch.size() == 5000) {
+                insert(jdbcTemplate, idAllocator, batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            insert(jdbcTemplate, idAllocator, batch);
+        }
+    }
+
+    private void insert(JdbcTemplate jdbcTemplate, PooledIdAllocator idAllocator, List<Object[]> batch) {
+        long[] ids = idAllocator.allocate(PooledIdAllocator.EMPLOYEES_SEQUENCE, batch.size());
+        List<Object[]> rows = new ArrayList<>(batch.size());
+        for (int i = 0; i < batch.size(); i++) {
+            Object[] row = new Object[batch.get(i).length + 1];
+            row[0] = ids[i];
+            System.arraycopy(batch.get(i), 0, row, 1, batch.get(i).length);
+            rows.add(row);
+        }
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO dbo.employees (id, email, full_name, first_name, middle_name, last_name, hire_dt,
+                                           phone, contract_id, created_at, updated_at)
+                VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+                """, rows);
+    }
+
+    private void report(String label, long[] nanos) {
+        long[] sorted = nanos.clone();
+        Arrays.sort(sorted);
+        System.out.printf("%-32s n=%d mean=%d us p50=%d us p95=%d us max=%d us%n", label, sorted.length,
+                Arrays.stream(sorted).sum() / sorted.length / 1_000,
+                sorted[sorted.length / 2] / 1_000,
+                sorted[(int) (sorted.length * 0.95)] / 1_000,
+                sorted[sorted.length - 1] / 1_000);
+    }
+
+    private static String pick(Random random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    private static String plain(String value) {
+        return TextNormalizer.fold(value);
+    }
+}
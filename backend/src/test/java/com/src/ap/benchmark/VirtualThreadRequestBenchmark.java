@@ -0,0 +1,109 @@
+package com.src.ap.benchmark;
+
+import com.src.ap.ApApplication;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.Environment;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Compares request throughput and latency with platform and virtual request threads against the
+ * configured SQL Server database.
+ *
+ * <p>Run explicitly with {@code mvn test -DskipTests=false -Dtest=VirtualThreadRequestBenchmark -Dbenchmark=true}.
+ * Each mode boots the application on a random port with Tomcat capped at {@value #PLATFORM_THREADS}
+ * platform threads, then {@value #CONCURRENCY} clients call {@code /actuator/health}, which checks
+ * the database on every call. With platform threads the requests queue for a worker; with virtual
+ * threads the cap no longer applies and the connection pool becomes the limit.</p>
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class VirtualThreadRequestBenchmark {
+
+    private static final int PLATFORM_THREADS = 20;
+    private static final int CONCURRENCY = 200;
+    private static final int WARMUP = 1000;
+    private static final int REQUESTS = 20000;
+
+    @Test
+    @DisplayName("Benchmark request latency with platform and virtual request threads")
+    void compareThreadModes() throws Exception {
+        run(false);
+        run(true);
+    }
+
+    private void run(boolean virtual) throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(ApApplication.class)
+                .properties("spring.threads.virtual.enabled=" + virtual, "server.port=0",
+                        "server.tomcat.threads.max=" + PLATFORM_THREADS, "spring.jpa.show-sql=false",
+                        "management.endpoint.health.show-details=never")
+                .run()) {
+            int port = context.getBean(Environment.class).getRequiredProperty("local.server.port", Integer.class);
+            URI uri = URI.create("http://localhost:" + port + "/actuator/health");
+            try (HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+                 ExecutorService clients = Executors.newFixedThreadPool(CONCURRENCY, Thread.ofVirtual().factory())) {
+                requests(client, clients, uri, WARMUP);
+
+                long start = System.nanoTime();
+                long[] nanos = requests(client, clients, uri, REQUESTS);
+                long elapsedNanos = System.nanoTime() - start;
+
+                report(virtual, nanos, elapsedNanos);
+            }
+        }
+    }
+
+    /**
+     * Sends {@code count} requests through {@link #CONCURRENCY} clients and returns each one's latency.
+     */
+    private long[] requests(HttpClient client, ExecutorService clients, URI uri, int count) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(uri).GET().build();
+        List<Future<Long>> results = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            results.add(clients.submit(() -> {
+                long start = System.nanoTime();
+                HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                if (response.statusCode() != 200) {
+                    throw new IllegalStateException("Health check returned " + response.statusCode());
+                }
+                return System.nanoTime() - start;
+            }));
+        }
+        long[] nanos = new long[count];
+        for (int i = 0; i < count; i++) {
+            nanos[i] = results.get(i).get();
+        }
+        return nanos;
+    }
+
+    private void report(boolean virtual, long[] nanos, long elapsedNanos) {
+        long[] sorted = nanos.clone();
+        Arrays.sort(sorted);
+        List<String> lines = new ArrayList<>();
+        lines.add("request threads   : " + (virtual ? "virtual" : "platform (max " + PLATFORM_THREADS + ")"));
+        lines.add("requests          : " + sorted.length + " from " + CONCURRENCY + " concurrent clients");
+        lines.add("throughput        : " + (sorted.length * 1_000_000_000L / elapsedNanos) + " req/s");
+        lines.add("mean              : " + micros(Arrays.stream(sorted).sum() / sorted.length) + " us");
+        lines.add("p50               : " + micros(sorted[sorted.length / 2]) + " us");
+        lines.add("p95               : " + micros(sorted[(int) (sorted.length * 0.95)]) + " us");
+        lines.add("p99               : " + micros(sorted[(int) (sorted.length * 0.99)]) + " us");
+        System.out.println(String.join(System.lineSeparator(), lines));
+    }
+
+    private static long micros(long nanos) {
+        return nanos / 1_000;
+    }
+}
@@ -0,0 +1,175 @@
+package com.src.ap.cache;
+
+import com.src.ap.ApApplication;
+import com.src.ap.columnar.EmployeeSnapshot;
+import com.src.ap.columnar.SliceCriteria;
+import com.src.ap.entity.CacheRegions;
+import com.src.ap.dto.employee.EmployeeRequest;
+import com.src.ap.dto.occupation.OccupationRequest;
+import com.src.ap.service.EmployeeService;
+import com.src.ap.service.OccupationService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.Set;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Two application contexts, standing in for two replicas, against one in-memory H2 database.
+ * Node A owns the schema; node B only connects to it. Each node has its own second-level cache,
+ * employee snapshot and search index.
+ */
+@DisplayName("CacheInvalidationBus Tests")
+class CacheInvalidationBusTest {
+
+    private static final String DB_URL = "jdbc:h2:mem:cachebus;MODE=MSSQLServer;DB_CLOSE_DELAY=-1;"
+            + "INIT=CREATE SCHEMA IF NOT EXISTS dbo\\;SET SCHEMA dbo";
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    private static ConfigurableApplicationContext nodeA;
+    private static ConfigurableApplicationContext nodeB;
+
+    @BeforeAll
+    static void startNodes() throws IOException {
+        nodeA = start();
+        // JCache shares one cache manager per configuration URI within a JVM; a copy of the
+        // configuration gives node B its own second-level cache, as on a separate replica.
+        Path ehcacheCopy = Files.createTempFile("ehcache-node-b", ".xml");
+        try (InputStream config = CacheInvalidationBusTest.class.getResourceAsStream("/ehcache.xml")) {
+            Files.copy(config, ehcacheCopy, StandardCopyOption.REPLACE_EXISTING);
+        }
+        ehcacheCopy.toFile().deleteOnExit();
+        nodeB = start("spring.jpa.hibernate.ddl-auto=none", "spring.sql.init.mode=never",
+                "spring.jpa.properties.hibernate.javax.cache.uri=" + ehcacheCopy.toUri());
+    }
+
+    @AfterAll
+    static void stopNodes() {
+        if (nodeB != null) {
+            nodeB.close();
+        }
+        if (nodeA != null) {
+            nodeA.close();
+        }
+    }
+
+    @Test
+    @DisplayName("Should evict a cached occupation on the other node after an update")
+    void shouldEvictSecondLevelCacheAcrossNodes() {
+        // Given: node B has the occupation in its second-level cache
+        OccupationService occupationsA = nodeA.getBean(OccupationService.class);
+        OccupationService occupationsB = nodeB.getBean(OccupationService.class);
+        Long id = occupationsA.createOccupation(occupation("Bus Occupation")).getId();
+        awaitTrue(() -> occupationsB.getAllOccupationsList().stream().anyMatch(o -> o.getId().equals(id)));
+        assertThat(occupationsB.getOccupationById(id).getName()).isEqualTo("Bus Occupation");
+
+        // When
+        occupationsA.updateOccupation(id, occupation("Bus Occupation Renamed"));
+
+        // Then
+        awaitTrue(() -> occupationsB.getOccupationById(id).getName().equals("Bus Occupation Renamed"));
+        assertThat(nodeB.getBean(MeterRegistry.class).get(CacheInvalidationBus.LAG_METRIC).timer().count())
+                .isPositive();
+    }
+
+    @Test
+    @DisplayName("Should replay employee writes into the other node's snapshot and not echo them back")
+    void shouldReplayEntityChangesAcrossNodes() {
+        // Given
+        Long occupationId = nodeA.getBean(OccupationService.class).createOccupation(occupation("Bus Snapshot")).getId();
+        EmployeeSnapshot snapshotB = nodeB.getBean(EmployeeSnapshot.class);
+        awaitTrue(snapshotB::isLoaded);
+        SliceCriteria byOccupation = new SliceCriteria(Set.of(occupationId), null, null, null,
+                null, null, null, null, null, null, null);
+        double receivedByA = received(nodeA);
+
+        // When
+        EmployeeRequest request = new EmployeeRequest();
+        request.setEmail("bus@cache.test");
+        request.setFullName("Bus Employee");
+        request.setFirstName("Bus");
+        request.setLastName("Employee");
+        request.setOccupationId(occupationId);
+        nodeA.getBean(EmployeeService.class).createEmployee(request);
+
+        // Then
+        awaitTrue(() -> snapshotB.count(byOccupation) == 1);
+        assertThat(nodeB.getBean(OccupationService.class).getOccupationById(occupationId).getEmployeeCount())
+                .isEqualTo(1);
+        assertThat(received(nodeA)).isEqualTo(receivedByA);
+    }
+
+    @Test
+    @DisplayName("Should write each key a transaction invalidates once")
+    void shouldDeduplicateKeysPerTransaction() {
+        // Given
+        OccupationService occupationsA = nodeA.getBean(OccupationService.class);
+        Long id = occupationsA.createOccupation(occupation("Bus Dedup")).getId();
+        JdbcTemplate jdbcTemplate = nodeA.getBean(JdbcTemplate.class);
+        long latestId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM dbo.cache_invalidations", Long.class);
+
+        // When: one transaction updates the occupation twice
+        new TransactionTemplate(nodeA.getBean(PlatformTransactionManager.class)).executeWithoutResult(status -> {
+            occupationsA.updateOccupation(id, occupation("Bus Dedup Once"));
+            occupationsA.updateOccupation(id, occupation("Bus Dedup Twice"));
+        });
+
+        // Then: one row per cache, not one per update
+        Integer rows = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM dbo.cache_invalidations WHERE id > ? AND cache_name = ? AND cache_key = ?",
+                Integer.class, latestId, CacheRegions.OCCUPATIONS, id.toString());
+        assertThat(rows).isEqualTo(1);
+        Integer queryRegionRows = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM dbo.cache_invalidations WHERE id > ? AND cache_name = ?",
+                Integer.class, latestId, CacheRegions.REFERENCE_QUERIES);
+        assertThat(queryRegionRows).isEqualTo(1);
+    }
+
+    private static ConfigurableApplicationContext start(String... properties) {
+        return new SpringApplicationBuilder(ApApplication.class)
+                .profiles("test")
+                .properties("spring.datasource.url=" + DB_URL, "spring.main.web-application-type=none",
+                        "app.cache-bus.poll-interval-ms=100")
+                .properties(properties)
+                .run();
+    }
+
+    private static double received(ConfigurableApplicationContext node) {
+        return node.getBean(MeterRegistry.class).get(CacheInvalidationBus.RECEIVED_METRIC).counter().count();
+    }
+
+    private static OccupationRequest occupation(String name) {
+        OccupationRequest request = new OccupationRequest();
+        request.setName(name);
+        return request;
+    }
+
+    private static void awaitTrue(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + TIMEOUT.toNanos();
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("condition not met within %s", TIMEOUT).isLessThan(deadline);
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
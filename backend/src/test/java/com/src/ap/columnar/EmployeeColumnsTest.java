@@ -0,0 +1,184 @@
+package com.src.ap.columnar;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("EmployeeColumns Tests")
+class EmployeeColumnsTest {
+
+    private EmployeeColumns columns;
+
+    @BeforeEach
+    void setUp() {
+        columns = new EmployeeColumns();
+        columns.put(new EmployeeRow(1L, 10L, 100L, "ACTIVE", null,
+                LocalDate.of(2020, 1, 15), null, LocalDate.of(1990, 5, 1)));
+        columns.put(new EmployeeRow(2L, 10L, 200L, "ACTIVE", 1L,
+                LocalDate.of(2021, 6, 1), null, LocalDate.of(1985, 3, 10)));
+        columns.put(new EmployeeRow(3L, 20L, 100L, "TERMINATED", 1L,
+                LocalDate.of(2019, 2, 1), LocalDate.of(2023, 12, 31), null));
+        columns.put(new EmployeeRow(4L, 20L, null, "ON_LEAVE", 2L,
+                LocalDate.of(2022, 9, 1), null, LocalDate.of(2000, 1, 1)));
+    }
+
+    @Test
+    @DisplayName("Should return every employee when no criterion is set")
+    void shouldMatchAllWithoutCriteria() {
+        assertThat(columns.matchingIds(criteria().build())).containsExactly(1L, 2L, 3L, 4L);
+        assertThat(columns.count(criteria().build())).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("Should OR values within a criterion and AND the criteria")
+    void shouldCombineCriteria() {
+        // When / Then
+        assertThat(columns.matchingIds(criteria().occupations(10L).build())).containsExactly(1L, 2L);
+        assertThat(columns.matchingIds(criteria().statuses("ACTIVE", "ON_LEAVE").build())).containsExactly(1L, 2L, 4L);
+        assertThat(columns.matchingIds(criteria().occupations(20L).branches(100L).build())).containsExactly(3L);
+        assertThat(columns.matchingIds(criteria().supervisors(1L).statuses("ACTIVE").build())).containsExactly(2L);
+        assertThat(columns.matchingIds(criteria().occupations(99L).build())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should filter on missing branch like any other value")
+    void shouldMatchNullValues() {
+        SliceCriteria noBranch = new SliceCriteria(null, nullSet(), null, null,
+                null, null, null, null, null, null, null);
+
+        assertThat(columns.matchingIds(noBranch)).containsExactly(4L);
+    }
+
+    @Test
+    @DisplayName("Should apply inclusive date ranges and skip employees without the date")
+    void shouldFilterDateRanges() {
+        // When / Then
+        assertThat(columns.matchingIds(criteria()
+                .hired(LocalDate.of(2020, 1, 15), LocalDate.of(2021, 6, 1)).build())).containsExactly(1L, 2L);
+        assertThat(columns.matchingIds(criteria()
+                .born(null, LocalDate.of(1995, 12, 31)).build())).containsExactly(1L, 2L);
+        assertThat(columns.matchingIds(criteria()
+                .terminated(LocalDate.of(2023, 1, 1), null).build())).containsExactly(3L);
+        assertThat(columns.matchingIds(criteria().terminated(false).occupations(20L).build())).containsExactly(4L);
+    }
+
+    @Test
+    @DisplayName("Should move an updated employee between bitmaps")
+    void shouldApplyUpdates() {
+        // When
+        columns.put(new EmployeeRow(2L, 20L, 100L, "TERMINATED", 1L,
+                LocalDate.of(2021, 6, 1), LocalDate.of(2024, 3, 1), LocalDate.of(1985, 3, 10)));
+
+        // Then
+        assertThat(columns.size()).isEqualTo(4);
+        assertThat(columns.matchingIds(criteria().occupations(10L).build())).containsExactly(1L);
+        assertThat(columns.matchingIds(criteria().statuses("TERMINATED").build())).containsExactly(2L, 3L);
+        assertThat(columns.count(criteria().terminated(true).build())).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should drop removed employees and reuse their slots")
+    void shouldRemoveAndReuseSlots() {
+        // When
+        columns.remove(1L);
+        columns.remove(42L);
+        columns.put(new EmployeeRow(5L, 30L, 100L, "ACTIVE", null, LocalDate.of(2024, 1, 1), null, null));
+
+        // Then
+        assertThat(columns.size()).isEqualTo(4);
+        assertThat(columns.matchingIds(criteria().branches(100L).build())).containsExactly(3L, 5L);
+        assertThat(columns.matchingIds(criteria().occupations(10L).build())).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("Should grow past the initial capacity")
+    void shouldGrow() {
+        // When
+        for (long id = 1000; id < 4000; id++) {
+            columns.put(new EmployeeRow(id, 10L, 300L, "ACTIVE", null, null, null, null));
+        }
+
+        // Then
+        assertThat(columns.size()).isEqualTo(3004);
+        assertThat(columns.count(criteria().branches(300L).build())).isEqualTo(3000);
+        assertThat(columns.matchingIds(criteria().branches(300L).build())).startsWith(1000L).endsWith(3999L);
+    }
+
+    private static Set<Long> nullSet() {
+        HashSet<Long> set = new HashSet<>();
+        set.add(null);
+        return set;
+    }
+
+    private static CriteriaBuilder criteria() {
+        return new CriteriaBuilder();
+    }
+
+    private static final class CriteriaBuilder {
+        private Set<Long> occupations;
+        private Set<Long> branches;
+        private Set<String> statuses;
+        private Set<Long> supervisors;
+        private LocalDate hiredFrom;
+        private LocalDate hiredTo;
+        private LocalDate terminatedFrom;
+        private LocalDate terminatedTo;
+        private LocalDate bornFrom;
+        private LocalDate bornTo;
+        private Boolean terminated;
+
+        CriteriaBuilder occupations(Long... ids) {
+            occupations = Set.of(ids);
+            return this;
+        }
+
+        CriteriaBuilder branches(Long... ids) {
+            branches = Set.of(ids);
+            return this;
+        }
+
+        CriteriaBuilder statuses(String... values) {
+            statuses = Set.of(values);
+            return this;
+        }
+
+        CriteriaBuilder supervisors(Long... ids) {
+            supervisors = Set.of(ids);
+            return this;
+        }
+
+        CriteriaBuilder hired(LocalDate from, LocalDate to) {
+            hiredFrom = from;
+            hiredTo = to;
+            return this;
+        }
+
+        CriteriaBuilder terminated(LocalDate from, LocalDate to) {
+            terminatedFrom = from;
+            terminatedTo = to;
+            return this;
+        }
+
+        CriteriaBuilder born(LocalDate from, LocalDate to) {
+            bornFrom = from;
+            bornTo = to;
+            return this;
+        }
+
+        CriteriaBuilder terminated(boolean value) {
+            terminated = value;
+            return this;
+        }
+
+        SliceCriteria build() {
+            return new SliceCriteria(occupations, branches, statuses, supervisors, hiredFrom, hiredTo,
+                    terminatedFrom, terminatedTo, bornFrom, bornTo, terminated);
+        }
+    }
+}
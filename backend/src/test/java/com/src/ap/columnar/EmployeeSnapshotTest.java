@@ -0,0 +1,99 @@
+package com.src.ap.columnar;
+
+import com.src.ap.event.EntityChangeEvent;
+import com.src.ap.event.EntityType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("EmployeeSnapshot Tests")
+class EmployeeSnapshotTest {
+
+    private static final SliceCriteria EVERYONE =
+            new SliceCriteria(null, null, null, null, null, null, null, null, null, null, null);
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Should re-read every employee a transaction wrote with one query after commit")
+    @SuppressWarnings("unchecked")
+    void shouldRefreshOncePerTransaction() {
+        // Given: a transaction that writes three employees, the third deleted again before commit
+        EmployeeSnapshot snapshot = new EmployeeSnapshot(jdbcTemplate);
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class), any(Object[].class))).thenReturn(List.of(
+                row(1L), row(2L)));
+        TransactionSynchronizationManager.initSynchronization();
+
+        // When
+        snapshot.onEntityChange(EntityChangeEvent.created(EntityType.EMPLOYEE, 1L));
+        snapshot.onEntityChange(EntityChangeEvent.created(EntityType.EMPLOYEE, 2L));
+        snapshot.onEntityChange(EntityChangeEvent.created(EntityType.EMPLOYEE, 3L));
+        snapshot.onEntityChange(EntityChangeEvent.updated(EntityType.OCCUPATION, 9L));
+
+        // Then: nothing is read before the commit
+        verify(jdbcTemplate, never()).query(anyString(), any(RowMapper.class), any(Object[].class));
+
+        // When
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        synchronizations.forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+        // Then
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<Object[]> params = ArgumentCaptor.forClass(Object[].class);
+        verify(jdbcTemplate, times(1)).query(sql.capture(), any(RowMapper.class), params.capture());
+        assertThat(sql.getValue()).contains("WHERE id IN (?,?,?)");
+        assertThat(params.getValue()).containsExactly(1L, 2L, 3L);
+        assertThat(snapshot.matchingIds(EVERYONE)).containsExactly(1L, 2L);
+        assertThat(TransactionSynchronizationManager.getResource(snapshot)).isNull();
+    }
+
+    @Test
+    @DisplayName("Should not touch the snapshot when the transaction rolls back")
+    @SuppressWarnings("unchecked")
+    void shouldIgnoreRolledBackWrites() {
+        // Given
+        EmployeeSnapshot snapshot = new EmployeeSnapshot(jdbcTemplate);
+        TransactionSynchronizationManager.initSynchronization();
+        snapshot.onEntityChange(EntityChangeEvent.created(EntityType.EMPLOYEE, 1L));
+
+        // When
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        // Then
+        verify(jdbcTemplate, never()).query(anyString(), any(RowMapper.class), any(Object[].class));
+        assertThat(snapshot.matchingIds(EVERYONE)).isEmpty();
+    }
+
+    private static EmployeeRow row(long id) {
+        return new EmployeeRow(id, 1L, 1L, "ACTIVE", null, LocalDate.of(2024, 1, 1), null, null);
+    }
+}
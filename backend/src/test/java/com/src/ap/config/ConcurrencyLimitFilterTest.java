@@ -0,0 +1,142 @@
+package com.src.ap.config;
+
+import com.src.ap.limit.GradientConcurrencyLimiter;
+import com.src.ap.limit.RequestPriority;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ConcurrencyLimitFilter Tests")
+class ConcurrencyLimitFilterTest {
+
+    @Mock
+    private GradientConcurrencyLimiter limiter;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        ConcurrencyLimitConfig config = new ConcurrencyLimitConfig();
+        config.getRoutes().put(RequestPriority.CRITICAL, List.of("/api/auth/**"));
+        mockMvc = MockMvcBuilders.standaloneSetup(new TestController())
+                .addFilters(new ConcurrencyLimitFilter(config, limiter))
+                .build();
+    }
+
+    @Test
+    @DisplayName("Should admit reads, writes and routed requests at their priority")
+    void shouldResolvePriority() throws Exception {
+        // Given
+        when(limiter.tryAcquire(any())).thenReturn(true);
+
+        // When
+        mockMvc.perform(get("/api/items")).andExpect(status().isOk());
+        mockMvc.perform(post("/api/items")).andExpect(status().isOk());
+        mockMvc.perform(post("/api/auth/login")).andExpect(status().isOk());
+
+        // Then: each is released with its own priority, so its latency is compared with its own kind
+        verify(limiter).tryAcquire(RequestPriority.READ);
+        verify(limiter).tryAcquire(RequestPriority.WRITE);
+        verify(limiter).tryAcquire(RequestPriority.CRITICAL);
+        verify(limiter).release(eq(RequestPriority.READ), anyLong(), eq(false));
+        verify(limiter).release(eq(RequestPriority.WRITE), anyLong(), eq(false));
+        verify(limiter).release(eq(RequestPriority.CRITICAL), anyLong(), eq(false));
+    }
+
+    @Test
+    @DisplayName("Should answer a request over the limit with 503, Retry-After and a JSON error")
+    void shouldRejectOverLimit() throws Exception {
+        // Given
+        when(limiter.tryAcquire(RequestPriority.READ)).thenReturn(false);
+
+        // When / Then
+        mockMvc.perform(get("/api/items"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "1"))
+                .andExpect(jsonPath("$.status").value(503))
+                .andExpect(jsonPath("$.error").value("SERVICE_UNAVAILABLE"))
+                .andExpect(jsonPath("$.message").exists());
+        verify(limiter, never()).release(any(), anyLong(), anyBoolean());
+        verify(limiter, never()).releaseWithoutSample();
+    }
+
+    @Test
+    @DisplayName("Should release an asynchronous request without a latency sample")
+    void shouldReleaseAsyncWithoutSample() throws Exception {
+        // Given
+        when(limiter.tryAcquire(RequestPriority.READ)).thenReturn(true);
+
+        // When
+        mockMvc.perform(get("/api/items/async")).andExpect(request().asyncStarted());
+
+        // Then
+        verify(limiter).releaseWithoutSample();
+        verify(limiter, never()).release(any(), anyLong(), anyBoolean());
+    }
+
+    @Test
+    @DisplayName("Should not count requests outside the limited paths")
+    void shouldIgnoreOtherPaths() throws Exception {
+        // When
+        mockMvc.perform(get("/health")).andExpect(status().isOk());
+
+        // Then
+        verify(limiter, never()).tryAcquire(any());
+    }
+
+    @RestController
+    static class TestController {
+
+        @GetMapping("/api/items")
+        String items() {
+            return "ok";
+        }
+
+        @PostMapping("/api/items")
+        String createItem() {
+            return "ok";
+        }
+
+        @PostMapping("/api/auth/login")
+        String login() {
+            return "ok";
+        }
+
+        @GetMapping("/api/items/async")
+        Callable<String> asyncItems() {
+            return () -> "ok";
+        }
+
+        @GetMapping("/health")
+        String health() {
+            return "ok";
+        }
+    }
+}
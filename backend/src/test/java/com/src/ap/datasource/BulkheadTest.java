@@ -0,0 +1,89 @@
+package com.src.ap.datasource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Not transactional: a test transaction would hold a main-pool connection for the whole test,
+ * and the pool is chosen when a connection is opened.
+ */
+@SpringBootTest(properties = {
+        "app.bulkheads.pools.bulk.maximum-pool-size=2",
+        "app.bulkheads.pools.bulk.connection-timeout-ms=250"
+})
+@ActiveProfiles("test")
+@DisplayName("Connection pool bulkhead Tests")
+class BulkheadTest {
+
+    private static final String ACQUIRE_METRIC = "hikaricp.connections.acquire";
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private UserDetailsService userDetailsService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    @DisplayName("Should take the user lookup's connection from the auth pool")
+    void shouldUseAuthPoolForUserLookup() {
+        // Given
+        long before = acquisitions("auth");
+
+        // When
+        assertThatThrownBy(() -> userDetailsService.loadUserByUsername("bulkhead-missing-user"))
+                .isInstanceOf(UsernameNotFoundException.class);
+
+        // Then
+        assertThat(acquisitions("auth")).isGreaterThan(before);
+    }
+
+    @Test
+    @DisplayName("Should keep authenticating while the bulk pool is exhausted")
+    void shouldNotStarveAuthWhenBulkIsExhausted() throws SQLException {
+        List<Connection> held = new ArrayList<>();
+        Workload previous = WorkloadContext.set(Workload.BULK);
+        try {
+            // Given: every bulk connection is checked out
+            held.add(dataSource.getConnection());
+            held.add(dataSource.getConnection());
+            assertThatThrownBy(dataSource::getConnection).isInstanceOf(SQLException.class);
+
+            // When / Then: the auth lookup still gets a connection, as does OLTP work
+            assertThatThrownBy(() -> userDetailsService.loadUserByUsername("bulkhead-missing-user"))
+                    .isInstanceOf(UsernameNotFoundException.class);
+            WorkloadContext.set(Workload.OLTP);
+            try (Connection connection = dataSource.getConnection()) {
+                assertThat(connection.isValid(1)).isTrue();
+            }
+        } finally {
+            WorkloadContext.restore(previous);
+            for (Connection connection : held) {
+                connection.close();
+            }
+        }
+    }
+
+    private long acquisitions(String pool) {
+        Timer timer = meterRegistry.find(ACQUIRE_METRIC).tag("pool", pool).timer();
+        return timer != null ? timer.count() : 0;
+    }
+}
@@ -0,0 +1,183 @@
+package com.src.ap.datasource;
+
+import com.src.ap.audit.AuditContextHolder;
+import com.src.ap.audit.AuditRequestContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * A second in-memory H2 database stands in for the replica. It does not replicate anything, so
+ * its heartbeat is set by hand and which database answered is told apart by its name.
+ */
+@SpringBootTest(properties = {
+        "app.read-replica.enabled=true",
+        "app.read-replica.url=" + ReadReplicaRoutingTest.REPLICA_URL,
+        "app.read-replica.username=sa",
+        "app.read-replica.password=",
+        "app.read-replica.health-check-interval-ms=3600000",
+        "app.read-replica.max-lag-ms=5000"
+})
+@ActiveProfiles("test")
+@DisplayName("Read replica routing Tests")
+class ReadReplicaRoutingTest {
+
+    static final String REPLICA_URL = "jdbc:h2:mem:replica;MODE=MSSQLServer;DB_CLOSE_DELAY=-1";
+
+    @Autowired
+    private ReadReplica readReplica;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        try (Connection connection = DriverManager.getConnection(REPLICA_URL, "sa", "");
+             Statement statement = connection.createStatement()) {
+            statement.execute("CREATE SCHEMA IF NOT EXISTS dbo");
+            statement.execute("CREATE TABLE IF NOT EXISTS dbo.replica_heartbeat (id INT PRIMARY KEY, beat_at TIMESTAMP NOT NULL)");
+        }
+        setReplicaHeartbeat(Instant.now());
+        readReplica.check();
+    }
+
+    @AfterEach
+    void tearDown() {
+        AuditContextHolder.clear();
+        jdbcTemplate.update("DELETE FROM dbo.cache_invalidations WHERE cache_name = ?", ReadReplica.PIN_CHANNEL);
+    }
+
+    @Test
+    @DisplayName("Should send read-only transactions to the replica and the rest to the primary")
+    void shouldRouteByReadOnlyFlag() {
+        assertThat(readReplica.isAvailable()).isTrue();
+        assertThat(databaseIn(true)).isEqualToIgnoringCase("replica");
+        assertThat(databaseIn(false)).isNotEqualToIgnoringCase("replica");
+        assertThat(jdbcTemplate.queryForObject("SELECT DATABASE()", String.class)).isNotEqualToIgnoringCase("replica");
+    }
+
+    @Test
+    @DisplayName("Should read from the primary after the user's own write")
+    void shouldReadYourWrites() {
+        // Given
+        AuditContextHolder.set(new AuditRequestContext("replica-writer"));
+
+        // When
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                jdbcTemplate.update("UPDATE dbo.replica_heartbeat SET beat_at = beat_at WHERE id = 1"));
+
+        // Then
+        assertThat(databaseIn(true)).isNotEqualToIgnoringCase("replica");
+        AuditContextHolder.set(new AuditRequestContext("replica-reader"));
+        assertThat(databaseIn(true)).isEqualToIgnoringCase("replica");
+    }
+
+    @Test
+    @DisplayName("Should read from the primary after the user's write on another node")
+    void shouldReadYourWritesAcrossNodes() {
+        // Given: the bus delivered another node's pin
+        readReplica.invalidate(ReadReplica.PIN_CHANNEL, "remote-writer");
+
+        // When
+        AuditContextHolder.set(new AuditRequestContext("remote-writer"));
+
+        // Then
+        assertThat(databaseIn(true)).isNotEqualToIgnoringCase("replica");
+    }
+
+    @Test
+    @DisplayName("Should put the pin on the bus for the other nodes")
+    void shouldSharePinWithOtherNodes() {
+        // Given
+        AuditContextHolder.set(new AuditRequestContext("shared-writer"));
+
+        // When
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                jdbcTemplate.update("UPDATE dbo.replica_heartbeat SET beat_at = beat_at WHERE id = 1"));
+
+        // Then
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM dbo.cache_invalidations WHERE cache_name = ? AND cache_key = ?",
+                Integer.class, ReadReplica.PIN_CHANNEL, "shared-writer")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should not share the pin of a rolled-back write")
+    void shouldNotSharePinOfRolledBackWrite() {
+        // Given
+        AuditContextHolder.set(new AuditRequestContext("rolled-back-writer"));
+
+        // When
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            jdbcTemplate.update("UPDATE dbo.replica_heartbeat SET beat_at = beat_at WHERE id = 1");
+            status.setRollbackOnly();
+        });
+
+        // Then
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM dbo.cache_invalidations WHERE cache_name = ? AND cache_key = ?",
+                Integer.class, ReadReplica.PIN_CHANNEL, "rolled-back-writer")).isZero();
+        assertThat(databaseIn(true)).isEqualToIgnoringCase("replica");
+    }
+
+    @Test
+    @DisplayName("Should fall back to the primary while the replica lags or is unreachable")
+    void shouldFallBackWhenLaggingOrDown() throws SQLException {
+        // When: the replica's heartbeat is older than max-lag-ms
+        setReplicaHeartbeat(Instant.now().minus(Duration.ofMinutes(1)));
+        readReplica.check();
+
+        // Then
+        assertThat(readReplica.isAvailable()).isFalse();
+        assertThat(readReplica.getLagMs()).isGreaterThan(5000);
+        assertThat(databaseIn(true)).isNotEqualToIgnoringCase("replica");
+
+        // When: the replica is unreachable
+        try (Connection connection = DriverManager.getConnection(REPLICA_URL, "sa", "");
+             Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE dbo.replica_heartbeat");
+        }
+        readReplica.check();
+
+        // Then
+        assertThat(readReplica.isAvailable()).isFalse();
+        assertThat(readReplica.getLagMs()).isEqualTo(-1);
+        assertThat(databaseIn(true)).isNotEqualToIgnoringCase("replica");
+    }
+
+    private String databaseIn(boolean readOnly) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(readOnly);
+        return template.execute(status -> jdbcTemplate.queryForObject("SELECT DATABASE()", String.class));
+    }
+
+    private static void setReplicaHeartbeat(Instant beat) throws SQLException {
+        try (Connection connection = DriverManager.getConnection(REPLICA_URL, "sa", "");
+             PreparedStatement statement = connection.prepareStatement(
+                     "MERGE INTO dbo.replica_heartbeat (id, beat_at) KEY (id) VALUES (1, ?)")) {
+            statement.setTimestamp(1, Timestamp.from(beat));
+            statement.executeUpdate();
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.src.ap.datasource;
+
+import com.src.ap.config.RequestDeadlineFilter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Request deadline Tests")
+class RequestDeadlineTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private RequestDeadlineFilter requestDeadlineFilter;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @AfterEach
+    void tearDown() {
+        RequestDeadline.clear();
+    }
+
+    @Test
+    @DisplayName("Should set the time left as the query timeout of every statement")
+    void shouldApplyRemainingTimeAsQueryTimeout() {
+        assertThat(queryTimeout()).isZero();
+
+        // When
+        RequestDeadline.set(Duration.ofMillis(2500));
+
+        // Then: rounded up to whole seconds
+        assertThat(queryTimeout()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should refuse statements once the deadline has passed")
+    void shouldFailStatementsAfterDeadline() {
+        // When
+        RequestDeadline.set(Duration.ZERO);
+
+        // Then
+        assertThatThrownBy(() -> jdbcTemplate.queryForObject("SELECT 1", Integer.class))
+                .isInstanceOf(QueryTimeoutException.class);
+    }
+
+    @Test
+    @DisplayName("Should take the deadline from the header and count requests that exceed it")
+    void shouldCountExceededDeadlines() throws Exception {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/occupations/search");
+        request.addHeader("X-Request-Timeout", "20");
+        AtomicReference<Duration> remaining = new AtomicReference<>();
+
+        // When: the request outlives its deadline
+        requestDeadlineFilter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+            remaining.set(RequestDeadline.remaining());
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        // Then
+        assertThat(remaining.get()).isPositive().isLessThanOrEqualTo(Duration.ofMillis(20));
+        assertThat(RequestDeadline.isSet()).isFalse();
+        Counter exceeded = meterRegistry.find(RequestDeadlineFilter.EXCEEDED_METRIC).counter();
+        assertThat(exceeded).isNotNull();
+        assertThat(exceeded.count()).isPositive();
+    }
+
+    private int queryTimeout() {
+        return jdbcTemplate.execute((ConnectionCallback<Integer>) connection -> {
+            try (Statement statement = connection.createStatement()) {
+                return statement.getQueryTimeout();
+            }
+        });
+    }
+}
@@ -0,0 +1,55 @@
+package com.src.ap.importer;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("CsvTabularReader Tests")
+class CsvTabularReaderTest {
+
+    @Test
+    @DisplayName("Should read quoted fields with delimiters, quotes and line breaks")
+    void shouldReadQuotedFields() throws IOException {
+        // Given
+        String csv = "\uFEFFemail,fullName,note\r\n"
+                + "an@example.com,\"Nguyễn, Văn An\",\"said \"\"hi\"\"\"\r\n"
+                + "binh@example.com,Trần Bình,\"two\nlines\"\n"
+                + "khanh@example.com,,\n";
+
+        try (CsvTabularReader reader = new CsvTabularReader(new StringReader(csv))) {
+            // When / Then
+            assertThat(reader.next()).containsExactly("email", "fullName", "note");
+            assertThat(reader.next()).containsExactly("an@example.com", "Nguyễn, Văn An", "said \"hi\"");
+            assertThat(reader.rowNumber()).isEqualTo(2);
+            assertThat(reader.next()).containsExactly("binh@example.com", "Trần Bình", "two\nlines");
+            assertThat(reader.next()).isEqualTo(Arrays.asList("khanh@example.com", null, null));
+            assertThat(reader.rowNumber()).isEqualTo(5);
+            assertThat(reader.next()).isNull();
+        }
+    }
+
+    @Test
+    @DisplayName("Should detect semicolon-delimited exports from the header")
+    void shouldDetectSemicolonDelimiter() throws IOException {
+        try (CsvTabularReader reader = new CsvTabularReader(new StringReader("email;phone\nan@example.com;0901,234\n"))) {
+            assertThat(reader.next()).containsExactly("email", "phone");
+            assertThat(reader.next()).isEqualTo(List.of("an@example.com", "0901,234"));
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject an unterminated quoted field")
+    void shouldRejectUnterminatedQuote() throws IOException {
+        try (CsvTabularReader reader = new CsvTabularReader(new StringReader("email\n\"an@example.com\n"))) {
+            reader.next();
+            assertThatThrownBy(reader::next).isInstanceOf(IOException.class);
+        }
+    }
+}
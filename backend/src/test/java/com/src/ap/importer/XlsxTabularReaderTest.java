@@ -0,0 +1,80 @@
+package com.src.ap.importer;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("XlsxTabularReader Tests")
+class XlsxTabularReaderTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("Should read shared, inline and numeric cells of the first sheet, keeping gaps and cell types")
+    void shouldReadFirstSheet() throws IOException {
+        // Given: the first tab is stored as sheet2.xml, and row 3 skips column B
+        Path workbook = tempDir.resolve("employees.xlsx");
+        try (ZipOutputStream zip = new ZipOutputStream(Files.newOutputStream(workbook))) {
+            write(zip, "xl/workbook.xml", """
+                    <workbook xmlns="http://schemas.openxmlformats.org/spreadsheetml/2006/main"
+                              xmlns:r="http://schemas.openxmlformats.org/officeDocument/2006/relationships">
+                      <sheets><sheet name="Employees" sheetId="1" r:id="rId7"/></sheets>
+                    </workbook>""");
+            write(zip, "xl/_rels/workbook.xml.rels", """
+                    <Relationships xmlns="http://schemas.openxmlformats.org/package/2006/relationships">
+                      <Relationship Id="rId7" Target="worksheets/sheet2.xml"/>
+                    </Relationships>""");
+            write(zip, "xl/sharedStrings.xml", """
+                    <sst xmlns="http://schemas.openxmlformats.org/spreadsheetml/2006/main">
+                      <si><t>email</t></si>
+                      <si><t>hireDt</t></si>
+                      <si><r><t>Nguyễn </t></r><r><t>Văn An</t></r><rPh><t>ignored</t></rPh></si>
+                      <si><t>fullName</t></si>
+                    </sst>""");
+            write(zip, "xl/worksheets/sheet2.xml", """
+                    <worksheet xmlns="http://schemas.openxmlformats.org/spreadsheetml/2006/main">
+                      <sheetData>
+                        <row r="1"><c r="A1" t="s"><v>0</v></c><c r="B1" t="s"><v>1</v></c><c r="C1" t="s"><v>3</v></c></row>
+                        <row r="3"><c r="A3" t="inlineStr"><is><t>an@example.com</t></is></c><c r="C3" t="s"><v>2</v></c></row>
+                        <row r="4"><c r="A4" t="str"><v>binh@example.com</v></c><c r="B4"><v>45292</v></c></row>
+                      </sheetData>
+                    </worksheet>""");
+        }
+
+        try (XlsxTabularReader reader = new XlsxTabularReader(workbook)) {
+            // When / Then
+            assertThat(reader.next()).containsExactly("email", "hireDt", "fullName");
+            assertThat(reader.next()).isEqualTo(Arrays.asList("an@example.com", null, "Nguyễn Văn An"));
+            assertThat(reader.rowNumber()).isEqualTo(3);
+            assertThat(reader.next()).containsExactly("binh@example.com", "45292");
+            assertThat(reader.isNumeric(0)).isFalse();
+            assertThat(reader.isNumeric(1)).isTrue();
+            assertThat(reader.next()).isNull();
+        }
+    }
+
+    @Test
+    @DisplayName("Should convert cell references to column indexes")
+    void shouldConvertColumnLetters() {
+        assertThat(XlsxTabularReader.columnIndex("A1")).isZero();
+        assertThat(XlsxTabularReader.columnIndex("Z10")).isEqualTo(25);
+        assertThat(XlsxTabularReader.columnIndex("AB3")).isEqualTo(27);
+    }
+
+    private static void write(ZipOutputStream zip, String name, String content) throws IOException {
+        zip.putNextEntry(new ZipEntry(name));
+        zip.write(content.getBytes(StandardCharsets.UTF_8));
+        zip.closeEntry();
+    }
+}
@@ -0,0 +1,322 @@
+package com.src.ap.integration;
+
+import com.src.ap.dto.employee.EmployeeRequest;
+import com.src.ap.dto.occupation.OccupationRequest;
+import com.src.ap.entity.Branch;
+import com.src.ap.entity.Employee;
+import com.src.ap.entity.Occupation;
+import com.src.ap.exception.DuplicateResourceException;
+import com.src.ap.exception.UniqueKey;
+import com.src.ap.repository.BranchRepository;
+import com.src.ap.repository.EmployeeRepository;
+import com.src.ap.repository.OccupationRepository;
+import com.src.ap.repository.UserRepository;
+import com.src.ap.service.EmployeeService;
+import com.src.ap.service.OccupationService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Duplicates are rejected by the UK_* constraints rather than exists* pre-checks; every
+ * {@link UniqueKey} is exercised through its endpoint. Requests commit for real here, so every
+ * test removes what it created.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("Unique Constraint Conflict Tests")
+class UniqueConstraintConflictTest {
+
+    private static final String NAME = "Concurrent Occupation";
+    private static final String OTHER_NAME = "Other Occupation";
+    private static final String USERNAME = "conflict_user";
+    private static final String OTHER_USERNAME = "conflict_other";
+    private static final String USER_EMAIL = "conflict.user@example.com";
+    private static final String OTHER_USER_EMAIL = "conflict.other@example.com";
+    private static final String EMPLOYEE_EMAIL = "conflict.employee@example.com";
+    private static final String OTHER_EMPLOYEE_EMAIL = "conflict.employee.other@example.com";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private OccupationService occupationService;
+
+    @Autowired
+    private OccupationRepository occupationRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private BranchRepository branchRepository;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @AfterEach
+    void tearDown() {
+        occupationRepository.findByName(NAME).ifPresent(occupationRepository::delete);
+        occupationRepository.findByName(OTHER_NAME).ifPresent(occupationRepository::delete);
+        branchRepository.findByName(NAME).ifPresent(branchRepository::delete);
+        branchRepository.findByName(OTHER_NAME).ifPresent(branchRepository::delete);
+        for (String email : List.of(EMPLOYEE_EMAIL, OTHER_EMPLOYEE_EMAIL)) {
+            employeeRepository.findByEmail(email)
+                    .ifPresent(employee -> employeeService.deleteEmployee(employee.getId()));
+        }
+        for (String username : List.of(USERNAME, OTHER_USERNAME)) {
+            userRepository.findByUsername(username).ifPresent(user -> {
+                jdbcTemplate.update("DELETE FROM dbo.one_time_tokens WHERE user_id = ?", user.getId());
+                userRepository.delete(user);
+            });
+        }
+    }
+
+    @Test
+    @DisplayName("Should return one 201 and one 409 when the same occupation is created concurrently")
+    void shouldReturnConflictForConcurrentDuplicateCreate() throws Exception {
+        // When: two requests released at the same moment
+        List<MvcResult> results = performConcurrently(createOccupation(), createOccupation());
+
+        // Then: the constraint lets exactly one through and the loser gets the usual conflict message
+        assertThat(statuses(results)).containsExactlyInAnyOrder(201, 409);
+        assertThat(bodies(results))
+                .anyMatch(body -> body.contains("Occupation already exists with name: '" + NAME + "'"));
+        assertThat(occupationRepository.findByName(NAME)).isPresent();
+    }
+
+    @Test
+    @DisplayName("Should return one 201 and one 409 when the same username is registered concurrently")
+    void shouldReturnConflictForConcurrentDuplicateUsername() throws Exception {
+        // When
+        List<MvcResult> results = performConcurrently(
+                register(USERNAME, USER_EMAIL), register(USERNAME, OTHER_USER_EMAIL));
+
+        // Then: UK_users_username, not existsByUsername, turned the loser away
+        assertThat(statuses(results)).containsExactlyInAnyOrder(201, 409);
+        assertThat(bodies(results))
+                .anyMatch(body -> body.contains("User already exists with username: '" + USERNAME + "'"));
+        assertThat(userRepository.findByUsername(USERNAME)).isPresent();
+    }
+
+    @Test
+    @DisplayName("Should return one 201 and one 409 when the same email is registered concurrently")
+    void shouldReturnConflictForConcurrentDuplicateUserEmail() throws Exception {
+        // When
+        List<MvcResult> results = performConcurrently(
+                register(USERNAME, USER_EMAIL), register(OTHER_USERNAME, USER_EMAIL));
+
+        // Then: UK_users_email, not existsByEmail, turned the loser away
+        assertThat(statuses(results)).containsExactlyInAnyOrder(201, 409);
+        assertThat(bodies(results))
+                .anyMatch(body -> body.contains("User already exists with email: '" + USER_EMAIL + "'"));
+        assertThat(userRepository.findByEmail(USER_EMAIL)).isPresent();
+    }
+
+    @Test
+    @DisplayName("Should return 409 when an employee's email is changed to an existing one")
+    void shouldReturnConflictForEmployeeEmailChangeToExisting() throws Exception {
+        // Given
+        employeeService.createEmployee(employee(EMPLOYEE_EMAIL));
+        Long other = employeeService.createEmployee(employee(OTHER_EMPLOYEE_EMAIL)).getId();
+
+        // When / Then
+        mockMvc.perform(put("/api/employees/" + other)
+                        .with(user("admin").roles("SUPERADMIN"))
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\": \"" + EMPLOYEE_EMAIL + "\", \"fullName\": \"Conflict Employee\", "
+                                + "\"firstName\": \"Conflict\", \"lastName\": \"Employee\", "
+                                + "\"hireDt\": \"2024-01-01\"}"))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.success").value(false))
+                .andExpect(jsonPath("$.message").value("Employee already exists with email: '" + EMPLOYEE_EMAIL + "'"));
+        assertThat(employeeRepository.findById(other)).get()
+                .extracting(Employee::getEmail).isEqualTo(OTHER_EMPLOYEE_EMAIL);
+    }
+
+    @Test
+    @DisplayName("Should return 409 when a branch is renamed to an existing name")
+    void shouldReturnConflictForBranchRenameToExistingName() throws Exception {
+        // Given
+        branchRepository.save(Branch.builder().name(NAME).build());
+        Branch other = branchRepository.save(Branch.builder().name(OTHER_NAME).build());
+
+        // When / Then
+        mockMvc.perform(put("/api/branches/" + other.getId())
+                        .with(user("admin").roles("SUPERADMIN"))
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body(NAME)))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.success").value(false))
+                .andExpect(jsonPath("$.message").value("Branch already exists with name: '" + NAME + "'"));
+        assertThat(branchRepository.findById(other.getId())).get()
+                .extracting(Branch::getName).isEqualTo(OTHER_NAME);
+    }
+
+    @Test
+    @DisplayName("Should return 409 when an occupation is renamed to an existing name")
+    void shouldReturnConflictForRenameToExistingName() throws Exception {
+        // Given
+        occupationRepository.save(Occupation.builder().name(NAME).build());
+        Occupation other = occupationRepository.save(Occupation.builder().name(OTHER_NAME).build());
+
+        // When / Then
+        mockMvc.perform(put("/api/occupations/" + other.getId())
+                        .with(user("admin").roles("SUPERADMIN"))
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body(NAME)))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.success").value(false))
+                .andExpect(jsonPath("$.message").value("Occupation already exists with name: '" + NAME + "'"));
+        assertThat(occupationRepository.findById(other.getId())).get()
+                .extracting(Occupation::getName).isEqualTo(OTHER_NAME);
+    }
+
+    @Test
+    @DisplayName("Should create an occupation without a lookup query before the insert")
+    void shouldCreateWithoutExistenceQuery() {
+        // Given
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // When: rolled back, so only the create itself is measured
+        transactionTemplate.executeWithoutResult(status -> {
+            occupationService.createOccupation(new OccupationRequest(NAME, null));
+            status.setRollbackOnly();
+        });
+
+        // Then: the INSERT is the only statement; the existsByName SELECT is gone
+        assertThat(statistics.getQueryExecutionCount()).isZero();
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should surface a duplicate create as DataIntegrityViolationException from the service")
+    void shouldSurfaceDuplicateFromService() {
+        // Given
+        occupationRepository.save(Occupation.builder().name(NAME).build());
+
+        // When / Then: the flush inside createOccupation hits the constraint before the call returns
+        assertThatThrownBy(() -> occupationService.createOccupation(new OccupationRequest(NAME, null)))
+                .isInstanceOf(DataIntegrityViolationException.class)
+                .satisfies(ex -> assertThat(UniqueKey.toDuplicate((DataIntegrityViolationException) ex))
+                        .get()
+                        .extracting(DuplicateResourceException::getMessage)
+                        .isEqualTo("Occupation already exists with name: '" + NAME + "'"));
+    }
+
+    /**
+     * Performs the requests on separate threads released at the same moment.
+     */
+    private List<MvcResult> performConcurrently(RequestBuilder... requests) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(requests.length);
+        try {
+            List<Future<MvcResult>> futures = new ArrayList<>();
+            for (RequestBuilder request : requests) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return mockMvc.perform(request).andReturn();
+                }));
+            }
+            start.countDown();
+            List<MvcResult> results = new ArrayList<>();
+            for (Future<MvcResult> future : futures) {
+                results.add(future.get(30, TimeUnit.SECONDS));
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static List<Integer> statuses(List<MvcResult> results) {
+        return results.stream().map(result -> result.getResponse().getStatus()).toList();
+    }
+
+    private static List<String> bodies(List<MvcResult> results) throws Exception {
+        List<String> bodies = new ArrayList<>();
+        for (MvcResult result : results) {
+            bodies.add(result.getResponse().getContentAsString());
+        }
+        return bodies;
+    }
+
+    private static RequestBuilder createOccupation() {
+        return post("/api/occupations")
+                .with(user("admin").roles("SUPERADMIN"))
+                .with(csrf())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body(NAME));
+    }
+
+    private static RequestBuilder register(String username, String email) {
+        return post("/api/auth/register")
+                .with(user("admin").roles("SUPERADMIN"))
+                .with(csrf())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"username\": \"" + username + "\", \"email\": \"" + email + "\"}");
+    }
+
+    private static EmployeeRequest employee(String email) {
+        EmployeeRequest request = new EmployeeRequest();
+        request.setEmail(email);
+        request.setFullName("Conflict Employee");
+        request.setFirstName("Conflict");
+        request.setLastName("Employee");
+        request.setHireDt(LocalDate.of(2024, 1, 1));
+        return request;
+    }
+
+    private static String body(String name) {
+        return "{\"name\": \"" + name + "\"}";
+    }
+}
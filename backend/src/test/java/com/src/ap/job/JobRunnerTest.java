@@ -0,0 +1,151 @@
+package com.src.ap.job;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Not transactional: every chunk commits on its own, as in a scheduled run, and the rows are
+ * removed afterwards. Other nodes are simulated by work done on a separate thread.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("JobRunner Tests")
+class JobRunnerTest {
+
+    private static final ClusterJob JOB = ClusterJob.single("test-job", Duration.ofMinutes(1));
+
+    @Autowired
+    private JobRunner jobRunner;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        // The runner remembers which jobs it created slots for, so the slot is reset rather than deleted
+        jdbcTemplate.update("""
+                UPDATE dbo.job_leases
+                SET owner = NULL, lease_until = NULL, job_checkpoint = NULL, last_outcome = NULL,
+                    last_finished_at = NULL
+                WHERE job_name = ?
+                """, JOB.name());
+        jdbcTemplate.update("DELETE FROM dbo.cache_invalidations WHERE cache_name = ?", JOB.name());
+    }
+
+    @Test
+    @DisplayName("Should resume a failed run from its last checkpoint")
+    void shouldResumeFromCheckpoint() {
+        // Given: a run that fails on its third chunk
+        List<String> seen = new ArrayList<>();
+        JobRun failed = jobRunner.run(JOB, context -> {
+            int position = context.checkpoint() == null ? 0 : Integer.parseInt(context.checkpoint());
+            if (position == 2) {
+                throw new IllegalStateException("boom");
+            }
+            return JobChunk.next(String.valueOf(position + 1), 1);
+        });
+        assertThat(failed.outcome()).isEqualTo(JobRun.Outcome.FAILED);
+        assertThat(failed.rows()).isEqualTo(2);
+
+        // When
+        JobRun resumed = jobRunner.run(JOB, context -> {
+            seen.add(context.checkpoint());
+            return JobChunk.last(1);
+        });
+
+        // Then
+        assertThat(resumed.outcome()).isEqualTo(JobRun.Outcome.COMPLETED);
+        assertThat(seen).containsExactly("2");
+        assertThat(checkpoint()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should skip a run while another holds the lease")
+    void shouldSkipWhileLeased() {
+        // When
+        JobRun outer = jobRunner.run(JOB, context -> {
+            JobRun inner = CompletableFuture.supplyAsync(() -> jobRunner.run(JOB, c -> JobChunk.last(1))).join();
+            assertThat(inner.outcome()).isEqualTo(JobRun.Outcome.SKIPPED);
+            return JobChunk.last(1);
+        });
+
+        // Then
+        assertThat(outer.outcome()).isEqualTo(JobRun.Outcome.COMPLETED);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT last_outcome FROM dbo.job_leases WHERE job_name = ?", String.class, JOB.name()))
+                .isEqualTo("COMPLETED");
+    }
+
+    @Test
+    @DisplayName("Should roll back the chunk of a run whose lease was taken over")
+    void shouldFenceOffTakenOverLease() {
+        // When: the chunk writes a row, then another node takes the lease over
+        JobRun run = jobRunner.run(JOB, context -> {
+            jdbcTemplate.update("INSERT INTO dbo.cache_invalidations (cache_name, origin, created_at) VALUES (?, ?, ?)",
+                    JOB.name(), "test", Timestamp.from(Instant.now()));
+            CompletableFuture.runAsync(() -> jdbcTemplate.update(
+                    "UPDATE dbo.job_leases SET fencing_token = fencing_token + 1 WHERE job_name = ?", JOB.name())).join();
+            return JobChunk.last(1);
+        });
+
+        // Then
+        assertThat(run.outcome()).isEqualTo(JobRun.Outcome.LEASE_LOST);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM dbo.cache_invalidations WHERE cache_name = ?", Integer.class, JOB.name()))
+                .isZero();
+    }
+
+    @Test
+    @DisplayName("Should skip a once-per-period job that already completed in the period")
+    void shouldSkipJobDoneThisPeriod() {
+        // Given: another replica's cron fired first and completed the run
+        ClusterJob nightly = JOB.oncePer(Duration.ofHours(12));
+        assertThat(jobRunner.run(nightly, context -> JobChunk.last(1)).outcome()).isEqualTo(JobRun.Outcome.COMPLETED);
+
+        // When: this replica's cron fires after the lease was released
+        List<String> seen = new ArrayList<>();
+        JobRun late = jobRunner.run(nightly, context -> {
+            seen.add("ran");
+            return JobChunk.last(1);
+        });
+
+        // Then
+        assertThat(late.outcome()).isEqualTo(JobRun.Outcome.SKIPPED);
+        assertThat(seen).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should run a once-per-period job again after a failed run in the period")
+    void shouldRetryFailedJobInPeriod() {
+        // Given
+        ClusterJob nightly = JOB.oncePer(Duration.ofHours(12));
+        jobRunner.run(nightly, context -> {
+            throw new IllegalStateException("boom");
+        });
+
+        // When
+        JobRun retried = jobRunner.run(nightly, context -> JobChunk.last(1));
+
+        // Then
+        assertThat(retried.outcome()).isEqualTo(JobRun.Outcome.COMPLETED);
+    }
+
+    private String checkpoint() {
+        return jdbcTemplate.queryForObject(
+                "SELECT job_checkpoint FROM dbo.job_leases WHERE job_name = ?", String.class, JOB.name());
+    }
+}
@@ -0,0 +1,146 @@
+package com.src.ap.limit;
+
+import com.src.ap.config.ConcurrencyLimitConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("GradientConcurrencyLimiter Tests")
+class GradientConcurrencyLimiterTest {
+
+    private static final long WINDOW_NANOS = TimeUnit.MILLISECONDS.toNanos(1000);
+
+    private SimpleMeterRegistry registry;
+    private GradientConcurrencyLimiter limiter;
+    private long now;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        limiter = new GradientConcurrencyLimiter(new ConcurrencyLimitConfig(), registry);
+    }
+
+    @Test
+    @DisplayName("Should raise the limit while latency stays flat under load")
+    void shouldGrowWhileLatencyIsFlat() {
+        // When
+        windows(10, 20, 10);
+
+        // Then
+        assertThat(limiter.getLimit()).isGreaterThan(20);
+    }
+
+    @Test
+    @DisplayName("Should lower the limit once latency rises above the long-term average")
+    void shouldShrinkWhenLatencyRises() {
+        // Given
+        windows(5, 20, 10);
+        int learned = limiter.getLimit();
+
+        // When: requests queue and take five times as long
+        windows(5, learned, 50);
+
+        // Then
+        assertThat(limiter.getLimit()).isLessThan(learned);
+    }
+
+    @Test
+    @DisplayName("Should not mistake a shift towards slower priorities for queueing")
+    void shouldCompareLatencyPerPriority() {
+        // Given: reads alone for a while
+        windows(5, 20, 10);
+        int learned = limiter.getLimit();
+
+        // When: logins, ten times slower than reads, make up half of the traffic
+        for (int window = 0; window < 5; window++) {
+            for (int i = 0; i < 10; i++) {
+                sample(RequestPriority.READ, 10, learned, false);
+                sample(RequestPriority.CRITICAL, 100, learned, false);
+            }
+            now += WINDOW_NANOS;
+        }
+        sample(RequestPriority.READ, 10, learned, false);
+
+        // Then
+        assertThat(limiter.getLimit()).isGreaterThanOrEqualTo(learned);
+    }
+
+    @Test
+    @DisplayName("Should not raise the limit while most of it is unused")
+    void shouldNotGrowWhenIdle() {
+        // When
+        windows(10, 3, 10);
+
+        // Then
+        assertThat(limiter.getLimit()).isEqualTo(20);
+    }
+
+    @Test
+    @DisplayName("Should back off after requests fail with 503 or 504")
+    void shouldBackOffOnDrops() {
+        // When
+        sample(10, 20, true);
+        now += WINDOW_NANOS;
+        sample(10, 20, true);
+
+        // Then
+        assertThat(limiter.getLimit()).isEqualTo(18);
+    }
+
+    @Test
+    @DisplayName("Should shed reads first, then writes, and admit auth up to the full limit")
+    void shouldShedByPriority() {
+        // Given: limit 20; reads may fill 15, writes 18
+        for (int i = 0; i < 15; i++) {
+            assertThat(limiter.tryAcquire(RequestPriority.READ)).isTrue();
+        }
+
+        // When / Then
+        assertThat(limiter.tryAcquire(RequestPriority.READ)).isFalse();
+        assertThat(limiter.tryAcquire(RequestPriority.WRITE)).isTrue();
+        assertThat(limiter.tryAcquire(RequestPriority.WRITE)).isTrue();
+        assertThat(limiter.tryAcquire(RequestPriority.WRITE)).isTrue();
+        assertThat(limiter.tryAcquire(RequestPriority.WRITE)).isFalse();
+        assertThat(limiter.tryAcquire(RequestPriority.CRITICAL)).isTrue();
+        assertThat(limiter.tryAcquire(RequestPriority.CRITICAL)).isTrue();
+        assertThat(limiter.tryAcquire(RequestPriority.CRITICAL)).isFalse();
+
+        assertThat(limiter.getInflight()).isEqualTo(20);
+        assertThat(registry.get(GradientConcurrencyLimiter.REJECTED_METRIC).tag("priority", "read").counter().count())
+                .isEqualTo(1);
+        assertThat(registry.get(GradientConcurrencyLimiter.INFLIGHT_METRIC).gauge().value()).isEqualTo(20);
+        assertThat(registry.get(GradientConcurrencyLimiter.LIMIT_METRIC).gauge().value()).isEqualTo(20);
+
+        // When: one completes
+        limiter.release(RequestPriority.READ, TimeUnit.MILLISECONDS.toNanos(10), false);
+
+        // Then
+        assertThat(limiter.tryAcquire(RequestPriority.CRITICAL)).isTrue();
+    }
+
+    /**
+     * Feeds {@code count} full windows of samples taken at {@code inflight} concurrent requests.
+     */
+    private void windows(int count, int inflight, long rttMs) {
+        for (int window = 0; window < count; window++) {
+            for (int i = 0; i < 20; i++) {
+                sample(rttMs, inflight, false);
+            }
+            now += WINDOW_NANOS;
+        }
+        sample(rttMs, inflight, false);
+    }
+
+    private void sample(long rttMs, int inflight, boolean dropped) {
+        sample(RequestPriority.READ, rttMs, inflight, dropped);
+    }
+
+    private void sample(RequestPriority priority, long rttMs, int inflight, boolean dropped) {
+        limiter.onSample(priority, TimeUnit.MILLISECONDS.toNanos(rttMs), inflight, dropped, now);
+    }
+}
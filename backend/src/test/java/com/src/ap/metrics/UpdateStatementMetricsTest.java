@@ -0,0 +1,44 @@
+package com.src.ap.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("UpdateStatementMetrics Tests")
+class UpdateStatementMetricsTest {
+
+    @Test
+    @DisplayName("Should count the assignments of an UPDATE per table")
+    void shouldRecordAssignedColumns() {
+        // Given
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        UpdateStatementMetrics metrics = new UpdateStatementMetrics(registry);
+        String sql = "update dbo.occupations set description=?,updated_at=? where id=?";
+
+        // When
+        String inspected = metrics.inspect(sql);
+        metrics.inspect("select o1_0.id from occupations o1_0 where o1_0.name=?");
+
+        // Then
+        assertThat(inspected).isSameAs(sql);
+        DistributionSummary columns = registry.get(UpdateStatementMetrics.COLUMNS_METRIC)
+                .tag("table", "occupations")
+                .summary();
+        assertThat(columns.count()).isEqualTo(1);
+        assertThat(columns.totalAmount()).isEqualTo(2);
+        assertThat(registry.get(UpdateStatementMetrics.SIZE_METRIC).summary().totalAmount()).isEqualTo(sql.length());
+    }
+
+    @Test
+    @DisplayName("Should parse Hibernate UPDATE statements with and without a WHERE clause")
+    void shouldParseUpdates() {
+        assertThat(UpdateStatementMetrics.parse("update employees set phone=?,updated_at=?,work_status=? where id=?"))
+                .isEqualTo(new UpdateStatementMetrics.ParsedUpdate("employees", 3));
+        assertThat(UpdateStatementMetrics.parse("UPDATE branches SET name=?"))
+                .isEqualTo(new UpdateStatementMetrics.ParsedUpdate("branches", 1));
+        assertThat(UpdateStatementMetrics.parse("update employees")).isNull();
+    }
+}
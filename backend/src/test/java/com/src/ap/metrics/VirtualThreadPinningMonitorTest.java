@@ -0,0 +1,46 @@
+package com.src.ap.metrics;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("VirtualThreadPinningMonitor Tests")
+class VirtualThreadPinningMonitorTest {
+
+    @Test
+    @DisplayName("Should time a virtual thread that blocks inside a synchronized block")
+    void shouldRecordPinnedVirtualThread() throws Exception {
+        // Given
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        Object monitor = new Object();
+        try (VirtualThreadPinningMonitor pinningMonitor = new VirtualThreadPinningMonitor(registry, Duration.ofMillis(10))) {
+            pinningMonitor.start();
+
+            // When
+            Thread.ofVirtual().start(() -> {
+                synchronized (monitor) {
+                    try {
+                        Thread.sleep(100);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+            }).join();
+
+            // Then: events reach the stream about once a second
+            Timer pinned = registry.get(VirtualThreadPinningMonitor.PINNED_METRIC).timer();
+            long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+            while (pinned.count() == 0 && System.nanoTime() < deadline) {
+                Thread.sleep(50);
+            }
+            assertThat(pinned.count()).isPositive();
+            assertThat(pinned.max(TimeUnit.MILLISECONDS)).isGreaterThanOrEqualTo(10);
+        }
+    }
+}
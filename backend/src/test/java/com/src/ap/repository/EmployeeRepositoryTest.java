@@ -0,0 +1,136 @@
+package com.src.ap.repository;
+
+import com.src.ap.dto.employee.EmployeeResponse;
+import com.src.ap.entity.Branch;
+import com.src.ap.entity.Employee;
+import com.src.ap.entity.Occupation;
+import com.src.ap.metrics.UpdateStatementMetrics;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("EmployeeRepository Tests")
+class EmployeeRepositoryTest {
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Occupation nurse;
+
+    @BeforeEach
+    void setUp() {
+        // Every employee gets its own occupation, branch and supervisor, so an entity-based
+        // read would need one extra query per association per row.
+        Employee previous = null;
+        for (int i = 0; i < 5; i++) {
+            Occupation occupation = Occupation.builder().name("Occupation " + i).build();
+            entityManager.persist(occupation);
+            Branch branch = Branch.builder().name("Branch " + i).build();
+            entityManager.persist(branch);
+
+            Employee employee = Employee.builder()
+                    .email("employee" + i + "@example.com")
+                    .fullName("Employee " + i)
+                    .firstName("Employee")
+                    .lastName(String.valueOf(i))
+                    .hireDt(LocalDate.of(2024, 1, 1))
+                    .occupation(occupation)
+                    .branch(branch)
+                    .supvEmployee(previous)
+                    .build();
+            entityManager.persist(employee);
+            previous = employee;
+            if (i == 0) {
+                nurse = occupation;
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("Should read a page of employee responses in a single SQL statement")
+    void shouldReadPageInSingleStatement() {
+        // Given
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // When: the page is not full, so no count query is needed either
+        Page<EmployeeResponse> page = employeeRepository.findAllResponses(
+                PageRequest.of(0, 10, Sort.by("id").ascending()));
+
+        // Then
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(page.getContent()).hasSize(5);
+
+        EmployeeResponse second = page.getContent().get(1);
+        assertThat(second.getOccupationName()).isEqualTo("Occupation 1");
+        assertThat(second.getBranchName()).isEqualTo("Branch 1");
+        assertThat(second.getSupervisorName()).isEqualTo("Employee 0");
+        assertThat(page.getContent().get(0).getSupervisorId()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should filter by occupation through the projection")
+    void shouldFilterByOccupationThroughProjection() {
+        // When
+        Page<EmployeeResponse> byOccupation = employeeRepository.findResponsesByOccupationId(nurse.getId(), PageRequest.of(0, 10));
+
+        // Then
+        assertThat(byOccupation.getContent()).extracting(EmployeeResponse::getOccupationName)
+                .containsExactly("Occupation 0");
+    }
+
+    @Test
+    @DisplayName("Should write only the changed columns when updating an employee")
+    void shouldUpdateOnlyChangedColumns() {
+        // Given
+        Employee employee = employeeRepository.findAll(Sort.by("id")).get(0);
+        DistributionSummary before = updateColumns();
+        long updatesBefore = before != null ? before.count() : 0;
+        double columnsBefore = before != null ? before.totalAmount() : 0;
+
+        // When
+        employee.setPhone("0901234567");
+        entityManager.flush();
+
+        // Then: phone, plus updated_at from @PreUpdate
+        DistributionSummary after = updateColumns();
+        assertThat(after.count() - updatesBefore).isEqualTo(1);
+        assertThat(after.totalAmount() - columnsBefore).isEqualTo(2);
+    }
+
+    private DistributionSummary updateColumns() {
+        return meterRegistry.find(UpdateStatementMetrics.COLUMNS_METRIC).tag("table", "employees").summary();
+    }
+}
@@ -0,0 +1,86 @@
+package com.src.ap.repository;
+
+import com.src.ap.entity.Employee;
+import com.src.ap.repository.EmployeeSearchTokenRepository.SearchPage;
+import com.src.ap.service.EmployeeSearchIndexer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("EmployeeSearchTokenRepository Tests")
+class EmployeeSearchTokenRepositoryTest {
+
+    @Autowired
+    private EmployeeSearchTokenRepository employeeSearchTokenRepository;
+
+    @Autowired
+    private EmployeeSearchIndexer employeeSearchIndexer;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    private List<Long> ids;
+
+    @BeforeEach
+    void setUp() {
+        List<Employee> employees = employeeRepository.saveAllAndFlush(List.of(
+                employee("Zéphyr", "An"), employee("Zéphyr", "Bình"), employee("Trần", "Zéphine")));
+        employees.forEach(employeeSearchIndexer::index);
+        ids = employees.stream().map(Employee::getId).toList();
+    }
+
+    @Test
+    @DisplayName("Should return the page and the total from one query")
+    void shouldReturnPageWithTotal() {
+        // When
+        SearchPage page = employeeSearchTokenRepository.search(List.of("zeph"), 0, 2);
+
+        // Then
+        assertThat(page.ids()).hasSize(2).isSubsetOf(ids);
+        assertThat(page.total()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should still report the total for a page past the end")
+    void shouldCountPagePastEnd() {
+        // When
+        SearchPage page = employeeSearchTokenRepository.search(List.of("zeph"), 4, 2);
+
+        // Then
+        assertThat(page.ids()).isEmpty();
+        assertThat(page.total()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should require every query token to match")
+    void shouldMatchEveryToken() {
+        // When
+        SearchPage page = employeeSearchTokenRepository.search(List.of("zeph", "bin"), 0, 20);
+
+        // Then
+        assertThat(page.ids()).containsExactly(ids.get(1));
+        assertThat(page.total()).isEqualTo(1);
+    }
+
+    private static Employee employee(String lastName, String firstName) {
+        return Employee.builder()
+                .email("search." + System.nanoTime() + "@example.com")
+                .fullName(lastName + " " + firstName)
+                .firstName(firstName)
+                .lastName(lastName)
+                .hireDt(LocalDate.of(2024, 1, 1))
+                .build();
+    }
+}
@@ -0,0 +1,90 @@
+package com.src.ap.repository;
+
+import com.src.ap.dto.occupation.OccupationHistoryResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Occupation 9001 was created and renamed long ago; both rows have since been archived, by
+ * another node as far as this repository knows, and only its latest rename is still hot.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("OccupationHistoryRepository Tests")
+class OccupationHistoryRepositoryTest {
+
+    private static final long OCCUPATION_ID = 9001L;
+    private static final LocalDateTime T0 = LocalDateTime.of(2001, 1, 1, 8, 0);
+
+    @Autowired
+    private OccupationHistoryRepository occupationHistoryRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        // Read while the archive is still empty, as a node that started before anything was archived
+        assertThat(occupationHistoryRepository.currentArchiveWatermark()).isZero();
+
+        insert(OccupationHistoryRepository.ARCHIVE_TABLE, 101L, "C", "Nurse", T0);
+        insert(OccupationHistoryRepository.ARCHIVE_TABLE, 102L, "U", "Senior Nurse", T0.plusDays(1));
+        insert(OccupationHistoryRepository.HOT_TABLE, 201L, "U", "Head Nurse", T0.plusDays(10));
+    }
+
+    @Test
+    @DisplayName("Should see rows archived after the first read of the watermark")
+    void shouldReadFreshWatermark() {
+        assertThat(occupationHistoryRepository.currentArchiveWatermark()).isEqualTo(102L);
+    }
+
+    @Test
+    @DisplayName("Should replay the trail across the archive and the hot table")
+    void shouldReadTrailFromArchive() {
+        assertThat(occupationHistoryRepository.findTrail(100L, 201L))
+                .extracting(OccupationHistoryResponse::getTxId)
+                .containsExactly(101L, 102L, 201L);
+    }
+
+    @Test
+    @DisplayName("Should resolve as-of reads older than the hot table from the archive")
+    void shouldResolveAsOfFromArchive() {
+        LocalDateTime asOf = T0.plusDays(2);
+
+        assertThat(occupationHistoryRepository.findTxIdAtOrBefore(asOf)).isEqualTo(102L);
+        assertThat(occupationHistoryRepository.findLatestAtOrBefore(OCCUPATION_ID, asOf))
+                .map(OccupationHistoryResponse::getName)
+                .contains("Senior Nurse");
+    }
+
+    @Test
+    @DisplayName("Should complete an occupation's history from the archive")
+    void shouldCompleteHistoryFromArchive() {
+        assertThat(occupationHistoryRepository.findByOccupationIds(List.of(OCCUPATION_ID)).get(OCCUPATION_ID))
+                .extracting(OccupationHistoryResponse::getTxId)
+                .containsExactly(201L, 102L, 101L);
+        assertThat(occupationHistoryRepository.findPageByOccupationId(OCCUPATION_ID, null, 10))
+                .extracting(OccupationHistoryResponse::getTxId)
+                .containsExactly(201L, 102L, 101L);
+    }
+
+    private void insert(String table, long txId, String op, String name, LocalDateTime changedAt) {
+        jdbcTemplate.update("INSERT INTO " + table + " (tx_id, op, id, name, created_at, updated_at, changed_at, actor) "
+                        + "VALUES (?, ?, ?, ?, ?, ?, ?, ?)",
+                txId, op, OCCUPATION_ID, name, Timestamp.valueOf(T0), Timestamp.valueOf(changedAt),
+                Timestamp.valueOf(changedAt), "history-test");
+    }
+}
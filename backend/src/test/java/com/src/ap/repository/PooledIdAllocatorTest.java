@@ -0,0 +1,69 @@
+package com.src.ap.repository;
+
+import com.src.ap.entity.Employee;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("PooledIdAllocator Tests")
+class PooledIdAllocatorTest {
+
+    @Autowired
+    private PooledIdAllocator pooledIdAllocator;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Test
+    @DisplayName("Should hand out distinct ids in contiguous blocks of the allocation size")
+    void shouldAllocateContiguousBlocks() {
+        // When
+        long[] first = pooledIdAllocator.allocate(PooledIdAllocator.EMPLOYEES_SEQUENCE, 30);
+        long[] second = pooledIdAllocator.allocate(PooledIdAllocator.EMPLOYEES_SEQUENCE, 30);
+
+        // Then: 60 ids span at most three blocks, so the run of consecutive ids breaks at most twice
+        long[] all = IntStream.range(0, 60).mapToLong(i -> i < 30 ? first[i] : second[i - 30]).toArray();
+        assertThat(Arrays.stream(all).distinct().count()).isEqualTo(60);
+        long breaks = IntStream.range(1, all.length).filter(i -> all[i] != all[i - 1] + 1).count();
+        assertThat(breaks).isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should never hand out ids Hibernate assigns from the same sequence")
+    void shouldNotOverlapWithHibernateIds() {
+        // Given
+        Set<Long> allocated = Arrays.stream(pooledIdAllocator.allocate(PooledIdAllocator.EMPLOYEES_SEQUENCE, 10))
+                .boxed()
+                .collect(Collectors.toSet());
+
+        // When
+        List<Employee> saved = employeeRepository.saveAll(IntStream.range(0, 10)
+                .mapToObj(i -> Employee.builder()
+                        .email("pooled" + i + "@example.com")
+                        .fullName("Pooled " + i)
+                        .firstName("Pooled")
+                        .lastName(String.valueOf(i))
+                        .hireDt(LocalDate.of(2024, 1, 1))
+                        .build())
+                .toList());
+        employeeRepository.flush();
+
+        // Then
+        assertThat(saved).extracting(Employee::getId).doesNotContainAnyElementsOf(allocated);
+    }
+}
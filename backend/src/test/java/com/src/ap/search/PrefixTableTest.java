@@ -0,0 +1,70 @@
+package com.src.ap.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("PrefixTable Tests")
+class PrefixTableTest {
+
+    private PrefixTable table;
+
+    @BeforeEach
+    void setUp() {
+        table = new PrefixTable();
+        table.load(Map.of(
+                1L, "Nguyễn Văn An",
+                2L, "Nguyễn Thị Bình",
+                3L, "Trần An Khánh",
+                4L, "Đặng Minh Đức"));
+    }
+
+    @Test
+    @DisplayName("Should match folded prefixes of the label and of later words")
+    void shouldMatchFoldedPrefixes() {
+        assertThat(table.lookup("nguyen", 10)).extracting(PrefixTable.Suggestion::id).containsExactly(2L, 1L);
+        assertThat(table.lookup("dang minh d", 10)).extracting(PrefixTable.Suggestion::label).containsExactly("Đặng Minh Đức");
+        assertThat(table.lookup("an", 10)).extracting(PrefixTable.Suggestion::id).containsExactly(1L, 3L);
+    }
+
+    @Test
+    @DisplayName("Should return at most the requested number of suggestions")
+    void shouldRespectLimit() {
+        assertThat(table.lookup("", 2)).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("Should reflect updates and deletes incrementally")
+    void shouldApplyIncrementalWrites() {
+        // When
+        table.put(1L, "Lê Văn An");
+        table.put(5L, "Nguyễn Hoàng Nam");
+        table.remove(2L);
+
+        // Then
+        assertThat(table.lookup("nguyen", 10)).extracting(PrefixTable.Suggestion::label).containsExactly("Nguyễn Hoàng Nam");
+        assertThat(table.lookup("le", 10)).extracting(PrefixTable.Suggestion::id).containsExactly(1L);
+        assertThat(table.size()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("Should keep answering correctly across compaction")
+    void shouldSurviveCompaction() {
+        // Given: enough writes to trigger at least one base rebuild
+        Map<Long, String> expected = new HashMap<>();
+        for (long id = 100; id < 3100; id++) {
+            table.put(id, "Phạm Nhân Viên " + id);
+            expected.put(id, "Phạm Nhân Viên " + id);
+        }
+
+        // Then
+        assertThat(table.lookup("pham nhan vien 2999", 10)).extracting(PrefixTable.Suggestion::id).containsExactly(2999L);
+        assertThat(table.lookup("vien 10", 5)).hasSize(5);
+        assertThat(table.size()).isEqualTo(4 + expected.size());
+    }
+}
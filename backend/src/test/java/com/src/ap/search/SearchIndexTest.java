@@ -0,0 +1,93 @@
+package com.src.ap.search;
+
+import com.src.ap.config.SearchIndexConfig;
+import com.src.ap.event.EntityType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("SearchIndex Tests")
+class SearchIndexTest {
+
+    @TempDir
+    Path indexDir;
+
+    private SearchIndex searchIndex;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        SearchIndexConfig config = new SearchIndexConfig();
+        config.setIndexDir(indexDir.toString());
+        searchIndex = new SearchIndex(config);
+        searchIndex.open();
+
+        searchIndex.upsert(new SearchDocument(EntityType.EMPLOYEE, 1, "Nguyễn Văn An", "an@anphuc.vn · Điều dưỡng", "an@anphuc.vn Điều dưỡng"));
+        searchIndex.upsert(new SearchDocument(EntityType.EMPLOYEE, 2, "Trần Thị Bình", "binh@anphuc.vn", "binh@anphuc.vn Nguyen Street"));
+        searchIndex.upsert(new SearchDocument(EntityType.OCCUPATION, 3, "Điều dưỡng", "Ward staff", "Ward staff"));
+        searchIndex.upsert(new SearchDocument(EntityType.BRANCH, 4, "Chi nhánh Đà Nẵng", "Đà Nẵng, Việt Nam", "Đà Nẵng Việt Nam"));
+        searchIndex.refresh();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        searchIndex.close();
+    }
+
+    @Test
+    @DisplayName("Should match accented text typed without diacritics, title matches first")
+    void shouldMatchFoldedTextAndRankTitleFirst() {
+        // When
+        SearchIndex.Result result = searchIndex.search("nguyen", null, 10);
+
+        // Then
+        assertThat(result.hits()).extracting(SearchIndex.Hit::id).containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("Should require every word, matching the last one as a prefix")
+    void shouldRequireAllWordsWithPrefixMatching() {
+        // When
+        SearchIndex.Result result = searchIndex.search("dieu duo", null, 10);
+
+        // Then
+        assertThat(result.hits()).extracting(SearchIndex.Hit::type)
+                .containsExactly(EntityType.OCCUPATION, EntityType.EMPLOYEE);
+    }
+
+    @Test
+    @DisplayName("Should restrict hits to the requested types")
+    void shouldFilterByType() {
+        // When
+        SearchIndex.Result result = searchIndex.search("da nang", Set.of(EntityType.BRANCH, EntityType.OCCUPATION), 10);
+
+        // Then
+        assertThat(result.hits()).singleElement().satisfies(hit -> {
+            assertThat(hit.id()).isEqualTo(4L);
+            assertThat(hit.title()).isEqualTo("Chi nhánh Đà Nẵng");
+        });
+    }
+
+    @Test
+    @DisplayName("Should drop documents not rewritten by a rebuild")
+    void shouldDropStaleDocumentsAfterRebuild() {
+        // Given: a rebuild that only finds employee 1 in the database
+        long generation = searchIndex.beginRebuild();
+        searchIndex.upsert(List.of(new SearchDocument(EntityType.EMPLOYEE, 1, "Nguyễn Văn An", null, null)), generation);
+
+        // When
+        searchIndex.finishRebuild(generation);
+        searchIndex.refresh();
+
+        // Then
+        assertThat(searchIndex.search("an", null, 10).hits()).extracting(SearchIndex.Hit::id).containsExactly(1L);
+        assertThat(searchIndex.search("binh", null, 10).total()).isZero();
+    }
+}
@@ -0,0 +1,88 @@
+package com.src.ap.search;
+
+import com.src.ap.config.SearchIndexConfig;
+import com.src.ap.event.EntityChangeEvent;
+import com.src.ap.event.EntityType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SearchIndexUpdater Tests")
+class SearchIndexUpdaterTest {
+
+    private static final SearchDocument NURSE =
+            new SearchDocument(EntityType.OCCUPATION, 3, "Điều dưỡng", "Ward staff", "Ward staff");
+
+    @Mock
+    private SearchIndex searchIndex;
+
+    @Mock
+    private SearchDocumentLoader searchDocumentLoader;
+
+    private SearchIndexUpdater updater;
+
+    @BeforeEach
+    void setUp() {
+        updater = new SearchIndexUpdater(searchIndex, searchDocumentLoader, new SearchIndexConfig());
+    }
+
+    @AfterEach
+    void tearDown() {
+        updater.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should refresh the employees of a renamed occupation batch by batch")
+    @SuppressWarnings("unchecked")
+    void shouldReindexReferencingEmployeesInBatches() {
+        // Given: one batch of two employees under the renamed occupation
+        List<SearchDocument> employees = List.of(
+                new SearchDocument(EntityType.EMPLOYEE, 10, "Nguyễn Văn An", null, null),
+                new SearchDocument(EntityType.EMPLOYEE, 11, "Trần Thị Bình", null, null));
+        when(searchDocumentLoader.load(EntityType.OCCUPATION, 3)).thenReturn(Optional.of(NURSE));
+        doAnswer(invocation -> {
+            ((Consumer<List<SearchDocument>>) invocation.getArgument(3)).accept(employees);
+            return null;
+        }).when(searchDocumentLoader).forEachEmployeeBatchReferencing(eq(EntityType.OCCUPATION), eq(3L), anyInt(), any());
+
+        // When
+        updater.apply(EntityChangeEvent.updated(EntityType.OCCUPATION, 3L));
+
+        // Then: the occupation and the whole batch are written without a load per employee
+        verify(searchIndex).upsert(NURSE);
+        verify(searchIndex).upsert(employees);
+        verify(searchDocumentLoader, never()).load(eq(EntityType.EMPLOYEE), anyLong());
+    }
+
+    @Test
+    @DisplayName("Should apply committed changes off the calling thread")
+    void shouldApplyChangesInBackground() {
+        // Given
+        when(searchDocumentLoader.load(EntityType.OCCUPATION, 3)).thenReturn(Optional.of(NURSE));
+
+        // When
+        updater.onEntityChange(EntityChangeEvent.created(EntityType.OCCUPATION, 3L));
+
+        // Then
+        verify(searchIndex, timeout(1000)).upsert(NURSE);
+    }
+}
@@ -0,0 +1,156 @@
+package com.src.ap.service;
+
+import com.src.ap.dto.employee.EmployeeRequest;
+import com.src.ap.entity.Branch;
+import com.src.ap.entity.Occupation;
+import com.src.ap.exception.BadRequestException;
+import com.src.ap.repository.BranchRepository;
+import com.src.ap.repository.OccupationRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("EmployeeCountService Tests")
+class EmployeeCountServiceTest {
+
+    @Autowired
+    private EmployeeCountService employeeCountService;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private BranchService branchService;
+
+    @Autowired
+    private OccupationService occupationService;
+
+    @Autowired
+    private BranchRepository branchRepository;
+
+    @Autowired
+    private OccupationRepository occupationRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Long branchA;
+    private Long branchB;
+    private Long occupationA;
+    private Long occupationB;
+
+    @BeforeEach
+    void setUp() {
+        branchA = branchRepository.save(Branch.builder().name("Count Branch A").build()).getId();
+        branchB = branchRepository.save(Branch.builder().name("Count Branch B").build()).getId();
+        occupationA = occupationRepository.save(Occupation.builder().name("Count Occupation A").build()).getId();
+        occupationB = occupationRepository.save(Occupation.builder().name("Count Occupation B").build()).getId();
+        entityManager.flush();
+    }
+
+    @Test
+    @DisplayName("Should count created employees and move them between branches and occupations")
+    void shouldMaintainCountsOnCreateMoveAndDelete() {
+        // Given
+        Long first = employeeService.createEmployee(request("first", branchA, occupationA)).getId();
+        employeeService.createEmployee(request("second", branchA, occupationA));
+
+        // Then
+        assertThat(branchCount(branchA)).isEqualTo(2);
+        assertThat(occupationCount(occupationA)).isEqualTo(2);
+
+        // When
+        employeeService.updateEmployee(first, request("first", branchB, occupationB));
+
+        // Then
+        assertThat(branchCount(branchA)).isEqualTo(1);
+        assertThat(branchCount(branchB)).isEqualTo(1);
+        assertThat(occupationCount(occupationA)).isEqualTo(1);
+        assertThat(occupationCount(occupationB)).isEqualTo(1);
+
+        // When
+        employeeService.deleteEmployee(first);
+
+        // Then
+        assertThat(branchCount(branchB)).isZero();
+        assertThat(occupationCount(occupationB)).isZero();
+    }
+
+    @Test
+    @DisplayName("Should expose the counts in responses and guard deletes with them")
+    void shouldUseCountsInResponsesAndDeleteGuards() {
+        // Given
+        employeeService.createEmployee(request("guarded", branchA, occupationA));
+        entityManager.clear();
+
+        // Then
+        assertThat(branchService.getBranchById(branchA).getEmployeeCount()).isEqualTo(1);
+        assertThat(occupationService.getOccupationById(occupationA).getEmployeeCount()).isEqualTo(1);
+        assertThatThrownBy(() -> branchService.deleteBranch(branchA)).isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> occupationService.deleteOccupation(occupationA)).isInstanceOf(BadRequestException.class);
+    }
+
+    @Test
+    @DisplayName("Should guard deletes with the stored count rather than a loaded entity")
+    void shouldGuardDeletesWithStoredCount() {
+        // Given: the entities are loaded, then an employee is counted in behind their back
+        branchService.getBranchById(branchB);
+        occupationService.getOccupationById(occupationB);
+        jdbcTemplate.update("UPDATE dbo.branches SET employee_count = 1 WHERE id = ?", branchB);
+        jdbcTemplate.update("UPDATE dbo.occupations SET employee_count = 1 WHERE id = ?", occupationB);
+
+        // Then
+        assertThatThrownBy(() -> branchService.deleteBranch(branchB)).isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> occupationService.deleteOccupation(occupationB)).isInstanceOf(BadRequestException.class);
+    }
+
+    @Test
+    @DisplayName("Should repair counts that drifted")
+    void shouldRepairDrift() {
+        // Given: counts changed behind the service's back
+        employeeService.createEmployee(request("drift", branchA, occupationA));
+        jdbcTemplate.update("UPDATE dbo.branches SET employee_count = 7 WHERE id = ?", branchA);
+        jdbcTemplate.update("UPDATE dbo.occupations SET employee_count = 3 WHERE id = ?", occupationB);
+
+        // When
+        employeeCountService.repair();
+
+        // Then
+        assertThat(branchCount(branchA)).isEqualTo(1);
+        assertThat(occupationCount(occupationB)).isZero();
+    }
+
+    private int branchCount(Long id) {
+        return jdbcTemplate.queryForObject("SELECT employee_count FROM dbo.branches WHERE id = ?", Integer.class, id);
+    }
+
+    private int occupationCount(Long id) {
+        return jdbcTemplate.queryForObject("SELECT employee_count FROM dbo.occupations WHERE id = ?", Integer.class, id);
+    }
+
+    private EmployeeRequest request(String name, Long branchId, Long occupationId) {
+        EmployeeRequest request = new EmployeeRequest();
+        request.setEmail(name + "@count.test");
+        request.setFullName(name);
+        request.setFirstName(name);
+        request.setLastName(name);
+        request.setBranchId(branchId);
+        request.setOccupationId(occupationId);
+        return request;
+    }
+}
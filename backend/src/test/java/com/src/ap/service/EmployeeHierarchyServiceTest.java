@@ -0,0 +1,119 @@
+package com.src.ap.service;
+
+import com.src.ap.dto.employee.EmployeeHierarchyNodeResponse;
+import com.src.ap.dto.employee.EmployeeRequest;
+import com.src.ap.exception.BadRequestException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("EmployeeHierarchyService Tests")
+class EmployeeHierarchyServiceTest {
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private EmployeeHierarchyService employeeHierarchyService;
+
+    private Long director;
+    private Long manager;
+    private Long engineer;
+    private Long auditor;
+
+    @BeforeEach
+    void setUp() {
+        // director -> manager -> engineer, and a separate root auditor
+        director = create("director", null);
+        manager = create("manager", director);
+        engineer = create("engineer", manager);
+        auditor = create("auditor", null);
+    }
+
+    @Test
+    @DisplayName("Should list subordinates level by level up to the requested depth")
+    void shouldListSubordinatesByDepth() {
+        // When
+        List<EmployeeHierarchyNodeResponse> direct =
+                employeeHierarchyService.getSubordinates(director, 1, 0, 50).getContent();
+        List<EmployeeHierarchyNodeResponse> all =
+                employeeHierarchyService.getSubordinates(director, 2, 0, 50).getContent();
+
+        // Then
+        assertThat(direct).extracting(EmployeeHierarchyNodeResponse::getId).containsExactly(manager);
+        assertThat(all).extracting(EmployeeHierarchyNodeResponse::getId).containsExactly(manager, engineer);
+        assertThat(all).extracting(EmployeeHierarchyNodeResponse::getDepth).containsExactly(1, 2);
+    }
+
+    @Test
+    @DisplayName("Should return the chain of command nearest supervisor first")
+    void shouldReturnChainOfCommand() {
+        // When
+        List<EmployeeHierarchyNodeResponse> chain = employeeHierarchyService.getChain(engineer);
+
+        // Then
+        assertThat(chain).extracting(EmployeeHierarchyNodeResponse::getId).containsExactly(manager, director);
+    }
+
+    @Test
+    @DisplayName("Should move a whole subtree when a supervisor changes")
+    void shouldMoveSubtree() {
+        // When: the manager, with the engineer below, moves under the auditor
+        employeeService.updateEmployee(manager, request("manager", auditor));
+
+        // Then
+        assertThat(employeeHierarchyService.getChain(engineer))
+                .extracting(EmployeeHierarchyNodeResponse::getId).containsExactly(manager, auditor);
+        assertThat(employeeHierarchyService.getSubordinates(director, 2, 0, 50).getContent()).isEmpty();
+        assertThat(employeeHierarchyService.getSubordinates(auditor, 2, 0, 50).getTotalElements()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should reject a supervisor change that would create a cycle")
+    void shouldRejectCycle() {
+        // When / Then
+        assertThatThrownBy(() -> employeeService.updateEmployee(director, request("director", engineer)))
+                .isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> employeeService.updateEmployee(manager, request("manager", manager)))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    @Test
+    @DisplayName("Should refuse to delete an employee who still supervises someone")
+    void shouldRefuseToDeleteSupervisor() {
+        // When / Then
+        assertThatThrownBy(() -> employeeService.deleteEmployee(manager))
+                .isInstanceOf(BadRequestException.class);
+
+        employeeService.deleteEmployee(engineer);
+        assertThat(employeeHierarchyService.getSubordinates(manager, 1, 0, 50).getContent()).isEmpty();
+    }
+
+    private Long create(String name, Long supervisorId) {
+        return employeeService.createEmployee(request(name, supervisorId)).getId();
+    }
+
+    private static EmployeeRequest request(String name, Long supervisorId) {
+        EmployeeRequest request = new EmployeeRequest();
+        request.setEmail(name + "@hierarchy.test");
+        request.setFullName(name);
+        request.setFirstName(name);
+        request.setLastName(name);
+        request.setHireDt(LocalDate.of(2024, 1, 1));
+        request.setSupervisorId(supervisorId);
+        return request;
+    }
+}
@@ -0,0 +1,232 @@
+package com.src.ap.service;
+
+import com.src.ap.audit.AuditContextHolder;
+import com.src.ap.audit.AuditRequestContext;
+import com.src.ap.dto.employee.EmployeeImportJobResponse;
+import com.src.ap.entity.Branch;
+import com.src.ap.entity.Employee;
+import com.src.ap.entity.Occupation;
+import com.src.ap.importer.ImportJob;
+import com.src.ap.repository.BranchRepository;
+import com.src.ap.repository.EmployeeBulkRepository;
+import com.src.ap.repository.EmployeeImportJobRepository;
+import com.src.ap.repository.EmployeeRepository;
+import com.src.ap.repository.OccupationRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+
+@SpringBootTest(properties = "app.employee-import.batch-size=2")
+@ActiveProfiles("test")
+@DisplayName("EmployeeImportService Tests")
+class EmployeeImportServiceTest {
+
+    @Autowired
+    private EmployeeImportService employeeImportService;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private OccupationRepository occupationRepository;
+
+    @Autowired
+    private BranchRepository branchRepository;
+
+    @Autowired
+    private EmployeeImportJobRepository employeeImportJobRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockitoSpyBean
+    private EmployeeBulkRepository employeeBulkRepository;
+
+    private Occupation nurse;
+    private Branch hanoi;
+
+    @BeforeEach
+    void setUp() {
+        nurse = occupationRepository.save(Occupation.builder().name("Điều dưỡng").build());
+        hanoi = branchRepository.save(Branch.builder().name("Hà Nội").build());
+        employeeRepository.save(Employee.builder()
+                .email("existing@example.com")
+                .fullName("Existing Employee")
+                .firstName("Existing")
+                .lastName("Employee")
+                .hireDt(LocalDate.of(2020, 1, 1))
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        jdbcTemplate.update("DELETE FROM dbo.employee_search_tokens");
+        jdbcTemplate.update("DELETE FROM dbo.employee_import_jobs");
+        employeeRepository.deleteAll();
+        occupationRepository.deleteAll();
+        branchRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Should import valid rows in batches and report the rest")
+    void shouldImportValidRowsAndReportErrors() throws IOException {
+        // Given
+        ImportJob job = job("""
+                Email,Full Name,First Name,Last Name,Hire Date,Occupation,Branch,Phone
+                an@example.com,Nguyễn Văn An,An,Nguyễn,2024-03-01,dieu duong,Ha Noi,0901234567
+                binh@example.com,Trần Thị Bình,Bình,Trần,15/4/2024,,,
+                existing@example.com,Someone Else,Someone,Else,2024-01-01,,,
+                an@example.com,Duplicate An,An,Duplicate,2024-01-01,,,
+                not-an-email,Bad Row,Bad,Row,2024-01-01,,,
+                khanh@example.com,Lê Khánh,Khánh,Lê,not-a-date,,,
+                minh@example.com,Phạm Minh,Minh,Phạm,2024-05-01,Pilot,,
+                duc@example.com,Đặng Đức,Đức,Đặng,2024,,,
+                """);
+
+        // When
+        employeeImportService.run(job);
+
+        // Then
+        assertThat(job.getStatus()).isEqualTo(ImportJob.Status.COMPLETED);
+        assertThat(job.getProcessedRows().get()).isEqualTo(8);
+        assertThat(job.getImportedRows().get()).isEqualTo(2);
+        assertThat(job.getFailedRows().get()).isEqualTo(6);
+
+        Employee an = employeeRepository.findAll().stream()
+                .filter(employee -> employee.getEmail().equals("an@example.com"))
+                .findFirst()
+                .orElseThrow();
+        assertThat(an.getHireDt()).isEqualTo(LocalDate.of(2024, 3, 1));
+        assertThat(an.getOccupation().getId()).isEqualTo(nurse.getId());
+        assertThat(an.getBranch().getId()).isEqualTo(hanoi.getId());
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM dbo.employee_search_tokens WHERE employee_id = ? AND token = 'nguyen'",
+                Integer.class, an.getId())).isPositive();
+
+        // The outcome and the error report are read back from the database, as another node would
+        EmployeeImportJobResponse stored = employeeImportService.getJob(job.getId());
+        assertThat(stored.getStatus()).isEqualTo("COMPLETED");
+        assertThat(stored.getImportedRows()).isEqualTo(2);
+        assertThat(stored.getFailedRows()).isEqualTo(6);
+        assertThat(stored.getFinishedAt()).isNotNull();
+
+        String report = new String(employeeImportService.getErrorReport(job.getId()).getContentAsByteArray(),
+                StandardCharsets.UTF_8);
+        List<String> lines = report.lines().toList();
+        assertThat(lines).hasSize(7);
+        assertThat(lines.subList(1, 7)).containsExactly(
+                "5,an@example.com,\"Duplicate email in file, first seen on row 2\"",
+                "6,not-an-email,Email should be valid",
+                "7,khanh@example.com,Invalid hiredt: not-a-date",
+                "8,minh@example.com,Occupation not found with name: Pilot",
+                "9,duc@example.com,Invalid hiredt: 2024",
+                "4,existing@example.com,Employee with this email already exists");
+        assertThat(Files.exists(job.getErrorReport())).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should fail the job when the file has no email column")
+    void shouldFailWithoutEmailColumn() throws IOException {
+        // Given
+        ImportJob job = job("fullName,hireDt\nNguyễn Văn An,2024-03-01\n");
+
+        // When
+        employeeImportService.run(job);
+
+        // Then
+        assertThat(job.getStatus()).isEqualTo(ImportJob.Status.FAILED);
+        assertThat(job.getMessage()).contains("email column");
+        assertThat(Files.exists(job.getSource())).isFalse();
+        assertThat(employeeImportService.getJob(job.getId()).getStatus()).isEqualTo("FAILED");
+    }
+
+    @Test
+    @DisplayName("Should audit the import's writes as the user who submitted it")
+    void shouldAuditImportAsSubmitter() throws Exception {
+        // Given: the rows are inserted on an import thread, which records the actor bound there
+        List<String> actors = new CopyOnWriteArrayList<>();
+        doAnswer(invocation -> {
+            AuditRequestContext context = AuditContextHolder.get();
+            actors.add(context != null ? context.actor() : null);
+            return invocation.callRealMethod();
+        }).when(employeeBulkRepository).insertAll(anyList(), anyString());
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken("importer", null));
+        MockMultipartFile file = new MockMultipartFile("file", "employees.csv", "text/csv",
+                "Email,Full Name,First Name,Last Name,Hire Date\nhoa@example.com,Vũ Hoa,Hoa,Vũ,2024-06-01\n"
+                        .getBytes(StandardCharsets.UTF_8));
+
+        // When: submitted from the user's request
+        EmployeeImportJobResponse submitted;
+        AuditRequestContext previous = AuditContextHolder.bind(new AuditRequestContext("importer"));
+        try {
+            submitted = employeeImportService.submit(file);
+        } finally {
+            AuditContextHolder.restore(previous);
+        }
+        EmployeeImportJobResponse finished = awaitFinished(submitted.getId());
+
+        // Then
+        assertThat(finished.getStatus()).isEqualTo("COMPLETED");
+        assertThat(actors).containsExactly("importer");
+        assertThat(jdbcTemplate.queryForObject("SELECT create_user FROM dbo.employees WHERE email = ?",
+                String.class, "hoa@example.com")).isEqualTo("importer");
+    }
+
+    @Test
+    @DisplayName("Should read Excel serials only from numeric cells")
+    void shouldConvertSerialsOnlyFromNumericCells() {
+        assertThat(EmployeeImportService.parseDate("45292", true)).isEqualTo(LocalDate.of(2024, 1, 1));
+        assertThat(EmployeeImportService.parseDate("45292.5", true)).isEqualTo(LocalDate.of(2024, 1, 1));
+        assertThat(EmployeeImportService.parseDate("15/4/2024", false)).isEqualTo(LocalDate.of(2024, 4, 15));
+        assertThatThrownBy(() -> EmployeeImportService.parseDate("2024", false))
+                .isInstanceOf(DateTimeParseException.class);
+        assertThatThrownBy(() -> EmployeeImportService.parseDate("45292", false))
+                .isInstanceOf(DateTimeParseException.class);
+    }
+
+    private EmployeeImportJobResponse awaitFinished(UUID jobId) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        EmployeeImportJobResponse job = employeeImportService.getJob(jobId);
+        while (job.getFinishedAt() == null && System.nanoTime() < deadline) {
+            Thread.sleep(50);
+            job = employeeImportService.getJob(jobId);
+        }
+        return job;
+    }
+
+    private ImportJob job(String csv) throws IOException {
+        Path source = Files.createTempFile("employee-import-test-", ".csv");
+        Files.writeString(source, csv, StandardCharsets.UTF_8);
+        ImportJob job = new ImportJob("employees.csv", "tester", source,
+                Files.createTempFile("employee-import-test-errors-", ".csv"));
+        employeeImportJobRepository.insert(job);
+        return job;
+    }
+}
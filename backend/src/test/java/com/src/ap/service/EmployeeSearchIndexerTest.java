@@ -0,0 +1,41 @@
+package com.src.ap.service;
+
+import com.src.ap.repository.EmployeeSearchTokenRepository.SearchToken;
+import com.src.ap.util.TextNormalizer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("EmployeeSearchIndexer Tests")
+class EmployeeSearchIndexerTest {
+
+    @Test
+    @DisplayName("Should fold Vietnamese diacritics including đ")
+    void shouldFoldVietnameseDiacritics() {
+        assertThat(TextNormalizer.fold("Nguyễn Đức Thắng")).isEqualTo("nguyen duc thang");
+        assertThat(TextNormalizer.tokenize("Trần-Thị  Ánh.Nguyệt")).containsExactly("tran", "thi", "anh", "nguyet");
+    }
+
+    @Test
+    @DisplayName("Should build keys for name, email, phone and contract id")
+    void shouldBuildKeysForAllSearchableFields() {
+        // When
+        List<SearchToken> tokens = EmployeeSearchIndexer.tokensFor("Nguyễn Văn An", "An", "Văn", "Nguyễn",
+                "an.nguyen@anphuc.vn", "+84 901 234 567", "HĐ-2024/015");
+
+        // Then
+        assertThat(tokens).extracting(SearchToken::token)
+                .contains("nguyen", "van", "an", "an.nguyen@anphuc.vn", "anphuc",
+                        "84901234567", "0901234567", "hd2024015", "hd", "2024", "015");
+        assertThat(tokens)
+                .filteredOn(token -> token.token().equals("nguyen"))
+                .extracting(SearchToken::weight)
+                .containsExactlyInAnyOrder(
+                        EmployeeSearchIndexer.SearchField.FULL_NAME.getWeight(),
+                        EmployeeSearchIndexer.SearchField.NAME_PART.getWeight(),
+                        EmployeeSearchIndexer.SearchField.EMAIL.getWeight());
+    }
+}
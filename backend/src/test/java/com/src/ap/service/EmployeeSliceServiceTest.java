@@ -0,0 +1,44 @@
+package com.src.ap.service;
+
+import com.src.ap.columnar.EmployeeSnapshot;
+import com.src.ap.dto.employee.EmployeeSliceRequest;
+import com.src.ap.exception.ServiceUnavailableException;
+import com.src.ap.repository.EmployeeRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("EmployeeSliceService Tests")
+class EmployeeSliceServiceTest {
+
+    @Mock
+    private EmployeeSnapshot employeeSnapshot;
+
+    @Mock
+    private EmployeeRepository employeeRepository;
+
+    @InjectMocks
+    private EmployeeSliceService employeeSliceService;
+
+    @Test
+    @DisplayName("Should answer 503 with a retry hint while the snapshot is loading")
+    void shouldBeUnavailableWhileLoading() {
+        // Given
+        when(employeeSnapshot.isLoaded()).thenReturn(false);
+
+        // When / Then
+        assertThatThrownBy(() -> employeeSliceService.count(new EmployeeSliceRequest()))
+                .isInstanceOfSatisfying(ServiceUnavailableException.class,
+                        e -> assertThat(e.getRetryAfter()).isEqualTo(Duration.ofSeconds(5)));
+    }
+}
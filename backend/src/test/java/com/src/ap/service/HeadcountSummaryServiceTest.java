@@ -0,0 +1,131 @@
+package com.src.ap.service;
+
+import com.src.ap.dto.analytics.HeadcountGroupResponse;
+import com.src.ap.dto.analytics.HeadcountSummaryResponse;
+import com.src.ap.dto.analytics.MonthlyMovementResponse;
+import com.src.ap.dto.employee.EmployeeRequest;
+import com.src.ap.entity.Occupation;
+import com.src.ap.repository.OccupationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("HeadcountSummaryService Tests")
+class HeadcountSummaryServiceTest {
+
+    private static final String ACTIVE = "HC_ACTIVE";
+    private static final String LEAVE = "HC_LEAVE";
+    private static final YearMonth MONTH = YearMonth.of(2031, 3);
+
+    @Autowired
+    private HeadcountSummaryService headcountSummaryService;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private OccupationRepository occupationRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long occupationId;
+
+    @BeforeEach
+    void setUp() {
+        occupationId = occupationRepository.save(Occupation.builder().name("Headcount Nurse").build()).getId();
+    }
+
+    @Test
+    @DisplayName("Should count created employees by occupation, status and hire month")
+    void shouldCountCreatedEmployees() {
+        // Given
+        employeeService.createEmployee(request("a", ACTIVE, MONTH.atDay(5)));
+        employeeService.createEmployee(request("b", ACTIVE, MONTH.atDay(20)));
+
+        // When
+        HeadcountSummaryResponse summary = headcountSummaryService.getSummary(MONTH, MONTH);
+
+        // Then
+        assertThat(headcount(summary, ACTIVE)).isEqualTo(2);
+        assertThat(summary.getByOccupation()).filteredOn(g -> occupationId.equals(g.getId()))
+                .extracting(HeadcountGroupResponse::getHeadcount).containsExactly(2L);
+        assertThat(summary.getMovements()).extracting(MonthlyMovementResponse::getHires).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("Should move counts between keys on update and drop them on delete")
+    void shouldApplyUpdateAndDeleteDeltas() {
+        // Given
+        Long id = employeeService.createEmployee(request("c", ACTIVE, MONTH.atDay(1))).getId();
+
+        // When: status changes and a termination date is set in the same month
+        EmployeeRequest update = request("c", LEAVE, MONTH.atDay(1));
+        update.setTerminationDt(MONTH.atDay(28));
+        employeeService.updateEmployee(id, update);
+
+        // Then
+        HeadcountSummaryResponse summary = headcountSummaryService.getSummary(MONTH, MONTH);
+        assertThat(headcount(summary, ACTIVE)).isZero();
+        assertThat(headcount(summary, LEAVE)).isEqualTo(1);
+        assertThat(summary.getMovements()).singleElement()
+                .satisfies(m -> assertThat(m.getTerminations()).isEqualTo(1));
+
+        // When
+        employeeService.deleteEmployee(id);
+
+        // Then
+        summary = headcountSummaryService.getSummary(MONTH, MONTH);
+        assertThat(headcount(summary, LEAVE)).isZero();
+        assertThat(summary.getMovements()).allSatisfy(m -> assertThat(m.getHires()).isZero());
+    }
+
+    @Test
+    @DisplayName("Should correct drifted rows on reconcile")
+    void shouldReconcileDrift() {
+        // Given: a summary row changed behind the service's back
+        employeeService.createEmployee(request("d", ACTIVE, MONTH.atDay(1)));
+        jdbcTemplate.update("UPDATE dbo.employee_headcount SET headcount = 99 WHERE work_status = ?", ACTIVE);
+        jdbcTemplate.update("DELETE FROM dbo.employee_movements");
+
+        // When
+        headcountSummaryService.reconcile();
+
+        // Then
+        HeadcountSummaryResponse summary = headcountSummaryService.getSummary(MONTH, MONTH);
+        assertThat(headcount(summary, ACTIVE)).isEqualTo(1);
+        assertThat(summary.getMovements()).extracting(MonthlyMovementResponse::getHires).containsExactly(1L);
+    }
+
+    private static long headcount(HeadcountSummaryResponse summary, String status) {
+        return summary.getByWorkStatus().stream()
+                .filter(group -> status.equals(group.getName()))
+                .mapToLong(HeadcountGroupResponse::getHeadcount)
+                .sum();
+    }
+
+    private EmployeeRequest request(String name, String workStatus, LocalDate hireDt) {
+        EmployeeRequest request = new EmployeeRequest();
+        request.setEmail(name + "@headcount.test");
+        request.setFullName(name);
+        request.setFirstName(name);
+        request.setLastName(name);
+        request.setHireDt(hireDt);
+        request.setWorkStatus(workStatus);
+        request.setOccupationId(occupationId);
+        return request;
+    }
+}
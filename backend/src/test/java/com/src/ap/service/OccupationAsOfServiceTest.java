@@ -0,0 +1,127 @@
+package com.src.ap.service;
+
+import com.src.ap.audit.OccupationState;
+import com.src.ap.config.AuditAsOfConfig;
+import com.src.ap.dto.common.PageResponse;
+import com.src.ap.dto.occupation.OccupationHistoryResponse;
+import com.src.ap.dto.occupation.OccupationResponse;
+import com.src.ap.exception.ResourceNotFoundException;
+import com.src.ap.job.JobRunner;
+import com.src.ap.repository.OccupationHistoryRepository;
+import com.src.ap.repository.OccupationSnapshotRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OccupationAsOfService Tests")
+class OccupationAsOfServiceTest {
+
+    private static final LocalDateTime T0 = LocalDateTime.of(2025, 1, 1, 8, 0);
+
+    @Mock
+    private OccupationHistoryRepository occupationHistoryRepository;
+
+    @Mock
+    private OccupationSnapshotRepository occupationSnapshotRepository;
+
+    @Mock
+    private JobRunner jobRunner;
+
+    private OccupationAsOfService service;
+
+    @BeforeEach
+    void setUp() {
+        AuditAsOfConfig config = new AuditAsOfConfig();
+        config.setCacheSize(4);
+        service = new OccupationAsOfService(occupationHistoryRepository, occupationSnapshotRepository, config,
+                jobRunner);
+    }
+
+    @Test
+    @DisplayName("Should rebuild the catalogue by replaying the trail from a snapshot")
+    void shouldReplayTrailFromSnapshot() {
+        // Given: a snapshot at tx 10 holding "Nurse", then a rename, a create and a delete
+        LocalDateTime asOf = T0.plusHours(3);
+        when(occupationHistoryRepository.findTxIdAtOrBefore(asOf)).thenReturn(13L);
+        when(occupationSnapshotRepository.findLatestAtOrBefore(13L))
+                .thenReturn(Optional.of(new OccupationSnapshotRepository.SnapshotHeader(1L, 10L)));
+        when(occupationSnapshotRepository.findRows(1L)).thenReturn(Map.of(
+                1L, new OccupationState(1L, "Nurse", "Ward staff", T0, T0),
+                2L, new OccupationState(2L, "Driver", null, T0, T0)));
+        when(occupationHistoryRepository.findTrail(10L, 13L)).thenReturn(List.of(
+                row(11L, "U", 1L, "Senior Nurse"),
+                row(12L, "C", 3L, "Pharmacist"),
+                row(13L, "D", 2L, "Driver")));
+
+        // When
+        PageResponse<OccupationResponse> page = service.getOccupationsAsOf(asOf, 0, 10, "id", "asc");
+
+        // Then
+        assertThat(page.getTotalElements()).isEqualTo(2);
+        assertThat(page.getContent()).extracting(OccupationResponse::getName)
+                .containsExactly("Senior Nurse", "Pharmacist");
+    }
+
+    @Test
+    @DisplayName("Should reuse a recently reconstructed state as the replay base")
+    void shouldReuseCachedStateAsBase() {
+        // Given: the state at tx 5 has already been requested
+        LocalDateTime first = T0.plusHours(1);
+        LocalDateTime second = T0.plusHours(2);
+        when(occupationHistoryRepository.findTxIdAtOrBefore(first)).thenReturn(5L);
+        when(occupationHistoryRepository.findTxIdAtOrBefore(second)).thenReturn(7L);
+        when(occupationSnapshotRepository.findLatestAtOrBefore(anyLong())).thenReturn(Optional.empty());
+        when(occupationHistoryRepository.findTrail(0L, 5L)).thenReturn(List.of(row(5L, "C", 1L, "Nurse")));
+        when(occupationHistoryRepository.findTrail(5L, 7L)).thenReturn(List.of(row(7L, "C", 2L, "Driver")));
+        service.getOccupationsAsOf(first, 0, 10, "id", "asc");
+
+        // When
+        PageResponse<OccupationResponse> page = service.getOccupationsAsOf(second, 0, 10, "name", "asc");
+
+        // Then: only the rows after tx 5 were replayed
+        assertThat(page.getContent()).extracting(OccupationResponse::getName)
+                .containsExactly("Driver", "Nurse");
+        verify(occupationHistoryRepository, never()).findTrail(0L, 7L);
+    }
+
+    @Test
+    @DisplayName("Should report a deleted occupation as not found")
+    void shouldTreatDeletedOccupationAsNotFound() {
+        // Given
+        LocalDateTime asOf = T0.plusDays(1);
+        when(occupationHistoryRepository.findLatestAtOrBefore(2L, asOf))
+                .thenReturn(Optional.of(row(9L, "D", 2L, "Driver")));
+
+        // When / Then
+        assertThatThrownBy(() -> service.getOccupationAsOf(2L, asOf))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    private static OccupationHistoryResponse row(long txId, String op, long id, String name) {
+        return OccupationHistoryResponse.builder()
+                .txId(txId)
+                .op(op)
+                .id(id)
+                .name(name)
+                .createdAt(T0)
+                .updatedAt(T0)
+                .changedAt(T0)
+                .build();
+    }
+}
@@ -0,0 +1,175 @@
+package com.src.ap.service;
+
+import com.src.ap.config.AuditFeedConfig;
+import com.src.ap.dto.occupation.OccupationHistoryResponse;
+import com.src.ap.repository.OccupationHistoryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OccupationChangeFeed Tests")
+class OccupationChangeFeedTest {
+
+    private static final Pattern EVENT_NAME = Pattern.compile("event:([^\\n]+)\\n");
+
+    @Mock
+    private OccupationHistoryRepository occupationHistoryRepository;
+
+    private OccupationChangeFeed feed;
+
+    @BeforeEach
+    void setUp() {
+        AuditFeedConfig config = new AuditFeedConfig();
+        config.setBatchSize(10);
+        feed = new OccupationChangeFeed(occupationHistoryRepository, config);
+    }
+
+    @Test
+    @DisplayName("Should run one tail query per poll regardless of subscriber count")
+    void shouldTailOncePerPollForAllSubscribers() {
+        // Given: 50 subscribers joining at tx 100
+        when(occupationHistoryRepository.findLatestTxId()).thenReturn(100L);
+        for (int i = 0; i < 50; i++) {
+            feed.subscribe(null);
+        }
+        when(occupationHistoryRepository.findAfter(100L, 10)).thenReturn(List.of(row(101L), row(102L)));
+
+        // When
+        feed.poll();
+
+        // Then
+        assertThat(feed.getSubscriberCount()).isEqualTo(50);
+        verify(occupationHistoryRepository, times(1)).findAfter(anyLong(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Should not query the trail while nobody is subscribed")
+    void shouldNotPollWithoutSubscribers() {
+        // When
+        feed.poll();
+
+        // Then
+        verify(occupationHistoryRepository, never()).findAfter(anyLong(), anyInt());
+        verify(occupationHistoryRepository, never()).findLatestTxId();
+    }
+
+    @Test
+    @DisplayName("Should replay missed rows to a client resuming from Last-Event-ID")
+    void shouldBackfillFromLastEventId() {
+        // Given
+        when(occupationHistoryRepository.findLatestTxId()).thenReturn(105L);
+        when(occupationHistoryRepository.currentArchiveWatermark()).thenReturn(0L);
+        when(occupationHistoryRepository.findAfter(103L, 257)).thenReturn(List.of(row(104L), row(105L)));
+        RecordingEmitter emitter = new RecordingEmitter();
+
+        // When
+        feed.subscribe(103L, emitter);
+
+        // Then
+        assertThat(emitter.awaitEvents(2)).containsExactly(
+                OccupationChangeFeed.CHANGE_EVENT, OccupationChangeFeed.CHANGE_EVENT);
+        assertThat(feed.getSubscriberCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should tell a client that missed more than its buffer holds to reload instead of disconnecting it")
+    void shouldResetWhenBackfillExceedsBuffer() {
+        // Given: 300 rows missed, more than the 256-event subscriber buffer (one more than fits is read)
+        when(occupationHistoryRepository.findLatestTxId()).thenReturn(400L);
+        when(occupationHistoryRepository.currentArchiveWatermark()).thenReturn(0L);
+        when(occupationHistoryRepository.findAfter(100L, 257)).thenReturn(
+                LongStream.rangeClosed(101L, 357L).mapToObj(OccupationChangeFeedTest::row).toList());
+        RecordingEmitter emitter = new RecordingEmitter();
+
+        // When
+        feed.subscribe(100L, emitter);
+
+        // Then: a single reset, and the stream stays open for live changes
+        assertThat(emitter.awaitEvents(1)).containsExactly(OccupationChangeFeed.RESET_EVENT);
+        assertThat(emitter.completed).isFalse();
+        assertThat(feed.getSubscriberCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should replay a backlog that exactly fills the buffer")
+    void shouldBackfillUpToBufferCapacity() {
+        // Given
+        when(occupationHistoryRepository.findLatestTxId()).thenReturn(356L);
+        when(occupationHistoryRepository.currentArchiveWatermark()).thenReturn(0L);
+        when(occupationHistoryRepository.findAfter(100L, 257)).thenReturn(
+                LongStream.rangeClosed(101L, 356L).mapToObj(OccupationChangeFeedTest::row).toList());
+        RecordingEmitter emitter = new RecordingEmitter();
+
+        // When
+        feed.subscribe(100L, emitter);
+
+        // Then
+        assertThat(emitter.awaitEvents(256)).hasSize(256).containsOnly(OccupationChangeFeed.CHANGE_EVENT);
+        assertThat(emitter.completed).isFalse();
+    }
+
+    /**
+     * Records the name of every event sent, in place of a client connection.
+     */
+    private static final class RecordingEmitter extends SseEmitter {
+
+        private final List<String> events = new CopyOnWriteArrayList<>();
+        private volatile boolean completed;
+
+        private RecordingEmitter() {
+            super(0L);
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            String text = builder.build().stream()
+                    .map(part -> String.valueOf(part.getData()))
+                    .collect(Collectors.joining());
+            Matcher name = EVENT_NAME.matcher(text);
+            events.add(name.find() ? name.group(1) : "");
+        }
+
+        @Override
+        public void complete() {
+            completed = true;
+        }
+
+        private List<String> awaitEvents(int count) {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (events.size() < count && System.nanoTime() < deadline) {
+                Thread.onSpinWait();
+            }
+            return List.copyOf(events);
+        }
+    }
+
+    private static OccupationHistoryResponse row(long txId) {
+        return OccupationHistoryResponse.builder()
+                .txId(txId)
+                .op("U")
+                .id(1L)
+                .name("Nurse")
+                .build();
+    }
+}
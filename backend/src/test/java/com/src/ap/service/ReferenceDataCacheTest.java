@@ -0,0 +1,132 @@
+package com.src.ap.service;
+
+import com.src.ap.dto.employee.EmployeeRequest;
+import com.src.ap.dto.occupation.OccupationRequest;
+import com.src.ap.entity.CacheRegions;
+import com.src.ap.metrics.CacheRegionMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Not transactional: the second-level cache is only populated and invalidated by committed
+ * writes, so every call commits on its own and the rows are removed afterwards.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Reference data second-level cache Tests")
+class ReferenceDataCacheTest {
+
+    @Autowired
+    private OccupationService occupationService;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Statistics statistics;
+    private Long occupationId;
+    private final List<Long> employeeIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        occupationId = occupationService.createOccupation(occupation("Cached Occupation")).getId();
+        entityManagerFactory.getCache().evictAll();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        employeeIds.forEach(employeeService::deleteEmployee);
+        occupationService.deleteOccupation(occupationId);
+    }
+
+    @Test
+    @DisplayName("Should serve repeated lookups from the cache and reflect committed updates")
+    void shouldCacheLookupsAndRefreshOnUpdate() {
+        // When
+        occupationService.getOccupationById(occupationId);
+        occupationService.getOccupationById(occupationId);
+
+        // Then
+        assertThat(statistics.getDomainDataRegionStatistics(CacheRegions.OCCUPATIONS).getHitCount()).isEqualTo(1);
+        assertThat(meterRegistry.get(CacheRegionMetrics.REQUESTS_METRIC)
+                .tag("region", CacheRegions.OCCUPATIONS).tag("result", "hit")
+                .functionCounter().count()).isEqualTo(1);
+
+        // When
+        occupationService.updateOccupation(occupationId, occupation("Renamed Cached Occupation"));
+
+        // Then
+        assertThat(occupationService.getOccupationById(occupationId).getName()).isEqualTo("Renamed Cached Occupation");
+    }
+
+    @Test
+    @DisplayName("Should not serve a stale employee count after an employee write")
+    void shouldEvictCountsWrittenOverJdbc() {
+        // Given: the occupation is cached with no employees
+        assertThat(occupationService.getOccupationById(occupationId).getEmployeeCount()).isZero();
+
+        // When
+        employeeIds.add(employeeService.createEmployee(employee("cached")).getId());
+
+        // Then
+        assertThat(occupationService.getOccupationById(occupationId).getEmployeeCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should answer the occupation list and name filter from the query cache")
+    void shouldCacheListQueries() {
+        // When
+        occupationService.getAllOccupationsList();
+        occupationService.getAllOccupationsList();
+
+        // Then
+        assertThat(statistics.getQueryCacheHitCount()).isEqualTo(1);
+
+        // When: a new occupation invalidates the cached list
+        Long other = occupationService.createOccupation(occupation("Another Cached Occupation")).getId();
+        try {
+            // Then
+            assertThat(occupationService.getAllOccupationsList())
+                    .anySatisfy(o -> assertThat(o.getId()).isEqualTo(other));
+        } finally {
+            occupationService.deleteOccupation(other);
+        }
+    }
+
+    private static OccupationRequest occupation(String name) {
+        OccupationRequest request = new OccupationRequest();
+        request.setName(name);
+        return request;
+    }
+
+    private EmployeeRequest employee(String name) {
+        EmployeeRequest request = new EmployeeRequest();
+        request.setEmail(name + "@cache.test");
+        request.setFullName(name);
+        request.setFirstName(name);
+        request.setLastName(name);
+        request.setOccupationId(occupationId);
+        return request;
+    }
+}
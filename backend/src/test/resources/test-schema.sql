@@ -0,0 +1,120 @@
+-- Tables normally created by Flyway migrations, which do not run against H2.
+CREATE TABLE IF NOT EXISTS dbo.employee_search_tokens (
+    token VARCHAR(64) NOT NULL,
+    employee_id BIGINT NOT NULL,
+    field TINYINT NOT NULL,
+    weight SMALLINT NOT NULL,
+    CONSTRAINT PK_employee_search_tokens PRIMARY KEY (token, employee_id, field)
+);
+
+CREATE INDEX IF NOT EXISTS IX_employee_search_tokens_EmployeeId
+    ON dbo.employee_search_tokens (employee_id);
+
+CREATE TABLE IF NOT EXISTS dbo.employee_hierarchy (
+    ancestor_id BIGINT NOT NULL,
+    descendant_id BIGINT NOT NULL,
+    depth INT NOT NULL,
+    CONSTRAINT PK_employee_hierarchy PRIMARY KEY (ancestor_id, depth, descendant_id)
+);
+
+CREATE UNIQUE INDEX IF NOT EXISTS IX_employee_hierarchy_Descendant
+    ON dbo.employee_hierarchy (descendant_id, depth);
+
+CREATE TABLE IF NOT EXISTS dbo.employee_headcount (
+    branch_id BIGINT NOT NULL,
+    occupation_id BIGINT NOT NULL,
+    work_status VARCHAR(255) NOT NULL,
+    headcount INT NOT NULL,
+    CONSTRAINT PK_employee_headcount PRIMARY KEY (branch_id, occupation_id, work_status)
+);
+
+CREATE TABLE IF NOT EXISTS dbo.employee_movements (
+    month_start DATE NOT NULL,
+    hires INT NOT NULL,
+    terminations INT NOT NULL,
+    CONSTRAINT PK_employee_movements PRIMARY KEY (month_start)
+);
+
+CREATE TABLE IF NOT EXISTS dbo.cache_invalidations (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    cache_name VARCHAR(100) NOT NULL,
+    cache_key VARCHAR(200),
+    origin VARCHAR(64) NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+    CONSTRAINT PK_cache_invalidations PRIMARY KEY (id)
+);
+
+CREATE INDEX IF NOT EXISTS IX_cache_invalidations_CreatedAt
+    ON dbo.cache_invalidations (created_at);
+
+CREATE TABLE IF NOT EXISTS dbo.job_leases (
+    job_name VARCHAR(100) NOT NULL,
+    slot INT NOT NULL,
+    owner VARCHAR(100),
+    lease_until TIMESTAMP,
+    fencing_token BIGINT NOT NULL,
+    job_checkpoint VARCHAR(400),
+    last_started_at TIMESTAMP,
+    last_finished_at TIMESTAMP,
+    last_outcome VARCHAR(20),
+    last_rows BIGINT,
+    CONSTRAINT PK_job_leases PRIMARY KEY (job_name, slot)
+);
+
+CREATE TABLE IF NOT EXISTS dbo.replica_heartbeat (
+    id INT NOT NULL,
+    beat_at TIMESTAMP NOT NULL,
+    CONSTRAINT PK_replica_heartbeat PRIMARY KEY (id)
+);
+
+CREATE TABLE IF NOT EXISTS dbo.employee_import_jobs (
+    id UUID NOT NULL,
+    file_name VARCHAR(255) NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    processed_rows BIGINT NOT NULL,
+    imported_rows BIGINT NOT NULL,
+    failed_rows BIGINT NOT NULL,
+    submitted_by VARCHAR(255),
+    submitted_at TIMESTAMP NOT NULL,
+    started_at TIMESTAMP,
+    finished_at TIMESTAMP,
+    message VARCHAR(2000),
+    error_report VARBINARY,
+    CONSTRAINT PK_employee_import_jobs PRIMARY KEY (id)
+);
+
+CREATE TABLE IF NOT EXISTS dbo.hg_occupations (
+    tx_id BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    op CHAR(1) NOT NULL,
+    id BIGINT NOT NULL,
+    Oid CHAR(1),
+    name VARCHAR(255),
+    Oname CHAR(1),
+    description VARCHAR(2000),
+    Odescription CHAR(1),
+    created_at TIMESTAMP,
+    Ocreated_at CHAR(1),
+    updated_at TIMESTAMP,
+    Oupdated_at CHAR(1),
+    changed_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL,
+    actor VARCHAR(128),
+    CONSTRAINT PK_hg_occupations PRIMARY KEY (tx_id)
+);
+
+CREATE TABLE IF NOT EXISTS dbo.hg_occupations_archive (
+    tx_id BIGINT NOT NULL,
+    op CHAR(1) NOT NULL,
+    id BIGINT NOT NULL,
+    Oid CHAR(1),
+    name VARCHAR(255),
+    Oname CHAR(1),
+    description VARCHAR(2000),
+    Odescription CHAR(1),
+    created_at TIMESTAMP,
+    Ocreated_at CHAR(1),
+    updated_at TIMESTAMP,
+    Oupdated_at CHAR(1),
+    changed_at TIMESTAMP NOT NULL,
+    actor VARCHAR(128),
+    CONSTRAINT PK_hg_occupations_archive PRIMARY KEY (tx_id)
+);